@@ -394,6 +394,19 @@ public class FakeInternalTable implements InternalTable {
         throw new IgniteInternalException(new OperationNotSupportedException());
     }
 
+    @Override
+    public Publisher<BinaryRow> scan(
+            int partId,
+            UUID txId,
+            HybridTimestamp readTimestamp,
+            ClusterNode recipientNode,
+            @Nullable UUID lowerBoundRowId,
+            @Nullable UUID upperBoundRowId,
+            String txCoordinatorId
+    ) {
+        throw new IgniteInternalException(new OperationNotSupportedException());
+    }
+
     @Override
     public Publisher<BinaryRow> scan(
             int partId,
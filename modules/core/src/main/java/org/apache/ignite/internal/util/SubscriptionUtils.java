@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.concurrent.Flow.Publisher;
 import org.apache.ignite.internal.util.subscription.ConcatenatedPublisher;
 import org.apache.ignite.internal.util.subscription.IterableToPublisherAdapter;
+import org.apache.ignite.internal.util.subscription.MergedPublisher;
 import org.apache.ignite.internal.util.subscription.OrderedMergePublisher;
 
 /**
@@ -83,6 +84,18 @@ public class SubscriptionUtils {
         return new OrderedMergePublisher<>(comparator, prefetch, sources);
     }
 
+    /**
+     * Unordered composite publisher. Merges multiple concurrent data streams into one, emitting the items as soon as they arrive.
+     *
+     * @param prefetch Number of items to request from every source in advance.
+     * @param sources Array of upstream publishers.
+     * @return The publisher will combine all of the passed sources into a single one without any ordering guaranties.
+     */
+    @SafeVarargs
+    public static <T> Publisher<T> merge(int prefetch, Publisher<? extends T>... sources) {
+        return new MergedPublisher<>(prefetch, sources);
+    }
+
     /**
      * Creates a publisher from the given iterable.
      *
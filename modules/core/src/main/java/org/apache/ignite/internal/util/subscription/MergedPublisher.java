@@ -0,0 +1,310 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.subscription;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Thread-safe implementation of combining multiple publishers.
+ * Consumes all the sources concurrently and emits items in the order they are received, thus no ordering is guaranteed.
+ */
+public class MergedPublisher<T> implements Publisher<T> {
+    /** Upstream publishers. */
+    private final Publisher<? extends T>[] sources;
+
+    /** Number of items to request from every source in advance. */
+    private final int prefetch;
+
+    /**
+     * Constructor.
+     *
+     * @param prefetch Number of items to request from every source in advance.
+     * @param sources Upstream publishers.
+     */
+    public MergedPublisher(int prefetch, Publisher<? extends T>[] sources) {
+        assert prefetch > 0 : prefetch;
+
+        this.prefetch = prefetch;
+        this.sources = sources;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void subscribe(Subscriber<? super T> downstream) {
+        MergedSubscription<T> subscription = new MergedSubscription<>(downstream, prefetch, sources.length);
+
+        downstream.onSubscribe(subscription);
+        subscription.subscribe(sources);
+    }
+
+    /**
+     * Subscription which collects the items from all the sources and emits them to the downstream within the requested amount.
+     */
+    static final class MergedSubscription<T> implements Subscription {
+        /** Downstream {@link Subscriber} that receives the signals. */
+        private final Subscriber<? super T> downstream;
+
+        /** Subscribers to the sources. */
+        private final InnerSubscriber<T>[] subscribers;
+
+        /** Number of the sources which are not completed yet. */
+        private final AtomicInteger active;
+
+        /** Outstanding amount of items requested by the downstream. */
+        private final AtomicLong requested = new AtomicLong();
+
+        /** Counter to prevent concurrent execution of the drain loop. */
+        private final AtomicInteger wip = new AtomicInteger();
+
+        /** The first error received from any of the sources. */
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        /** Whether the subscription is cancelled or terminated. */
+        private volatile boolean cancelled;
+
+        @SuppressWarnings("unchecked")
+        MergedSubscription(Subscriber<? super T> downstream, int prefetch, int count) {
+            this.downstream = downstream;
+            this.active = new AtomicInteger(count);
+            this.subscribers = new InnerSubscriber[count];
+
+            for (int i = 0; i < count; i++) {
+                subscribers[i] = new InnerSubscriber<>(this, prefetch);
+            }
+        }
+
+        void subscribe(Publisher<? extends T>[] sources) {
+            for (int i = 0; i < sources.length; i++) {
+                if (cancelled) {
+                    return;
+                }
+
+                sources[i].subscribe(subscribers[i]);
+            }
+
+            // Completes the subscription if there are no sources at all.
+            drain();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                onError(new IllegalArgumentException("Requested amount must be positive: " + n));
+
+                return;
+            }
+
+            requested.accumulateAndGet(n, (prev, add) -> prev + add < 0 ? Long.MAX_VALUE : prev + add);
+
+            drain();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void cancel() {
+            cancelled = true;
+
+            cancelSources();
+        }
+
+        void onError(Throwable t) {
+            if (error.compareAndSet(null, t)) {
+                drain();
+            }
+        }
+
+        void onComplete() {
+            active.decrementAndGet();
+
+            drain();
+        }
+
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+
+            do {
+                long r = requested.get();
+                long e = 0L;
+                boolean progress = true;
+
+                while (progress && e != r) {
+                    progress = false;
+
+                    for (InnerSubscriber<T> inner : subscribers) {
+                        if (e == r || terminateIfNeeded()) {
+                            break;
+                        }
+
+                        T item = inner.queue.poll();
+
+                        if (item != null) {
+                            downstream.onNext(item);
+
+                            e++;
+                            progress = true;
+
+                            inner.onConsumed();
+                        }
+                    }
+                }
+
+                if (terminateIfNeeded()) {
+                    return;
+                }
+
+                // Sources enqueue all the items before they complete, so once there are no active sources
+                // the queues contain everything that is left.
+                if (active.get() == 0 && queuesEmpty()) {
+                    cancelled = true;
+
+                    downstream.onComplete();
+
+                    return;
+                }
+
+                if (e != 0L && r != Long.MAX_VALUE) {
+                    requested.addAndGet(-e);
+                }
+
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /** Returns {@code true} if the subscription is cancelled or failed, and notifies the downstream about the failure. */
+        private boolean terminateIfNeeded() {
+            if (cancelled) {
+                return true;
+            }
+
+            Throwable t = error.get();
+
+            if (t != null) {
+                cancelled = true;
+
+                cancelSources();
+
+                downstream.onError(t);
+
+                return true;
+            }
+
+            return false;
+        }
+
+        private boolean queuesEmpty() {
+            for (InnerSubscriber<T> inner : subscribers) {
+                if (!inner.queue.isEmpty()) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private void cancelSources() {
+            for (InnerSubscriber<T> inner : subscribers) {
+                inner.cancel();
+            }
+        }
+    }
+
+    /**
+     * Subscriber to a single source, which buffers up to prefetch items and replenishes the demand as the items are consumed.
+     */
+    static final class InnerSubscriber<T> implements Subscriber<T> {
+        private final MergedSubscription<T> parent;
+
+        private final int prefetch;
+
+        /** Amount of consumed items after which the demand is replenished. */
+        private final int limit;
+
+        private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+
+        private volatile Subscription subscription;
+
+        /** Number of items consumed since the last request, accessed only from the drain loop. */
+        private int consumed;
+
+        InnerSubscriber(MergedSubscription<T> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = Math.max(1, prefetch / 2);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+
+            if (parent.cancelled) {
+                subscription.cancel();
+            } else {
+                subscription.request(prefetch);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onNext(T item) {
+            queue.offer(item);
+
+            parent.drain();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onError(Throwable throwable) {
+            parent.onError(throwable);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onComplete() {
+            parent.onComplete();
+        }
+
+        void onConsumed() {
+            if (++consumed == limit) {
+                consumed = 0;
+
+                subscription.request(limit);
+            }
+        }
+
+        void cancel() {
+            Subscription s = subscription;
+
+            if (s != null) {
+                s.cancel();
+            }
+        }
+    }
+}
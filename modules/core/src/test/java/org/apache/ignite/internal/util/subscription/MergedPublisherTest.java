@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.subscription;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.util.SubscriptionUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MergedPublisher}.
+ */
+public class MergedPublisherTest extends BaseIgniteAbstractTest {
+    @Test
+    public void mergesAllItems() {
+        Publisher<Integer> publisher = SubscriptionUtils.merge(4,
+                range(0, 10),
+                range(10, 13),
+                range(13, 13),
+                range(13, 50)
+        );
+
+        CollectingSubscriber<Integer> subscriber = new CollectingSubscriber<>();
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(7);
+
+        assertThat(subscriber.items, hasSize(7));
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.items, containsInAnyOrder(IntStream.range(0, 50).boxed().toArray()));
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    public void completesWithoutSources() {
+        Publisher<Integer> publisher = SubscriptionUtils.merge(4);
+
+        CollectingSubscriber<Integer> subscriber = new CollectingSubscriber<>();
+        publisher.subscribe(subscriber);
+
+        assertThat(subscriber.items, empty());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void propagatesErrorAndCancelsOtherSources() {
+        RuntimeException err = new RuntimeException("test");
+
+        TestSource failing = new TestSource();
+        TestSource other = new TestSource();
+
+        Publisher<Integer> publisher = SubscriptionUtils.merge(4, failing, other);
+
+        CollectingSubscriber<Integer> subscriber = new CollectingSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(10);
+
+        other.subscriber.onNext(1);
+        failing.subscriber.onError(err);
+
+        assertThat(subscriber.items, containsInAnyOrder(1));
+        assertSame(err, subscriber.error);
+        assertFalse(subscriber.completed);
+        assertTrue(failing.cancelled);
+        assertTrue(other.cancelled);
+    }
+
+    @Test
+    public void cancelPropagatesToSources() {
+        TestSource first = new TestSource();
+        TestSource second = new TestSource();
+
+        Publisher<Integer> publisher = SubscriptionUtils.merge(4, first, second);
+
+        CollectingSubscriber<Integer> subscriber = new CollectingSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.cancel();
+
+        assertTrue(first.cancelled);
+        assertTrue(second.cancelled);
+    }
+
+    @Test
+    public void nonPositiveRequestFails() {
+        Publisher<Integer> publisher = SubscriptionUtils.merge(4, range(0, 10));
+
+        CollectingSubscriber<Integer> subscriber = new CollectingSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(0);
+
+        assertThat(subscriber.error, instanceOf(IllegalArgumentException.class));
+    }
+
+    private static Publisher<Integer> range(int from, int to) {
+        return SubscriptionUtils.fromIterable(IntStream.range(from, to).boxed().collect(Collectors.toList()));
+    }
+
+    private static class TestSource implements Publisher<Integer> {
+        private Subscriber<? super Integer> subscriber;
+
+        private volatile boolean cancelled;
+
+        @Override
+        public void subscribe(Subscriber<? super Integer> subscriber) {
+            this.subscriber = subscriber;
+
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    // No-op.
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    private static class CollectingSubscriber<T> implements Subscriber<T> {
+        private final List<T> items = new ArrayList<>();
+
+        private Subscription subscription;
+
+        private Throwable error;
+
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -137,6 +137,52 @@ public class AsyncFileIo extends AbstractFileIo {
         return future.waitUninterruptibly();
     }
 
+    /**
+     * Submits writes of all the buffers to the channel at once and then waits for them, so the OS can process the whole batch
+     * concurrently instead of one write at a time. Partially completed writes are finished with {@link #writeFully(ByteBuffer, long)}.
+     */
+    @Override
+    public void writeFully(ByteBuffer[] srcBufs, long[] positions) throws IOException {
+        assert srcBufs.length == positions.length : "buffers=" + srcBufs.length + ", positions=" + positions.length;
+
+        ChannelOpFuture[] futures = new ChannelOpFuture[srcBufs.length];
+        int[] lengths = new int[srcBufs.length];
+
+        try {
+            for (int i = 0; i < srcBufs.length; i++) {
+                ChannelOpFuture future = new ChannelOpFuture();
+
+                asyncFutures.add(future);
+
+                futures[i] = future;
+                lengths[i] = srcBufs[i].remaining();
+
+                try {
+                    ch.write(srcBufs[i], positions[i], null, future);
+                } catch (RuntimeException e) {
+                    future.failed(e, null);
+                }
+            }
+
+            for (int i = 0; i < futures.length; i++) {
+                int written = futures[i].waitUninterruptibly();
+
+                if (written < lengths[i]) {
+                    writeFully(srcBufs[i], positions[i] + written);
+                }
+            }
+        } finally {
+            for (ChannelOpFuture future : futures) {
+                if (future != null) {
+                    // Makes sure that no write is left in flight in case of an error.
+                    future.handle((res, err) -> null).join();
+
+                    asyncFutures.remove(future);
+                }
+            }
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public MappedByteBuffer map(int sizeBytes) {
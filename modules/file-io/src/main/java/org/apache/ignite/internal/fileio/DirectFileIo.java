@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.fileio;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import com.sun.nio.file.ExtendedOpenOption;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link FileIo} implementation that performs block-aligned positional reads and writes with {@code O_DIRECT}, bypassing the OS page
+ * cache.
+ *
+ * <p>Besides the regular (buffered) file channel, a second channel opened with {@link ExtendedOpenOption#DIRECT} is used for positional
+ * operations whose file position and length are multiples of the file store block size. Buffers that are not direct or not aligned in
+ * memory go through a thread-local aligned bounce buffer. Unaligned operations, operations without a position, {@link #map(int) mmap}
+ * and operations on file systems that don't support {@code O_DIRECT} (e.g. tmpfs) fall back to the buffered channel.
+ */
+public class DirectFileIo extends RandomAccessFileIo {
+    /** Maximum size of the thread-local bounce buffer, bigger unaligned buffers are written through the buffered channel. */
+    private static final int MAX_BOUNCE_BUFFER_SIZE = 1024 * 1024;
+
+    /** Thread-local bounce buffers, aligned by the block size they were allocated for. */
+    private static final ThreadLocal<ByteBuffer> BOUNCE_BUFFER = new ThreadLocal<>();
+
+    /** Channel opened with {@code O_DIRECT}, {@code null} if the file system doesn't support direct I/O. */
+    @Nullable
+    private final FileChannel directCh;
+
+    /** File store block size, operations with the direct channel must be aligned by it. */
+    private final int blockSize;
+
+    /**
+     * Creates I/O implementation for specified file.
+     *
+     * @param filePath File path.
+     * @param modes Open modes.
+     * @throws IOException If some I/O error occurs.
+     */
+    public DirectFileIo(Path filePath, OpenOption... modes) throws IOException {
+        super(filePath, modes);
+
+        FileChannel directCh = null;
+        int blockSize = 0;
+
+        try {
+            blockSize = Math.toIntExact(Files.getFileStore(filePath).getBlockSize());
+
+            if (blockSize > 0 && Integer.bitCount(blockSize) == 1) {
+                directCh = FileChannel.open(filePath, directModes(modes));
+            }
+        } catch (IOException | UnsupportedOperationException | ArithmeticException ignore) {
+            // Direct I/O isn't supported by the file system, only the buffered channel is used.
+        }
+
+        this.directCh = directCh;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Returns {@code true} if the file has been opened for direct I/O, {@code false} if all operations go through the OS page cache.
+     */
+    public boolean isDirect() {
+        return directCh != null;
+    }
+
+    /**
+     * Returns file store block size that positions and lengths of direct operations must be aligned by, {@code 0} if direct I/O isn't
+     * used.
+     */
+    public int blockSize() {
+        return directCh == null ? 0 : blockSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(ByteBuffer destBuf, long position) throws IOException {
+        int len = destBuf.remaining();
+
+        if (!isAligned(position, len)) {
+            return super.read(destBuf, position);
+        }
+
+        if (destBuf.isDirect() && destBuf.alignmentOffset(destBuf.position(), blockSize) == 0) {
+            return directCh.read(destBuf, position);
+        }
+
+        ByteBuffer bounceBuf = bounceBuffer(len);
+
+        int read = directCh.read(bounceBuf, position);
+
+        if (read > 0) {
+            bounceBuf.flip();
+
+            destBuf.put(bounceBuf);
+        }
+
+        return read;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(ByteBuffer srcBuf, long position) throws IOException {
+        int len = srcBuf.remaining();
+
+        if (!isAligned(position, len)) {
+            return super.write(srcBuf, position);
+        }
+
+        if (srcBuf.isDirect() && srcBuf.alignmentOffset(srcBuf.position(), blockSize) == 0) {
+            return directCh.write(srcBuf, position);
+        }
+
+        ByteBuffer bounceBuf = bounceBuffer(len);
+
+        bounceBuf.put(srcBuf.duplicate()).flip();
+
+        int written = directCh.write(bounceBuf, position);
+
+        srcBuf.position(srcBuf.position() + written);
+
+        return written;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            if (directCh != null) {
+                directCh.close();
+            }
+        }
+    }
+
+    private boolean isAligned(long position, int len) {
+        int mask = blockSize - 1;
+
+        return directCh != null && len > 0 && len <= MAX_BOUNCE_BUFFER_SIZE && (position & mask) == 0 && (len & mask) == 0;
+    }
+
+    /**
+     * Returns a thread-local block-aligned buffer of {@code len} bytes, the buffer is cleared and limited by {@code len}.
+     *
+     * @param len Required buffer size, a multiple of the block size.
+     */
+    private ByteBuffer bounceBuffer(int len) {
+        ByteBuffer buf = BOUNCE_BUFFER.get();
+
+        if (buf == null || buf.capacity() < len || buf.alignmentOffset(0, blockSize) != 0) {
+            buf = ByteBuffer.allocateDirect(len + blockSize).alignedSlice(blockSize);
+
+            BOUNCE_BUFFER.set(buf);
+        }
+
+        return buf.clear().limit(len);
+    }
+
+    /**
+     * Returns open modes for the direct channel: creation of the file is already done by the buffered channel, while {@code APPEND}
+     * and {@code TRUNCATE_EXISTING} must not be applied twice.
+     */
+    private static OpenOption[] directModes(OpenOption... modes) {
+        boolean write = Arrays.stream(modes).anyMatch(mode -> mode == WRITE || mode == StandardOpenOption.APPEND);
+
+        return write ? new OpenOption[] {READ, WRITE, ExtendedOpenOption.DIRECT} : new OpenOption[] {READ, ExtendedOpenOption.DIRECT};
+    }
+}
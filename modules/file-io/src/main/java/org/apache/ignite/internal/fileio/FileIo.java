@@ -174,6 +174,25 @@ public interface FileIo extends AutoCloseable {
      */
     int writeFully(byte[] buf, int off, int len) throws IOException;
 
+    /**
+     * Writes the {@code srcBufs} to this file, each buffer entirely starting from the file position with the same index in
+     * {@code positions}.
+     *
+     * <p>Implementations may submit all the writes at once and wait for them together, so the order in which the writes reach the
+     * storage device is not defined. By default, the buffers are written one by one with {@link #writeFully(ByteBuffer, long)}.
+     *
+     * @param srcBufs Source buffers.
+     * @param positions Starting file positions of the buffers.
+     * @throws IOException If some I/O error occurs.
+     */
+    default void writeFully(ByteBuffer[] srcBufs, long[] positions) throws IOException {
+        assert srcBufs.length == positions.length : "buffers=" + srcBufs.length + ", positions=" + positions.length;
+
+        for (int i = 0; i < srcBufs.length; i++) {
+            writeFully(srcBufs[i], positions[i]);
+        }
+    }
+
     /**
      * Allocates memory mapped buffer for this file with given size.
      *
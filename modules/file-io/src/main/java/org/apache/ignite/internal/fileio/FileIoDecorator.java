@@ -79,6 +79,12 @@ public class FileIoDecorator extends AbstractFileIo {
         return delegate.write(srcBuf, position);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void writeFully(ByteBuffer[] srcBufs, long[] positions) throws IOException {
+        delegate.writeFully(srcBufs, positions);
+    }
+
     /** {@inheritDoc} */
     @Override
     public int write(byte[] buf, int off, int len) throws IOException {
@@ -133,6 +133,34 @@ public abstract class AbstractFileIoTest {
         checkWriteFromByteArrayOperation((fileIo, off, bytes) -> fileIo.writeFully(bytes, (int) off, Math.min(1024, bytes.length)));
     }
 
+    @Test
+    void testWriteFullyBatch() throws Exception {
+        byte[] randomBytes = randomByteArray(4 * 1024);
+
+        Path testFilePath = workDir.resolve("test");
+
+        FileIo fileIo = fileIoFactory.create(testFilePath);
+
+        ByteBuffer[] buffers = {
+                rangeBuffer(randomBytes, 2 * 1024, 4 * 1024),
+                rangeBuffer(randomBytes, 0, 1024),
+                ByteBuffer.wrap(new byte[0]),
+                rangeBuffer(randomBytes, 1024, 2 * 1024)
+        };
+
+        fileIo.writeFully(buffers, new long[] {2 * 1024, 0, 4 * 1024, 1024});
+
+        assertEquals(0, fileIo.position());
+
+        for (ByteBuffer buffer : buffers) {
+            assertEquals(0, buffer.remaining());
+        }
+
+        fileIo.force();
+
+        assertArrayEquals(randomBytes, toByteArray(testFilePath));
+    }
+
     @Test
     void testMap() throws Exception {
         Path testFilePath = workDir.resolve("test");
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.fileio;
+
+import static java.util.Arrays.copyOfRange;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link DirectFileIo} testing.
+ *
+ * <p>Direct I/O is used only if the file system of the work directory supports it, the results must be the same either way.
+ */
+public class DirectFileIoTest extends AbstractFileIoTest {
+    @BeforeEach
+    void setUp() {
+        fileIoFactory = new DirectFileIoFactory();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Class<? extends FileIo> fileIoClass() {
+        return DirectFileIo.class;
+    }
+
+    @Test
+    void testAlignedReadWrite() throws Exception {
+        checkAlignedReadWrite(size -> ByteBuffer.allocateDirect(size + 8192).alignedSlice(4096).limit(size));
+    }
+
+    @Test
+    void testAlignedReadWriteMisalignedBuffers() throws Exception {
+        checkAlignedReadWrite(size -> ByteBuffer.allocateDirect(size + 1).position(1).slice());
+    }
+
+    @Test
+    void testAlignedReadWriteHeapBuffers() throws Exception {
+        checkAlignedReadWrite(ByteBuffer::allocate);
+    }
+
+    /**
+     * Writes and reads back two blocks at block-aligned positions, followed by an unaligned tail.
+     *
+     * @param allocator Allocator of the buffers used for I/O.
+     */
+    private void checkAlignedReadWrite(BufferAllocator allocator) throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        try (DirectFileIo fileIo = (DirectFileIo) fileIoFactory.create(testFilePath)) {
+            int blockSize = fileIo.isDirect() ? fileIo.blockSize() : 4096;
+
+            byte[] bytes = new byte[2 * blockSize + 100];
+
+            ThreadLocalRandom.current().nextBytes(bytes);
+
+            ByteBuffer src = allocator.allocate(2 * blockSize);
+
+            src.put(bytes, 0, 2 * blockSize).flip();
+
+            assertEquals(2 * blockSize, fileIo.writeFully(src, 0));
+            assertEquals(0, src.remaining());
+
+            ByteBuffer tail = allocator.allocate(100);
+
+            tail.put(bytes, 2 * blockSize, 100).flip();
+
+            assertEquals(100, fileIo.writeFully(tail, 2 * blockSize));
+
+            fileIo.force();
+
+            assertArrayEquals(bytes, Files.readAllBytes(testFilePath));
+
+            ByteBuffer dest = allocator.allocate(blockSize);
+
+            assertEquals(blockSize, fileIo.readFully(dest, blockSize));
+            assertEquals(0, dest.remaining());
+
+            byte[] read = new byte[blockSize];
+
+            dest.flip().get(read);
+
+            assertArrayEquals(copyOfRange(bytes, blockSize, 2 * blockSize), read);
+
+            // Reading of an aligned block at the end of the file returns only the existing bytes.
+            ByteBuffer last = allocator.allocate(blockSize);
+
+            assertEquals(100, fileIo.read(last, 2 * blockSize));
+        }
+    }
+
+    private interface BufferAllocator {
+        ByteBuffer allocate(int size);
+    }
+}
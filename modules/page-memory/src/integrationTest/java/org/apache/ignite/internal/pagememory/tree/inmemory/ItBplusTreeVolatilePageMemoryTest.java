@@ -17,6 +17,14 @@
 
 package org.apache.ignite.internal.pagememory.tree.inmemory;
 
+import static org.apache.ignite.internal.util.CompletableFutures.trueCompletedFuture;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
@@ -27,7 +35,9 @@ import org.apache.ignite.internal.pagememory.inmemory.VolatilePageMemory;
 import org.apache.ignite.internal.pagememory.reuse.ReuseList;
 import org.apache.ignite.internal.pagememory.tree.AbstractBplusTreePageMemoryTest;
 import org.apache.ignite.internal.pagememory.tree.BplusTree;
+import org.apache.ignite.internal.util.Cursor;
 import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 /**
@@ -35,9 +45,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
  */
 @ExtendWith(ConfigurationExtension.class)
 public class ItBplusTreeVolatilePageMemoryTest extends AbstractBplusTreePageMemoryTest {
+    /** Default number of leaves prefetched ahead of a forward cursor, see {@code IGNITE_BPLUS_TREE_SCAN_READ_AHEAD_PAGES}. */
+    private static final int SCAN_READ_AHEAD_PAGES = 4;
+
     @InjectConfiguration
     private VolatilePageMemoryDataRegionConfiguration dataRegionCfg;
 
+    /** IDs of the pages hinted by {@link PageMemory#prefetchPage}, in the order of the hints. */
+    private final Queue<Long> prefetchedPageIds = new ConcurrentLinkedQueue<>();
+
     /** {@inheritDoc} */
     @Override
     protected PageMemory createPageMemory() throws Exception {
@@ -47,11 +63,54 @@ public class ItBplusTreeVolatilePageMemoryTest extends AbstractBplusTreePageMemo
 
         ioRegistry.loadFromServiceLoader();
 
+        // All pages are in memory, so every hint is completed right away.
         return new VolatilePageMemory(
                 dataRegionCfg,
                 ioRegistry,
                 PAGE_SIZE
-        );
+        ) {
+            @Override
+            public CompletableFuture<Boolean> prefetchPage(int groupId, long pageId) {
+                prefetchedPageIds.add(pageId);
+
+                return trueCompletedFuture();
+            }
+        };
+    }
+
+    @Test
+    public void testForwardCursorReadAhead() throws Exception {
+        MAX_PER_PAGE = 2;
+
+        TestTree tree = createTestTree(true);
+
+        long rows = 100;
+
+        for (long i = 0; i < rows; i++) {
+            tree.put(i);
+        }
+
+        prefetchedPageIds.clear();
+
+        Cursor<Long> cursor = tree.find(null, null);
+
+        assertTrue(cursor.hasNext());
+        assertEquals((Long) 0L, cursor.next());
+
+        // Only the leaves following the first one are hinted while the cursor is on the first leaf.
+        assertEquals(SCAN_READ_AHEAD_PAGES, prefetchedPageIds.size());
+
+        long count = 1;
+
+        while (cursor.hasNext()) {
+            assertEquals((Long) count++, cursor.next());
+        }
+
+        assertEquals(rows, count);
+
+        // Every leaf but the first one is hinted once, when it gets the given number of leaves ahead of the cursor.
+        assertEquals(prefetchedPageIds.size(), new HashSet<>(prefetchedPageIds).size());
+        assertTrue(prefetchedPageIds.size() >= rows / MAX_PER_PAGE - 1, "Hints: " + prefetchedPageIds.size());
     }
 
     /** {@inheritDoc} */
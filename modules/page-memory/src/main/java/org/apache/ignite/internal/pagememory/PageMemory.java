@@ -17,7 +17,10 @@
 
 package org.apache.ignite.internal.pagememory;
 
+import static org.apache.ignite.internal.util.CompletableFutures.falseCompletedFuture;
+
 import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.apache.ignite.internal.pagememory.io.PageIo;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
@@ -75,4 +78,16 @@ public interface PageMemory extends PageIdAllocator, PageSupport {
      * Returns a registry to obtain {@link PageIo} instances for pages.
      */
     PageIoRegistry ioRegistry();
+
+    /**
+     * Hints that the page is likely to be acquired soon, for example the next leaf page of a tree scan. Implementations may load the page
+     * into memory asynchronously, so that the following {@link #acquirePage(int, long)} doesn't have to wait for a read from the disk.
+     *
+     * @param groupId Group ID.
+     * @param pageId Page ID.
+     * @return Future that completes with {@code true} once the page is in memory, or with {@code false} if the hint was ignored.
+     */
+    default CompletableFuture<Boolean> prefetchPage(int groupId, long pageId) {
+        return falseCompletedFuture();
+    }
 }
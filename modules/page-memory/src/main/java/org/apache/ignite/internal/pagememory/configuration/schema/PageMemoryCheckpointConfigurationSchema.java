@@ -64,4 +64,11 @@ public class PageMemoryCheckpointConfigurationSchema {
     /** Use an asynchronous file I/O operations provider. */
     @Value(hasDefault = true)
     public boolean useAsyncFileIoFactory = true;
+
+    /**
+     * Use direct ({@code O_DIRECT}) I/O for block-aligned page reads and writes, bypassing the OS page cache. Takes precedence over
+     * {@link #useAsyncFileIoFactory}. Falls back to the buffered I/O if the file system doesn't support direct I/O.
+     */
+    @Value(hasDefault = true)
+    public boolean useDirectIo = false;
 }
@@ -45,12 +45,15 @@ public class PersistentPageMemoryDataRegionConfigurationSchema extends BasePageM
     /** CLOCK page replacement algorithm. */
     public static final String CLOCK_REPLACEMENT_MODE = "CLOCK";
 
+    /** Frequency-aware, scan-resistant page replacement algorithm inspired by TinyLFU. */
+    public static final String TINY_LFU_REPLACEMENT_MODE = "TINY_LFU";
+
     /** Memory region size in bytes. */
     @Value(hasDefault = true)
     public long size = DFLT_DATA_REGION_SIZE;
 
     /** Memory pages replacement mode. */
-    @OneOf({RANDOM_LRU_REPLACEMENT_MODE, SEGMENTED_LRU_REPLACEMENT_MODE, CLOCK_REPLACEMENT_MODE})
+    @OneOf({RANDOM_LRU_REPLACEMENT_MODE, SEGMENTED_LRU_REPLACEMENT_MODE, CLOCK_REPLACEMENT_MODE, TINY_LFU_REPLACEMENT_MODE})
     @Value(hasDefault = true)
     public String replacementMode = CLOCK_REPLACEMENT_MODE;
 }
@@ -261,7 +261,7 @@ public class PageHeader {
      * @param absPtr Absolute memory pointer to the page header.
      * @return Group ID written to the page.
      */
-    private static int readPageGroupId(final long absPtr) {
+    public static int readPageGroupId(final long absPtr) {
         return getInt(absPtr + PAGE_GROUP_ID_OFFSET);
     }
 
@@ -37,4 +37,24 @@ public interface PageStoreWriter {
      * @throws IgniteInternalCheckedException If write page failed.
      */
     void writePage(FullPageId fullPageId, ByteBuffer buf, int tag) throws IgniteInternalCheckedException;
+
+    /**
+     * Callback for write page, which is called while the page is still pinned in memory, so it can't be replaced until its copy is
+     * written. The writer may write the copy later, but then it must copy the buffer and run {@code releasePage} only after the copy is
+     * written. By default, the page is written right away and released.
+     *
+     * @param fullPageId Page ID to get byte buffer for. The page ID must be present in the collection returned by the {@link
+     * PersistentPageMemory#beginCheckpoint(CompletableFuture)} method call.
+     * @param buf Temporary buffer to write changes into.
+     * @param tag {@code Partition generation} if data was read.
+     * @param releasePage Unpins the page, must be run exactly once.
+     * @throws IgniteInternalCheckedException If write page failed.
+     */
+    default void writePage(FullPageId fullPageId, ByteBuffer buf, int tag, Runnable releasePage) throws IgniteInternalCheckedException {
+        try {
+            writePage(fullPageId, buf, tag);
+        } finally {
+            releasePage.run();
+        }
+    }
 }
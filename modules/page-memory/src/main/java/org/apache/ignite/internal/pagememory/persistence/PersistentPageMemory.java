@@ -18,10 +18,16 @@
 package org.apache.ignite.internal.pagememory.persistence;
 
 import static java.lang.System.lineSeparator;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.ignite.internal.lang.IgniteSystemProperties.getBoolean;
+import static org.apache.ignite.internal.lang.IgniteSystemProperties.getInteger;
 import static org.apache.ignite.internal.pagememory.FullPageId.NULL_PAGE;
 import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.CLOCK_REPLACEMENT_MODE;
 import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.RANDOM_LRU_REPLACEMENT_MODE;
 import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.SEGMENTED_LRU_REPLACEMENT_MODE;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.TINY_LFU_REPLACEMENT_MODE;
 import static org.apache.ignite.internal.pagememory.io.PageIo.getCrc;
 import static org.apache.ignite.internal.pagememory.io.PageIo.getPageId;
 import static org.apache.ignite.internal.pagememory.io.PageIo.getType;
@@ -42,6 +48,8 @@ import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageIndex;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.partitionId;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.tag;
 import static org.apache.ignite.internal.util.ArrayUtils.concat;
+import static org.apache.ignite.internal.util.CompletableFutures.falseCompletedFuture;
+import static org.apache.ignite.internal.util.CompletableFutures.trueCompletedFuture;
 import static org.apache.ignite.internal.util.FastTimestamps.coarseCurrentTimeMillis;
 import static org.apache.ignite.internal.util.GridUnsafe.BYTE_ARR_OFF;
 import static org.apache.ignite.internal.util.GridUnsafe.bufferAddress;
@@ -56,6 +64,7 @@ import static org.apache.ignite.internal.util.GridUnsafe.zeroMemory;
 import static org.apache.ignite.internal.util.IgniteUtils.hash;
 import static org.apache.ignite.internal.util.IgniteUtils.readableSize;
 import static org.apache.ignite.internal.util.IgniteUtils.safeAbs;
+import static org.apache.ignite.internal.util.IgniteUtils.shutdownAndAwaitTermination;
 import static org.apache.ignite.internal.util.OffheapReadWriteLock.TAG_LOCK_ALWAYS;
 import static org.apache.ignite.internal.util.StringUtils.hexLong;
 import static org.apache.ignite.internal.util.StringUtils.toHexString;
@@ -70,11 +79,15 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.lang.IgniteInternalException;
@@ -101,6 +114,9 @@ import org.apache.ignite.internal.pagememory.persistence.replacement.PageReplace
 import org.apache.ignite.internal.pagememory.persistence.replacement.PageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.replacement.RandomLruPageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.replacement.SegmentedLruPageReplacementPolicyFactory;
+import org.apache.ignite.internal.pagememory.persistence.replacement.TinyLfuPageReplacementPolicyFactory;
+import org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle;
+import org.apache.ignite.internal.thread.NamedThreadFactory;
 import org.apache.ignite.internal.util.CollectionUtils;
 import org.apache.ignite.internal.util.OffheapReadWriteLock;
 import org.jetbrains.annotations.Nullable;
@@ -194,6 +210,35 @@ public class PersistentPageMemory implements PageMemory {
     /** Flag indicating page replacement started (rotation with disk), allocating new page requires freeing old one. */
     private volatile int pageReplacementWarned;
 
+    /** Number of page acquisitions that found the page in memory. */
+    private final LongAdder pageHits = new LongAdder();
+
+    /** Number of page acquisitions that had to load the page into memory. */
+    private final LongAdder pageMisses = new LongAdder();
+
+    /** Number of pages evicted from memory by the page replacement policy. */
+    private final LongAdder replacedPages = new LongAdder();
+
+    /** Number of threads that load pages hinted by {@link #prefetchPage(int, long)}, {@code 0} disables prefetching. */
+    private static final int PREFETCH_THREADS = getInteger("IGNITE_PDS_PREFETCH_THREADS", 2);
+
+    /** Maximum number of pending prefetch hints, further hints are ignored. */
+    private static final int PREFETCH_QUEUE_SIZE = 1024;
+
+    /** Whether threads marking pages dirty are throttled during checkpoints, see {@link PagesWriteSpeedBasedThrottle}. */
+    private static final boolean WRITE_THROTTLING_ENABLED = getBoolean("IGNITE_PDS_WRITE_THROTTLING_ENABLED", true);
+
+    /** Executor that loads prefetched pages, {@code null} if prefetching is disabled or the page memory is not started. */
+    @Nullable
+    private volatile ThreadPoolExecutor prefetchExecutor;
+
+    /** Number of pages loaded into memory by prefetching. */
+    private final LongAdder prefetchedPages = new LongAdder();
+
+    /** Throttle of the threads marking pages dirty, {@code null} if throttling is disabled or the page memory has not been started. */
+    @Nullable
+    private volatile PagesWriteSpeedBasedThrottle writeThrottle;
+
     /** Segments sizes, the last one being the {@link #checkpointPool checkpoint buffer} size. */
     // TODO: IGNITE-16350 Consider splitting into segments and the checkpoint buffer
     private final long[] sizes;
@@ -273,6 +318,10 @@ public class PersistentPageMemory implements PageMemory {
             case CLOCK_REPLACEMENT_MODE:
                 pageReplacementPolicyFactory = new ClockPageReplacementPolicyFactory();
 
+                break;
+            case TINY_LFU_REPLACEMENT_MODE:
+                pageReplacementPolicyFactory = new TinyLfuPageReplacementPolicyFactory();
+
                 break;
             default:
                 throw new IgniteInternalException("Unexpected page replacement mode: " + replacementMode);
@@ -336,6 +385,32 @@ public class PersistentPageMemory implements PageMemory {
 
             this.segments = segments;
 
+            if (WRITE_THROTTLING_ENABLED) {
+                long[] segmentPages = new long[segments.length];
+
+                for (int i = 0; i < segments.length; i++) {
+                    segmentPages[i] = segments[i].pages();
+                }
+
+                // Same share as the one of Segment#dirtyPagesHardThreshold.
+                writeThrottle = new PagesWriteSpeedBasedThrottle(segmentPages, i -> segments[i].dirtyPagesCntr.get(), 0.9);
+            }
+
+            if (PREFETCH_THREADS > 0) {
+                ThreadPoolExecutor prefetchExecutor = new ThreadPoolExecutor(
+                        PREFETCH_THREADS,
+                        PREFETCH_THREADS,
+                        30_000,
+                        MILLISECONDS,
+                        new LinkedBlockingQueue<>(PREFETCH_QUEUE_SIZE),
+                        new NamedThreadFactory("page-memory-prefetch-" + dataRegionConfigView.name(), LOG)
+                );
+
+                prefetchExecutor.allowCoreThreadTimeOut(true);
+
+                this.prefetchExecutor = prefetchExecutor;
+            }
+
             if (LOG.isInfoEnabled()) {
                 LOG.info("Started page memory [memoryAllocated={}, pages={}, tableSize={}, replacementSize={}, checkpointBuffer={}]",
                         readableSize(totalAllocated, false), pages, readableSize(totalTblSize, false),
@@ -354,6 +429,17 @@ public class PersistentPageMemory implements PageMemory {
 
             LOG.debug("Stopping page memory");
 
+            ThreadPoolExecutor prefetchExecutor = this.prefetchExecutor;
+
+            if (prefetchExecutor != null) {
+                this.prefetchExecutor = null;
+
+                // Pending hints are dropped, loads in progress must finish before the memory is released.
+                prefetchExecutor.shutdownNow();
+
+                shutdownAndAwaitTermination(prefetchExecutor, 10, SECONDS);
+            }
+
             if (segments != null) {
                 for (Segment seg : segments) {
                     seg.close();
@@ -482,7 +568,16 @@ public class PersistentPageMemory implements PageMemory {
     public void writeUnlock(int grpId, long pageId, long page, boolean dirtyFlag, boolean restore) {
         assert started;
 
+        PagesWriteSpeedBasedThrottle writeThrottle = this.writeThrottle;
+
+        boolean throttle = writeThrottle != null && dirtyFlag && !restore && !isDirty(page);
+
         writeUnlockPage(page, new FullPageId(pageId, grpId), dirtyFlag, restore);
+
+        // Parking is done only after the page lock has been released.
+        if (throttle) {
+            writeThrottle.onMarkDirty();
+        }
     }
 
     /** {@inheritDoc} */
@@ -625,7 +720,7 @@ public class PersistentPageMemory implements PageMemory {
      * @see #acquirePage(int, long) Sets additional flag indicating that page was not found in memory and had to be allocated.
      */
     public long acquirePage(int grpId, long pageId, AtomicBoolean pageAllocated) throws IgniteInternalCheckedException {
-        return acquirePage(grpId, pageId, IoStatisticsHolderNoOp.INSTANCE, false, pageAllocated);
+        return acquirePage(grpId, pageId, IoStatisticsHolderNoOp.INSTANCE, false, pageAllocated, true);
     }
 
     /**
@@ -639,15 +734,28 @@ public class PersistentPageMemory implements PageMemory {
      * @see #acquirePage(int, long) Will read page from file if it is not present in memory.
      */
     public long acquirePage(int grpId, long pageId, IoStatisticsHolder statHolder, boolean restore) throws IgniteInternalCheckedException {
-        return acquirePage(grpId, pageId, statHolder, restore, null);
+        return acquirePage(grpId, pageId, statHolder, restore, null, true);
     }
 
+    /**
+     * Returns an absolute pointer to a page, associated with the given page ID.
+     *
+     * @param grpId Group ID.
+     * @param pageId Page id.
+     * @param statHolder Statistics holder to track IO operations.
+     * @param restore Get page for restore.
+     * @param pageAllocated Flag is set if new page was allocated in offheap memory.
+     * @param replace Whether another page may be evicted to load the page if there are no free page slots in the segment.
+     * @return Page, or {@code 0} if the page is not in memory, there are no free page slots and {@code replace} is {@code false}.
+     * @throws IgniteInternalCheckedException If failed.
+     */
     private long acquirePage(
             int grpId,
             long pageId,
             IoStatisticsHolder statHolder,
             boolean restore,
-            @Nullable AtomicBoolean pageAllocated
+            @Nullable AtomicBoolean pageAllocated,
+            boolean replace
     ) throws IgniteInternalCheckedException {
         assert started;
         assert pageIndex(pageId) != 0 : "Partition meta should should not be read through PageMemory so as not to occupy memory.";
@@ -675,6 +783,8 @@ public class PersistentPageMemory implements PageMemory {
 
                 seg.pageReplacementPolicy.onHit(relPtr);
 
+                pageHits.increment();
+
                 statHolder.trackLogicalRead(absPtr + PAGE_OVERHEAD);
 
                 return absPtr;
@@ -705,6 +815,10 @@ public class PersistentPageMemory implements PageMemory {
             if (relPtr == INVALID_REL_PTR) {
                 relPtr = seg.borrowOrAllocateFreePage(pageId);
 
+                if (relPtr == INVALID_REL_PTR && !replace) {
+                    return 0L;
+                }
+
                 if (pageAllocated != null) {
                     pageAllocated.set(true);
                 }
@@ -726,6 +840,8 @@ public class PersistentPageMemory implements PageMemory {
 
                 seg.pageReplacementPolicy.onMiss(relPtr);
 
+                pageMisses.increment();
+
                 seg.loadedPages.put(
                         grpId,
                         fullId.effectivePageId(),
@@ -777,10 +893,14 @@ public class PersistentPageMemory implements PageMemory {
 
                 seg.pageReplacementPolicy.onRemove(relPtr);
                 seg.pageReplacementPolicy.onMiss(relPtr);
+
+                pageMisses.increment();
             } else {
                 absPtr = seg.absolute(relPtr);
 
                 seg.pageReplacementPolicy.onHit(relPtr);
+
+                pageHits.increment();
             }
 
             seg.acquirePage(absPtr);
@@ -986,6 +1106,139 @@ public class PersistentPageMemory implements PageMemory {
         return total;
     }
 
+    /**
+     * Returns the number of page acquisitions that found the page already loaded into this data region.
+     */
+    public long pageHits() {
+        return pageHits.sum();
+    }
+
+    /**
+     * Returns the number of page acquisitions that had to load the page into this data region.
+     */
+    public long pageMisses() {
+        return pageMisses.sum();
+    }
+
+    /**
+     * Returns the share of page acquisitions that found the page already loaded, from {@code 0} to {@code 1}, or {@code 0} if no pages
+     * have been acquired yet. Allows to compare page replacement policies under the same workload.
+     */
+    public double pageHitRatio() {
+        long hits = pageHits.sum();
+        long total = hits + pageMisses.sum();
+
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Returns the number of pages evicted from this data region by the page replacement policy.
+     */
+    public long replacedPages() {
+        return replacedPages.sum();
+    }
+
+    /**
+     * Returns the total time threads marking pages dirty were parked for by the write throttling, in nanoseconds.
+     */
+    public long throttleParkTimeNanos() {
+        PagesWriteSpeedBasedThrottle writeThrottle = this.writeThrottle;
+
+        return writeThrottle == null ? 0 : writeThrottle.throttleParkTimeNanos();
+    }
+
+    /**
+     * Returns the number of times a thread marking a page dirty was parked by the write throttling.
+     */
+    public long throttledCount() {
+        PagesWriteSpeedBasedThrottle writeThrottle = this.writeThrottle;
+
+        return writeThrottle == null ? 0 : writeThrottle.throttledCount();
+    }
+
+    /**
+     * Returns the number of pages loaded into this data region by {@link #prefetchPage(int, long) prefetching}.
+     */
+    public long prefetchedPages() {
+        return prefetchedPages.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The page is loaded by a separate thread pool, see {@code IGNITE_PDS_PREFETCH_THREADS}. Only free page slots are used, prefetching
+     * never evicts already loaded pages, so the hint is ignored if the segment of the page is full.
+     */
+    @Override
+    public CompletableFuture<Boolean> prefetchPage(int grpId, long pageId) {
+        ThreadPoolExecutor prefetchExecutor = this.prefetchExecutor;
+
+        if (prefetchExecutor == null || pageIndex(pageId) == 0) {
+            return falseCompletedFuture();
+        }
+
+        Segment seg = segment(grpId, pageId);
+
+        seg.readLock().lock();
+
+        try {
+            if (seg.closed) {
+                return falseCompletedFuture();
+            }
+
+            long relPtr = seg.loadedPages.get(
+                    grpId,
+                    effectivePageId(pageId),
+                    seg.partGeneration(grpId, partitionId(pageId)),
+                    INVALID_REL_PTR,
+                    INVALID_REL_PTR
+            );
+
+            if (relPtr != INVALID_REL_PTR) {
+                return trueCompletedFuture();
+            }
+
+            // Not to submit a hint that is going to be ignored, the final check is made when the page is loaded.
+            if (seg.loadedPages.size() >= seg.pages()) {
+                return falseCompletedFuture();
+            }
+        } finally {
+            seg.readLock().unlock();
+        }
+
+        try {
+            return supplyAsync(() -> loadPrefetchedPage(grpId, pageId), prefetchExecutor);
+        } catch (RejectedExecutionException e) {
+            // Too many pending hints or the page memory is being stopped.
+            return falseCompletedFuture();
+        }
+    }
+
+    private boolean loadPrefetchedPage(int grpId, long pageId) {
+        if (!started) {
+            return false;
+        }
+
+        try {
+            // The free page slot is taken under the segment write lock, so the page never evicts a page in use.
+            long page = acquirePage(grpId, pageId, IoStatisticsHolderNoOp.INSTANCE, false, null, false);
+
+            if (page == 0L) {
+                return false;
+            }
+
+            releasePage(grpId, pageId, page);
+        } catch (IgniteInternalCheckedException e) {
+            LOG.debug("Failed to prefetch page [grpId={}, pageId={}]", e, grpId, hexLong(pageId));
+
+            return false;
+        }
+
+        prefetchedPages.increment();
+
+        return true;
+    }
+
     /**
      * Returns total number of acquired pages.
      */
@@ -1578,7 +1831,11 @@ public class PersistentPageMemory implements PageMemory {
                 throw oomException("all pages are acquired");
             }
 
-            return pageReplacementPolicy.replace();
+            long relPtr = pageReplacementPolicy.replace();
+
+            replacedPages.increment();
+
+            return relPtr;
         }
 
         /**
@@ -1910,17 +2167,18 @@ public class PersistentPageMemory implements PageMemory {
         } finally {
             rwLock.writeUnlock(absPtr + PAGE_LOCK_OFFSET, TAG_LOCK_ALWAYS);
 
+            // We pinned the page either when allocated the temp buffer, or when resolved abs pointer.
+            // Must release the page only after write unlock, and only after its copy is written: the page is not dirty anymore, so
+            // once released it may be replaced and read again from the page store.
             if (canWrite) {
                 buf.rewind();
 
-                pageStoreWriter.writePage(fullId, buf, tag);
+                pageStoreWriter.writePage(fullId, buf, tag, () -> PageHeader.releasePage(absPtr));
 
                 buf.rewind();
+            } else {
+                PageHeader.releasePage(absPtr);
             }
-
-            // We pinned the page either when allocated the temp buffer, or when resolved abs pointer.
-            // Must release the page only after write unlock.
-            PageHeader.releasePage(absPtr);
         }
     }
 
@@ -1942,6 +2200,12 @@ public class PersistentPageMemory implements PageMemory {
     ) throws IgniteInternalCheckedException {
         assert buf.remaining() == pageSize() : buf.remaining();
 
+        PagesWriteSpeedBasedThrottle writeThrottle = this.writeThrottle;
+
+        if (writeThrottle != null) {
+            writeThrottle.onCheckpointPageWritten();
+        }
+
         Segment seg = segment(fullId.groupId(), fullId.pageId());
 
         long absPtr = 0;
@@ -2073,7 +2337,15 @@ public class PersistentPageMemory implements PageMemory {
 
         checkpointUrgency.set(NOT_REQUIRED);
 
-        return CollectionUtils.concat(dirtyPageIds);
+        Collection<FullPageId> checkpointPageIds = CollectionUtils.concat(dirtyPageIds);
+
+        PagesWriteSpeedBasedThrottle writeThrottle = this.writeThrottle;
+
+        if (writeThrottle != null) {
+            writeThrottle.onBeginCheckpoint(checkpointPageIds.size());
+        }
+
+        return checkpointPageIds;
     }
 
     /**
@@ -2089,5 +2361,11 @@ public class PersistentPageMemory implements PageMemory {
                 seg.checkpointPages = null;
             }
         }
+
+        PagesWriteSpeedBasedThrottle writeThrottle = this.writeThrottle;
+
+        if (writeThrottle != null) {
+            writeThrottle.onFinishCheckpoint();
+        }
     }
 }
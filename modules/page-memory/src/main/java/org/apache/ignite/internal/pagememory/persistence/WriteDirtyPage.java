@@ -34,4 +34,28 @@ public interface WriteDirtyPage {
      * @throws IgniteInternalCheckedException If failed.
      */
     void write(PersistentPageMemory pageMemory, FullPageId fullPageId, ByteBuffer buffer) throws IgniteInternalCheckedException;
+
+    /**
+     * Writes several pages of the same partition to the page store.
+     *
+     * <p>By default, writes the pages one by one, implementations may coalesce the pages that are adjacent in the page store.
+     *
+     * @param pageMemory Page memory.
+     * @param fullPageIds Full page ids, the first {@code count} elements are used.
+     * @param pagesBuffer Byte buffer with the contents of the pages laid out one after another, from zero position to its limit.
+     * @param count Number of pages to write.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    default void write(
+            PersistentPageMemory pageMemory,
+            FullPageId[] fullPageIds,
+            ByteBuffer pagesBuffer,
+            int count
+    ) throws IgniteInternalCheckedException {
+        int pageSize = pagesBuffer.limit() / count;
+
+        for (int i = 0; i < count; i++) {
+            write(pageMemory, fullPageIds[i], pagesBuffer.slice(i * pageSize, pageSize).order(pagesBuffer.order()));
+        }
+    }
 }
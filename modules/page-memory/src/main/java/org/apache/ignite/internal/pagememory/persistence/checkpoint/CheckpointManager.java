@@ -38,6 +38,7 @@ import org.apache.ignite.internal.pagememory.persistence.CheckpointUrgency;
 import org.apache.ignite.internal.pagememory.persistence.GroupPartitionId;
 import org.apache.ignite.internal.pagememory.persistence.PartitionMetaManager;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
+import org.apache.ignite.internal.pagememory.persistence.WriteDirtyPage;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointDirtyPages.CheckpointDirtyPagesView;
 import org.apache.ignite.internal.pagememory.persistence.compaction.Compactor;
 import org.apache.ignite.internal.pagememory.persistence.store.DeltaFilePageStoreIo;
@@ -132,7 +133,26 @@ public class CheckpointManager {
         );
 
         checkpointPagesWriterFactory = new CheckpointPagesWriterFactory(
-                (pageMemory, fullPageId, pageBuf) -> writePageToDeltaFilePageStore(pageMemory, fullPageId, pageBuf, true),
+                new WriteDirtyPage() {
+                    @Override
+                    public void write(
+                            PersistentPageMemory pageMemory,
+                            FullPageId fullPageId,
+                            ByteBuffer buffer
+                    ) throws IgniteInternalCheckedException {
+                        writePageToDeltaFilePageStore(pageMemory, fullPageId, buffer, true);
+                    }
+
+                    @Override
+                    public void write(
+                            PersistentPageMemory pageMemory,
+                            FullPageId[] fullPageIds,
+                            ByteBuffer pagesBuffer,
+                            int count
+                    ) throws IgniteInternalCheckedException {
+                        writePagesToDeltaFilePageStore(pageMemory, fullPageIds, pagesBuffer, count, true);
+                    }
+                },
                 ioRegistry,
                 partitionMetaManager,
                 pageSize
@@ -249,6 +269,13 @@ public class CheckpointManager {
         return checkpointer.lastCheckpointProgress();
     }
 
+    /**
+     * Returns histograms of the checkpoint phases and page writes, accumulated over all checkpoints.
+     */
+    public CheckpointMetrics checkpointMetrics() {
+        return checkpointer.metrics();
+    }
+
     /**
      * Marks partition as dirty, forcing partition's meta-page to be written on disk during next checkpoint.
      */
@@ -298,13 +325,63 @@ public class CheckpointManager {
             ByteBuffer pageBuf,
             boolean calculateCrc
     ) throws IgniteInternalCheckedException {
-        FilePageStore filePageStore = filePageStoreManager.getStore(new GroupPartitionId(pageId.groupId(), pageId.partitionId()));
+        DeltaFilePageStoreIo deltaFilePageStore = deltaFilePageStoreForWrite(pageMemory, pageId.groupId(), pageId.partitionId());
 
-        // If the partition is deleted (or will be soon), then such writes to the disk should be skipped.
-        if (filePageStore == null || filePageStore.isMarkedToDestroy()) {
+        if (deltaFilePageStore != null) {
+            deltaFilePageStore.write(pageId.pageId(), pageBuf, calculateCrc);
+        }
+    }
+
+    /**
+     * Writes pages of the same partition to delta file page store, pages adjacent in the delta file are written by a single call.
+     *
+     * <p>Must be used at checkpoint.
+     *
+     * @param pageMemory Page memory.
+     * @param pageIds Page IDs, the first {@code count} elements are used.
+     * @param pagesBuf Buffer with the contents of the pages laid out one after another, from zero position to its limit.
+     * @param count Number of pages to write.
+     * @param calculateCrc If {@code false} crc calculation will be forcibly skipped.
+     * @throws IgniteInternalCheckedException If page writing failed (IO error occurred).
+     */
+    public void writePagesToDeltaFilePageStore(
+            PersistentPageMemory pageMemory,
+            FullPageId[] pageIds,
+            ByteBuffer pagesBuf,
+            int count,
+            boolean calculateCrc
+    ) throws IgniteInternalCheckedException {
+        FullPageId firstPageId = pageIds[0];
+
+        DeltaFilePageStoreIo deltaFilePageStore = deltaFilePageStoreForWrite(pageMemory, firstPageId.groupId(), firstPageId.partitionId());
+
+        if (deltaFilePageStore == null) {
             return;
         }
 
+        long[] rawPageIds = new long[count];
+
+        for (int i = 0; i < count; i++) {
+            assert pageIds[i].groupId() == firstPageId.groupId() && pageIds[i].partitionId() == firstPageId.partitionId()
+                    : "Pages of different partitions [first=" + firstPageId + ", other=" + pageIds[i] + ']';
+
+            rawPageIds[i] = pageIds[i].pageId();
+        }
+
+        deltaFilePageStore.write(rawPageIds, pagesBuf, count, calculateCrc);
+    }
+
+    /**
+     * Returns the delta file page store of the current checkpoint to write pages of the partition to, {@code null} if the partition is
+     * deleted (or will be soon) and such writes to the disk should be skipped.
+     */
+    private @Nullable DeltaFilePageStoreIo deltaFilePageStoreForWrite(PersistentPageMemory pageMemory, int groupId, int partitionId) {
+        FilePageStore filePageStore = filePageStoreManager.getStore(new GroupPartitionId(groupId, partitionId));
+
+        if (filePageStore == null || filePageStore.isMarkedToDestroy()) {
+            return null;
+        }
+
         CheckpointProgress lastCheckpointProgress = lastCheckpointProgress();
 
         assert lastCheckpointProgress != null : "Checkpoint has not happened yet";
@@ -315,11 +392,11 @@ public class CheckpointManager {
         assert pagesToWrite != null : "Dirty pages must be sorted out";
 
         CompletableFuture<DeltaFilePageStoreIo> deltaFilePageStoreFuture = filePageStore.getOrCreateNewDeltaFile(
-                index -> filePageStoreManager.tmpDeltaFilePageStorePath(pageId.groupId(), pageId.partitionId(), index),
-                () -> pageIndexesForDeltaFilePageStore(pagesToWrite.getPartitionView(pageMemory, pageId.groupId(), pageId.partitionId()))
+                index -> filePageStoreManager.tmpDeltaFilePageStorePath(groupId, partitionId, index),
+                () -> pageIndexesForDeltaFilePageStore(pagesToWrite.getPartitionView(pageMemory, groupId, partitionId))
         );
 
-        deltaFilePageStoreFuture.join().write(pageId.pageId(), pageBuf, calculateCrc);
+        return deltaFilePageStoreFuture.join();
     }
 
     /**
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.pagememory.persistence.checkpoint;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.metrics.DistributionMetric;
+
+/**
+ * Histograms of the checkpoint phase durations and of the page writes, accumulated over all checkpoints.
+ *
+ * <p>Filled in by {@link CheckpointMetricsTracker}s of the checkpoints.
+ */
+public class CheckpointMetrics {
+    /** Bounds of the phase duration histograms in mills. */
+    private static final long[] PHASE_DURATION_BOUNDS = {1, 10, 100, 1_000, 10_000, 60_000, 300_000};
+
+    /** Bounds of the histogram of the number of pages written by a single call. */
+    private static final long[] WRITE_BATCH_SIZE_BOUNDS = {1, 2, 4, 8, 16, 32, 64};
+
+    /** Bounds of the histogram of the duration of a single page write call in microseconds. */
+    private static final long[] WRITE_BATCH_DURATION_BOUNDS = {100, 1_000, 10_000, 100_000, 1_000_000};
+
+    private final DistributionMetric beforeWriteLockDuration = new DistributionMetric(
+            "BeforeWriteLockDuration",
+            "Duration of the checkpoint actions before taking the write lock in milliseconds.",
+            PHASE_DURATION_BOUNDS
+    );
+
+    private final DistributionMetric writeLockWaitDuration = new DistributionMetric(
+            "WriteLockWaitDuration",
+            "Duration of the checkpoint write lock wait in milliseconds.",
+            PHASE_DURATION_BOUNDS
+    );
+
+    private final DistributionMetric onMarkCheckpointBeginDuration = new DistributionMetric(
+            "OnMarkCheckpointBeginDuration",
+            "Duration of the checkpoint listeners execution under the write lock in milliseconds.",
+            PHASE_DURATION_BOUNDS
+    );
+
+    private final DistributionMetric writeLockHoldDuration = new DistributionMetric(
+            "WriteLockHoldDuration",
+            "Duration of the checkpoint write lock hold in milliseconds.",
+            PHASE_DURATION_BOUNDS
+    );
+
+    private final DistributionMetric splitAndSortPagesDuration = new DistributionMetric(
+            "SplitAndSortPagesDuration",
+            "Duration of splitting and sorting the checkpoint dirty pages in milliseconds.",
+            PHASE_DURATION_BOUNDS
+    );
+
+    private final DistributionMetric pagesWriteDuration = new DistributionMetric(
+            "PagesWriteDuration",
+            "Duration of writing the checkpoint dirty pages in milliseconds.",
+            PHASE_DURATION_BOUNDS
+    );
+
+    private final DistributionMetric fsyncDuration = new DistributionMetric(
+            "FsyncDuration",
+            "Duration of the checkpoint fsync in milliseconds.",
+            PHASE_DURATION_BOUNDS
+    );
+
+    private final DistributionMetric totalDuration = new DistributionMetric(
+            "TotalDuration",
+            "Total duration of the checkpoint in milliseconds.",
+            PHASE_DURATION_BOUNDS
+    );
+
+    private final DistributionMetric pageWriteBatchSize = new DistributionMetric(
+            "PageWriteBatchSize",
+            "Number of the checkpoint dirty pages written to a page store by a single call.",
+            WRITE_BATCH_SIZE_BOUNDS
+    );
+
+    private final DistributionMetric pageWriteBatchDuration = new DistributionMetric(
+            "PageWriteBatchDuration",
+            "Duration of a single call writing the checkpoint dirty pages to a page store in microseconds.",
+            WRITE_BATCH_DURATION_BOUNDS
+    );
+
+    /**
+     * Records the phase durations of the finished checkpoint.
+     *
+     * @param tracker Metrics tracker of the finished checkpoint.
+     */
+    void onCheckpointEnd(CheckpointMetricsTracker tracker) {
+        beforeWriteLockDuration.add(tracker.beforeWriteLockDuration());
+        writeLockWaitDuration.add(tracker.writeLockWaitDuration());
+        onMarkCheckpointBeginDuration.add(tracker.onMarkCheckpointBeginDuration());
+        writeLockHoldDuration.add(tracker.writeLockHoldDuration());
+        splitAndSortPagesDuration.add(tracker.splitAndSortCheckpointPagesDuration());
+        pagesWriteDuration.add(tracker.pagesWriteDuration());
+        fsyncDuration.add(tracker.fsyncDuration());
+        totalDuration.add(tracker.totalDuration());
+    }
+
+    /**
+     * Records a single call writing the checkpoint dirty pages to a page store.
+     *
+     * <p>Thread safe.
+     *
+     * @param pages Number of pages written.
+     * @param durationNanos Duration of the call in nanoseconds.
+     */
+    void onPageWriteBatch(int pages, long durationNanos) {
+        pageWriteBatchSize.add(pages);
+        pageWriteBatchDuration.add(TimeUnit.NANOSECONDS.toMicros(durationNanos));
+    }
+
+    /** Returns the histogram of the checkpoint actions before taking the write lock duration in mills. */
+    public DistributionMetric beforeWriteLockDuration() {
+        return beforeWriteLockDuration;
+    }
+
+    /** Returns the histogram of the checkpoint write lock wait duration in mills. */
+    public DistributionMetric writeLockWaitDuration() {
+        return writeLockWaitDuration;
+    }
+
+    /** Returns the histogram of the execution of all {@link CheckpointListener#onMarkCheckpointBegin} duration in mills. */
+    public DistributionMetric onMarkCheckpointBeginDuration() {
+        return onMarkCheckpointBeginDuration;
+    }
+
+    /** Returns the histogram of the checkpoint write lock hold duration in mills. */
+    public DistributionMetric writeLockHoldDuration() {
+        return writeLockHoldDuration;
+    }
+
+    /** Returns the histogram of splitting and sorting the checkpoint pages duration in mills. */
+    public DistributionMetric splitAndSortPagesDuration() {
+        return splitAndSortPagesDuration;
+    }
+
+    /** Returns the histogram of the pages write duration in mills. */
+    public DistributionMetric pagesWriteDuration() {
+        return pagesWriteDuration;
+    }
+
+    /** Returns the histogram of the checkpoint fsync duration in mills. */
+    public DistributionMetric fsyncDuration() {
+        return fsyncDuration;
+    }
+
+    /** Returns the histogram of the total checkpoint duration in mills. */
+    public DistributionMetric totalDuration() {
+        return totalDuration;
+    }
+
+    /** Returns the histogram of the number of pages written to a page store by a single call. */
+    public DistributionMetric pageWriteBatchSize() {
+        return pageWriteBatchSize;
+    }
+
+    /** Returns the histogram of the duration of a single call writing pages to a page store in microseconds. */
+    public DistributionMetric pageWriteBatchDuration() {
+        return pageWriteBatchDuration;
+    }
+
+    /** Returns all the histograms, for example to register them in a metric source. */
+    public List<DistributionMetric> metrics() {
+        return List.of(
+                beforeWriteLockDuration,
+                writeLockWaitDuration,
+                onMarkCheckpointBeginDuration,
+                writeLockHoldDuration,
+                splitAndSortPagesDuration,
+                pagesWriteDuration,
+                fsyncDuration,
+                totalDuration,
+                pageWriteBatchSize,
+                pageWriteBatchDuration
+        );
+    }
+}
@@ -22,6 +22,7 @@ import static org.apache.ignite.internal.util.FastTimestamps.coarseCurrentTimeMi
 
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import org.apache.ignite.internal.pagememory.persistence.store.PageStore;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Tracks various checkpoint phases and stats.
@@ -44,6 +45,9 @@ public class CheckpointMetricsTracker {
     private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> COPY_ON_WRITE_PAGES_WRITTEN_UPDATER =
             newUpdater(CheckpointMetricsTracker.class, "copyOnWritePagesWritten");
 
+    /** Histograms accumulated over all checkpoints, {@code null} if not collected. */
+    private final @Nullable CheckpointMetrics metrics;
+
     private volatile int dataPagesWritten;
 
     private volatile int copyOnWritePagesWritten;
@@ -68,6 +72,20 @@ public class CheckpointMetricsTracker {
 
     private long checkpointOnMarkCheckpointBeginEndTimestamp;
 
+    /** Constructor that does not collect histograms. */
+    public CheckpointMetricsTracker() {
+        this(null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param metrics Histograms to record the checkpoint phase durations and page writes to, {@code null} if not collected.
+     */
+    public CheckpointMetricsTracker(@Nullable CheckpointMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     /**
      * Returns checkpoint start timestamp in mills.
      *
@@ -84,6 +102,33 @@ public class CheckpointMetricsTracker {
      */
     public void onCheckpointEnd() {
         checkpointEndTimestamp = coarseCurrentTimeMillis();
+
+        if (metrics != null) {
+            metrics.onCheckpointEnd(this);
+        }
+    }
+
+    /**
+     * Callback after a single call writing dirty pages to a page store.
+     *
+     * <p>Thread safe.
+     *
+     * @param pages Number of pages written by the call.
+     * @param durationNanos Duration of the call in nanoseconds.
+     */
+    public void onPageWriteBatch(int pages, long durationNanos) {
+        if (metrics != null) {
+            metrics.onPageWriteBatch(pages, durationNanos);
+        }
+    }
+
+    /**
+     * Returns histograms accumulated over all checkpoints, {@code null} if not collected.
+     *
+     * <p>Thread safe.
+     */
+    public @Nullable CheckpointMetrics metrics() {
+        return metrics;
     }
 
     /**
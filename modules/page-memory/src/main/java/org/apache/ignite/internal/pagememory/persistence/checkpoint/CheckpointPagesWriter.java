@@ -27,7 +27,9 @@ import static org.apache.ignite.internal.util.IgniteConcurrentMultiPairQueue.EMP
 import static org.apache.ignite.internal.util.StringUtils.hexLong;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -82,9 +84,15 @@ public class CheckpointPagesWriter implements Runnable {
     /** Update heartbeat callback. */
     private final Runnable updateHeartbeat;
 
-    /** Thread local with buffers for the checkpoint threads. Each buffer represent one page for durable memory. */
+    /**
+     * Thread local with buffers for the checkpoint threads. Each buffer holds one or more pages for durable memory, the pages of a
+     * partition are collected in it and written to the page store at once.
+     */
     private final ThreadLocal<ByteBuffer> threadBuf;
 
+    /** Page size in bytes. */
+    private final int pageSize;
+
     /** Current checkpoint. This field is updated only by checkpoint thread. */
     private final CheckpointProgressImpl checkpointProgress;
 
@@ -108,7 +116,8 @@ public class CheckpointPagesWriter implements Runnable {
      * @param updatedPartitions Updated partitions.
      * @param doneFut Done future.
      * @param updateHeartbeat Update heartbeat callback.
-     * @param threadBuf Thread local byte buffer.
+     * @param threadBuf Thread local byte buffer, its capacity is a multiple of the page size.
+     * @param pageSize Page size in bytes.
      * @param checkpointProgress Checkpoint progress.
      * @param pageWriter File page store manager.
      * @param ioRegistry Page IO registry.
@@ -122,6 +131,7 @@ public class CheckpointPagesWriter implements Runnable {
             CompletableFuture<?> doneFut,
             Runnable updateHeartbeat,
             ThreadLocal<ByteBuffer> threadBuf,
+            int pageSize,
             CheckpointProgressImpl checkpointProgress,
             WriteDirtyPage pageWriter,
             PageIoRegistry ioRegistry,
@@ -134,6 +144,7 @@ public class CheckpointPagesWriter implements Runnable {
         this.doneFut = doneFut;
         this.updateHeartbeat = updateHeartbeat;
         this.threadBuf = threadBuf;
+        this.pageSize = pageSize;
         this.checkpointProgress = checkpointProgress;
         this.pageWriter = pageWriter;
         this.ioRegistry = ioRegistry;
@@ -174,7 +185,7 @@ public class CheckpointPagesWriter implements Runnable {
 
         Map<PersistentPageMemory, PageStoreWriter> pageStoreWriters = new HashMap<>();
 
-        ByteBuffer tmpWriteBuf = threadBuf.get();
+        PageWriteBatch batch = new PageWriteBatch(threadBuf.get(), pageSize);
 
         Result<PersistentPageMemory, FullPageId> queueResult = new Result<>();
 
@@ -193,6 +204,9 @@ public class CheckpointPagesWriter implements Runnable {
                 PersistentPageMemory pageMemory = queueResult.getKey();
 
                 if (hasPartitionChanged(partitionId, fullId)) {
+                    // Pages of the previous partition must be written before its processing is finished.
+                    writeBatch(batch);
+
                     GroupPartitionId newPartitionId = toPartitionId(fullId);
 
                     // Starting for the new partition.
@@ -216,17 +230,15 @@ public class CheckpointPagesWriter implements Runnable {
                     });
 
                     if (writeMetaPage.get()) {
-                        writePartitionMeta(pageMemory, partitionId, tmpWriteBuf.rewind());
+                        writePartitionMeta(pageMemory, partitionId, batch.nextPageBuffer());
 
                         writeMetaPage.set(false);
                     }
                 }
 
-                tmpWriteBuf.rewind();
-
                 PageStoreWriter pageStoreWriter = pageStoreWriters.computeIfAbsent(
                         pageMemory,
-                        pm -> createPageStoreWriter(pm, pageIdsToRetry)
+                        pm -> createPageStoreWriter(pm, pageIdsToRetry, batch)
                 );
 
                 if (fullId.pageIdx() == 0) {
@@ -235,9 +247,18 @@ public class CheckpointPagesWriter implements Runnable {
                 }
 
                 // Should also be done for partitions that will be destroyed to remove their pages from the data region.
-                pageMemory.checkpointWritePage(fullId, tmpWriteBuf, pageStoreWriter, tracker);
+                pageMemory.checkpointWritePage(fullId, batch.nextPageBuffer(), pageStoreWriter, tracker);
+
+                if (batch.isFull()) {
+                    writeBatch(batch);
+                }
             }
+
+            writeBatch(batch);
         } finally {
+            // Unpins the pages of the batch that is not written because of an error.
+            batch.clear();
+
             inProgressPartitions.forEach(checkpointProgress::onFinishPartitionProcessing);
         }
 
@@ -249,37 +270,76 @@ public class CheckpointPagesWriter implements Runnable {
      *
      * @param pageMemory Page memory.
      * @param pagesToRetry Page IDs that need to be rewritten.
+     * @param batch Batch to collect the pages to write to.
      */
     private PageStoreWriter createPageStoreWriter(
             PersistentPageMemory pageMemory,
-            Map<PersistentPageMemory, List<FullPageId>> pagesToRetry
+            Map<PersistentPageMemory, List<FullPageId>> pagesToRetry,
+            PageWriteBatch batch
     ) {
-        return (fullPageId, buf, tag) -> {
-            if (tag == TRY_AGAIN_TAG) {
-                pagesToRetry.computeIfAbsent(pageMemory, k -> new ArrayList<>()).add(fullPageId);
-
-                return;
+        return new PageStoreWriter() {
+            @Override
+            public void writePage(FullPageId fullPageId, ByteBuffer buf, int tag) {
+                writePage(fullPageId, buf, tag, () -> {});
             }
 
-            long pageId = fullPageId.pageId();
+            @Override
+            public void writePage(FullPageId fullPageId, ByteBuffer buf, int tag, Runnable releasePage) {
+                if (tag == TRY_AGAIN_TAG) {
+                    releasePage.run();
 
-            assert getType(buf) != 0 : "Invalid state. Type is 0! pageId = " + hexLong(pageId);
-            assert getVersion(buf) != 0 : "Invalid state. Version is 0! pageId = " + hexLong(pageId);
-            assert fullPageId.pageIdx() != 0 : "Invalid pageIdx. Index is 0! pageId = " + hexLong(pageId);
-            assert !(ioRegistry.resolve(buf) instanceof PartitionMetaIo) : "Invalid IO type. pageId = " + hexLong(pageId);
+                    pagesToRetry.computeIfAbsent(pageMemory, k -> new ArrayList<>()).add(fullPageId);
 
-            if (flag(pageId) == FLAG_DATA) {
-                tracker.onDataPageWritten();
-            }
+                    return;
+                }
+
+                // The page stays pinned until the batch is written, so it can't be replaced and read again before that.
+                batch.add(pageMemory, fullPageId, buf, releasePage);
 
-            checkpointProgress.writtenPagesCounter().incrementAndGet();
+                long pageId = fullPageId.pageId();
 
-            pageWriter.write(pageMemory, fullPageId, buf);
+                assert getType(buf) != 0 : "Invalid state. Type is 0! pageId = " + hexLong(pageId);
+                assert getVersion(buf) != 0 : "Invalid state. Version is 0! pageId = " + hexLong(pageId);
+                assert fullPageId.pageIdx() != 0 : "Invalid pageIdx. Index is 0! pageId = " + hexLong(pageId);
+                assert !(ioRegistry.resolve(buf) instanceof PartitionMetaIo) : "Invalid IO type. pageId = " + hexLong(pageId);
 
-            updatedPartitions.get(toPartitionId(fullPageId)).increment();
+                if (flag(pageId) == FLAG_DATA) {
+                    tracker.onDataPageWritten();
+                }
+
+                checkpointProgress.writtenPagesCounter().incrementAndGet();
+
+                updatedPartitions.get(toPartitionId(fullPageId)).increment();
+            }
         };
     }
 
+    /**
+     * Writes the pages collected in the batch to the page store and clears the batch, which unpins the pages.
+     *
+     * @param batch Batch of pages of the same partition.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    private void writeBatch(PageWriteBatch batch) throws IgniteInternalCheckedException {
+        int count = batch.size();
+
+        if (count == 0) {
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+
+        if (count == 1) {
+            pageWriter.write(batch.pageMemory(), batch.pageIds()[0], batch.pagesBuffer());
+        } else {
+            pageWriter.write(batch.pageMemory(), batch.pageIds(), batch.pagesBuffer(), count);
+        }
+
+        tracker.onPageWriteBatch(count, System.nanoTime() - startNanos);
+
+        batch.clear();
+    }
+
     private void writePartitionMeta(
             PersistentPageMemory pageMemory,
             GroupPartitionId partitionId,
@@ -312,4 +372,99 @@ public class CheckpointPagesWriter implements Runnable {
     private static GroupPartitionId toPartitionId(FullPageId pageId) {
         return new GroupPartitionId(pageId.groupId(), pageId.partitionId());
     }
+
+    /**
+     * Dirty pages of the same partition, copied one after another into a thread local buffer to be written to the page store at once.
+     *
+     * <p>Dirty pages are sorted by page index within a partition, so the collected pages are mostly adjacent in the page store and can
+     * be written by a single call.
+     *
+     * <p>The pages of the batch are already marked as clean, so they are kept pinned in the page memory until the batch is written
+     * or discarded by {@link #clear}. Otherwise, a page could be replaced and read again from the page store before its copy is there.
+     */
+    private static class PageWriteBatch {
+        private final ByteBuffer buf;
+
+        private final int pageSize;
+
+        private final FullPageId[] pageIds;
+
+        private final Runnable[] releasePages;
+
+        private @Nullable PersistentPageMemory pageMemory;
+
+        private int size;
+
+        private PageWriteBatch(ByteBuffer buf, int pageSize) {
+            assert buf.capacity() >= pageSize && buf.capacity() % pageSize == 0 : "capacity=" + buf.capacity() + ", pageSize=" + pageSize;
+
+            this.buf = buf;
+            this.pageSize = pageSize;
+
+            pageIds = new FullPageId[buf.capacity() / pageSize];
+            releasePages = new Runnable[pageIds.length];
+        }
+
+        /** Returns a buffer to copy the next page into, the page becomes a part of the batch on {@link #add}. */
+        ByteBuffer nextPageBuffer() {
+            assert !isFull();
+
+            return buf.clear().slice(size * pageSize, pageSize).order(ByteOrder.nativeOrder());
+        }
+
+        /**
+         * Adds the page copied into the buffer returned by the last {@link #nextPageBuffer} to the batch.
+         *
+         * @param pageMemory Page memory of the page.
+         * @param pageId Page ID.
+         * @param pageBuf Buffer with the copy of the page.
+         * @param releasePage Unpins the page, run when the batch is cleared.
+         */
+        void add(PersistentPageMemory pageMemory, FullPageId pageId, ByteBuffer pageBuf, Runnable releasePage) {
+            assert size == 0 || this.pageMemory == pageMemory : "Pages of different data regions in the batch: " + pageId;
+            assert pageBuf.capacity() == pageSize : "Unexpected page buffer: " + pageBuf;
+
+            this.pageMemory = pageMemory;
+
+            releasePages[size] = releasePage;
+            pageIds[size++] = pageId;
+        }
+
+        PersistentPageMemory pageMemory() {
+            assert pageMemory != null;
+
+            return pageMemory;
+        }
+
+        FullPageId[] pageIds() {
+            return pageIds;
+        }
+
+        /** Returns a buffer with the contents of the pages of the batch, from zero position to its limit. */
+        ByteBuffer pagesBuffer() {
+            return buf.clear().slice(0, size * pageSize).order(ByteOrder.nativeOrder());
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean isFull() {
+            return size == pageIds.length;
+        }
+
+        /** Unpins the pages and clears the batch. */
+        void clear() {
+            for (int i = 0; i < size; i++) {
+                releasePages[i].run();
+            }
+
+            Arrays.fill(pageIds, 0, size, null);
+            Arrays.fill(releasePages, 0, size, null);
+
+            pageMemory = null;
+
+            size = 0;
+        }
+    }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.pagememory.persistence.checkpoint;
 
+import static org.apache.ignite.internal.lang.IgniteSystemProperties.getInteger;
+
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.concurrent.CompletableFuture;
@@ -37,9 +39,18 @@ import org.apache.ignite.internal.util.IgniteConcurrentMultiPairQueue;
  * <p>It holds all dependency which is needed for creation of checkpoint writer.
  */
 public class CheckpointPagesWriterFactory {
-    /** Thread local with buffers for the checkpoint threads. Each buffer represent one page for durable memory. */
+    /**
+     * Maximum number of dirty pages of a partition that a checkpoint thread collects before writing them to the page store at once,
+     * {@code 1} to write pages one by one.
+     */
+    private static final int WRITE_BATCH_PAGES = Math.max(1, getInteger("IGNITE_CHECKPOINT_WRITE_BATCH_PAGES", 16));
+
+    /** Thread local with buffers for the checkpoint threads. Each buffer holds {@link #WRITE_BATCH_PAGES} pages for durable memory. */
     private final ThreadLocal<ByteBuffer> threadBuf;
 
+    /** Page size in bytes. */
+    private final int pageSize;
+
     /** Writer which writes pages to page store during the checkpoint. */
     private final WriteDirtyPage dirtyPageWriter;
 
@@ -67,9 +78,10 @@ public class CheckpointPagesWriterFactory {
         this.dirtyPageWriter = dirtyPageWriter;
         this.ioRegistry = ioRegistry;
         this.partitionMetaManager = partitionMetaManager;
+        this.pageSize = pageSize;
 
         threadBuf = ThreadLocal.withInitial(() -> {
-            ByteBuffer tmpWriteBuf = ByteBuffer.allocateDirect(pageSize);
+            ByteBuffer tmpWriteBuf = ByteBuffer.allocateDirect(pageSize * WRITE_BATCH_PAGES);
 
             tmpWriteBuf.order(ByteOrder.nativeOrder());
 
@@ -105,6 +117,7 @@ public class CheckpointPagesWriterFactory {
                 doneWriteFut,
                 updateHeartbeat,
                 threadBuf,
+                pageSize,
                 checkpointProgress,
                 dirtyPageWriter,
                 ioRegistry,
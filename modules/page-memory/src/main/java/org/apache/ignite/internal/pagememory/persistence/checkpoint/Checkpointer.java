@@ -152,6 +152,9 @@ public class Checkpointer extends IgniteWorker {
 
     private final LogSyncer logSyncer;
 
+    /** Histograms of the checkpoint phases and page writes. */
+    private final CheckpointMetrics metrics = new CheckpointMetrics();
+
     /**
      * Constructor.
      *
@@ -300,7 +303,7 @@ public class Checkpointer extends IgniteWorker {
         Checkpoint chp = null;
 
         try {
-            CheckpointMetricsTracker tracker = new CheckpointMetricsTracker();
+            CheckpointMetricsTracker tracker = new CheckpointMetricsTracker(metrics);
 
             startCheckpointProgress();
 
@@ -738,6 +741,13 @@ public class Checkpointer extends IgniteWorker {
         return afterReleaseWriteLockCheckpointProgress;
     }
 
+    /**
+     * Returns histograms of the checkpoint phases and page writes, accumulated over all checkpoints.
+     */
+    public CheckpointMetrics metrics() {
+        return metrics;
+    }
+
     /**
      * Returns progress of scheduled checkpoint.
      */
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.pagememory.persistence.compression;
+
+import static java.nio.ByteOrder.nativeOrder;
+import static org.apache.ignite.internal.pagememory.io.PageIo.COMMON_HEADER_END;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.apache.ignite.internal.pagememory.io.PageIo;
+
+/**
+ * Encoding of pages written to file page stores.
+ *
+ * <p>Encoded page layout:
+ * <ul>
+ *     <li>Common page header ({@link PageIo#COMMON_HEADER_END} bytes), as is, with {@link PageIo#getCompressionType compression type}
+ *     set to the {@link PageCodec#id ID of the codec} and {@link PageIo#getCompressedSize compressed size} set to the size of the
+ *     encoded page including the header.</li>
+ *     <li>Rest of the page, encoded by the codec.</li>
+ *     <li>Zero padding up to the alignment.</li>
+ * </ul>
+ *
+ * <p>Encoded page is written at the regular offset of the page, so the layout of the file is not changed, but the rest of the page slot
+ * is not written. If the slot has never been written before, file systems with sparse files support don't allocate blocks for it, and
+ * the checkpointer and the compactor only move the encoded bytes in any case.
+ *
+ * <p>Pages are encoded only if it saves at least one alignment unit, otherwise they are written as is. Readers of file page stores with a
+ * codec distinguish encoded pages by the non-zero compression type, which is always zero for pages in memory.
+ */
+public final class CompressedPages {
+    private static final ThreadLocal<ByteBuffer> BUFFER = new ThreadLocal<>();
+
+    private CompressedPages() {
+    }
+
+    /**
+     * Encodes a page for writing.
+     *
+     * @param page Page buffer, its position and limit are not changed.
+     * @param pageSize Page size in bytes.
+     * @param codec Codec.
+     * @param alignment Alignment of the encoded page size in bytes, usually the file system block size.
+     * @return Buffer to write, from its position to its limit: either a thread local buffer with the encoded page, valid until the next
+     *      call, or the {@code page} itself if encoding doesn't save space.
+     */
+    public static ByteBuffer encode(ByteBuffer page, int pageSize, PageCodec codec, int alignment) {
+        assert alignment > 0 : alignment;
+
+        int maxEncodedSize = pageSize - alignment;
+
+        if (maxEncodedSize <= COMMON_HEADER_END) {
+            return page;
+        }
+
+        ByteBuffer dst = buffer(pageSize);
+
+        dst.put(page.duplicate().position(0).limit(COMMON_HEADER_END)).limit(maxEncodedSize);
+
+        if (!codec.encode(page.duplicate().position(COMMON_HEADER_END).limit(pageSize), dst)) {
+            return page;
+        }
+
+        int encodedSize = dst.position();
+        int alignedSize = (encodedSize + alignment - 1) / alignment * alignment;
+
+        dst.limit(alignedSize);
+
+        while (dst.hasRemaining()) {
+            dst.put((byte) 0);
+        }
+
+        PageIo.setCompressionType(dst, codec.id());
+        PageIo.setCompressedSize(dst, (short) encodedSize);
+
+        return dst.flip();
+    }
+
+    /**
+     * Decodes a page in place, if it is encoded.
+     *
+     * @param page Page buffer of the {@code pageSize} size, its position and limit are not changed.
+     * @param pageSize Page size in bytes.
+     * @return {@code true} if the page was encoded.
+     * @throws IOException If the page can't be decoded.
+     */
+    public static boolean decodeIfEncoded(ByteBuffer page, int pageSize) throws IOException {
+        byte codecId = PageIo.getCompressionType(page);
+
+        if (codecId == PageCodecs.NO_CODEC_ID) {
+            return false;
+        }
+
+        PageCodec codec;
+
+        try {
+            codec = PageCodecs.codec(codecId);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+
+        int encodedSize = Short.toUnsignedInt(PageIo.getCompressedSize(page));
+
+        if (codec == null || encodedSize <= COMMON_HEADER_END || encodedSize > pageSize) {
+            throw new IOException("Invalid encoded page header [codec=" + codecId + ", size=" + encodedSize + ']');
+        }
+
+        ByteBuffer src = buffer(pageSize);
+
+        src.put(page.duplicate().position(COMMON_HEADER_END).limit(encodedSize)).flip();
+
+        ByteBuffer dst = page.duplicate().position(COMMON_HEADER_END).limit(pageSize);
+
+        codec.decode(src, dst);
+
+        if (dst.hasRemaining()) {
+            throw new IOException("Decoded page is too short [codec=" + codecId + ", size=" + dst.position() + ']');
+        }
+
+        PageIo.setCompressionType(page, PageCodecs.NO_CODEC_ID);
+        PageIo.setCompressedSize(page, (short) 0);
+
+        return true;
+    }
+
+    private static ByteBuffer buffer(int pageSize) {
+        ByteBuffer buf = BUFFER.get();
+
+        if (buf == null || buf.capacity() < pageSize) {
+            buf = ByteBuffer.allocateDirect(pageSize).order(nativeOrder());
+
+            BUFFER.set(buf);
+        }
+
+        return buf.clear();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.pagememory.persistence.compression;
+
+import static java.lang.ThreadLocal.withInitial;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * {@link PageCodec} that compresses pages with the DEFLATE algorithm, using the fastest compression level.
+ */
+public class DeflatePageCodec implements PageCodec {
+    /** Codec ID. */
+    public static final byte ID = 1;
+
+    private static final ThreadLocal<Deflater> DEFLATER = withInitial(() -> new Deflater(Deflater.BEST_SPEED, true));
+
+    private static final ThreadLocal<Inflater> INFLATER = withInitial(() -> new Inflater(true));
+
+    @Override
+    public byte id() {
+        return ID;
+    }
+
+    @Override
+    public boolean encode(ByteBuffer src, ByteBuffer dst) {
+        Deflater deflater = DEFLATER.get();
+
+        try {
+            deflater.setInput(src);
+            deflater.finish();
+
+            while (!deflater.finished()) {
+                if (!dst.hasRemaining()) {
+                    return false;
+                }
+
+                deflater.deflate(dst);
+            }
+
+            return true;
+        } finally {
+            deflater.reset();
+        }
+    }
+
+    @Override
+    public void decode(ByteBuffer src, ByteBuffer dst) throws IOException {
+        Inflater inflater = INFLATER.get();
+
+        try {
+            inflater.setInput(src);
+
+            while (!inflater.finished()) {
+                if (inflater.inflate(dst) == 0 && (inflater.needsInput() || !dst.hasRemaining())) {
+                    throw new IOException("Unexpected end of compressed page data");
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Failed to decompress page", e);
+        } finally {
+            inflater.reset();
+        }
+    }
+}
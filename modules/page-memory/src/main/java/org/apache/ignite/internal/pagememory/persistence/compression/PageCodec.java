@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.pagememory.persistence.compression;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Codec that transforms page contents before they are written to a file page store and after they are read from it.
+ *
+ * <p>Only the part of the page after the common page header is passed to the codec, the header itself is always stored as is, because
+ * it describes how the rest of the page was encoded. See {@link CompressedPages} for details.
+ */
+public interface PageCodec {
+    /**
+     * Returns the unique ID of the codec, stored in the headers of encoded pages and file page stores. {@code 0} is reserved for pages
+     * that are not encoded.
+     */
+    byte id();
+
+    /**
+     * Encodes bytes between the position and the limit of the source buffer into the destination buffer, advancing positions of both.
+     *
+     * @param src Source buffer.
+     * @param dst Destination buffer.
+     * @return {@code false} if the encoded bytes don't fit into the remaining space of the destination buffer, in which case the page
+     *      must be stored as is.
+     */
+    boolean encode(ByteBuffer src, ByteBuffer dst);
+
+    /**
+     * Decodes bytes between the position and the limit of the source buffer, previously produced by {@link #encode}, into the
+     * destination buffer, advancing positions of both.
+     *
+     * @param src Source buffer.
+     * @param dst Destination buffer.
+     * @throws IOException If the source bytes are corrupted.
+     */
+    void decode(ByteBuffer src, ByteBuffer dst) throws IOException;
+}
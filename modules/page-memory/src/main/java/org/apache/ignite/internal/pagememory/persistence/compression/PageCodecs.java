@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.pagememory.persistence.compression;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Registry of the known {@link PageCodec}s.
+ */
+public final class PageCodecs {
+    /** ID of the absent codec, pages are stored as is. */
+    public static final byte NO_CODEC_ID = 0;
+
+    private static final PageCodec DEFLATE = new DeflatePageCodec();
+
+    private PageCodecs() {
+    }
+
+    /**
+     * Returns a codec by its ID, {@code null} for {@link #NO_CODEC_ID}.
+     *
+     * @param id Codec ID.
+     * @throws IllegalArgumentException If the codec is unknown.
+     */
+    public static @Nullable PageCodec codec(byte id) {
+        switch (id) {
+            case NO_CODEC_ID:
+                return null;
+
+            case DeflatePageCodec.ID:
+                return DEFLATE;
+
+            default:
+                throw new IllegalArgumentException("Unknown page codec: " + id);
+        }
+    }
+
+    /**
+     * Returns a codec ID by the codec name, case insensitive: {@code NONE} or {@code DEFLATE}.
+     *
+     * @param name Codec name, {@code null} is treated as {@code NONE}.
+     * @throws IllegalArgumentException If the codec is unknown.
+     */
+    public static byte codecId(@Nullable String name) {
+        if (name == null || "NONE".equalsIgnoreCase(name)) {
+            return NO_CODEC_ID;
+        } else if ("DEFLATE".equalsIgnoreCase(name)) {
+            return DeflatePageCodec.ID;
+        }
+
+        throw new IllegalArgumentException("Unknown page codec: " + name);
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.pagememory.persistence.replacement;
+
+import static org.apache.ignite.internal.util.GridUnsafe.compareAndSwapLong;
+import static org.apache.ignite.internal.util.GridUnsafe.getLong;
+import static org.apache.ignite.internal.util.GridUnsafe.zeroMemory;
+
+/**
+ * Count-Min sketch of page access frequencies with 4-bit counters, stored off-heap next to the loaded pages map of a segment.
+ *
+ * <p>Every page is mapped to {@link #DEPTH} counters and its frequency is estimated as the minimum of them, so the estimate can only be
+ * higher than the real number of accesses. Counters saturate at {@code 15}. Once the number of recorded accesses reaches ten times the
+ * number of pages, all counters are halved, so the sketch keeps track of recent popularity rather than of the whole history. Pages that
+ * were evicted keep their counters, which allows a re-loaded hot page to be recognized.
+ *
+ * <p>Counters are updated with CAS and can be used concurrently, lost increments and resets racing with each other only affect the
+ * precision of the estimate.
+ */
+class PageFrequencySketch {
+    /** Number of counters per page. */
+    private static final int DEPTH = 4;
+
+    /** Maximum value of a counter. */
+    private static final int MAX_FREQUENCY = 15;
+
+    /** Seeds of the hash functions, one per counter of a page. */
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+    /** Mask that leaves the lower 3 bits of every 4-bit counter, used to halve all the counters of a word at once. */
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    /** Pointer to memory region to store counters. */
+    private final long ptr;
+
+    /** Number of 64-bit words with 16 counters each. */
+    private final int words;
+
+    /** Mask of a counter index. */
+    private final int counterMask;
+
+    /** Number of recorded accesses that triggers halving of the counters. */
+    private final int sampleSize;
+
+    /** Number of recorded accesses since the last halving, racy updates are fine since it's only an estimate. */
+    private int additions;
+
+    /**
+     * Constructor.
+     *
+     * @param pagesCnt Pages count.
+     * @param memPtr Pointer to memory region, at least {@link #requiredMemory(int)} bytes.
+     */
+    PageFrequencySketch(int pagesCnt, long memPtr) {
+        ptr = memPtr;
+        words = words(pagesCnt);
+        counterMask = (words << 4) - 1;
+        sampleSize = Math.max(pagesCnt, 1) * 10;
+
+        zeroMemory(ptr, (long) words << 3);
+    }
+
+    /**
+     * Records an access to the page.
+     *
+     * @param grpId Group ID.
+     * @param effectivePageId Effective page ID.
+     */
+    void increment(int grpId, long effectivePageId) {
+        long key = key(grpId, effectivePageId);
+
+        for (int i = 0; i < DEPTH; i++) {
+            int idx = counterIndex(key, i);
+
+            long wordPtr = wordPtr(idx);
+            int shift = shift(idx);
+
+            long word;
+
+            do {
+                word = getLong(wordPtr);
+
+                if (((word >>> shift) & MAX_FREQUENCY) == MAX_FREQUENCY) {
+                    break;
+                }
+            } while (!compareAndSwapLong(null, wordPtr, word, word + (1L << shift)));
+        }
+
+        if (++additions >= sampleSize) {
+            additions = sampleSize >>> 1;
+
+            reset();
+        }
+    }
+
+    /**
+     * Returns an estimate of the number of recent accesses to the page, from {@code 0} to {@code 15}.
+     *
+     * @param grpId Group ID.
+     * @param effectivePageId Effective page ID.
+     */
+    int frequency(int grpId, long effectivePageId) {
+        long key = key(grpId, effectivePageId);
+
+        int frequency = MAX_FREQUENCY;
+
+        for (int i = 0; i < DEPTH; i++) {
+            int idx = counterIndex(key, i);
+
+            frequency = Math.min(frequency, (int) ((getLong(wordPtr(idx)) >>> shift(idx)) & MAX_FREQUENCY));
+        }
+
+        return frequency;
+    }
+
+    /** Halves all the counters. */
+    private void reset() {
+        for (int i = 0; i < words; i++) {
+            long wordPtr = ptr + ((long) i << 3);
+
+            long word;
+
+            do {
+                word = getLong(wordPtr);
+            } while (!compareAndSwapLong(null, wordPtr, word, (word >>> 1) & RESET_MASK));
+        }
+    }
+
+    private long wordPtr(int counterIdx) {
+        return ptr + ((long) (counterIdx >>> 4) << 3);
+    }
+
+    private static int shift(int counterIdx) {
+        return (counterIdx & 15) << 2;
+    }
+
+    private int counterIndex(long key, int i) {
+        long hash = (key + SEEDS[i]) * SEEDS[i];
+
+        hash += hash >>> 32;
+
+        return (int) hash & counterMask;
+    }
+
+    private static long key(int grpId, long effectivePageId) {
+        long key = effectivePageId * 31 + grpId;
+
+        // Spread the bits, page IDs of a partition differ only in the lowest bits.
+        key = (key ^ (key >>> 33)) * 0xff51afd7ed558ccdL;
+
+        return key ^ (key >>> 33);
+    }
+
+    /**
+     * Returns the number of 64-bit words for {@code pagesCnt} pages: a power of two with 8 counters per page.
+     *
+     * @param pagesCnt Pages count.
+     */
+    private static int words(int pagesCnt) {
+        return Math.max(Integer.highestOneBit(Math.max(pagesCnt, 2) - 1) << 1, 16) >>> 1;
+    }
+
+    /**
+     * Memory required to service {@code pagesCnt} pages.
+     *
+     * @param pagesCnt Pages count.
+     */
+    static long requiredMemory(int pagesCnt) {
+        return (long) words(pagesCnt) << 3;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.pagememory.persistence.replacement;
+
+import static org.apache.ignite.internal.pagememory.persistence.PageHeader.fullPageId;
+import static org.apache.ignite.internal.pagememory.persistence.PageHeader.isAcquired;
+import static org.apache.ignite.internal.pagememory.persistence.PageHeader.readPageGroupId;
+import static org.apache.ignite.internal.pagememory.persistence.PageHeader.readPageId;
+import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory.INVALID_REL_PTR;
+import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory.OUTDATED_REL_PTR;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.effectivePageId;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.partitionId;
+
+import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+import org.apache.ignite.internal.pagememory.FullPageId;
+import org.apache.ignite.internal.pagememory.persistence.LoadedPagesMap;
+import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory.Segment;
+
+/**
+ * Frequency-aware, scan-resistant page replacement policy inspired by TinyLFU.
+ *
+ * <p>Page accesses are recorded in a {@link PageFrequencySketch}, which also remembers pages that have already been evicted. A page load
+ * and the first hit after the CLOCK hand has passed the page count as accesses, further hits in between are not counted, so a page pinned
+ * many times in a row (e.g. by a scan reading it row by row) doesn't look frequently used. Eviction candidates are taken with the CLOCK
+ * algorithm, so recently hit pages get a second chance, and out of {@link #SAMPLE_SIZE} candidates the one with the lowest access frequency
+ * is evicted. Pages loaded by a single full scan are accessed only a few times and are evicted before the frequently used pages of the
+ * working set.
+ */
+public class TinyLfuPageReplacementPolicy extends PageReplacementPolicy {
+    /** Number of CLOCK candidates compared by frequency to choose a page to evict. */
+    static final int SAMPLE_SIZE = 4;
+
+    /** Pages hit-flags store. */
+    private final ClockPageReplacementFlags flags;
+
+    /** Page access frequencies. */
+    private final PageFrequencySketch sketch;
+
+    /**
+     * Constructor.
+     *
+     * @param seg Page memory segment.
+     * @param ptr Pointer to memory region.
+     * @param pagesCnt Pages count.
+     */
+    protected TinyLfuPageReplacementPolicy(Segment seg, long ptr, int pagesCnt) {
+        super(seg);
+
+        flags = new ClockPageReplacementFlags(pagesCnt, ptr);
+        sketch = new PageFrequencySketch(pagesCnt, ptr + ClockPageReplacementFlags.requiredMemory(pagesCnt));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onHit(long relPtr) {
+        int pageIdx = (int) seg.pageIndex(relPtr);
+
+        if (!flags.getFlag(pageIdx)) {
+            flags.setFlag(pageIdx);
+
+            recordAccess(seg.absolute(relPtr));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onMiss(long relPtr) {
+        recordAccess(seg.absolute(relPtr));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onRemove(long relPtr) {
+        int pageIdx = (int) seg.pageIndex(relPtr);
+
+        flags.clearFlag(pageIdx);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long replace() throws IgniteInternalCheckedException {
+        LoadedPagesMap loadedPages = seg.loadedPages();
+
+        for (int i = 0; i < loadedPages.size(); i++) {
+            int victimIdx = -1;
+            int victimFrequency = Integer.MAX_VALUE;
+
+            for (int j = 0; j < SAMPLE_SIZE; j++) {
+                int pageIdx = flags.poll();
+
+                long absPtr = seg.absolute(seg.relative(pageIdx));
+
+                if (isAcquired(absPtr)) {
+                    continue;
+                }
+
+                int frequency = sketch.frequency(readPageGroupId(absPtr), effectivePageId(readPageId(absPtr)));
+
+                if (frequency < victimFrequency) {
+                    victimIdx = pageIdx;
+                    victimFrequency = frequency;
+                }
+            }
+
+            if (victimIdx == -1) {
+                continue;
+            }
+
+            long relPtr = seg.relative(victimIdx);
+            long absPtr = seg.absolute(relPtr);
+
+            FullPageId fullId = fullPageId(absPtr);
+
+            // Check loaded pages map for outdated page.
+            relPtr = loadedPages.get(
+                    fullId.groupId(),
+                    fullId.effectivePageId(),
+                    seg.partGeneration(fullId.groupId(), partitionId(fullId.pageId())),
+                    INVALID_REL_PTR,
+                    OUTDATED_REL_PTR
+            );
+
+            assert relPtr != INVALID_REL_PTR;
+
+            if (relPtr == OUTDATED_REL_PTR) {
+                return seg.refreshOutdatedPage(fullId.groupId(), fullId.pageId(), true);
+            }
+
+            if (seg.tryToRemovePage(fullId, absPtr)) {
+                return relPtr;
+            }
+
+            flags.setFlag(victimIdx);
+        }
+
+        throw seg.oomException("no pages to replace");
+    }
+
+    private void recordAccess(long absPtr) {
+        sketch.increment(readPageGroupId(absPtr), effectivePageId(readPageId(absPtr)));
+    }
+
+    /**
+     * Memory required to service {@code pagesCnt} pages.
+     *
+     * @param pagesCnt Pages count.
+     */
+    static long requiredMemory(int pagesCnt) {
+        return ClockPageReplacementFlags.requiredMemory(pagesCnt) + PageFrequencySketch.requiredMemory(pagesCnt);
+    }
+}
@@ -22,6 +22,7 @@ import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.READ;
 import static java.nio.file.StandardOpenOption.WRITE;
 import static org.apache.ignite.internal.lang.IgniteSystemProperties.getBoolean;
+import static org.apache.ignite.internal.lang.IgniteSystemProperties.getInteger;
 import static org.apache.ignite.internal.util.IgniteUtils.atomicMoveFile;
 import static org.apache.ignite.internal.util.StringUtils.hexInt;
 import static org.apache.ignite.internal.util.StringUtils.hexLong;
@@ -34,6 +35,8 @@ import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.ClosedChannelException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Supplier;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.ignite.internal.fileio.FileIo;
@@ -42,6 +45,8 @@ import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.pagememory.io.PageIo;
 import org.apache.ignite.internal.pagememory.persistence.FastCrc;
 import org.apache.ignite.internal.pagememory.persistence.IgniteInternalDataIntegrityViolationException;
+import org.apache.ignite.internal.pagememory.persistence.compression.CompressedPages;
+import org.apache.ignite.internal.pagememory.persistence.compression.PageCodec;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -57,6 +62,9 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
     // TODO: IGNITE-16350 Move to config
     private final boolean skipCrc = getBoolean("IGNITE_PDS_SKIP_CRC");
 
+    /** Alignment of the size of encoded pages in bytes, should match the file system block size. */
+    private final int encodedPageAlignment = getInteger("IGNITE_PDS_ENCODED_PAGE_ALIGNMENT", 4096);
+
     private volatile Path filePath;
 
     private volatile @Nullable FileIo fileIo;
@@ -105,6 +113,13 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
      */
     public abstract void checkHeader(FileIo fileIo) throws IOException;
 
+    /**
+     * Returns the codec used to encode written pages, {@code null} if pages are written and read as is.
+     *
+     * <p>Pages of a file page store with a codec may be stored either encoded or as is, every encoded page describes its own encoding.
+     */
+    public abstract @Nullable PageCodec codec();
+
     /**
      * Returns page offset within the store file.
      *
@@ -159,6 +174,134 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
     public void write(long pageId, ByteBuffer pageBuf, boolean calculateCrc) throws IgniteInternalCheckedException {
         ensure();
 
+        assert pageBuf.order() == nativeOrder() : "Page buffer order " + pageBuf.order() + " should be same with " + nativeOrder();
+
+        writePages(new long[]{pageId}, new ByteBuffer[]{pageBuf}, calculateCrc, fileIo -> {
+            assert pageBuf.position() == 0 : pageBuf.position();
+
+            PageCodec codec = codec();
+
+            ByteBuffer writeBuf = codec == null
+                    ? pageBuf
+                    : CompressedPages.encode(pageBuf, pageSize(), codec, encodedPageAlignment);
+
+            fileIo.writeFully(writeBuf, pageOffset(pageId));
+
+            if (writeBuf != pageBuf) {
+                // Leave the page buffer in the same state as after writing it as is.
+                pageBuf.position(pageBuf.limit());
+            }
+        }, () -> "Failed to write page [filePath=" + filePath + ", pageId=" + pageId + "]");
+    }
+
+    /**
+     * Writes several pages at once.
+     *
+     * <p>Pages that follow each other in the file are coalesced and written by a single call, all the writes are submitted to the
+     * {@link FileIo} as one batch, see {@link FileIo#writeFully(ByteBuffer[], long[])}. Encoded pages are always written separately.
+     *
+     * @param pageIds Page IDs, the first {@code count} elements are used.
+     * @param pagesBuf Buffer with the contents of the pages laid out one after another, from zero position to its limit.
+     * @param count Number of pages to write.
+     * @param calculateCrc If {@code false} crc calculation will be forcibly skipped.
+     * @throws IgniteInternalCheckedException If page writing failed (IO error occurred).
+     */
+    public void write(long[] pageIds, ByteBuffer pagesBuf, int count, boolean calculateCrc) throws IgniteInternalCheckedException {
+        assert count > 0 && count <= pageIds.length : "count=" + count + ", length=" + pageIds.length;
+        assert pagesBuf.limit() == count * pageSize() : "limit=" + pagesBuf.limit() + ", count=" + count;
+
+        if (count == 1) {
+            write(pageIds[0], pagesBuf.rewind(), calculateCrc);
+
+            return;
+        }
+
+        ensure();
+
+        int pageSize = pageSize();
+
+        ByteBuffer[] pageBufs = new ByteBuffer[count];
+
+        for (int i = 0; i < count; i++) {
+            pageBufs[i] = pagesBuf.slice(i * pageSize, pageSize).order(nativeOrder());
+        }
+
+        writePages(pageIds, pageBufs, calculateCrc, fileIo -> {
+            ByteBuffer[] writeBufs = new ByteBuffer[count];
+            long[] writeOffs = new long[count];
+
+            int writes = 0;
+
+            PageCodec codec = codec();
+
+            // Encoded pages are copied here, because the encoder returns the same thread local buffer for every page.
+            ByteBuffer encodedPagesBuf = null;
+
+            for (int i = 0; i < count; i++) {
+                long pageOff = pageOffset(pageIds[i]);
+
+                if (codec != null) {
+                    ByteBuffer writeBuf = CompressedPages.encode(pageBufs[i].rewind(), pageSize, codec, encodedPageAlignment);
+
+                    if (writeBuf != pageBufs[i]) {
+                        if (encodedPagesBuf == null) {
+                            encodedPagesBuf = ByteBuffer.allocate(count * pageSize);
+                        }
+
+                        int encodedPageOff = encodedPagesBuf.position();
+
+                        encodedPagesBuf.put(writeBuf);
+
+                        writeBuf = encodedPagesBuf.slice(encodedPageOff, encodedPagesBuf.position() - encodedPageOff);
+                    }
+
+                    writeBufs[writes] = writeBuf;
+                    writeOffs[writes++] = pageOff;
+
+                    continue;
+                }
+
+                // Raw pages are adjacent in the buffer, so the ones adjacent in the file can be written by one call.
+                int runStart = i;
+
+                while (i + 1 < count && pageOffset(pageIds[i + 1]) == pageOff + (long) (i + 1 - runStart) * pageSize) {
+                    i++;
+                }
+
+                writeBufs[writes] = pagesBuf.slice(runStart * pageSize, (i + 1 - runStart) * pageSize);
+                writeOffs[writes++] = pageOff;
+            }
+
+            if (writes < count) {
+                writeBufs = Arrays.copyOf(writeBufs, writes);
+                writeOffs = Arrays.copyOf(writeOffs, writes);
+            }
+
+            fileIo.writeFully(writeBufs, writeOffs);
+        }, () -> "Failed to write pages [filePath=" + filePath + ", pageIds=" + Arrays.toString(Arrays.copyOf(pageIds, count)) + "]");
+    }
+
+    /**
+     * Writes pages, reopening the file and retrying if it has been closed because the writing thread was interrupted.
+     *
+     * <p>CRC is calculated in the page buffers before writing them and is reset to zero afterwards.
+     *
+     * @param pageIds Page IDs, the first {@code pageBufs.length} elements are used.
+     * @param pageBufs Buffers of the pages.
+     * @param calculateCrc If {@code false} crc calculation will be forcibly skipped.
+     * @param writer Writes the page buffers to the file.
+     * @param errorMessage Supplier of the message of the exception thrown if writing failed.
+     * @throws IgniteInternalCheckedException If page writing failed (IO error occurred).
+     */
+    private void writePages(
+            long[] pageIds,
+            ByteBuffer[] pageBufs,
+            boolean calculateCrc,
+            PagesWriter writer,
+            Supplier<String> errorMessage
+    ) throws IgniteInternalCheckedException {
+        int pageSize = pageSize();
+
         boolean interrupted = false;
 
         while (true) {
@@ -168,29 +311,28 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
                 readWriteLock.readLock().lock();
 
                 try {
-                    assert pageBuf.position() == 0 : pageBuf.position();
-                    assert pageBuf.order() == nativeOrder() : "Page buffer order " + pageBuf.order()
-                            + " should be same with " + nativeOrder();
-                    assert PageIo.getType(pageBuf) != 0 : "Invalid state. Type is 0! pageId = " + hexLong(pageId);
-                    assert PageIo.getVersion(pageBuf) != 0 : "Invalid state. Version is 0! pageId = " + hexLong(pageId);
+                    for (int i = 0; i < pageBufs.length; i++) {
+                        ByteBuffer pageBuf = pageBufs[i];
 
-                    if (calculateCrc && !skipCrc) {
-                        assert PageIo.getCrc(pageBuf) == 0 : hexLong(pageId);
+                        assert PageIo.getType(pageBuf) != 0 : "Invalid state. Type is 0! pageId = " + hexLong(pageIds[i]);
+                        assert PageIo.getVersion(pageBuf) != 0 : "Invalid state. Version is 0! pageId = " + hexLong(pageIds[i]);
 
-                        PageIo.setCrc(pageBuf, calcCrc32(pageBuf, pageSize()));
-                    }
-
-                    // Check whether crc was calculated somewhere above the stack if it is forcibly skipped.
-                    assert skipCrc || PageIo.getCrc(pageBuf) != 0
-                            || calcCrc32(pageBuf, pageSize()) == 0 : "CRC hasn't been calculated, crc=0";
+                        if (calculateCrc && !skipCrc) {
+                            assert PageIo.getCrc(pageBuf) == 0 : hexLong(pageIds[i]);
 
-                    assert pageBuf.position() == 0 : pageBuf.position();
+                            PageIo.setCrc(pageBuf, calcCrc32(pageBuf, pageSize));
+                        }
 
-                    long pageOff = pageOffset(pageId);
+                        // Check whether crc was calculated somewhere above the stack if it is forcibly skipped.
+                        assert skipCrc || PageIo.getCrc(pageBuf) != 0
+                                || calcCrc32(pageBuf, pageSize) == 0 : "CRC hasn't been calculated, crc=0";
+                    }
 
-                    fileIo.writeFully(pageBuf, pageOff);
+                    writer.write(fileIo);
 
-                    PageIo.setCrc(pageBuf, 0);
+                    for (ByteBuffer pageBuf : pageBufs) {
+                        PageIo.setCrc(pageBuf, 0);
+                    }
 
                     if (interrupted) {
                         Thread.currentThread().interrupt();
@@ -212,9 +354,9 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
 
                         reinit(fileIo);
 
-                        pageBuf.position(0);
-
-                        PageIo.setCrc(pageBuf, 0);
+                        for (ByteBuffer pageBuf : pageBufs) {
+                            PageIo.setCrc(pageBuf.rewind(), 0);
+                        }
 
                         continue;
                     } catch (IOException e0) {
@@ -224,10 +366,7 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
                     }
                 }
 
-                throw new IgniteInternalCheckedException(
-                        "Failed to write page [filePath=" + filePath + ", pageId=" + pageId + "]",
-                        cause
-                );
+                throw new IgniteInternalCheckedException(errorMessage.get(), cause);
             }
         }
     }
@@ -495,6 +634,12 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
                 return;
             }
 
+            if (codec() != null) {
+                pageBuf.position(0);
+
+                CompressedPages.decodeIfEncoded(pageBuf, pageSize());
+            }
+
             int savedCrc32 = PageIo.getCrc(pageBuf);
 
             PageIo.setCrc(pageBuf, 0);
@@ -608,4 +753,10 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
             readWriteLock.writeLock().unlock();
         }
     }
+
+    /** Writes prepared page buffers to a file. */
+    @FunctionalInterface
+    private interface PagesWriter {
+        void write(FileIo fileIo) throws IOException;
+    }
 }
@@ -32,7 +32,9 @@ import java.nio.file.Path;
 import org.apache.ignite.internal.fileio.FileIo;
 import org.apache.ignite.internal.fileio.FileIoFactory;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+import org.apache.ignite.internal.pagememory.persistence.compression.PageCodec;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Implementation of the class for working with the delta file page storage IO.
@@ -40,6 +42,8 @@ import org.apache.ignite.internal.util.IgniteSpinBusyLock;
 public class DeltaFilePageStoreIo extends AbstractFilePageStoreIo {
     private final DeltaFilePageStoreIoHeader header;
 
+    private final @Nullable PageCodec codec;
+
     /** Lock to prevent reads after merging with a file page store. */
     private final IgniteSpinBusyLock mergedBusyLock = new IgniteSpinBusyLock();
 
@@ -54,10 +58,29 @@ public class DeltaFilePageStoreIo extends AbstractFilePageStoreIo {
             FileIoFactory ioFactory,
             Path filePath,
             DeltaFilePageStoreIoHeader header
+    ) {
+        this(ioFactory, filePath, header, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ioFactory {@link FileIo} factory.
+     * @param filePath File page store path.
+     * @param header Delta file page store header.
+     * @param codec Codec to encode written pages, {@code null} to write pages as is. Should be the same as the codec of the file page
+     *      store the delta file belongs to.
+     */
+    public DeltaFilePageStoreIo(
+            FileIoFactory ioFactory,
+            Path filePath,
+            DeltaFilePageStoreIoHeader header,
+            @Nullable PageCodec codec
     ) {
         super(ioFactory, filePath);
 
         this.header = header;
+        this.codec = codec;
     }
 
     /** {@inheritDoc} */
@@ -93,6 +116,12 @@ public class DeltaFilePageStoreIo extends AbstractFilePageStoreIo {
         checkFilePageIndexes(this.header.pageIndexes(), header.pageIndexes());
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable PageCodec codec() {
+        return codec;
+    }
+
     /**
      * Returns page offset within the store file, {@code -1} if page not found in delta file.
      *
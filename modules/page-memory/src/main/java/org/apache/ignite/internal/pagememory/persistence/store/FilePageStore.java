@@ -308,7 +308,8 @@ public class FilePageStore implements PageStore {
             newDeltaFilePageStoreIo = new DeltaFilePageStoreIo(
                     filePageStoreIo.ioFactory,
                     deltaFilePathFunction.apply(nextIndex),
-                    header
+                    header,
+                    filePageStoreIo.codec()
             );
 
             newValue = new ArrayList<>(previousValue.size() + 1);
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.pagememory.persistence.store;
 
+import static org.apache.ignite.internal.lang.IgniteSystemProperties.getString;
 import static org.apache.ignite.internal.pagememory.persistence.store.FilePageStore.LATEST_FILE_PAGE_STORE_VERSION;
 
 import java.io.IOException;
@@ -27,6 +28,9 @@ import java.util.Arrays;
 import org.apache.ignite.internal.fileio.FileIo;
 import org.apache.ignite.internal.fileio.FileIoFactory;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+import org.apache.ignite.internal.pagememory.persistence.compression.PageCodec;
+import org.apache.ignite.internal.pagememory.persistence.compression.PageCodecs;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Factory for creating {@link FilePageStore}.
@@ -36,6 +40,9 @@ class FilePageStoreFactory {
 
     private final int pageSize;
 
+    /** ID of the codec for new file page stores, existing ones keep the codec recorded in their headers. */
+    private final byte codecId = PageCodecs.codecId(getString("IGNITE_PDS_PAGE_CODEC"));
+
     /**
      * Constructor.
      *
@@ -68,14 +75,14 @@ class FilePageStoreFactory {
         if (!Files.exists(filePageStorePath)) {
             assert deltaFilePaths.length == 0 : Arrays.toString(deltaFilePaths);
 
-            return createFilePageStore(filePageStorePath, new FilePageStoreHeader(LATEST_FILE_PAGE_STORE_VERSION, pageSize));
+            return createFilePageStore(filePageStorePath, new FilePageStoreHeader(LATEST_FILE_PAGE_STORE_VERSION, pageSize, codecId));
         }
 
         try (FileIo fileIo = fileIoFactory.create(filePageStorePath)) {
             FilePageStoreHeader header = FilePageStoreHeader.readHeader(fileIo, headerBuffer);
 
             if (header == null) {
-                header = new FilePageStoreHeader(LATEST_FILE_PAGE_STORE_VERSION, pageSize);
+                header = new FilePageStoreHeader(LATEST_FILE_PAGE_STORE_VERSION, pageSize, codecId);
             }
 
             if (deltaFilePaths.length == 0) {
@@ -94,7 +101,7 @@ class FilePageStoreFactory {
 
                     assert deltaFileHeader != null : deltaFileHeader;
 
-                    deltaFileIos[i] = createDeltaFilePageStoreIo(deltaFilePath, deltaFileHeader);
+                    deltaFileIos[i] = createDeltaFilePageStoreIo(deltaFilePath, deltaFileHeader, PageCodecs.codec(header.codecId()));
                 } catch (IOException e) {
                     throw new IgniteInternalCheckedException("Error while creating delta file page store [file=" + deltaFilePath + "]", e);
                 }
@@ -124,10 +131,11 @@ class FilePageStoreFactory {
 
     private DeltaFilePageStoreIo createDeltaFilePageStoreIo(
             Path filePath,
-            DeltaFilePageStoreIoHeader header
+            DeltaFilePageStoreIoHeader header,
+            @Nullable PageCodec codec
     ) throws IgniteInternalCheckedException {
         if (header.version() == FilePageStore.DELTA_FILE_VERSION_1) {
-            return new DeltaFilePageStoreIo(fileIoFactory, filePath, header);
+            return new DeltaFilePageStoreIo(fileIoFactory, filePath, header, codec);
         }
 
         throw new IgniteInternalCheckedException(String.format(
@@ -23,6 +23,8 @@ import static org.apache.ignite.internal.util.StringUtils.hexLong;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import org.apache.ignite.internal.fileio.FileIo;
+import org.apache.ignite.internal.pagememory.persistence.compression.PageCodec;
+import org.apache.ignite.internal.pagememory.persistence.compression.PageCodecs;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -34,19 +36,24 @@ import org.jetbrains.annotations.Nullable;
  *     <li>{@link #SIGNATURE signature} (8 bytes)</li>
  *     <li>{@link #version version} (4 bytes)</li>
  *     <li>{@link #pageSize pageSize} (4 bytes)</li>
+ *     <li>{@link #codecId codecId} (1 byte)</li>
  * </ul>
+ *
+ * <p>Headers written before the codec ID was introduced have a zero byte in its place, which means that pages are not encoded.
  */
 public class FilePageStoreHeader {
     /** File signature. */
     private static final long SIGNATURE = 0xF19AC4FE60C530B8L;
 
     /** Size of the common file page store header for all versions, in bytes. */
-    private static final int COMMON_HEADER_SIZE = 8/* SIGNATURE */ + 4/* VERSION */ + 4/* page size */;
+    private static final int COMMON_HEADER_SIZE = 8/* SIGNATURE */ + 4/* VERSION */ + 4/* page size */ + 1/* codec ID */;
 
     private final int version;
 
     private final int pageSize;
 
+    private final byte codecId;
+
     /**
      * Constructor.
      *
@@ -54,10 +61,22 @@ public class FilePageStoreHeader {
      * @param pageSize Page size in bytes.
      */
     public FilePageStoreHeader(int version, int pageSize) {
+        this(version, pageSize, PageCodecs.NO_CODEC_ID);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param version File page store version.
+     * @param pageSize Page size in bytes.
+     * @param codecId ID of the {@link PageCodec} used to encode pages written to the file page store.
+     */
+    public FilePageStoreHeader(int version, int pageSize, byte codecId) {
         assert pageSize >= COMMON_HEADER_SIZE : pageSize;
 
         this.version = version;
         this.pageSize = pageSize;
+        this.codecId = codecId;
     }
 
     /**
@@ -74,6 +93,14 @@ public class FilePageStoreHeader {
         return pageSize;
     }
 
+    /**
+     * Returns the ID of the {@link PageCodec} used to encode pages written to the file page store, {@link PageCodecs#NO_CODEC_ID} if
+     * pages are written as is.
+     */
+    public byte codecId() {
+        return codecId;
+    }
+
     /**
      * Returns the size (aligned to {@link #pageSize()}) of the header in bytes.
      */
@@ -88,7 +115,8 @@ public class FilePageStoreHeader {
         return ByteBuffer.allocate(headerSize()).order(nativeOrder()).rewind()
                 .putLong(SIGNATURE)
                 .putInt(version)
-                .putInt(pageSize);
+                .putInt(pageSize)
+                .put(codecId);
     }
 
     /**
@@ -117,6 +145,6 @@ public class FilePageStoreHeader {
             );
         }
 
-        return new FilePageStoreHeader(headerBuffer.getInt(), headerBuffer.getInt());
+        return new FilePageStoreHeader(headerBuffer.getInt(), headerBuffer.getInt(), headerBuffer.get());
     }
 }
@@ -28,7 +28,10 @@ import java.nio.file.Path;
 import org.apache.ignite.internal.fileio.FileIo;
 import org.apache.ignite.internal.fileio.FileIoFactory;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+import org.apache.ignite.internal.pagememory.persistence.compression.PageCodec;
+import org.apache.ignite.internal.pagememory.persistence.compression.PageCodecs;
 import org.apache.ignite.internal.pagememory.util.PageIdUtils;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Implementation of the class for working with the file page file storage IO.
@@ -36,6 +39,8 @@ import org.apache.ignite.internal.pagememory.util.PageIdUtils;
 public class FilePageStoreIo extends AbstractFilePageStoreIo {
     private final FilePageStoreHeader header;
 
+    private final @Nullable PageCodec codec;
+
     /**
      * Constructor.
      *
@@ -51,6 +56,7 @@ public class FilePageStoreIo extends AbstractFilePageStoreIo {
         super(ioFactory, filePath);
 
         this.header = header;
+        this.codec = PageCodecs.codec(header.codecId());
     }
 
     /** {@inheritDoc} */
@@ -90,6 +96,12 @@ public class FilePageStoreIo extends AbstractFilePageStoreIo {
         super.read(pageId, pageOff, pageBuf, keepCrc);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable PageCodec codec() {
+        return codec;
+    }
+
     /** {@inheritDoc} */
     @Override
     public long pageOffset(long pageId) {
@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.pagememory.persistence.throttling;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Speed based throttling of the threads that mark pages dirty while a checkpoint is in progress.
+ *
+ * <p>If the share of dirty pages in a segment of the page memory reaches the hard threshold before the current checkpoint is finished,
+ * all writes stop until the next checkpoint begins. To avoid that, the throttle compares the rate at which pages are marked dirty with
+ * the rate at which the checkpoint writes its pages: if at these rates the dirty pages would reach the hard threshold before the
+ * checkpoint writes all of its pages, a thread marking a page dirty is parked. The park time starts from a few microseconds, grows
+ * exponentially while the writers remain too fast and shrinks once they are slow enough, so latency stays smooth instead of dropping to
+ * a full stop.
+ *
+ * <p>Pages are spread among the segments by the hash of their ids, so each segment receives an equal share of the pages marked dirty
+ * regardless of its size. The room left for dirty pages is therefore checked for every segment against its share of the rate.
+ */
+public class PagesWriteSpeedBasedThrottle {
+    /** Share of dirty pages below which threads are never parked. */
+    public static final double MIN_THROTTLE_DIRTY_PAGES_RATIO = 0.5;
+
+    /** Starting park time in nanoseconds. */
+    static final long MIN_PARK_NANOS = 4_000;
+
+    /** Maximum park time in nanoseconds. */
+    static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    /** Multiplier of the park time while the writers remain too fast. */
+    private static final double BACKOFF_RATIO = 1.05;
+
+    /** Interval over which the rates are measured, in nanoseconds. */
+    private static final long RATE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /** Number of pages in each segment of the page memory. */
+    private final long[] segmentPages;
+
+    /** Returns the number of dirty pages in a segment by its index. */
+    private final IntToLongFunction segmentDirtyPages;
+
+    /** Share of dirty pages in a segment at which all writes stop until the next checkpoint. */
+    private final double maxDirtyPagesRatio;
+
+    /** Rate of marking pages dirty. */
+    private final Rate markDirtyRate = new Rate();
+
+    /** Rate of writing the pages by checkpoints. */
+    private final Rate checkpointWriteRate = new Rate();
+
+    /** Number of pages of the current checkpoint, {@code 0} if there is no checkpoint in progress. */
+    private volatile long checkpointPages;
+
+    /** Number of pages written by checkpoints before the current checkpoint began. */
+    private volatile long checkpointWrittenPagesBefore;
+
+    /** Current park time in nanoseconds, {@code 0} if the threads are not throttled. */
+    private final AtomicLong parkNanos = new AtomicLong();
+
+    /** Total time the threads were parked for, in nanoseconds. */
+    private final LongAdder totalParkNanos = new LongAdder();
+
+    /** Number of times a thread was parked. */
+    private final LongAdder throttledCount = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param segmentPages Number of pages in each segment of the page memory.
+     * @param segmentDirtyPages Returns the number of dirty pages in a segment by its index.
+     * @param maxDirtyPagesRatio Share of dirty pages in a segment at which all writes stop until the next checkpoint.
+     */
+    public PagesWriteSpeedBasedThrottle(long[] segmentPages, IntToLongFunction segmentDirtyPages, double maxDirtyPagesRatio) {
+        assert maxDirtyPagesRatio > MIN_THROTTLE_DIRTY_PAGES_RATIO && maxDirtyPagesRatio <= 1 : maxDirtyPagesRatio;
+        assert segmentPages.length > 0;
+
+        for (long pages : segmentPages) {
+            assert pages > 0 : pages;
+        }
+
+        this.segmentPages = segmentPages;
+        this.segmentDirtyPages = segmentDirtyPages;
+        this.maxDirtyPagesRatio = maxDirtyPagesRatio;
+    }
+
+    /**
+     * Callback after a page has been marked dirty, parks the current thread if the writes are too fast for the current checkpoint.
+     *
+     * <p>Must not be called while holding page locks.
+     */
+    public void onMarkDirty() {
+        markDirtyRate.increment();
+
+        long checkpointPages = this.checkpointPages;
+
+        if (checkpointPages == 0) {
+            return;
+        }
+
+        // Greatest share of dirty pages among the segments and the least room left for dirty pages in a segment.
+        double dirtyRatio = 0;
+        double minRoomPages = Double.MAX_VALUE;
+
+        for (int i = 0; i < segmentPages.length; i++) {
+            long pages = segmentPages[i];
+            long dirtyPages = segmentDirtyPages.applyAsLong(i);
+
+            dirtyRatio = Math.max(dirtyRatio, (double) dirtyPages / pages);
+            minRoomPages = Math.min(minRoomPages, Math.max(0, maxDirtyPagesRatio * pages - dirtyPages));
+        }
+
+        if (dirtyRatio < MIN_THROTTLE_DIRTY_PAGES_RATIO) {
+            slowDown();
+
+            return;
+        }
+
+        long nowNanos = System.nanoTime();
+
+        if (!tooFast(dirtyRatio, minRoomPages, checkpointPages, nowNanos)) {
+            slowDown();
+
+            return;
+        }
+
+        long park = parkNanos.updateAndGet(cur -> cur == 0 ? MIN_PARK_NANOS : Math.min(MAX_PARK_NANOS, (long) (cur * BACKOFF_RATIO)));
+
+        LockSupport.parkNanos(park);
+
+        totalParkNanos.add(System.nanoTime() - nowNanos);
+        throttledCount.increment();
+    }
+
+    /**
+     * Callback on the beginning of a checkpoint.
+     *
+     * @param pages Number of pages the checkpoint is going to write.
+     */
+    public void onBeginCheckpoint(long pages) {
+        checkpointWrittenPagesBefore = checkpointWriteRate.count();
+        checkpointPages = pages;
+    }
+
+    /**
+     * Callback after the checkpoint has written a page.
+     */
+    public void onCheckpointPageWritten() {
+        checkpointWriteRate.increment();
+    }
+
+    /**
+     * Callback on the end of a checkpoint.
+     */
+    public void onFinishCheckpoint() {
+        checkpointPages = 0;
+
+        parkNanos.set(0);
+    }
+
+    /**
+     * Returns the total time the threads marking pages dirty were parked for, in nanoseconds.
+     */
+    public long throttleParkTimeNanos() {
+        return totalParkNanos.sum();
+    }
+
+    /**
+     * Returns the number of times a thread marking a page dirty was parked.
+     */
+    public long throttledCount() {
+        return throttledCount.sum();
+    }
+
+    /**
+     * Returns {@code true} if at the current rates the dirty pages of a segment reach the maximum share before the checkpoint writes all
+     * of its pages.
+     *
+     * @param dirtyRatio Greatest share of dirty pages among the segments.
+     * @param minRoomPages Least number of pages that may still be marked dirty in a segment before it reaches the maximum share.
+     * @param checkpointPages Number of pages of the current checkpoint.
+     * @param nowNanos Current time in nanoseconds.
+     */
+    private boolean tooFast(double dirtyRatio, double minRoomPages, long checkpointPages, long nowNanos) {
+        if (dirtyRatio >= maxDirtyPagesRatio) {
+            return true;
+        }
+
+        double markDirtyPagesPerSec = markDirtyRate.perSecond(nowNanos);
+        double checkpointPagesPerSec = checkpointWriteRate.perSecond(nowNanos);
+
+        long remainingPages = Math.max(0, checkpointPages - (checkpointWriteRate.count() - checkpointWrittenPagesBefore));
+
+        if (remainingPages == 0) {
+            return false;
+        }
+
+        if (checkpointPagesPerSec == 0) {
+            // The checkpoint write rate is not known yet, throttle only when there is little room left.
+            return dirtyRatio >= (MIN_THROTTLE_DIRTY_PAGES_RATIO + maxDirtyPagesRatio) / 2;
+        }
+
+        double checkpointRemainingSec = remainingPages / checkpointPagesPerSec;
+
+        double segmentMarkDirtyPagesPerSec = markDirtyPagesPerSec / segmentPages.length;
+
+        return segmentMarkDirtyPagesPerSec * checkpointRemainingSec > minRoomPages;
+    }
+
+    /** Shrinks the park time once the writers are slow enough. */
+    private void slowDown() {
+        if (parkNanos.get() != 0) {
+            parkNanos.updateAndGet(cur -> cur / 2 < MIN_PARK_NANOS ? 0 : cur / 2);
+        }
+    }
+
+    /** Number of events per second, measured over consecutive intervals. */
+    private static class Rate {
+        private final LongAdder count = new LongAdder();
+
+        private volatile long intervalStartNanos = System.nanoTime();
+
+        private volatile long intervalStartCount;
+
+        private volatile double perSecond;
+
+        void increment() {
+            count.increment();
+        }
+
+        long count() {
+            return count.sum();
+        }
+
+        /** Returns the rate over the last completed interval. */
+        double perSecond(long nowNanos) {
+            long startNanos = intervalStartNanos;
+
+            if (nowNanos - startNanos >= RATE_INTERVAL_NANOS) {
+                synchronized (this) {
+                    if (intervalStartNanos == startNanos) {
+                        long curCount = count.sum();
+
+                        perSecond = (curCount - intervalStartCount) * 1e9 / (nowNanos - startNanos);
+
+                        intervalStartCount = curCount;
+                        intervalStartNanos = nowNanos;
+                    }
+                }
+            }
+
+            return perSecond;
+        }
+    }
+}
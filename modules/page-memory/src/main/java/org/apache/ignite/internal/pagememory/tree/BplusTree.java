@@ -45,6 +45,7 @@ import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
@@ -201,6 +202,9 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
     /** Number of retries. */
     private static final int LOCK_RETRIES = getInteger(IGNITE_BPLUS_TREE_LOCK_RETRIES, 1000);
 
+    /** Number of leaf pages ahead of a forward cursor to prefetch, {@code 0} disables the read-ahead. */
+    private static final int SCAN_READ_AHEAD_PAGES = getInteger("IGNITE_BPLUS_TREE_SCAN_READ_AHEAD_PAGES", 4);
+
     /** Flag that the tree is destroyed. */
     private final AtomicBoolean destroyed = new AtomicBoolean(false);
 
@@ -5681,6 +5685,152 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         throw new IllegalStateException("Unknown page type: " + type + " pageId: " + hexLong(PageIo.getPageId(pageAddr)));
     }
 
+    /**
+     * Read-ahead of the leaves following the current leaf of a forward cursor. Up to {@link #SCAN_READ_AHEAD_PAGES} leaves are hinted to
+     * the page memory. Each next leaf is hinted once the previous one is loaded, since its ID is only known from the forward link of the
+     * previous one. When the cursor moves to the next leaf, only one more leaf is hinted at the end of the read-ahead.
+     */
+    private class LeafReadAhead {
+        /** Last hinted leaf. Guarded by this. */
+        private long lastPageId;
+
+        /** Future of the hint of the last hinted leaf. Guarded by this. */
+        private CompletableFuture<Boolean> lastPageFut;
+
+        /** Number of hinted leaves the cursor has not moved to yet. Guarded by this. */
+        private int pagesAhead;
+
+        /** Whether the forward link of the last hinted leaf is being read. Guarded by this. */
+        private boolean extending;
+
+        /**
+         * Callback after the cursor has read a leaf.
+         *
+         * @param nextPageId Forward link of the leaf.
+         */
+        void onLeafRead(long nextPageId) {
+            synchronized (this) {
+                // The cursor has moved to the first of the hinted leaves.
+                if (pagesAhead > 0) {
+                    pagesAhead--;
+                }
+
+                // The cursor has just started or caught up with the read-ahead.
+                if (pagesAhead == 0) {
+                    lastPageId = nextPageId;
+                    lastPageFut = pageMem.prefetchPage(grpId, nextPageId);
+                    pagesAhead = 1;
+                }
+            }
+
+            extend();
+        }
+
+        /** Hints the leaf following the last hinted one, unless the read-ahead is already long enough. */
+        private void extend() {
+            long pageId;
+            CompletableFuture<Boolean> pageFut;
+
+            synchronized (this) {
+                if (extending || pagesAhead >= SCAN_READ_AHEAD_PAGES) {
+                    return;
+                }
+
+                extending = true;
+
+                pageId = lastPageId;
+                pageFut = lastPageFut;
+            }
+
+            pageFut.whenComplete((loaded, err) -> {
+                boolean extended = false;
+
+                try {
+                    extended = err == null && loaded && hintNext(pageId);
+                } finally {
+                    // Reset even if the continuation has failed, otherwise the read-ahead would never be extended again.
+                    if (!extended) {
+                        synchronized (this) {
+                            extending = false;
+                        }
+                    }
+                }
+
+                if (extended) {
+                    extend();
+                }
+            });
+        }
+
+        /**
+         * Hints the leaf following the given one, if the given one is still the last hinted leaf.
+         *
+         * @param pageId Last hinted leaf, which has been loaded.
+         * @return {@code true} if the next leaf has been hinted.
+         */
+        private boolean hintNext(long pageId) {
+            if (destroyed.get()) {
+                return false;
+            }
+
+            long fwdId;
+
+            try {
+                fwdId = leafForwardId(pageId);
+            } catch (IgniteInternalCheckedException e) {
+                // Prefetching is only a hint, the cursor will read the page itself.
+                return false;
+            }
+
+            synchronized (this) {
+                // The read-ahead has reached the last leaf or has been started over by the cursor.
+                if (fwdId == 0 || lastPageId != pageId) {
+                    return false;
+                }
+
+                CompletableFuture<Boolean> fwdFut = pageMem.prefetchPage(grpId, fwdId);
+
+                lastPageId = fwdId;
+                lastPageFut = fwdFut;
+                pagesAhead++;
+                extending = false;
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * Returns the forward link of the leaf page, or {@code 0} if there is none or the page is no longer a leaf of this tree.
+     *
+     * @param pageId Leaf page ID.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    private long leafForwardId(long pageId) throws IgniteInternalCheckedException {
+        long page = acquirePage(pageId);
+
+        try {
+            long pageAddr = readLock(pageId, page);
+
+            // The page has been reused by a concurrent merge.
+            if (pageAddr == 0L) {
+                return 0L;
+            }
+
+            try {
+                if (PageIo.getType(pageAddr) != leafIos.getType()) {
+                    return 0L;
+                }
+
+                return leafIos.forVersion(PageIo.getVersion(pageAddr)).getForward(pageAddr, partId);
+            } finally {
+                readUnlock(pageId, page, pageAddr);
+            }
+        } finally {
+            releasePage(pageId, page);
+        }
+    }
+
     /**
      * Returns inner page IO.
      *
@@ -5770,6 +5920,9 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         /** Next page ID. */
         long nextPageId;
 
+        /** Read-ahead of the next leaves, {@code null} until the cursor reads a leaf that has a next one. */
+        private @Nullable LeafReadAhead readAhead;
+
         /** Lower bound. */
         @Nullable L lowerBound;
 
@@ -5931,7 +6084,18 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
 
             nextPageId = io.getForward(pageAddr, partId);
 
-            return fillFromBuffer0(pageAddr, io, startIdx, cnt);
+            boolean res = fillFromBuffer0(pageAddr, io, startIdx, cnt);
+
+            // The next leaves are loaded in the background while the rows of the current one are being processed.
+            if (nextPageId != 0 && SCAN_READ_AHEAD_PAGES > 0) {
+                if (readAhead == null) {
+                    readAhead = new LeafReadAhead();
+                }
+
+                readAhead.onLeafRead(nextPageId);
+            }
+
+            return res;
         }
 
         /**
@@ -320,7 +320,7 @@ public abstract class AbstractPageMemoryNoLoadSelfTest extends BaseIgniteAbstrac
      * @param page Page pointer.
      * @param expVal Expected value.
      */
-    private void readPage(PageMemory mem, long pageId, long page, int expVal) {
+    protected void readPage(PageMemory mem, long pageId, long page, int expVal) {
         expVal &= 0xFF;
 
         long pageAddr = mem.readLock(GRP_ID, pageId, page);
@@ -18,6 +18,8 @@
 package org.apache.ignite.internal.pagememory.persistence;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.TINY_LFU_REPLACEMENT_MODE;
 import static org.apache.ignite.internal.pagememory.persistence.CheckpointUrgency.MUST_TRIGGER;
 import static org.apache.ignite.internal.pagememory.persistence.CheckpointUrgency.NOT_REQUIRED;
 import static org.apache.ignite.internal.pagememory.persistence.CheckpointUrgency.SHOULD_TRIGGER;
@@ -25,16 +27,23 @@ import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMe
 import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointState.FINISHED;
 import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointState.PAGES_SORTED;
 import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTestUtils.mockCheckpointTimeoutLock;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willBe;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
 import static org.apache.ignite.internal.util.Constants.MiB;
 import static org.apache.ignite.internal.util.GridUnsafe.allocateBuffer;
 import static org.apache.ignite.internal.util.GridUnsafe.freeBuffer;
 import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -48,6 +57,7 @@ import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.LongStream;
@@ -65,6 +75,7 @@ import org.apache.ignite.internal.pagememory.configuration.schema.PersistentPage
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.pagememory.persistence.PartitionMeta.PartitionMetaSnapshot;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointManager;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointMetricsTracker;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointProgress;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStore;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreManager;
@@ -339,11 +350,153 @@ public class PersistentPageMemoryNoLoadTest extends AbstractPageMemoryNoLoadSelf
         }
     }
 
+    @Test
+    void testPageHitMetrics() throws Exception {
+        PersistentPageMemory pageMemory = (PersistentPageMemory) memory();
+
+        pageMemory.start();
+
+        try {
+            assertEquals(0, pageMemory.pageHitRatio());
+
+            FullPageId fullPageId = allocatePage(pageMemory);
+
+            for (int i = 0; i < 3; i++) {
+                long page = pageMemory.acquirePage(fullPageId.groupId(), fullPageId.pageId());
+
+                pageMemory.releasePage(fullPageId.groupId(), fullPageId.pageId(), page);
+            }
+
+            assertEquals(3, pageMemory.pageHits());
+            assertEquals(0, pageMemory.pageMisses());
+            assertEquals(1, pageMemory.pageHitRatio());
+            assertEquals(0, pageMemory.replacedPages());
+        } finally {
+            pageMemory.stop(true);
+        }
+    }
+
+    @Test
+    void testPrefetchPage() throws Exception {
+        PersistentPageMemory pageMemory = (PersistentPageMemory) memory();
+
+        pageMemory.start();
+
+        try {
+            // The page is not loaded yet, the test page manager reads it as an empty page.
+            long pageId = pageId(PARTITION_ID, FLAG_DATA, 100);
+
+            long loadedPages = pageMemory.loadedPages();
+
+            assertThat(pageMemory.prefetchPage(GRP_ID, pageId), willBe(true));
+
+            assertEquals(loadedPages + 1, pageMemory.loadedPages());
+            assertEquals(1, pageMemory.prefetchedPages());
+
+            // The page is already in memory, the hint is not even submitted.
+            CompletableFuture<Boolean> prefetchFut = pageMemory.prefetchPage(GRP_ID, pageId);
+
+            assertTrue(prefetchFut.isDone());
+            assertThat(prefetchFut, willBe(true));
+
+            assertEquals(1, pageMemory.prefetchedPages());
+
+            long page = pageMemory.acquirePage(GRP_ID, pageId);
+
+            pageMemory.releasePage(GRP_ID, pageId, page);
+
+            assertEquals(1, pageMemory.pageHits());
+
+            // Partition meta pages are never read through the page memory.
+            assertThat(pageMemory.prefetchPage(GRP_ID, pageId(PARTITION_ID, FLAG_DATA, 0)), willBe(false));
+        } finally {
+            pageMemory.stop(true);
+        }
+
+        assertThat(pageMemory.prefetchPage(GRP_ID, pageId(PARTITION_ID, FLAG_DATA, 101)), willBe(false));
+    }
+
     @Test
     void testPageReplacement(
             @InjectConfiguration("mock.checkpointThreads=1") PageMemoryCheckpointConfiguration checkpointConfig,
             @WorkDirectory Path workDir
     ) throws Exception {
+        checkPageReplacement(checkpointConfig, workDir);
+    }
+
+    @Test
+    void testPageReplacementTinyLfu(
+            @InjectConfiguration("mock.checkpointThreads=1") PageMemoryCheckpointConfiguration checkpointConfig,
+            @WorkDirectory Path workDir
+    ) throws Exception {
+        dataRegionCfg.change(c -> c.changeReplacementMode(TINY_LFU_REPLACEMENT_MODE)).get(1, SECONDS);
+
+        checkPageReplacement(checkpointConfig, workDir);
+    }
+
+    @Test
+    void testTinyLfuKeepsHotPagesOnScan() throws Exception {
+        long systemPageSize = PAGE_SIZE + PAGE_OVERHEAD;
+
+        dataRegionCfg.change(c -> c.changeSize(128 * systemPageSize).changeReplacementMode(TINY_LFU_REPLACEMENT_MODE)).get(1, SECONDS);
+
+        PersistentPageMemory pageMemory = createPageMemory(
+                new long[]{100 * systemPageSize},
+                28 * systemPageSize,
+                null,
+                null,
+                shouldNotHappenFlushDirtyPageForReplacement()
+        );
+
+        pageMemory.start();
+
+        try {
+            // Less than the number of eviction candidates compared by frequency, so that a candidate out of the hot set is always there.
+            long[] hotPageIds = LongStream.range(0, 3).map(i -> pageId(PARTITION_ID, FLAG_DATA, 1 + i)).toArray();
+
+            int nextPageIdx = 1_000;
+
+            // The hot pages are read over and over again among the reads of other pages, the test page store reads them as empty pages.
+            for (int round = 0; round < 10; round++) {
+                for (long hotPageId : hotPageIds) {
+                    touchPage(pageMemory, hotPageId, 1);
+                }
+
+                for (int i = 0; i < 30; i++) {
+                    touchPage(pageMemory, pageId(PARTITION_ID, FLAG_DATA, nextPageIdx++), 1);
+                }
+            }
+
+            long replacedPages = pageMemory.replacedPages();
+
+            // A single scan over more pages than the segment holds, every page is read row by row.
+            for (int i = 0; i < 300; i++) {
+                touchPage(pageMemory, pageId(PARTITION_ID, FLAG_DATA, nextPageIdx++), 16);
+            }
+
+            assertThat(pageMemory.replacedPages() - replacedPages, greaterThan(200L));
+
+            long pageMisses = pageMemory.pageMisses();
+
+            for (long hotPageId : hotPageIds) {
+                touchPage(pageMemory, hotPageId, 1);
+            }
+
+            assertEquals(pageMisses, pageMemory.pageMisses());
+        } finally {
+            pageMemory.stop(true);
+        }
+    }
+
+    private static void touchPage(PersistentPageMemory pageMemory, long pageId, int times) throws Exception {
+        for (int i = 0; i < times; i++) {
+            long page = pageMemory.acquirePage(GRP_ID, pageId);
+
+            pageMemory.releasePage(GRP_ID, pageId, page);
+        }
+    }
+
+    private void checkPageReplacement(PageMemoryCheckpointConfiguration checkpointConfig, Path workDir) throws Exception {
         FilePageStoreManager filePageStoreManager = createFilePageStoreManager(workDir);
 
         PartitionMetaManager partitionMetaManager = spy(new PartitionMetaManager(ioRegistry, PAGE_SIZE));
@@ -425,6 +578,8 @@ public class PersistentPageMemoryNoLoadTest extends AbstractPageMemoryNoLoadSelf
             }
 
             checkpointProgress.futureFor(FINISHED).get(1, SECONDS);
+
+            assertThat(pageMemory.replacedPages(), greaterThan(0L));
         } finally {
             finishWaitWriteMetaToBufferFuture.complete(null);
 
@@ -436,6 +591,89 @@ public class PersistentPageMemoryNoLoadTest extends AbstractPageMemoryNoLoadSelf
         }
     }
 
+    @Test
+    void testPageIsNotReplacedUntilCheckpointCopyIsWritten() throws Exception {
+        long systemPageSize = PAGE_SIZE + PAGE_OVERHEAD;
+
+        dataRegionCfg.change(c -> c.changeSize(128 * systemPageSize)).get(1, SECONDS);
+
+        PersistentPageMemory pageMemory = createPageMemory(
+                new long[]{100 * systemPageSize},
+                28 * systemPageSize,
+                null,
+                null,
+                shouldNotHappenFlushDirtyPageForReplacement()
+        );
+
+        pageMemory.start();
+
+        try {
+            FullPageId fullPageId = allocatePage(pageMemory);
+
+            long page = pageMemory.acquirePage(fullPageId.groupId(), fullPageId.pageId());
+
+            try {
+                writePage(pageMemory, fullPageId, page, 42);
+            } finally {
+                pageMemory.releasePage(fullPageId.groupId(), fullPageId.pageId(), page);
+            }
+
+            assertThat(pageMemory.beginCheckpoint(nullCompletedFuture()), contains(fullPageId));
+
+            List<Runnable> pendingReleases = new ArrayList<>();
+
+            // Writer that defers the write of the copy, like a checkpoint batch that is not full yet.
+            PageStoreWriter deferringWriter = new PageStoreWriter() {
+                @Override
+                public void writePage(FullPageId fullPageId, ByteBuffer buf, int tag) {
+                    fail("Should not happen");
+                }
+
+                @Override
+                public void writePage(FullPageId fullPageId, ByteBuffer buf, int tag, Runnable releasePage) {
+                    pendingReleases.add(releasePage);
+                }
+            };
+
+            ByteBuffer buf = allocateBuffer(PAGE_SIZE);
+
+            try {
+                pageMemory.checkpointWritePage(fullPageId, buf, deferringWriter, new CheckpointMetricsTracker());
+            } finally {
+                freeBuffer(buf);
+            }
+
+            assertThat(pendingReleases, hasSize(1));
+            assertThat(pageMemory.dirtyPages(), empty());
+
+            // Reads more clean pages than the data region holds, the test page store reads them as empty pages.
+            for (int i = 0; i < 200; i++) {
+                long otherPageId = pageId(PARTITION_ID, FLAG_DATA, 1_000 + i);
+
+                long otherPage = pageMemory.acquirePage(GRP_ID, otherPageId);
+
+                pageMemory.releasePage(GRP_ID, otherPageId, otherPage);
+            }
+
+            assertThat(pageMemory.replacedPages(), greaterThan(0L));
+
+            // The page is still in memory, otherwise it would be read as an empty page, since its copy is not written yet.
+            page = pageMemory.acquirePage(fullPageId.groupId(), fullPageId.pageId());
+
+            try {
+                readPage(pageMemory, fullPageId.pageId(), page, 42);
+            } finally {
+                pageMemory.releasePage(fullPageId.groupId(), fullPageId.pageId(), page);
+            }
+
+            pendingReleases.forEach(Runnable::run);
+
+            pageMemory.finishCheckpoint();
+        } finally {
+            pageMemory.stop(true);
+        }
+    }
+
     protected PersistentPageMemory createPageMemory(
             long[] segmentSizes,
             long checkpointBufferSize,
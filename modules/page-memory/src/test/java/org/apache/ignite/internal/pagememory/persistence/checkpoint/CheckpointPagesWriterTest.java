@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.pagememory.persistence.checkpoint;
 
+import static java.util.stream.Collectors.toList;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
 import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory.TRY_AGAIN_TAG;
@@ -33,6 +34,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
@@ -42,6 +44,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -52,6 +56,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.pagememory.FullPageId;
 import org.apache.ignite.internal.pagememory.TestPageIoModule.TestPageIo;
@@ -133,6 +138,7 @@ public class CheckpointPagesWriterTest extends BaseIgniteAbstractTest {
                 doneFuture,
                 beforePageWrite,
                 threadBuf,
+                PAGE_SIZE,
                 progressImpl,
                 pageWriter,
                 ioRegistry,
@@ -176,6 +182,86 @@ public class CheckpointPagesWriterTest extends BaseIgniteAbstractTest {
         verify(partitionMeta0, times(1)).metaSnapshot(any(UUID.class));
     }
 
+    @Test
+    void testWritePagesInBatches() throws Exception {
+        PersistentPageMemory pageMemory = createPageMemory(0);
+
+        List<FullPageId> partition0PageIds = IntStream.rangeClosed(1, 6).mapToObj(i -> fullPageId(0, 0, i)).collect(toList());
+        FullPageId partition1PageId = fullPageId(0, 1, 1);
+
+        List<FullPageId> pageIds = new ArrayList<>(partition0PageIds);
+        pageIds.add(partition1PageId);
+
+        GroupPartitionId groupPartId0 = groupPartId(0, 0);
+        GroupPartitionId groupPartId1 = groupPartId(0, 1);
+
+        ThreadLocal<ByteBuffer> threadBuf = mock(ThreadLocal.class);
+
+        when(threadBuf.get()).thenReturn(allocateBuffer(4 * PAGE_SIZE));
+
+        ArgumentCaptor<FullPageId> writtenFullPageIds = ArgumentCaptor.forClass(FullPageId.class);
+
+        WriteDirtyPage pageWriter = createDirtyPageWriter(writtenFullPageIds);
+
+        List<List<FullPageId>> writtenBatches = new ArrayList<>();
+
+        doAnswer(answer -> {
+            FullPageId[] fullPageIds = answer.getArgument(1);
+            ByteBuffer pagesBuffer = answer.getArgument(2);
+            int count = answer.getArgument(3);
+
+            assertThat(pagesBuffer.position(), equalTo(0));
+            assertThat(pagesBuffer.limit(), equalTo(count * PAGE_SIZE));
+
+            writtenBatches.add(List.of(Arrays.copyOf(fullPageIds, count)));
+
+            return null;
+        }).when(pageWriter).write(any(PersistentPageMemory.class), any(FullPageId[].class), any(ByteBuffer.class), anyInt());
+
+        ConcurrentMap<GroupPartitionId, LongAdder> updatedPartitions = new ConcurrentHashMap<>();
+
+        CompletableFuture<?> doneFuture = new CompletableFuture<>();
+
+        CheckpointMetrics metrics = new CheckpointMetrics();
+
+        CheckpointProgressImpl progressImpl = new CheckpointProgressImpl(0);
+
+        CheckpointPagesWriter pagesWriter = new CheckpointPagesWriter(
+                new CheckpointMetricsTracker(metrics),
+                new IgniteConcurrentMultiPairQueue<>(Map.of(pageMemory, pageIds)),
+                updatedPartitions,
+                doneFuture,
+                () -> {},
+                threadBuf,
+                PAGE_SIZE,
+                progressImpl,
+                pageWriter,
+                ioRegistry,
+                createPartitionMetaManager(Map.of(groupPartId0, mock(PartitionMeta.class), groupPartId1, mock(PartitionMeta.class))),
+                () -> false
+        );
+
+        pagesWriter.run();
+
+        assertDoesNotThrow(() -> doneFuture.get(1, TimeUnit.SECONDS));
+
+        // Pages of a partition are written by batches of the buffer capacity, a batch never mixes partitions.
+        assertThat(writtenBatches, equalTo(List.of(partition0PageIds.subList(0, 4), partition0PageIds.subList(4, 6))));
+
+        // Partition meta pages and batches of a single page are written one by one.
+        assertThat(writtenFullPageIds.getAllValues(), equalTo(List.of(fullPageId(0, 0, 0), fullPageId(0, 1, 0), partition1PageId)));
+
+        assertThat(updatedPartitions.get(groupPartId0).sum(), equalTo(7L));
+        assertThat(updatedPartitions.get(groupPartId1).sum(), equalTo(2L));
+        assertThat(progressImpl.writtenPagesCounter().get(), equalTo(9));
+
+        // Batches of 4, 2 and 1 pages.
+        assertThat(Arrays.stream(metrics.pageWriteBatchSize().value()).sum(), equalTo(3L));
+        assertThat(metrics.pageWriteBatchSize().value()[0], equalTo(1L));
+        assertThat(metrics.pageWriteBatchSize().value()[1], equalTo(1L));
+        assertThat(metrics.pageWriteBatchSize().value()[2], equalTo(1L));
+    }
+
     @Test
     void testFailWritePages() throws Exception {
         CompletableFuture<?> doneFuture = new CompletableFuture<>();
@@ -200,6 +286,7 @@ public class CheckpointPagesWriterTest extends BaseIgniteAbstractTest {
                 doneFuture,
                 () -> {},
                 createThreadLocalBuffer(),
+                PAGE_SIZE,
                 new CheckpointProgressImpl(0),
                 createDirtyPageWriter(null),
                 ioRegistry,
@@ -250,6 +337,7 @@ public class CheckpointPagesWriterTest extends BaseIgniteAbstractTest {
                 doneFuture,
                 () -> {},
                 createThreadLocalBuffer(),
+                PAGE_SIZE,
                 new CheckpointProgressImpl(0),
                 createDirtyPageWriter(null),
                 ioRegistry,
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.pagememory.persistence.compression;
+
+import static java.nio.ByteOrder.nativeOrder;
+import static org.apache.ignite.internal.pagememory.io.PageIo.COMMON_HEADER_END;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.internal.pagememory.io.PageIo;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link CompressedPages} testing.
+ */
+public class CompressedPagesTest {
+    private static final int PAGE_SIZE = 4096;
+
+    private static final int ALIGNMENT = 512;
+
+    private final PageCodec codec = new DeflatePageCodec();
+
+    @Test
+    void testEncodeDecode() throws Exception {
+        ByteBuffer page = page();
+
+        // A quarter of the page is random, the rest is repeating.
+        byte[] randomBytes = new byte[PAGE_SIZE / 4];
+
+        ThreadLocalRandom.current().nextBytes(randomBytes);
+
+        page.position(COMMON_HEADER_END).put(randomBytes);
+
+        for (int i = page.position(); i < PAGE_SIZE; i++) {
+            page.put(i, (byte) (i % 10));
+        }
+
+        page.rewind();
+
+        ByteBuffer encoded = CompressedPages.encode(page, PAGE_SIZE, codec, ALIGNMENT);
+
+        // Page buffer must stay untouched.
+        assertEquals(0, page.position());
+        assertEquals(PAGE_SIZE, page.limit());
+
+        assertEquals(0, encoded.position());
+        assertEquals(0, encoded.limit() % ALIGNMENT);
+        assertTrue(encoded.limit() < PAGE_SIZE);
+
+        assertEquals(codec.id(), PageIo.getCompressionType(encoded));
+        assertTrue(Short.toUnsignedInt(PageIo.getCompressedSize(encoded)) <= encoded.limit());
+
+        ByteBuffer readPage = page();
+
+        readPage.put(encoded).rewind();
+
+        assertTrue(CompressedPages.decodeIfEncoded(readPage, PAGE_SIZE));
+
+        assertEquals(page, readPage);
+    }
+
+    @Test
+    void testIncompressiblePage() throws Exception {
+        ByteBuffer page = page();
+
+        byte[] randomBytes = new byte[PAGE_SIZE - COMMON_HEADER_END];
+
+        ThreadLocalRandom.current().nextBytes(randomBytes);
+
+        page.position(COMMON_HEADER_END).put(randomBytes).rewind();
+
+        assertSame(page, CompressedPages.encode(page, PAGE_SIZE, codec, ALIGNMENT));
+
+        // Encoding must save at least an alignment unit.
+        assertSame(page, CompressedPages.encode(page, PAGE_SIZE, codec, PAGE_SIZE));
+
+        assertFalse(CompressedPages.decodeIfEncoded(page, PAGE_SIZE));
+    }
+
+    @Test
+    void testCorruptedPage() {
+        ByteBuffer page = page();
+
+        ByteBuffer encoded = CompressedPages.encode(page, PAGE_SIZE, codec, ALIGNMENT);
+
+        ByteBuffer readPage = page();
+
+        readPage.put(encoded).rewind();
+
+        // Unknown codec.
+        PageIo.setCompressionType(readPage, (byte) -1);
+
+        assertThrows(IOException.class, () -> CompressedPages.decodeIfEncoded(readPage, PAGE_SIZE));
+
+        // Truncated data.
+        PageIo.setCompressionType(readPage, codec.id());
+        PageIo.setCompressedSize(readPage, (short) (COMMON_HEADER_END + 1));
+
+        assertThrows(IOException.class, () -> CompressedPages.decodeIfEncoded(readPage, PAGE_SIZE));
+    }
+
+    private static ByteBuffer page() {
+        return ByteBuffer.allocateDirect(PAGE_SIZE).order(nativeOrder());
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.pagememory.persistence.compression;
+
+import static java.nio.ByteOrder.nativeOrder;
+import static org.apache.ignite.internal.pagememory.io.PageIo.COMMON_HEADER_END;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * A micro-benchmark of {@link CompressedPages} encoding and decoding of pages filled with rows, resembling the ones of a typical table:
+ * sequential keys, a few repeating transaction IDs and timestamps, dictionary-like strings and random numbers.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class PageCodecBenchmark {
+    private static final String[] WORDS = {"ignite", "page", "memory", "storage", "checkpoint", "partition", "table", "index"};
+
+    @Param({"4096", "16384"})
+    private int pageSize;
+
+    private final PageCodec codec = new DeflatePageCodec();
+
+    private ByteBuffer page;
+
+    private ByteBuffer encodedPage;
+
+    private ByteBuffer readPage;
+
+    /**
+     * Fills the page with rows.
+     */
+    @Setup
+    public void setUp() {
+        page = ByteBuffer.allocateDirect(pageSize).order(nativeOrder());
+        readPage = ByteBuffer.allocateDirect(pageSize).order(nativeOrder());
+
+        Random random = new Random(0);
+
+        page.position(COMMON_HEADER_END);
+
+        for (long key = 0; page.remaining() >= 128; key++) {
+            page.putLong(key);
+            page.putLong(0x5eedL).putLong(key / 16);
+            page.putLong(1_700_000_000_000L + key / 8);
+            page.putInt(random.nextInt());
+            page.putDouble(random.nextInt(10_000) / 100.0);
+
+            byte[] str = (WORDS[random.nextInt(WORDS.length)] + '-' + WORDS[random.nextInt(WORDS.length)] + '-' + key)
+                    .getBytes(StandardCharsets.UTF_8);
+
+            page.put((byte) str.length).put(str);
+        }
+
+        page.rewind();
+
+        ByteBuffer encoded = CompressedPages.encode(page, pageSize, codec, 512);
+
+        encodedPage = ByteBuffer.allocateDirect(pageSize).order(nativeOrder()).put(encoded).flip();
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args args
+     * @throws Exception if something goes wrong
+     */
+    public static void main(String[] args) throws Exception {
+        Options build = new OptionsBuilder()
+                .include(PageCodecBenchmark.class.getName() + ".*").build();
+
+        new Runner(build).run();
+    }
+
+    /** Encodes the page. */
+    @Benchmark
+    public ByteBuffer encode() {
+        return CompressedPages.encode(page, pageSize, codec, 512);
+    }
+
+    /** Decodes the page. */
+    @Benchmark
+    public ByteBuffer decode() throws IOException {
+        readPage.clear().put(encodedPage.rewind()).clear();
+
+        CompressedPages.decodeIfEncoded(readPage, pageSize);
+
+        return readPage;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.pagememory.persistence.replacement;
+
+import static org.apache.ignite.internal.util.GridUnsafe.allocateMemory;
+import static org.apache.ignite.internal.util.GridUnsafe.freeMemory;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link PageFrequencySketch} testing.
+ */
+public class PageFrequencySketchTest {
+    private static final int PAGES_CNT = 1024;
+
+    private long ptr;
+
+    private PageFrequencySketch sketch;
+
+    @BeforeEach
+    void setUp() {
+        ptr = allocateMemory(PageFrequencySketch.requiredMemory(PAGES_CNT));
+
+        sketch = new PageFrequencySketch(PAGES_CNT, ptr);
+    }
+
+    @AfterEach
+    void tearDown() {
+        freeMemory(ptr);
+    }
+
+    @Test
+    void testFrequency() {
+        assertEquals(0, sketch.frequency(0, 1));
+
+        for (int i = 0; i < 5; i++) {
+            sketch.increment(0, 1);
+        }
+
+        sketch.increment(1, 1);
+
+        assertThat(sketch.frequency(0, 1), greaterThanOrEqualTo(5));
+        assertThat(sketch.frequency(1, 1), greaterThanOrEqualTo(1));
+        assertThat(sketch.frequency(1, 1), lessThan(sketch.frequency(0, 1)));
+    }
+
+    @Test
+    void testSaturation() {
+        for (int i = 0; i < 100; i++) {
+            sketch.increment(0, 1);
+        }
+
+        assertEquals(15, sketch.frequency(0, 1));
+    }
+
+    @Test
+    void testAging() {
+        for (int i = 0; i < 8; i++) {
+            sketch.increment(0, 1);
+        }
+
+        int frequency = sketch.frequency(0, 1);
+
+        // A full scan over ten times more pages than the sketch was sized for halves the counters.
+        for (long pageId = 2; pageId < 10L * PAGES_CNT + 2; pageId++) {
+            sketch.increment(0, pageId);
+        }
+
+        assertThat(sketch.frequency(0, 1), lessThan(frequency));
+    }
+
+    @Test
+    void testRequiredMemory() {
+        assertEquals(64, PageFrequencySketch.requiredMemory(1));
+        assertEquals(4096, PageFrequencySketch.requiredMemory(1024));
+        assertEquals(8192, PageFrequencySketch.requiredMemory(1025));
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.pagememory.persistence.store;
 
+import static java.nio.ByteOrder.nativeOrder;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.READ;
 import static java.nio.file.StandardOpenOption.WRITE;
@@ -242,6 +243,48 @@ public abstract class AbstractFilePageStoreIoTest extends BaseIgniteAbstractTest
         }
     }
 
+    @Test
+    void testWriteBatch() throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        try (AbstractFilePageStoreIo filePageStoreIo = createFilePageStoreIo(testFilePath)) {
+            filePageStoreIo.ensure();
+
+            // Pages 0, 1 and 2 are adjacent in the file and are expected to be coalesced, page 5 is not.
+            long[] pageIds = {
+                    createDataPageId(() -> 0),
+                    createDataPageId(() -> 1),
+                    createDataPageId(() -> 2),
+                    createDataPageId(() -> 5)
+            };
+
+            ByteBuffer pagesBuffer = ByteBuffer.allocateDirect(pageIds.length * PAGE_SIZE).order(nativeOrder());
+
+            for (long pageId : pageIds) {
+                ByteBuffer pageByteBuffer = createPageByteBuffer(pageId, PAGE_SIZE);
+
+                // Puts random bytes after: type (2 byte) + version (2 byte) + crc (4 byte).
+                pageByteBuffer.position(8).put(randomBytes(128));
+
+                pagesBuffer.put(pageByteBuffer.rewind());
+            }
+
+            filePageStoreIo.write(pageIds, pagesBuffer.flip(), pageIds.length, true);
+
+            for (int i = 0; i < pageIds.length; i++) {
+                ByteBuffer expPageBuffer = pagesBuffer.slice(i * PAGE_SIZE, PAGE_SIZE).order(nativeOrder());
+
+                assertEquals(0, getCrc(expPageBuffer));
+
+                ByteBuffer readBuffer = ByteBuffer.allocate(PAGE_SIZE).order(nativeOrder());
+
+                filePageStoreIo.read(pageIds[i], filePageStoreIo.pageOffset(pageIds[i]), readBuffer, false);
+
+                assertEquals(expPageBuffer, readBuffer.rewind());
+            }
+        }
+    }
+
     @Test
     void testRead() throws Exception {
         Path testFilePath = workDir.resolve("test");
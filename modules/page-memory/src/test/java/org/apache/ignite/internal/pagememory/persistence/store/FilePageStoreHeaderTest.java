@@ -21,6 +21,7 @@ import static java.nio.ByteOrder.nativeOrder;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.READ;
 import static java.nio.file.StandardOpenOption.WRITE;
+import static org.apache.ignite.internal.pagememory.persistence.compression.PageCodecs.NO_CODEC_ID;
 import static org.apache.ignite.internal.pagememory.persistence.store.FilePageStore.VERSION_1;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.startsWith;
@@ -34,6 +35,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import org.apache.ignite.internal.fileio.FileIo;
 import org.apache.ignite.internal.fileio.RandomAccessFileIo;
+import org.apache.ignite.internal.pagememory.persistence.compression.DeflatePageCodec;
 import org.apache.ignite.internal.testframework.WorkDirectory;
 import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
 import org.junit.jupiter.api.Test;
@@ -53,6 +55,11 @@ public class FilePageStoreHeaderTest {
         assertEquals(100500, header.version());
         assertEquals(1024, header.pageSize());
         assertEquals(1024, header.headerSize());
+        assertEquals(NO_CODEC_ID, header.codecId());
+
+        header = new FilePageStoreHeader(100500, 1024, DeflatePageCodec.ID);
+
+        assertEquals(DeflatePageCodec.ID, header.codecId());
     }
 
     @Test
@@ -70,6 +77,13 @@ public class FilePageStoreHeaderTest {
 
         // Checks the page size in bytes.
         assertEquals(512, header.getInt());
+
+        // Checks the codec ID.
+        assertEquals(NO_CODEC_ID, header.get());
+
+        header = new FilePageStoreHeader(VERSION_1, 512, DeflatePageCodec.ID).toByteBuffer();
+
+        assertEquals(DeflatePageCodec.ID, header.position(16).get());
     }
 
     @Test
@@ -92,6 +106,13 @@ public class FilePageStoreHeaderTest {
             assertEquals(VERSION_1, header.version());
             assertEquals(256, header.pageSize());
             assertEquals(256, header.headerSize());
+            assertEquals(NO_CODEC_ID, header.codecId());
+
+            fileIo.writeFully(new FilePageStoreHeader(VERSION_1, 256, DeflatePageCodec.ID).toByteBuffer().rewind(), 0);
+
+            fileIo.force();
+
+            assertEquals(DeflatePageCodec.ID, FilePageStoreHeader.readHeader(fileIo, buffer.rewind()).codecId());
 
             fileIo.writeFully(headerBuffer.rewind().putLong(-1).rewind(), 0);
 
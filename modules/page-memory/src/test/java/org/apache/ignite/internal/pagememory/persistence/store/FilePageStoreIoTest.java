@@ -17,11 +17,16 @@
 
 package org.apache.ignite.internal.pagememory.persistence.store;
 
+import static java.nio.ByteOrder.nativeOrder;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.READ;
 import static java.nio.file.StandardOpenOption.WRITE;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
+import static org.apache.ignite.internal.pagememory.io.PageIo.COMMON_HEADER_END;
 import static org.apache.ignite.internal.pagememory.persistence.store.FilePageStore.VERSION_1;
+import static org.apache.ignite.internal.pagememory.persistence.store.TestPageStoreUtils.createDataPageId;
+import static org.apache.ignite.internal.pagememory.persistence.store.TestPageStoreUtils.createPageByteBuffer;
+import static org.apache.ignite.internal.pagememory.persistence.store.TestPageStoreUtils.randomBytes;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.startsWith;
@@ -30,11 +35,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import org.apache.ignite.internal.fileio.FileIo;
 import org.apache.ignite.internal.fileio.FileIoFactory;
 import org.apache.ignite.internal.fileio.RandomAccessFileIo;
 import org.apache.ignite.internal.fileio.RandomAccessFileIoFactory;
+import org.apache.ignite.internal.pagememory.persistence.compression.DeflatePageCodec;
+import org.apache.ignite.internal.testframework.WithSystemProperty;
 import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -113,6 +122,100 @@ public class FilePageStoreIoTest extends AbstractFilePageStoreIoTest {
         }
     }
 
+    @Test
+    @WithSystemProperty(key = "IGNITE_PDS_ENCODED_PAGE_ALIGNMENT", value = "128")
+    void testReadWriteEncodedPages() throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        FilePageStoreHeader header = new FilePageStoreHeader(VERSION_1, PAGE_SIZE, DeflatePageCodec.ID);
+
+        try (FilePageStoreIo filePageStoreIo = createFilePageStoreIo(testFilePath, header)) {
+            filePageStoreIo.ensure();
+
+            long compressiblePageId = createDataPageId(() -> 0);
+            long incompressiblePageId = createDataPageId(() -> 1);
+
+            ByteBuffer compressiblePage = createPageByteBuffer(compressiblePageId, PAGE_SIZE);
+            ByteBuffer incompressiblePage = createPageByteBuffer(incompressiblePageId, PAGE_SIZE);
+
+            // Leaves the common page header intact.
+            compressiblePage.position(COMMON_HEADER_END).put(new byte[128]);
+            incompressiblePage.position(COMMON_HEADER_END).put(randomBytes(PAGE_SIZE - COMMON_HEADER_END));
+
+            filePageStoreIo.write(incompressiblePageId, incompressiblePage.rewind(), true);
+
+            // The whole page slot is written.
+            assertEquals(3L * PAGE_SIZE, filePageStoreIo.size());
+
+            filePageStoreIo.write(compressiblePageId, compressiblePage.rewind(), true);
+
+            ByteBuffer readBuffer = ByteBuffer.allocate(PAGE_SIZE).order(compressiblePage.order());
+
+            filePageStoreIo.read(compressiblePageId, filePageStoreIo.pageOffset(compressiblePageId), readBuffer, false);
+
+            assertEquals(compressiblePage.rewind(), readBuffer.rewind());
+
+            filePageStoreIo.read(incompressiblePageId, filePageStoreIo.pageOffset(incompressiblePageId), readBuffer.rewind(), false);
+
+            assertEquals(incompressiblePage.rewind(), readBuffer.rewind());
+        }
+
+        // Checks that the encoded page takes a single alignment unit in a new file.
+        Files.delete(testFilePath);
+
+        try (FilePageStoreIo filePageStoreIo = createFilePageStoreIo(testFilePath, header)) {
+            long pageId = createDataPageId(() -> 0);
+
+            filePageStoreIo.write(pageId, createPageByteBuffer(pageId, PAGE_SIZE), true);
+
+            assertEquals(PAGE_SIZE + 128L, filePageStoreIo.size());
+        }
+    }
+
+    @Test
+    @WithSystemProperty(key = "IGNITE_PDS_ENCODED_PAGE_ALIGNMENT", value = "128")
+    void testWriteBatchOfEncodedPages() throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        FilePageStoreHeader header = new FilePageStoreHeader(VERSION_1, PAGE_SIZE, DeflatePageCodec.ID);
+
+        try (FilePageStoreIo filePageStoreIo = createFilePageStoreIo(testFilePath, header)) {
+            filePageStoreIo.ensure();
+
+            long[] pageIds = {
+                    createDataPageId(() -> 0),
+                    createDataPageId(() -> 1),
+                    createDataPageId(() -> 2),
+                    createDataPageId(() -> 5)
+            };
+
+            ByteBuffer pagesBuffer = ByteBuffer.allocateDirect(pageIds.length * PAGE_SIZE).order(nativeOrder());
+
+            for (int i = 0; i < pageIds.length; i++) {
+                ByteBuffer pageByteBuffer = createPageByteBuffer(pageIds[i], PAGE_SIZE);
+
+                // Every page is different, all of them but the third one are compressible.
+                int randomBytesCnt = i == 2 ? PAGE_SIZE - COMMON_HEADER_END : 128;
+
+                pageByteBuffer.position(COMMON_HEADER_END).put(randomBytes(randomBytesCnt));
+
+                pagesBuffer.put(pageByteBuffer.rewind());
+            }
+
+            filePageStoreIo.write(pageIds, pagesBuffer.flip(), pageIds.length, true);
+
+            for (int i = 0; i < pageIds.length; i++) {
+                ByteBuffer expPageBuffer = pagesBuffer.slice(i * PAGE_SIZE, PAGE_SIZE).order(nativeOrder());
+
+                ByteBuffer readBuffer = ByteBuffer.allocate(PAGE_SIZE).order(nativeOrder());
+
+                filePageStoreIo.read(pageIds[i], filePageStoreIo.pageOffset(pageIds[i]), readBuffer, false);
+
+                assertEquals(expPageBuffer, readBuffer.rewind(), "pageIdx=" + i);
+            }
+        }
+    }
+
     @Override
     protected FilePageStoreIo createFilePageStoreIo(Path filePath, FileIoFactory ioFactory) {
         return new FilePageStoreIo(ioFactory, filePath, new FilePageStoreHeader(VERSION_1, PAGE_SIZE));
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.pagememory.persistence.throttling;
+
+import static org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle.MIN_PARK_NANOS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link PagesWriteSpeedBasedThrottle} testing.
+ */
+public class PagesWriteSpeedBasedThrottleTest {
+    private static final long TOTAL_PAGES = 1_000;
+
+    private long[] segmentPages;
+
+    private long[] segmentDirtyPages;
+
+    private PagesWriteSpeedBasedThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        throttle = createThrottle(TOTAL_PAGES);
+    }
+
+    @Test
+    void testNoThrottlingWithoutCheckpoint() {
+        setDirtyPagesRatio(0, 0.95);
+
+        markDirty(10);
+
+        assertEquals(0, throttle.throttledCount());
+        assertEquals(0, throttle.throttleParkTimeNanos());
+    }
+
+    @Test
+    void testNoThrottlingBelowMinDirtyPagesRatio() {
+        throttle.onBeginCheckpoint(TOTAL_PAGES);
+
+        setDirtyPagesRatio(0, PagesWriteSpeedBasedThrottle.MIN_THROTTLE_DIRTY_PAGES_RATIO / 2);
+
+        markDirty(10);
+
+        assertEquals(0, throttle.throttledCount());
+    }
+
+    @Test
+    void testThrottlingAtMaxDirtyPagesRatio() {
+        throttle.onBeginCheckpoint(TOTAL_PAGES);
+
+        setDirtyPagesRatio(0, 0.9);
+
+        markDirty(10);
+
+        assertEquals(10, throttle.throttledCount());
+        assertThat(throttle.throttleParkTimeNanos(), greaterThanOrEqualTo(10 * MIN_PARK_NANOS));
+
+        throttle.onFinishCheckpoint();
+
+        markDirty(10);
+
+        assertEquals(10, throttle.throttledCount());
+    }
+
+    @Test
+    void testThrottlingBeforeCheckpointWritesAnyPage() {
+        throttle.onBeginCheckpoint(TOTAL_PAGES);
+
+        // There is still enough room for dirty pages.
+        setDirtyPagesRatio(0, 0.6);
+
+        markDirty(10);
+
+        assertEquals(0, throttle.throttledCount());
+
+        // Little room is left for dirty pages.
+        setDirtyPagesRatio(0, 0.8);
+
+        markDirty(10);
+
+        assertEquals(10, throttle.throttledCount());
+    }
+
+    @Test
+    void testNoThrottlingWhenCheckpointHasWrittenAllPages() {
+        throttle.onBeginCheckpoint(10);
+
+        for (int i = 0; i < 10; i++) {
+            throttle.onCheckpointPageWritten();
+        }
+
+        setDirtyPagesRatio(0, 0.8);
+
+        markDirty(10);
+
+        assertEquals(0, throttle.throttledCount());
+    }
+
+    @Test
+    void testThrottlingByRoomLeftInSegment() throws Exception {
+        // Pages are marked dirty in both segments at the same rate, so the small one runs out of room first.
+        throttle = createThrottle(100, 900);
+
+        int checkpointWrittenPages = 10;
+
+        throttle.onBeginCheckpoint(checkpointWrittenPages + 10);
+
+        for (int i = 0; i < checkpointWrittenPages; i++) {
+            throttle.onCheckpointPageWritten();
+        }
+
+        // The rates are not measured while there are few dirty pages.
+        markDirty(50);
+
+        assertEquals(0, throttle.throttledCount());
+
+        // Let the rates be measured: at them 51 pages are marked dirty while the checkpoint writes its remaining pages, 25.5 per segment.
+        Thread.sleep(100);
+
+        // Each segment has room for at least 40 more dirty pages, which is enough.
+        setDirtyPagesRatio(0, 0.5);
+        setDirtyPagesRatio(1, 0.8);
+
+        markDirty(1);
+
+        assertEquals(0, throttle.throttledCount());
+
+        // Only 10 more pages of the small segment may be marked dirty, though the page memory as a whole has room for 370 more.
+        setDirtyPagesRatio(0, 0.8);
+        setDirtyPagesRatio(1, 0.5);
+
+        markDirty(10);
+
+        assertEquals(10, throttle.throttledCount());
+    }
+
+    private PagesWriteSpeedBasedThrottle createThrottle(long... segmentPages) {
+        segmentDirtyPages = new long[segmentPages.length];
+
+        this.segmentPages = segmentPages;
+
+        return new PagesWriteSpeedBasedThrottle(segmentPages, i -> segmentDirtyPages[i], 0.9);
+    }
+
+    private void setDirtyPagesRatio(int segment, double ratio) {
+        segmentDirtyPages[segment] = (long) (segmentPages[segment] * ratio);
+    }
+
+    private void markDirty(int times) {
+        for (int i = 0; i < times; i++) {
+            throttle.onMarkDirty();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.raft.service;
+
+import java.util.Iterator;
+import org.apache.ignite.internal.raft.Command;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Write command iterator passed to {@link RaftGroupListener#onWrite}, which also allows looking at the commands that follow the current
+ * one without moving to them.
+ *
+ * <p>Peeking doesn't change the iteration: the iterator still moves to the next command only when the closure of the current one is
+ * completed. A closure returned by {@link #peek(int)} may be completed only after all the commands before it have been completed, at
+ * which point it is the current one.
+ *
+ * @param <R> Command type.
+ */
+public interface PeekableCommandIterator<R extends Command> extends Iterator<CommandClosure<R>> {
+    /**
+     * Returns the command at the given distance after the current one without moving to it.
+     *
+     * @param distance Distance from the current command, {@code 1} is the command right after it.
+     * @return Closure of the command, or {@code null} if there is no such command among the ones of the current
+     *     {@link RaftGroupListener#onWrite} call.
+     */
+    @Nullable CommandClosure<R> peek(int distance);
+}
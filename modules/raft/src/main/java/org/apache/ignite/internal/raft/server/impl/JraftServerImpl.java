@@ -59,6 +59,7 @@ import org.apache.ignite.internal.raft.server.RaftGroupOptions;
 import org.apache.ignite.internal.raft.server.RaftServer;
 import org.apache.ignite.internal.raft.service.CommandClosure;
 import org.apache.ignite.internal.raft.service.CommittedConfiguration;
+import org.apache.ignite.internal.raft.service.PeekableCommandIterator;
 import org.apache.ignite.internal.raft.service.RaftGroupListener;
 import org.apache.ignite.internal.raft.storage.LogStorageFactory;
 import org.apache.ignite.internal.raft.storage.impl.DefaultLogStorageFactory;
@@ -80,6 +81,7 @@ import org.apache.ignite.raft.jraft.core.NodeImpl.LogEntryAndClosure;
 import org.apache.ignite.raft.jraft.core.ReadOnlyServiceImpl.ReadIndexEvent;
 import org.apache.ignite.raft.jraft.core.StateMachineAdapter;
 import org.apache.ignite.raft.jraft.disruptor.StripedDisruptor;
+import org.apache.ignite.raft.jraft.entity.LogEntry;
 import org.apache.ignite.raft.jraft.entity.PeerId;
 import org.apache.ignite.raft.jraft.error.RaftError;
 import org.apache.ignite.raft.jraft.option.NodeOptions;
@@ -708,7 +710,7 @@ public class JraftServerImpl implements RaftServer {
         @Override
         public void onApply(Iterator iter) {
             try {
-                listener.onWrite(new java.util.Iterator<>() {
+                listener.onWrite(new PeekableCommandIterator<>() {
                     @Override
                     public boolean hasNext() {
                         return iter.hasNext();
@@ -721,9 +723,31 @@ public class JraftServerImpl implements RaftServer {
 
                         WriteCommand command = done == null ? marshaller.unmarshall(data) : done.command();
 
-                        long commandIndex = iter.getIndex();
-                        long commandTerm = iter.getTerm();
+                        return closure(iter.getIndex(), iter.getTerm(), command, done, false);
+                    }
+
+                    @Override
+                    public @Nullable CommandClosure<WriteCommand> peek(int distance) {
+                        LogEntry entry = iter.peekEntry(distance);
+
+                        if (entry == null) {
+                            return null;
+                        }
+
+                        @Nullable CommandClosure<WriteCommand> done = (CommandClosure<WriteCommand>) iter.peekDone(distance);
 
+                        WriteCommand command = done == null ? marshaller.unmarshall(entry.getData()) : done.command();
+
+                        return closure(entry.getId().getIndex(), entry.getId().getTerm(), command, done, true);
+                    }
+
+                    private CommandClosure<WriteCommand> closure(
+                            long commandIndex,
+                            long commandTerm,
+                            WriteCommand command,
+                            @Nullable CommandClosure<WriteCommand> done,
+                            boolean peeked
+                    ) {
                         return new CommandClosure<>() {
                             /** {@inheritDoc} */
                             @Override
@@ -746,6 +770,12 @@ public class JraftServerImpl implements RaftServer {
                             /** {@inheritDoc} */
                             @Override
                             public void result(Serializable res) {
+                                // A peeked command must not be completed before the ones preceding it.
+                                if (peeked && iter.getIndex() != commandIndex) {
+                                    throw new IllegalStateException("Command is completed out of order [index=" + commandIndex
+                                            + ", currentIndex=" + iter.getIndex() + ']');
+                                }
+
                                 if (done != null) {
                                     done.result(res);
                                 }
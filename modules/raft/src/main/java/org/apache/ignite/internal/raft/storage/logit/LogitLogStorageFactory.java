@@ -18,6 +18,8 @@
 package org.apache.ignite.internal.raft.storage.logit;
 
 import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import org.apache.ignite.internal.lang.IgniteInternalException;
@@ -50,6 +52,9 @@ public class LogitLogStorageFactory implements LogStorageFactory {
 
     private final StoreOptions storeOptions;
 
+    /** Started storages created by this factory, synced together by {@link #sync()}. */
+    private final Set<LogitLogStorage> storages = ConcurrentHashMap.newKeySet();
+
     /**
      * Constructor.
      *
@@ -84,7 +89,7 @@ public class LogitLogStorageFactory implements LogStorageFactory {
 
         Path storagePath = resolveLogStoragePath(groupId);
 
-        return new LogitLogStorage(storagePath, storeOptions, raftOptions, checkpointExecutor);
+        return new LogitLogStorage(storagePath, storeOptions, raftOptions, checkpointExecutor, storages);
     }
 
     @Override
@@ -92,10 +97,14 @@ public class LogitLogStorageFactory implements LogStorageFactory {
         ExecutorServiceHelper.shutdownAndAwaitTermination(checkpointExecutor);
     }
 
+    /**
+     * Forces the log entries of all started storages created by this factory to disk.
+     */
     @Override
     public void sync() {
-        // TODO: https://issues.apache.org/jira/browse/IGNITE-21955
-        throw new UnsupportedOperationException("Not implemented yet");
+        for (LogitLogStorage storage : storages) {
+            storage.sync();
+        }
     }
 
     private Path resolveLogStoragePath(String groupId) {
@@ -17,6 +17,7 @@
 package org.apache.ignite.raft.jraft;
 
 import java.nio.ByteBuffer;
+import org.apache.ignite.raft.jraft.entity.LogEntry;
 
 /**
  * Iterator over a batch of committed tasks.
@@ -54,6 +55,23 @@ public interface Iterator extends java.util.Iterator<ByteBuffer> {
      */
     Closure done();
 
+    /**
+     * Returns the data task at the given distance after the current one without moving to it, i.e. neither the current task nor the
+     * applying index are changed.
+     *
+     * @param distance Distance from the current task, {@code 1} is the task right after it.
+     * @return Log entry of the task, or {@code null} if there is no committed data task at that distance.
+     */
+    LogEntry peekEntry(int distance);
+
+    /**
+     * Returns done() of the task at the given distance after the current one, see {@link #peekEntry(int)}.
+     *
+     * @param distance Distance from the current task, {@code 1} is the task right after it.
+     * @return Closure of the task, or {@code null} if it has none.
+     */
+    Closure peekDone(int distance);
+
     /**
      * Invoked when some critical error occurred. And we will consider the last |ntail| tasks (starting from the last
      * iterated one) as not applied. After this point, no further changes on the StateMachine as well as the Node would
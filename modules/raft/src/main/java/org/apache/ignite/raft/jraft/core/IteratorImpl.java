@@ -123,6 +123,42 @@ public class IteratorImpl {
         return this.closures.get((int) (this.currentIndex - this.firstClosureIndex));
     }
 
+    /**
+     * Returns the committed entry at the given distance after the current one without moving to it.
+     *
+     * @param distance Distance from the current entry, must be positive.
+     * @return Entry, or {@code null} if it is not committed yet or can't be read. In the latter case the error is reported when the
+     *     iterator moves to the entry.
+     */
+    public LogEntry peekEntry(final int distance) {
+        Requires.requireTrue(distance > 0, "Invalid distance=" + distance);
+        final long index = this.currentIndex + distance;
+        if (hasError() || this.currEntry == null || index > this.committedIndex) {
+            return null;
+        }
+        try {
+            return this.logManager.getEntry(index);
+        }
+        catch (final LogEntryCorruptedException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the closure of the entry at the given distance after the current one.
+     *
+     * @param distance Distance from the current entry, must be positive.
+     * @return Closure, or {@code null} if the entry has none.
+     */
+    public Closure peekDone(final int distance) {
+        Requires.requireTrue(distance > 0, "Invalid distance=" + distance);
+        final long index = this.currentIndex + distance;
+        if (index < this.firstClosureIndex || index > this.committedIndex) {
+            return null;
+        }
+        return this.closures.get((int) (index - this.firstClosureIndex));
+    }
+
     protected void runTheRestClosureWithError() {
         for (long i = Math.max(this.currentIndex, this.firstClosureIndex); i <= this.committedIndex; i++) {
             final Closure done = this.closures.get((int) (i - this.firstClosureIndex));
@@ -67,6 +67,17 @@ public class IteratorWrapper implements Iterator {
         return this.impl.done();
     }
 
+    @Override
+    public LogEntry peekEntry(final int distance) {
+        final LogEntry entry = this.impl.peekEntry(distance);
+        return entry != null && entry.getType() == EnumOutter.EntryType.ENTRY_TYPE_DATA ? entry : null;
+    }
+
+    @Override
+    public Closure peekDone(final int distance) {
+        return this.impl.peekDone(distance);
+    }
+
     @Override
     public void setErrorAndRollback(final long ntail, final Status st) {
         this.impl.setErrorAndRollback(ntail, st);
@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -85,13 +86,21 @@ public class LogitLogStorage implements LogStorage {
     /** Executor that handles prefix truncation. */
     private final ScheduledExecutorService checkpointExecutor;
 
-    public LogitLogStorage(Path path, StoreOptions storeOptions, RaftOptions raftOptions, ScheduledExecutorService checkpointExecutor) {
+    /** Whether the storage has been shut down. */
+    private volatile boolean stopped;
+
+    /** Set of started storages to be synced together, the storage is in it from {@link #init} till {@link #shutdown}. */
+    private final Set<LogitLogStorage> startedStorages;
+
+    public LogitLogStorage(Path path, StoreOptions storeOptions, RaftOptions raftOptions, ScheduledExecutorService checkpointExecutor,
+            Set<LogitLogStorage> startedStorages) {
         this.indexStorePath = path.resolve(INDEX_STORE_PATH).toString();
         this.segmentStorePath = path.resolve(SEGMENT_STORE_PATH).toString();
         this.confStorePath = path.resolve(CONF_STORE_PATH).toString();
         this.storeOptions = storeOptions;
         this.raftOptions = raftOptions;
         this.checkpointExecutor = checkpointExecutor;
+        this.startedStorages = startedStorages;
         final String checkPointPath = path.resolve(FIRST_INDEX_CHECKPOINT).toString();
         this.firstLogIndexCheckpoint = new FirstLogIndexCheckpoint(checkPointPath, raftOptions);
     }
@@ -102,6 +111,8 @@ public class LogitLogStorage implements LogStorage {
         Requires.requireNonNull(opts.getLogEntryCodecFactory(), "Null log entry codec factory");
         this.writeLock.lock();
         try {
+            this.stopped = false;
+            this.startedStorages.add(this);
             this.logEntryDecoder = opts.getLogEntryCodecFactory().decoder();
             this.logEntryEncoder = opts.getLogEntryCodecFactory().encoder();
             this.configurationManager = opts.getConfigurationManager();
@@ -522,10 +533,32 @@ public class LogitLogStorage implements LogStorage {
         }
     }
 
+    /**
+     * Forces flushed log entries to disk. Used to sync all log storages of a node at once, when
+     * {@link RaftOptions#isSync()} is disabled.
+     */
+    public void sync() {
+        this.readLock.lock();
+        try {
+            // Not initialized yet or shut down concurrently.
+            if (this.stopped || this.indexDB == null) {
+                return;
+            }
+            // Same order as in waitForFlush: the index db can be restored from the log dbs.
+            this.segmentLogDB.sync();
+            this.confDB.sync();
+            this.indexDB.sync();
+        } finally {
+            this.readLock.unlock();
+        }
+    }
+
     @Override
     public void shutdown() {
         this.writeLock.lock();
         try {
+            this.stopped = true;
+            this.startedStorages.remove(this);
             this.indexDB.shutdown();
             this.segmentLogDB.shutdown();
             this.confDB.shutdown();
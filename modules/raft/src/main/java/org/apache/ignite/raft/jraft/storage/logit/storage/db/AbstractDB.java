@@ -379,6 +379,20 @@ public abstract class AbstractDB implements Lifecycle<LogStoreFactory> {
         return this.fileManager.flush();
     }
 
+    /**
+     * Force flushed data of the db to disk.
+     */
+    public void sync() {
+        this.fileManager.sync();
+    }
+
+    /**
+     * Returns whether the db has data flushed since the previous sync.
+     */
+    public boolean isSyncNeeded() {
+        return this.fileManager.isSyncNeeded();
+    }
+
     public boolean truncatePrefix(final long firstIndexKept) {
         return this.fileManager.truncatePrefix(firstIndexKept);
 
@@ -73,6 +73,9 @@ public abstract class AbstractFile extends ReferenceResource {
     // Current flush position
     protected final AtomicInteger flushedPosition = new AtomicInteger(0);
 
+    // Whether flushed data may not be forced to disk yet
+    private volatile boolean      syncNeeded      = false;
+
     protected final ReadWriteLock readWriteLock   = new ReentrantReadWriteLock();
     protected final Lock          readLock        = this.readWriteLock.readLock();
     protected final Lock          writeLock       = this.readWriteLock.writeLock();
@@ -310,6 +313,35 @@ public abstract class AbstractFile extends ReferenceResource {
         return getFlushedPosition();
     }
 
+    /**
+     * Force data flushed since the previous sync to disk. Allows to sync many files at once, when
+     * {@link RaftOptions#isSync()} is disabled and {@link #flush()} doesn't force the data itself.
+     */
+    public void sync() {
+        if (!this.syncNeeded) {
+            return;
+        }
+        if (hold()) {
+            try {
+                // Reset the flag before forcing, so that concurrent flushes are synced next time.
+                this.syncNeeded = false;
+                this.mappedByteBuffer.force();
+            } catch (final Throwable e) {
+                LOG.error("Error occurred when force data to disk.", e);
+                throw new RuntimeException(e);
+            } finally {
+                release();
+            }
+        }
+    }
+
+    /**
+     * Returns whether data has been flushed since the previous sync.
+     */
+    public boolean isSyncNeeded() {
+        return this.syncNeeded;
+    }
+
     public boolean shutdown(final long intervalForcibly, final boolean isDestroy) {
         shutdown(intervalForcibly);
         if (isCleanupOver()) {
@@ -494,6 +526,7 @@ public abstract class AbstractFile extends ReferenceResource {
 
     public void setFlushPosition(final int position) {
         this.flushedPosition.set(position);
+        this.syncNeeded = true;
     }
 
     /**
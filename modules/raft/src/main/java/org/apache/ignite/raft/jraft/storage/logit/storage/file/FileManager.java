@@ -382,6 +382,27 @@ public class FileManager {
         return false;
     }
 
+    /**
+     * Force flushed data of all files to disk.
+     */
+    public void sync() {
+        for (final AbstractFile file : copyFiles()) {
+            file.sync();
+        }
+    }
+
+    /**
+     * Returns whether any of the files has data flushed since the previous sync.
+     */
+    public boolean isSyncNeeded() {
+        for (final AbstractFile file : copyFiles()) {
+            if (file.isSyncNeeded()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public AbstractFile getLastFile() {
         return this.files.get(this.files.size() - 1);
     }
@@ -42,6 +42,8 @@ import org.mockito.quality.Strictness;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -95,6 +97,37 @@ public class IteratorTest extends BaseIgniteAbstractTest {
         assertEquals(i, 11);
     }
 
+    @Test
+    public void testPeek() {
+        assertEquals(1, iter.getIndex());
+
+        assertEquals(2, iter.peekEntry(1).getId().getIndex());
+        assertEquals(2, iter.peekEntry(1).getData().remaining());
+        assertSame(closures.get(2), iter.peekDone(1));
+
+        assertEquals(10, iter.peekEntry(9).getId().getIndex());
+        assertSame(closures.get(10), iter.peekDone(9));
+
+        // Entries beyond the committed index are not available.
+        assertNull(iter.peekEntry(10));
+        assertNull(iter.peekDone(10));
+
+        // Peeking doesn't move the iterator.
+        assertEquals(1, iter.getIndex());
+        assertEquals(0, applyingIndex.get());
+        assertSame(closures.get(1), iter.done());
+
+        iter.next();
+
+        assertEquals(3, iter.peekEntry(1).getId().getIndex());
+        assertNull(iter.peekEntry(9));
+    }
+
+    @Test
+    public void testPeekInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> iter.peekEntry(0));
+    }
+
     @Test
     public void testSetErrorAndRollbackInvalid() {
         assertThrows(IllegalArgumentException.class, () -> iter.setErrorAndRollback(-1, null));
@@ -19,6 +19,8 @@ package org.apache.ignite.raft.jraft.storage.logit;
 
 import static org.apache.ignite.raft.jraft.entity.PeerId.emptyPeer;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 import org.apache.ignite.internal.raft.storage.logit.LogitLogStorageFactory;
@@ -128,4 +130,53 @@ public class LogitLogStorageTest extends BaseLogStorageTest {
             assertEquals(i, entry.getId().getIndex());
         }
     }
+
+    @Test
+    public void testSyncWithoutFsync() throws Exception {
+        RaftOptions raftOptions = new RaftOptions();
+        raftOptions.setSync(false);
+
+        LogitLogStorage storage = (LogitLogStorage) logStorageFactory.createLogStorage("nosync", raftOptions);
+        storage.init(newLogStorageOptions());
+
+        try {
+            storage.appendEntries(TestUtils.mockEntries(20));
+
+            assertTrue(storage.getSegmentLogDB().isSyncNeeded());
+            assertTrue(storage.getIndexDB().isSyncNeeded());
+
+            logStorageFactory.sync();
+
+            assertSynced(storage);
+
+            storage.shutdown();
+            storage.init(newLogStorageOptions());
+
+            assertEquals(19, storage.getLastLogIndex());
+            for (int i = 0; i <= 19; i++) {
+                assertEquals(i, storage.getEntry(i).getId().getIndex());
+            }
+
+            // The storage is synced by the factory after a restart too.
+            List<LogEntry> entries = TestUtils.mockEntries(25);
+            storage.appendEntries(entries.subList(20, 25));
+
+            assertTrue(storage.getSegmentLogDB().isSyncNeeded());
+
+            logStorageFactory.sync();
+
+            assertSynced(storage);
+        } finally {
+            storage.shutdown();
+        }
+
+        // Storages that have been shut down are skipped.
+        logStorageFactory.sync();
+    }
+
+    private static void assertSynced(LogitLogStorage storage) {
+        assertFalse(storage.getSegmentLogDB().isSyncNeeded());
+        assertFalse(storage.getConfDB().isSyncNeeded());
+        assertFalse(storage.getIndexDB().isSyncNeeded());
+    }
 }
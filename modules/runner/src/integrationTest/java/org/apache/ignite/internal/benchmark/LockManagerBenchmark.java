@@ -27,6 +27,7 @@ import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.tx.LockKey;
 import org.apache.ignite.internal.tx.LockManager;
 import org.apache.ignite.internal.tx.LockMode;
+import org.apache.ignite.internal.tx.impl.EscalatingLockManager;
 import org.apache.ignite.internal.tx.impl.HeapLockManager;
 import org.apache.ignite.internal.tx.impl.TransactionIdGenerator;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -59,7 +60,9 @@ public class LockManagerBenchmark {
      */
     @Setup
     public void setUp() {
-        lockManager = new HeapLockManager();
+        lockManager = escalationThreshold > 0
+                ? new EscalatingLockManager(new HeapLockManager(), escalationThreshold)
+                : new HeapLockManager();
         generator = new TransactionIdGenerator(0);
         clock = new TestHybridClock(() -> 0L);
     }
@@ -80,6 +83,18 @@ public class LockManagerBenchmark {
     @Param({"200"})
     private int concTxns;
 
+    /**
+     * Row locks taken by a bulk transaction.
+     */
+    @Param({"100000"})
+    private int bulkTxRows;
+
+    /**
+     * Number of row locks in a table after which they are escalated to a table lock, zero disables escalation.
+     */
+    @Param({"0", "10000"})
+    private int escalationThreshold;
+
     /**
      * Take and release some locks.
      */
@@ -102,6 +117,24 @@ public class LockManagerBenchmark {
         }
     }
 
+    /**
+     * Take and release row locks of a single bulk transaction.
+     */
+    @Benchmark
+    @Warmup(iterations = 1, time = 3)
+    @Measurement(iterations = 1, time = 10)
+    public void bulkLockCommit() {
+        UUID txId = generator.transactionIdFor(clock.now());
+
+        lockManager.acquire(txId, new LockKey(0), LockMode.IX).join();
+
+        for (int i = 0; i < bulkTxRows; i++) {
+            lockManager.acquire(txId, new LockKey(0, new RowId(0, new UUID(0, i))), LockMode.X).join();
+        }
+
+        lockManager.releaseAll(txId);
+    }
+
     /**
      * Benchmark's entry point.
      */
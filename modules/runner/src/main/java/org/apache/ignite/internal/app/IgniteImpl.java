@@ -206,6 +206,7 @@ import org.apache.ignite.internal.tx.LockManager;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.tx.configuration.TransactionConfiguration;
 import org.apache.ignite.internal.tx.impl.AntiHijackIgniteTransactions;
+import org.apache.ignite.internal.tx.impl.EscalatingLockManager;
 import org.apache.ignite.internal.tx.impl.HeapLockManager;
 import org.apache.ignite.internal.tx.impl.IgniteTransactionsImpl;
 import org.apache.ignite.internal.tx.impl.RemotelyTriggeredResourceRegistry;
@@ -258,6 +259,11 @@ public class IgniteImpl implements Ignite {
      */
     private static final Path PARTITIONS_STORE_PATH = Paths.get("db");
 
+    /**
+     * Path for the files of the SQL operators that spill to disk.
+     */
+    private static final Path SQL_SPILL_PATH = Paths.get("sql-spill");
+
     /** Ignite node name. */
     private final String name;
 
@@ -494,8 +500,6 @@ public class IgniteImpl implements Ignite {
                 raftGroupEventsClientListener
         );
 
-        LockManager lockMgr = new HeapLockManager();
-
         MessagingService messagingServiceReturningToStorageOperationsPool = new JumpToExecutorByConsistentIdAfterSend(
                 clusterSvc.messagingService(),
                 name,
@@ -686,6 +690,8 @@ public class IgniteImpl implements Ignite {
 
         TransactionConfiguration txConfig = clusterConfigRegistry.getConfiguration(TransactionConfiguration.KEY);
 
+        LockManager lockMgr = new EscalatingLockManager(new HeapLockManager(), () -> txConfig.lockEscalationThreshold().value());
+
         indexNodeFinishedRwTransactionsChecker = new IndexNodeFinishedRwTransactionsChecker(
                 catalogManager,
                 clusterSvc.messagingService(),
@@ -821,7 +827,8 @@ public class IgniteImpl implements Ignite {
                 placementDriverMgr.placementDriver(),
                 clusterConfigRegistry.getConfiguration(SqlDistributedConfiguration.KEY),
                 nodeConfigRegistry.getConfiguration(SqlLocalConfiguration.KEY),
-                transactionInflights
+                transactionInflights,
+                workDir.resolve(SQL_SPILL_PATH)
         );
 
         sql = new IgniteSqlImpl(qryEngine, new IgniteTransactionsImpl(txManager, observableTimestampTracker));
@@ -1005,6 +1012,7 @@ public class IgniteImpl implements Ignite {
 
         try {
             metricManager.registerSource(new JvmMetricSource());
+            metricManager.registerSource(distributedTblMgr.replicaReadMetricSource());
 
             lifecycleManager.startComponent(longJvmPauseDetector);
 
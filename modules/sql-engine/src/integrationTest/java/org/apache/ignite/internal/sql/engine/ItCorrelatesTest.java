@@ -25,7 +25,8 @@ import org.junit.jupiter.api.Test;
 
 /** Tests for correlated queries. */
 public class ItCorrelatesTest extends BaseSqlIntegrationTest {
-    private static final String DISABLED_JOIN_RULES = " /*+ DISABLE_RULE('MergeJoinConverter', 'NestedLoopJoinConverter') */ ";
+    private static final String DISABLED_JOIN_RULES =
+            " /*+ DISABLE_RULE('MergeJoinConverter', 'NestedLoopJoinConverter', 'HashJoinConverter') */ ";
 
     @AfterEach
     public void dropTables() {
@@ -125,6 +125,23 @@ public class ItLimitOffsetTest extends BaseSqlIntegrationTest {
         assertQuery("SELECT (SELECT pk FROM test ORDER BY pk LIMIT 1 OFFSET 10)").returns(new Object[]{null}).check();
     }
 
+    /** Checks the limit of the fragments doesn't overflow when the sum of the offset and the fetch exceeds the integer range. */
+    @Test
+    public void testLargeLimitOffset() {
+        for (long i = 0; i < 5; ++i) {
+            sql(String.format("INSERT INTO test VALUES(%d, %d);", i, i));
+        }
+
+        int max = Integer.MAX_VALUE;
+
+        assertEquals(5, sql("SELECT * FROM test LIMIT " + max).size());
+        assertEquals(4, sql("SELECT * FROM test LIMIT " + max + " OFFSET 1").size());
+        assertEquals(0, sql("SELECT * FROM test LIMIT " + max + " OFFSET " + max).size());
+
+        assertEquals(4, sql("SELECT * FROM test OFFSET ? ROWS FETCH FIRST ? ROWS ONLY", 1, max).size());
+        assertEquals(0, sql("SELECT * FROM test OFFSET ? ROWS FETCH FIRST ? ROWS ONLY", max, max).size());
+    }
+
     /**
      * Check query with specified limit and offset.
      *
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.sql.BaseSqlIntegrationTest;
+import org.apache.ignite.internal.sql.metrics.SqlResultCacheMetricSource;
+import org.apache.ignite.table.KeyValueView;
+import org.apache.ignite.table.Tuple;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the cache of the results of read-only queries.
+ */
+public class ItSqlResultCacheTest extends BaseSqlIntegrationTest {
+    /** Staleness bound which is never reached within a test, so only the invalidation may make a cached result stale. */
+    private static final String NODE_BOOTSTRAP_CFG_TEMPLATE = "{\n"
+            + "  network: {\n"
+            + "    port: {},\n"
+            + "    nodeFinder: {\n"
+            + "      netClusterNodes: [ {} ]\n"
+            + "    }\n"
+            + "  },\n"
+            + "  clientConnector: { port:{} },\n"
+            + "  rest.port: {},\n"
+            + "  compute.threadPoolSize: 1,\n"
+            + "  sql.execution: { resultCacheSize: 16, resultCacheStalenessMillis: 600000 }\n"
+            + "}";
+
+    private MetricSet metrics;
+
+    @BeforeAll
+    void beforeAll() {
+        metrics = queryProcessor().metricManager().enable(SqlResultCacheMetricSource.NAME);
+
+        sql("CREATE TABLE test (id INT PRIMARY KEY, val INT)");
+    }
+
+    @Override
+    protected int initialNodes() {
+        return 1;
+    }
+
+    @Override
+    protected String getNodeBootstrapConfigTemplate() {
+        return NODE_BOOTSTRAP_CFG_TEMPLATE;
+    }
+
+    @Test
+    public void testKeyValuePutIsVisibleToCachedQuery() {
+        KeyValueView<Tuple, Tuple> kvView = table("TEST").keyValueView();
+
+        kvView.put(null, Tuple.create().set("id", 1), Tuple.create().set("val", 1));
+
+        assertEquals(List.of(List.of(1)), sql("SELECT val FROM test WHERE id = ?", 1));
+
+        long hits = hits();
+
+        assertEquals(List.of(List.of(1)), sql("SELECT val FROM test WHERE id = ?", 1));
+        assertEquals(hits + 1, hits());
+
+        kvView.put(null, Tuple.create().set("id", 1), Tuple.create().set("val", 2));
+
+        assertEquals(List.of(List.of(2)), sql("SELECT val FROM test WHERE id = ?", 1));
+        assertEquals(hits + 1, hits());
+    }
+
+    private long hits() {
+        return metrics.<LongMetric>get("Hits").value();
+    }
+}
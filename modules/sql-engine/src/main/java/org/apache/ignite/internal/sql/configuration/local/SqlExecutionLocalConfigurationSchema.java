@@ -28,4 +28,49 @@ public class SqlExecutionLocalConfigurationSchema {
     @Value(hasDefault = true)
     @Range(min = 1)
     public final int threadCount = 4;
+
+    /**
+     * Amount of memory in bytes a single buffering operator of a query (for example, a sort) may hold before it starts spilling
+     * rows to disk.
+     */
+    @Value(hasDefault = true)
+    @Range(min = 1)
+    public final long operatorMemoryQuota = 64L * 1024 * 1024;
+
+    /**
+     * Amount of memory in bytes all the buffering operators of a single query may hold on the node. A query exceeding the
+     * quota fails. {@code 0} means the quota is not limited.
+     */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public final long queryMemoryQuota = 0;
+
+    /**
+     * Amount of memory in bytes all the buffering operators of all the queries may hold on the node. Queries are not admitted
+     * to the node while the quota is exhausted. {@code 0} means 60% of the maximum heap size.
+     */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public final long nodeMemoryQuota = 0;
+
+    /**
+     * Maximum number of results of read-only queries cached on the node. Only deterministic queries executed in implicit
+     * read-only transactions are cached. {@code 0} disables the cache.
+     */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public final int resultCacheSize = 0;
+
+    /** Maximum number of rows in a query result to be cached. */
+    @Value(hasDefault = true)
+    @Range(min = 1)
+    public final int resultCacheMaxRows = 1000;
+
+    /**
+     * Maximum distance in milliseconds between the read timestamp of a query and the one of a cached result to serve the query
+     * from the cache. Bounds the staleness of the results with respect to modifications not issued through this node.
+     */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public final long resultCacheStalenessMillis = 1000;
 }
@@ -35,6 +35,7 @@ import static org.apache.ignite.lang.ErrorGroups.Sql.EXECUTION_CANCELLED_ERR;
 import static org.apache.ignite.lang.ErrorGroups.Sql.STMT_VALIDATION_ERR;
 import static org.apache.ignite.lang.ErrorGroups.Transactions.TX_ALREADY_FINISHED_ERR;
 
+import java.nio.file.Path;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -89,11 +90,14 @@ import org.apache.ignite.internal.sql.engine.exec.NodeWithConsistencyToken;
 import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutor;
 import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutorImpl;
 import org.apache.ignite.internal.sql.engine.exec.SqlRowHandler;
+import org.apache.ignite.internal.sql.engine.exec.cache.QueryResultCache;
 import org.apache.ignite.internal.sql.engine.exec.ddl.DdlCommandHandler;
 import org.apache.ignite.internal.sql.engine.exec.mapping.ExecutionTarget;
 import org.apache.ignite.internal.sql.engine.exec.mapping.ExecutionTargetFactory;
 import org.apache.ignite.internal.sql.engine.exec.mapping.ExecutionTargetProvider;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingServiceImpl;
+import org.apache.ignite.internal.sql.engine.exec.memory.QueryMemoryManager;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
 import org.apache.ignite.internal.sql.engine.message.MessageServiceImpl;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareService;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareServiceImpl;
@@ -120,6 +124,9 @@ import org.apache.ignite.internal.sql.engine.util.cache.Cache;
 import org.apache.ignite.internal.sql.engine.util.cache.CacheFactory;
 import org.apache.ignite.internal.sql.engine.util.cache.CaffeineCacheFactory;
 import org.apache.ignite.internal.sql.metrics.SqlClientMetricSource;
+import org.apache.ignite.internal.sql.metrics.SqlMemoryMetricSource;
+import org.apache.ignite.internal.sql.metrics.SqlResultCacheMetricSource;
+import org.apache.ignite.internal.sql.metrics.SqlSpillMetricSource;
 import org.apache.ignite.internal.storage.DataStorageManager;
 import org.apache.ignite.internal.systemview.api.SystemViewManager;
 import org.apache.ignite.internal.table.distributed.TableManager;
@@ -171,6 +178,9 @@ public class SqlQueryProcessor implements QueryProcessor {
 
     private static final long EXECUTION_SERVICE_SHUTDOWN_TIMEOUT = 60_000;
 
+    /** Share of the maximum heap size used as the node memory quota if the quota is not configured explicitly. */
+    private static final double DEFAULT_NODE_MEMORY_QUOTA_RATIO = 0.6;
+
     private final ParserService parserService = new ParserServiceImpl();
     private final Cache<String, ParsedResult> queryToParsedResultCache = CACHE_FACTORY.create(PARSED_RESULT_CACHE_SIZE);
 
@@ -202,12 +212,17 @@ public class SqlQueryProcessor implements QueryProcessor {
 
     private final SystemViewManager systemViewManager;
 
+    private final QueryMemoryManager memoryManager;
+
     private volatile QueryTaskExecutor taskExecutor;
 
     private volatile ExecutionService executionSrvc;
 
     private volatile PrepareService prepareSvc;
 
+    /** Cache of the results of read-only queries, or {@code null} if the cache is disabled. */
+    private volatile @Nullable QueryResultCache resultCache;
+
     /** Clock. */
     private final ClockService clockService;
 
@@ -234,6 +249,9 @@ public class SqlQueryProcessor implements QueryProcessor {
 
     private final TransactionInflights transactionInflights;
 
+    /** Directory for the files of the operators that spill to disk. */
+    private final Path spillDir;
+
     /** Constructor. */
     public SqlQueryProcessor(
             Consumer<LongFunction<CompletableFuture<?>>> registry,
@@ -254,7 +272,8 @@ public class SqlQueryProcessor implements QueryProcessor {
             PlacementDriver placementDriver,
             SqlDistributedConfiguration clusterCfg,
             SqlLocalConfiguration nodeCfg,
-            TransactionInflights transactionInflights
+            TransactionInflights transactionInflights,
+            Path spillDir
     ) {
         this.clusterSrvc = clusterSrvc;
         this.logicalTopologyService = logicalTopologyService;
@@ -274,12 +293,17 @@ public class SqlQueryProcessor implements QueryProcessor {
         this.clusterCfg = clusterCfg;
         this.nodeCfg = nodeCfg;
         this.transactionInflights = transactionInflights;
+        this.spillDir = spillDir;
 
         sqlSchemaManager = new SqlSchemaManagerImpl(
                 catalogManager,
                 CACHE_FACTORY,
                 SCHEMA_CACHE_SIZE
         );
+
+        memoryManager = new QueryMemoryManager(this::queryMemoryQuota, this::nodeMemoryQuota);
+
+        systemViewManager.register(memoryManager);
     }
 
     /** {@inheritDoc} */
@@ -293,6 +317,33 @@ public class SqlQueryProcessor implements QueryProcessor {
         SqlClientMetricSource sqlClientMetricSource = new SqlClientMetricSource(openedCursors::size);
         metricManager.registerSource(sqlClientMetricSource);
 
+        SqlSpillMetricSource sqlSpillMetricSource = new SqlSpillMetricSource();
+        metricManager.registerSource(sqlSpillMetricSource);
+
+        metricManager.registerSource(memoryManager.metricSource());
+        registerService(memoryManager);
+
+        SqlResultCacheMetricSource sqlResultCacheMetricSource = new SqlResultCacheMetricSource();
+        metricManager.registerSource(sqlResultCacheMetricSource);
+
+        int resultCacheSize = nodeCfg.execution().resultCacheSize().value();
+
+        if (resultCacheSize > 0) {
+            resultCache = new QueryResultCache(
+                    CACHE_FACTORY,
+                    resultCacheSize,
+                    nodeCfg.execution().resultCacheMaxRows().value(),
+                    nodeCfg.execution().resultCacheStalenessMillis().value(),
+                    sqlResultCacheMetricSource
+            );
+        }
+
+        var spillManager = registerService(new SpillManager(
+                spillDir,
+                () -> nodeCfg.execution().operatorMemoryQuota().value(),
+                sqlSpillMetricSource
+        ));
+
         var prepareSvc = registerService(PrepareServiceImpl.create(
                 nodeName,
                 CACHE_FACTORY,
@@ -385,6 +436,8 @@ public class SqlQueryProcessor implements QueryProcessor {
                 executableTableRegistry,
                 dependencyResolver,
                 clockService,
+                spillManager,
+                memoryManager,
                 EXECUTION_SERVICE_SHUTDOWN_TIMEOUT
         ));
 
@@ -398,6 +451,18 @@ public class SqlQueryProcessor implements QueryProcessor {
         return nullCompletedFuture();
     }
 
+    private long queryMemoryQuota() {
+        long quota = nodeCfg.execution().queryMemoryQuota().value();
+
+        return quota == 0 ? Long.MAX_VALUE : quota;
+    }
+
+    private long nodeMemoryQuota() {
+        long quota = nodeCfg.execution().nodeMemoryQuota().value();
+
+        return quota == 0 ? (long) (Runtime.getRuntime().maxMemory() * DEFAULT_NODE_MEMORY_QUOTA_RATIO) : quota;
+    }
+
     // need to be refactored after TODO: https://issues.apache.org/jira/browse/IGNITE-20925
     /** Get primary replicas. */
     private CompletableFuture<List<NodeWithConsistencyToken>> primaryReplicas(IgniteTable table) {
@@ -452,6 +517,9 @@ public class SqlQueryProcessor implements QueryProcessor {
         openedCursors.clear();
 
         metricManager.unregisterSource(SqlClientMetricSource.NAME);
+        metricManager.unregisterSource(SqlSpillMetricSource.NAME);
+        metricManager.unregisterSource(SqlMemoryMetricSource.NAME);
+        metricManager.unregisterSource(SqlResultCacheMetricSource.NAME);
 
         List<LifecycleAware> services = new ArrayList<>(this.services);
 
@@ -690,7 +758,11 @@ public class SqlQueryProcessor implements QueryProcessor {
         }
 
         try {
-            AsyncCursor<InternalSqlRow> dataCursor = executionSrvc.executePlan(txWrapper.unwrap(), plan, ctx);
+            QueryResultCache resultCache = this.resultCache;
+
+            AsyncCursor<InternalSqlRow> dataCursor = resultCache != null
+                    ? executePlanWithResultCache(resultCache, txWrapper, ctx, callback, plan)
+                    : executionSrvc.executePlan(txWrapper.unwrap(), plan, ctx);
 
             SqlQueryType queryType = plan.type();
             UUID queryId = ctx.queryId();
@@ -710,6 +782,13 @@ public class SqlQueryProcessor implements QueryProcessor {
 
             assert old == null;
 
+            if (resultCache != null && queryType == SqlQueryType.DML) {
+                int[] modifiedTables = QueryResultCache.modifiedTables(plan);
+
+                // An implicit transaction is committed on close, so the modification may become visible only after that.
+                cursor.onClose().whenComplete((r, e) -> resultCache.onTablesModified(modifiedTables, clockService.nowLong()));
+            }
+
             if (queryType == SqlQueryType.QUERY) {
                 // preserve lazy execution for statements that only reads
                 return completedFuture(cursor);
@@ -732,6 +811,51 @@ public class SqlQueryProcessor implements QueryProcessor {
         }
     }
 
+    private AsyncCursor<InternalSqlRow> executePlanWithResultCache(
+            QueryResultCache resultCache,
+            QueryTransactionWrapper txWrapper,
+            BaseQueryContext ctx,
+            PrefetchCallback callback,
+            QueryPlan plan
+    ) {
+        InternalTransaction tx = txWrapper.unwrap();
+
+        if (plan.type() == SqlQueryType.DML) {
+            resultCache.onTablesModified(QueryResultCache.modifiedTables(plan), clockService.nowLong());
+
+            return executionSrvc.executePlan(tx, plan, ctx);
+        }
+
+        HybridTimestamp readTimestamp = tx.readTimestamp();
+
+        if (plan.type() != SqlQueryType.QUERY || !txWrapper.implicit() || !tx.isReadOnly() || readTimestamp == null) {
+            return executionSrvc.executePlan(tx, plan, ctx);
+        }
+
+        int[] tables = QueryResultCache.cacheableTables(plan);
+
+        if (tables == null) {
+            return executionSrvc.executePlan(tx, plan, ctx);
+        }
+
+        QueryResultCache.Key key = new QueryResultCache.Key(
+                plan.id(),
+                ctx.parameters(),
+                catalogManager.activeCatalogVersion(readTimestamp.longValue())
+        );
+
+        List<InternalSqlRow> rows = resultCache.get(key, readTimestamp, txWrapper.observableTimestamp());
+
+        if (rows != null) {
+            // Nothing is going to be executed, thus there is nothing to prefetch.
+            callback.onPrefetchComplete(null);
+
+            return new AsyncWrapper<>(rows.iterator());
+        }
+
+        return resultCache.populate(key, tables, readTimestamp, executionSrvc.executePlan(tx, plan, ctx));
+    }
+
     @TestOnly
     public MetricManager metricManager() {
         return metricManager;
@@ -43,6 +43,7 @@ import org.apache.ignite.internal.sql.engine.exec.exp.ExpressionFactory;
 import org.apache.ignite.internal.sql.engine.exec.exp.ExpressionFactoryImpl;
 import org.apache.ignite.internal.sql.engine.exec.mapping.ColocationGroup;
 import org.apache.ignite.internal.sql.engine.exec.mapping.FragmentDescription;
+import org.apache.ignite.internal.sql.engine.exec.memory.MemoryTracker;
 import org.apache.ignite.internal.sql.engine.prepare.pruning.PartitionPruningColumns;
 import org.apache.ignite.internal.sql.engine.prepare.pruning.PartitionPruningMetadata;
 import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
@@ -92,6 +93,8 @@ public class ExecutionContext<RowT> implements DataContext {
 
     private final ZoneId timeZoneId;
 
+    private final MemoryTracker memoryTracker;
+
     private SharedState sharedState = new SharedState();
 
     /**
@@ -106,6 +109,7 @@ public class ExecutionContext<RowT> implements DataContext {
      * @param params Parameters.
      * @param txAttributes Transaction attributes.
      * @param timeZoneId Session time zone ID.
+     * @param memoryTracker Tracker of the memory held by the query.
      */
     @SuppressWarnings("AssignmentOrReturnOfFieldWithMutableType")
     public ExecutionContext(
@@ -117,7 +121,8 @@ public class ExecutionContext<RowT> implements DataContext {
             RowHandler<RowT> handler,
             Map<String, Object> params,
             TxAttributes txAttributes,
-            ZoneId timeZoneId
+            ZoneId timeZoneId,
+            MemoryTracker memoryTracker
     ) {
         this.executor = executor;
         this.qryId = qryId;
@@ -128,6 +133,7 @@ public class ExecutionContext<RowT> implements DataContext {
         this.originatingNodeName = originatingNodeName;
         this.txAttributes = txAttributes;
         this.timeZoneId = timeZoneId;
+        this.memoryTracker = memoryTracker;
 
         expressionFactory = new ExpressionFactoryImpl<>(
                 this,
@@ -188,6 +194,13 @@ public class ExecutionContext<RowT> implements DataContext {
         return description.group(sourceId);
     }
 
+    /**
+     * Get tracker of the memory held by the query.
+     */
+    public MemoryTracker memoryTracker() {
+        return memoryTracker;
+    }
+
     /**
      * Get handler to access row fields.
      */
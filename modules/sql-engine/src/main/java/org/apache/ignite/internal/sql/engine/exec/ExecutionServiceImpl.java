@@ -79,9 +79,13 @@ import org.apache.ignite.internal.sql.engine.exec.mapping.FragmentDescription;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappedFragment;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingParameters;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingService;
+import org.apache.ignite.internal.sql.engine.exec.memory.MemoryTracker;
+import org.apache.ignite.internal.sql.engine.exec.memory.QueryMemoryManager;
+import org.apache.ignite.internal.sql.engine.exec.memory.QueryMemoryTracker;
 import org.apache.ignite.internal.sql.engine.exec.rel.AbstractNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.AsyncRootNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.Outbox;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
 import org.apache.ignite.internal.sql.engine.message.ErrorMessage;
 import org.apache.ignite.internal.sql.engine.message.MessageService;
 import org.apache.ignite.internal.sql.engine.message.QueryCloseMessage;
@@ -165,6 +169,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
 
     private final ClockService clockService;
 
+    private final QueryMemoryManager memoryManager;
+
     /**
      * Constructor.
      *
@@ -177,6 +183,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
      * @param handler Row handler.
      * @param implementorFactory Relational node implementor factory.
      * @param clockService Clock service.
+     * @param memoryManager Manager of the memory held by queries.
      */
     public ExecutionServiceImpl(
             MessageService messageService,
@@ -190,6 +197,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
             ExecutionDependencyResolver dependencyResolver,
             ImplementorFactory<RowT> implementorFactory,
             ClockService clockService,
+            QueryMemoryManager memoryManager,
             long shutdownTimeout
     ) {
         this.localNode = topSrvc.localMember();
@@ -204,6 +212,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
         this.dependencyResolver = dependencyResolver;
         this.implementorFactory = implementorFactory;
         this.clockService = clockService;
+        this.memoryManager = memoryManager;
         this.shutdownTimeout = shutdownTimeout;
     }
 
@@ -218,6 +227,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
      * @param handler Row handler.
      * @param mailboxRegistry Mailbox registry.
      * @param exchangeSrvc Exchange service.
+     * @param spillManager Manager of files for operators spilling to disk.
+     * @param memoryManager Manager of the memory held by queries.
      * @param <RowT> Type of the sql row.
      * @return An execution service.
      */
@@ -234,6 +245,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
             ExecutableTableRegistry tableRegistry,
             ExecutionDependencyResolver dependencyResolver,
             ClockService clockService,
+            SpillManager spillManager,
+            QueryMemoryManager memoryManager,
             long shutdownTimeout
     ) {
         return new ExecutionServiceImpl<>(
@@ -250,8 +263,10 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
                         ctx,
                         mailboxRegistry,
                         exchangeSrvc,
-                        deps),
+                        deps,
+                        spillManager),
                 clockService,
+                memoryManager,
                 shutdownTimeout
         );
     }
@@ -355,7 +370,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
                 handler,
                 Commons.parametersMap(ctx.parameters()),
                 TxAttributes.fromTx(tx),
-                ctx.timeZoneId()
+                ctx.timeZoneId(),
+                MemoryTracker.NOOP
         );
 
         return plan.execute(ectx, tx, tableRegistry, callback);
@@ -675,6 +691,9 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
 
         private volatile Long rootFragmentId = null;
 
+        /** Tracker of the memory held by the local fragments, or {@code null} if no fragment has been started yet. */
+        private @Nullable QueryMemoryTracker memoryTracker;
+
         private DistributedQueryManager(
                 String coordinatorNodeName,
                 boolean coordinator,
@@ -713,6 +732,29 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
             return List.copyOf(localFragments);
         }
 
+        /**
+         * Returns memory tracker of the query, admitting the query to the local node on the first call.
+         *
+         * @throws org.apache.ignite.sql.SqlException If the query is rejected because the node memory quota is exhausted.
+         */
+        private synchronized QueryMemoryTracker memoryTracker() {
+            if (memoryTracker == null) {
+                if (cancelled.get()) {
+                    throw new QueryCancelledException();
+                }
+
+                memoryTracker = memoryManager.register(ctx.queryId());
+            }
+
+            return memoryTracker;
+        }
+
+        private synchronized void closeMemoryTracker() {
+            if (memoryTracker != null) {
+                memoryTracker.close();
+            }
+        }
+
         private CompletableFuture<Void> sendFragment(
                 String targetNodeName, String serialisedFragment, FragmentDescription desc, TxAttributes txAttributes
         ) {
@@ -813,7 +855,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
                     handler,
                     Commons.parametersMap(ctx.parameters()),
                     txAttributes,
-                    ctx.timeZoneId()
+                    ctx.timeZoneId(),
+                    memoryTracker()
             );
         }
 
@@ -1115,6 +1158,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
 
                 queryManagerMap.remove(ctx.queryId());
 
+                closeMemoryTracker();
+
                 try {
                     ctx.cancel().cancel();
                 } catch (Exception th) {
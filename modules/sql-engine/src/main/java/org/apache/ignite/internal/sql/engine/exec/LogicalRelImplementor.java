@@ -34,6 +34,8 @@ import java.util.function.Supplier;
 import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinInfo;
 import org.apache.calcite.rel.core.JoinRelType;
 import org.apache.calcite.rel.core.Minus;
 import org.apache.calcite.rel.core.Spool;
@@ -57,6 +59,7 @@ import org.apache.ignite.internal.sql.engine.exec.rel.CorrelatedNestedLoopJoinNo
 import org.apache.ignite.internal.sql.engine.exec.rel.DataSourceScanNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.FilterNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.HashAggregateNode;
+import org.apache.ignite.internal.sql.engine.exec.rel.HashJoinNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.Inbox;
 import org.apache.ignite.internal.sql.engine.exec.rel.IndexScanNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.IndexSpoolNode;
@@ -72,15 +75,18 @@ import org.apache.ignite.internal.sql.engine.exec.rel.ProjectNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.ScanNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.SortAggregateNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.SortNode;
+import org.apache.ignite.internal.sql.engine.exec.rel.StorageScanNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.TableScanNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.TableSpoolNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.UnionAllNode;
 import org.apache.ignite.internal.sql.engine.exec.row.RowSchema;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
 import org.apache.ignite.internal.sql.engine.prepare.bounds.SearchBounds;
 import org.apache.ignite.internal.sql.engine.rel.IgniteCorrelatedNestedLoopJoin;
 import org.apache.ignite.internal.sql.engine.rel.IgniteExchange;
 import org.apache.ignite.internal.sql.engine.rel.IgniteFilter;
 import org.apache.ignite.internal.sql.engine.rel.IgniteHashIndexSpool;
+import org.apache.ignite.internal.sql.engine.rel.IgniteHashJoin;
 import org.apache.ignite.internal.sql.engine.rel.IgniteIndexScan;
 import org.apache.ignite.internal.sql.engine.rel.IgniteKeyValueGet;
 import org.apache.ignite.internal.sql.engine.rel.IgniteKeyValueModify;
@@ -124,6 +130,7 @@ import org.apache.ignite.internal.sql.engine.trait.IgniteDistribution;
 import org.apache.ignite.internal.sql.engine.trait.TraitUtils;
 import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
 import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Implements a query plan.
@@ -145,6 +152,8 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
 
     private final ResolvedDependencies resolvedDependencies;
 
+    private final @Nullable SpillManager spillManager;
+
     /**
      * Constructor.
      *
@@ -152,16 +161,19 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
      * @param mailboxRegistry Mailbox registry.
      * @param exchangeSvc Exchange service.
      * @param resolvedDependencies Dependencies required to execute this query.
+     * @param spillManager Spill manager, or {@code null} if operators must never spill to disk.
      */
     public LogicalRelImplementor(
             ExecutionContext<RowT> ctx,
             MailboxRegistry mailboxRegistry,
             ExchangeService exchangeSvc,
-            ResolvedDependencies resolvedDependencies) {
+            ResolvedDependencies resolvedDependencies,
+            @Nullable SpillManager spillManager) {
         this.mailboxRegistry = mailboxRegistry;
         this.exchangeSvc = exchangeSvc;
         this.ctx = ctx;
         this.resolvedDependencies = resolvedDependencies;
+        this.spillManager = spillManager;
 
         expressionFactory = ctx.expressionFactory();
         destinationFactory = new DestinationFactory<>(ctx.rowHandler(), resolvedDependencies);
@@ -296,13 +308,50 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
 
         int pairsCnt = rel.analyzeCondition().pairs().size();
 
+        ImmutableBitSet nullCompAsEqual = nullCompAsEqual(rel);
+
+        Comparator<RowT> comp = expressionFactory.comparator(
+                rel.leftCollation().getFieldCollations().subList(0, pairsCnt),
+                rel.rightCollation().getFieldCollations().subList(0, pairsCnt),
+                nullCompAsEqual
+        );
+
+        Node<RowT> node = MergeJoinNode.create(ctx, leftType, rightType, joinType, comp);
+
+        Node<RowT> leftInput = visit(rel.getLeft());
+        Node<RowT> rightInput = visit(rel.getRight());
+
+        node.register(asList(leftInput, rightInput));
+
+        return node;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Node<RowT> visit(IgniteHashJoin rel) {
+        RelDataType leftType = rel.getLeft().getRowType();
+        RelDataType rightType = rel.getRight().getRowType();
+        JoinInfo joinInfo = rel.analyzeCondition();
+
+        Node<RowT> node = HashJoinNode.create(ctx, leftType, rightType, rel.getJoinType(), joinInfo.leftKeys.toIntArray(),
+                joinInfo.rightKeys.toIntArray(), nullCompAsEqual(rel), spillManager);
+
+        Node<RowT> leftInput = visit(rel.getLeft());
+        Node<RowT> rightInput = visit(rel.getRight());
+
+        node.register(asList(leftInput, rightInput));
+
+        return node;
+    }
+
+    /** Returns left key fields compared with IS NOT DISTINCT FROM, so their nulls must be treated as equal. */
+    private static ImmutableBitSet nullCompAsEqual(Join rel) {
         ImmutableBitSet leftKeys = rel.analyzeCondition().leftSet();
 
         List<RexNode> conjunctions = RelOptUtil.conjunctions(rel.getCondition());
 
         ImmutableBitSet.Builder nullCompAsEqualBuilder = ImmutableBitSet.builder();
 
-        ImmutableBitSet nullCompAsEqual;
         RexShuttle shuttle = new RexShuttle() {
             @Override
             public RexNode visitInputRef(RexInputRef ref) {
@@ -320,22 +369,7 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
             }
         }
 
-        nullCompAsEqual = nullCompAsEqualBuilder.build();
-
-        Comparator<RowT> comp = expressionFactory.comparator(
-                rel.leftCollation().getFieldCollations().subList(0, pairsCnt),
-                rel.rightCollation().getFieldCollations().subList(0, pairsCnt),
-                nullCompAsEqual
-        );
-
-        Node<RowT> node = MergeJoinNode.create(ctx, leftType, rightType, joinType, comp);
-
-        Node<RowT> leftInput = visit(rel.getLeft());
-        Node<RowT> rightInput = visit(rel.getRight());
-
-        node.register(asList(leftInput, rightInput));
-
-        return node;
+        return nullCompAsEqualBuilder.build();
     }
 
     /** {@inheritDoc} */
@@ -514,6 +548,12 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
 
         Node<RowT> input = visit(rel.getInput());
 
+        if (fetch != null && input instanceof StorageScanNode) {
+            long limit = (long) fetch.get() + (offset == null ? 0 : offset.get());
+
+            ((StorageScanNode<RowT>) input).fetchLimit((int) Math.min(limit, Integer.MAX_VALUE));
+        }
+
         node.register(input);
 
         return node;
@@ -527,8 +567,11 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         Supplier<Integer> offset = (rel.offset == null) ? null : expressionFactory.execute(rel.offset);
         Supplier<Integer> fetch = (rel.fetch == null) ? null : expressionFactory.execute(rel.fetch);
 
+        RowSchema rowSchema = rowSchemaFromRelTypes(RelOptUtil.getFieldTypeList(rel.getRowType()));
+        RowFactory<RowT> rowFactory = ctx.rowHandler().factory(rowSchema);
+
         SortNode<RowT> node = new SortNode<>(ctx, expressionFactory.comparator(collation), offset,
-                fetch);
+                fetch, spillManager, rowFactory);
 
         Node<RowT> input = visit(rel.getInput());
 
@@ -704,7 +747,10 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         RowSchema rowSchema = rowSchemaFromRelTypes(RelOptUtil.getFieldTypeList(rowType));
         RowFactory<RowT> rowFactory = ctx.rowHandler().factory(rowSchema);
 
-        HashAggregateNode<RowT> node = new HashAggregateNode<>(ctx, type, rel.getGroupSets(), accFactory, rowFactory);
+        RowSchema inputRowSchema = rowSchemaFromRelTypes(RelOptUtil.getFieldTypeList(rel.getInput().getRowType()));
+
+        HashAggregateNode<RowT> node = new HashAggregateNode<>(ctx, type, rel.getGroupSets(), accFactory, rowFactory,
+                inputRowSchema, spillManager);
 
         Node<RowT> input = visit(rel.getInput());
 
@@ -727,7 +773,10 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         RowSchema rowSchema = rowSchemaFromRelTypes(RelOptUtil.getFieldTypeList(rowType));
         RowFactory<RowT> rowFactory = ctx.rowHandler().factory(rowSchema);
 
-        HashAggregateNode<RowT> node = new HashAggregateNode<>(ctx, type, rel.getGroupSets(), accFactory, rowFactory);
+        RowSchema inputRowSchema = rowSchemaFromRelTypes(RelOptUtil.getFieldTypeList(rel.getInput().getRowType()));
+
+        HashAggregateNode<RowT> node = new HashAggregateNode<>(ctx, type, rel.getGroupSets(), accFactory, rowFactory,
+                inputRowSchema, spillManager);
 
         Node<RowT> input = visit(rel.getInput());
 
@@ -752,7 +801,10 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         RowSchema rowSchema = rowSchemaFromRelTypes(RelOptUtil.getFieldTypeList(rowType));
         RowFactory<RowT> rowFactory = ctx.rowHandler().factory(rowSchema);
 
-        HashAggregateNode<RowT> node = new HashAggregateNode<>(ctx, type, rel.getGroupSets(), accFactory, rowFactory);
+        RowSchema inputRowSchema = rowSchemaFromRelTypes(RelOptUtil.getFieldTypeList(rel.getInput().getRowType()));
+
+        HashAggregateNode<RowT> node = new HashAggregateNode<>(ctx, type, rel.getGroupSets(), accFactory, rowFactory,
+                inputRowSchema, spillManager);
 
         Node<RowT> input = visit(rel.getInput());
 
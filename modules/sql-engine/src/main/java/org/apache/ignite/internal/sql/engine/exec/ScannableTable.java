@@ -48,6 +48,30 @@ public interface ScannableTable {
             @Nullable BitSet requiredColumns
     );
 
+    /**
+     * Performs a scan over table, reading the given number of disjoint slices of the partition concurrently. Rows of different slices
+     * are interleaved in the order they arrive.
+     *
+     * <p>Default implementation ignores the number of slices and reads the whole partition at once.
+     *
+     * @param ctx  Execution context.
+     * @param partWithConsistencyToken  Partition.
+     * @param rowFactory  Row factory.
+     * @param requiredColumns  Required columns.
+     * @param slices  Number of slices to split the partition into.
+     * @return  A publisher that produces rows.
+     * @param <RowT>  A type of row.
+     */
+    default <RowT> Publisher<RowT> scan(
+            ExecutionContext<RowT> ctx,
+            PartitionWithConsistencyToken partWithConsistencyToken,
+            RowFactory<RowT> rowFactory,
+            @Nullable BitSet requiredColumns,
+            int slices
+    ) {
+        return scan(ctx, partWithConsistencyToken, rowFactory, requiredColumns);
+    }
+
     /**
      * Performs range scan using the given index.
      *
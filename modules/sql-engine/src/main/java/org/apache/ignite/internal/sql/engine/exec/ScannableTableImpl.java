@@ -23,6 +23,7 @@ import static org.apache.ignite.internal.storage.index.SortedIndexStorage.LESS_O
 
 import java.util.BitSet;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow.Publisher;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
@@ -32,8 +33,11 @@ import org.apache.ignite.internal.schema.BinaryTuple;
 import org.apache.ignite.internal.schema.BinaryTuplePrefix;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
 import org.apache.ignite.internal.sql.engine.exec.exp.RangeCondition;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.table.InternalTable;
 import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.internal.util.SubscriptionUtils;
 import org.apache.ignite.internal.util.subscription.TransformingPublisher;
 import org.apache.ignite.internal.utils.PrimaryReplica;
 import org.jetbrains.annotations.Nullable;
@@ -90,6 +94,43 @@ public class ScannableTableImpl implements ScannableTable {
         return new TransformingPublisher<>(pub, item -> rowConverter.toRow(ctx, item, rowFactory));
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public <RowT> Publisher<RowT> scan(ExecutionContext<RowT> ctx, PartitionWithConsistencyToken partWithConsistencyToken,
+            RowFactory<RowT> rowFactory, @Nullable BitSet requiredColumns, int slices) {
+        TxAttributes txAttributes = ctx.txAttributes();
+
+        // Read-write scans hold locks on the whole partition, so only read-only ones benefit from splitting.
+        if (slices <= 1 || !txAttributes.readOnly()) {
+            return scan(ctx, partWithConsistencyToken, rowFactory, requiredColumns);
+        }
+
+        HybridTimestamp readTime = txAttributes.time();
+
+        assert readTime != null;
+
+        int partId = partWithConsistencyToken.partId();
+
+        RowId[] bounds = RowId.splitPartition(partId, slices);
+
+        @SuppressWarnings("unchecked")
+        Publisher<BinaryRow>[] pubs = new Publisher[slices];
+
+        for (int i = 0; i < slices; i++) {
+            UUID upperBound = i + 1 < slices ? bounds[i + 1].uuid() : null;
+
+            pubs[i] = internalTable.scan(partId, txAttributes.id(), readTime, ctx.localNode(), i == 0 ? null : bounds[i].uuid(),
+                    upperBound, txAttributes.coordinatorId());
+        }
+
+        TableRowConverter rowConverter = converterFactory.create(requiredColumns);
+
+        return new TransformingPublisher<>(
+                SubscriptionUtils.merge(Commons.IN_BUFFER_SIZE, pubs),
+                item -> rowConverter.toRow(ctx, item, rowFactory)
+        );
+    }
+
     /** {@inheritDoc} */
     @Override
     public <RowT> Publisher<RowT> indexRangeScan(
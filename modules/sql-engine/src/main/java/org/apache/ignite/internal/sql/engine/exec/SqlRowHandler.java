@@ -22,6 +22,7 @@ import static org.apache.ignite.internal.sql.engine.util.Commons.readValue;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -31,6 +32,7 @@ import java.util.List;
 import java.util.UUID;
 import org.apache.calcite.avatica.util.ByteString;
 import org.apache.ignite.internal.binarytuple.BinaryTupleBuilder;
+import org.apache.ignite.internal.binarytuple.BinaryTupleParser;
 import org.apache.ignite.internal.lang.IgniteStringBuilder;
 import org.apache.ignite.internal.lang.InternalTuple;
 import org.apache.ignite.internal.schema.BinaryTuple;
@@ -40,6 +42,7 @@ import org.apache.ignite.internal.sql.engine.exec.row.RowSchema.Builder;
 import org.apache.ignite.internal.sql.engine.exec.row.RowSchemaTypes;
 import org.apache.ignite.internal.sql.engine.exec.row.TypeSpec;
 import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.internal.sql.engine.util.FormatAwareProjectedTuple;
 import org.apache.ignite.internal.sql.engine.util.TypeUtils;
 import org.apache.ignite.internal.type.DecimalNativeType;
 import org.apache.ignite.internal.type.NativeType;
@@ -83,32 +86,64 @@ public class SqlRowHandler implements RowHandler<RowWrapper> {
         List<TypeSpec> leftTypes = left.rowSchema().fields();
         List<TypeSpec> rightTypes = right.rowSchema().fields();
 
-        Object[] values = new Object[leftLen + rightLen];
         Builder schemaBuilder = RowSchema.builder();
 
         for (int i = 0; i < leftLen; i++) {
-            values[i] = left.get(i);
             schemaBuilder.addField(leftTypes.get(i));
         }
 
         for (int i = 0; i < rightLen; i++) {
-            values[leftLen + i] = right.get(i);
             schemaBuilder.addField(rightTypes.get(i));
         }
 
+        if (left instanceof BinaryTupleRowWrapper && right instanceof BinaryTupleRowWrapper) {
+            // Both rows are already serialized, so the fields are copied as is, without being deserialized.
+            BinaryTupleBuilder builder = new BinaryTupleBuilder(leftLen + rightLen);
+
+            appendElements(builder, ((BinaryTupleRowWrapper) left).tuple);
+            appendElements(builder, ((BinaryTupleRowWrapper) right).tuple);
+
+            return new BinaryTupleRowWrapper(schemaBuilder.build(), new BinaryTuple(leftLen + rightLen, builder.build()));
+        }
+
+        Object[] values = new Object[leftLen + rightLen];
+
+        for (int i = 0; i < leftLen; i++) {
+            values[i] = left.get(i);
+        }
+
+        for (int i = 0; i < rightLen; i++) {
+            values[leftLen + i] = right.get(i);
+        }
+
         return new ObjectsArrayRowWrapper(schemaBuilder.build(), values);
     }
 
     /** {@inheritDoc} */
     @Override
     public RowWrapper map(RowWrapper row, int[] mapping) {
+        List<TypeSpec> types = row.rowSchema().fields();
+
+        Builder schemaBuilder = RowSchema.builder();
+
+        for (int field : mapping) {
+            schemaBuilder.addField(types.get(field));
+        }
+
+        if (row instanceof BinaryTupleRowWrapper) {
+            // Fields are neither deserialized nor copied until they are accessed or the row is serialized.
+            InternalTuple tuple = new FormatAwareProjectedTuple(((BinaryTupleRowWrapper) row).tuple, mapping);
+
+            return new BinaryTupleRowWrapper(schemaBuilder.build(), tuple);
+        }
+
         Object[] fields = new Object[mapping.length];
 
         for (int i = 0; i < mapping.length; i++) {
             fields[i] = row.get(mapping[i]);
         }
 
-        return new ObjectsArrayRowWrapper(row.rowSchema(), fields);
+        return new ObjectsArrayRowWrapper(schemaBuilder.build(), fields);
     }
 
     @Override
@@ -177,6 +212,23 @@ public class SqlRowHandler implements RowHandler<RowWrapper> {
         };
     }
 
+    /** Appends all the elements of the given tuple to the builder without deserializing them. */
+    private static void appendElements(BinaryTupleBuilder builder, InternalTuple tuple) {
+        ByteBuffer tupleBuffer = tuple.byteBuffer();
+
+        BinaryTupleParser parser = new BinaryTupleParser(tuple.elementCount(), tupleBuffer);
+
+        for (int i = 0; i < tuple.elementCount(); i++) {
+            parser.fetch(i, (index, begin, end) -> {
+                if (begin == end) {
+                    builder.appendNull();
+                } else {
+                    builder.appendElementBytes(tupleBuffer, begin, end - begin);
+                }
+            });
+        }
+    }
+
     /**
      * Provides the ability for a single {@link RowHandler} instance to interact with multiple row implementations.
      */
@@ -0,0 +1,460 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.TableModify;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexShuttle;
+import org.apache.calcite.sql.SqlOperator;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.sql.engine.InternalSqlRow;
+import org.apache.ignite.internal.sql.engine.prepare.KeyValueGetPlan;
+import org.apache.ignite.internal.sql.engine.prepare.KeyValueModifyPlan;
+import org.apache.ignite.internal.sql.engine.prepare.MultiStepPlan;
+import org.apache.ignite.internal.sql.engine.prepare.PlanId;
+import org.apache.ignite.internal.sql.engine.prepare.QueryPlan;
+import org.apache.ignite.internal.sql.engine.rel.IgniteKeyValueGet;
+import org.apache.ignite.internal.sql.engine.rel.IgniteKeyValueModify;
+import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.apache.ignite.internal.sql.engine.util.cache.Cache;
+import org.apache.ignite.internal.sql.engine.util.cache.CacheFactory;
+import org.apache.ignite.internal.sql.metrics.SqlResultCacheMetricSource;
+import org.apache.ignite.internal.util.AsyncCursor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Cache of the results of read-only queries.
+ *
+ * <p>Only results of deterministic queries reading nothing but tables are cached. A result is keyed by the plan, the values
+ * of the dynamic parameters and the version of the catalog the query was planned against, and is served only to the queries
+ * reading at a timestamp not further than the configured staleness from the one the result was read at.
+ *
+ * <p>In addition, results are invalidated by write watermarks of the tables: every modification of a table issued through this
+ * node moves the watermark of the table to the current time, both when the modification starts and when it completes, and the
+ * results read at a timestamp not later than the watermark are dropped. Modifications made by other clients through other nodes,
+ * through the key-value API, or in explicit transactions committed after the statement completes, become visible to a client
+ * once the staleness bound elapses.
+ *
+ * <p>To preserve read-your-writes, a result is never served to a query of a client which has observed a timestamp later than
+ * the one the result was read at: the commit of any read-write transaction of the client, including ones made through the
+ * key-value API or through other nodes, moves the observable timestamp of the client past the commit timestamp.
+ */
+public class QueryResultCache {
+    private final Cache<Key, Entry> cache;
+
+    private final int maxRows;
+
+    private final long stalenessMillis;
+
+    private final SqlResultCacheMetricSource metricSource;
+
+    /** Write watermarks of the tables: table id to the time of the latest modification of the table issued through this node. */
+    private final Map<Integer, Long> watermarks = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param cacheFactory Factory to create the underlying cache.
+     * @param size Maximum number of the cached results.
+     * @param maxRows Maximum number of rows in a result to be cached.
+     * @param stalenessMillis Maximum distance in milliseconds between the read timestamp of a query and the one of the cached result
+     *      to serve the query from the cache.
+     * @param metricSource Metric source.
+     */
+    public QueryResultCache(
+            CacheFactory cacheFactory,
+            int size,
+            int maxRows,
+            long stalenessMillis,
+            SqlResultCacheMetricSource metricSource
+    ) {
+        this.cache = cacheFactory.create(size);
+        this.maxRows = maxRows;
+        this.stalenessMillis = stalenessMillis;
+        this.metricSource = metricSource;
+    }
+
+    /**
+     * Returns identifiers of the tables read by the plan if the result of the plan may be cached.
+     *
+     * @param plan Plan of a query.
+     * @return Identifiers of the tables read by the plan, or {@code null} if the plan is not deterministic or reads a source which
+     *      is not a table.
+     */
+    public static int @Nullable [] cacheableTables(QueryPlan plan) {
+        RelNode root = root(plan);
+
+        if (root == null) {
+            return null;
+        }
+
+        List<Integer> tables = new ArrayList<>();
+
+        if (!collectReadTables(root, tables)) {
+            return null;
+        }
+
+        return tables.stream().mapToInt(Integer::intValue).distinct().toArray();
+    }
+
+    /**
+     * Returns identifiers of the tables modified by the plan.
+     *
+     * @param plan Plan of a query.
+     * @return Identifiers of the modified tables.
+     */
+    public static int[] modifiedTables(QueryPlan plan) {
+        RelNode root = root(plan);
+
+        if (root == null) {
+            return new int[0];
+        }
+
+        List<Integer> tables = new ArrayList<>();
+
+        collectModifiedTables(root, tables);
+
+        return tables.stream().mapToInt(Integer::intValue).distinct().toArray();
+    }
+
+    /**
+     * Returns the cached result of a query.
+     *
+     * @param key Key of the query.
+     * @param readTimestamp Timestamp the query reads at.
+     * @param observableTimestamp Latest timestamp observed by the client which issued the query.
+     * @return Cached rows, or {@code null} if there is no valid result for the query.
+     */
+    public @Nullable List<InternalSqlRow> get(Key key, HybridTimestamp readTimestamp, @Nullable HybridTimestamp observableTimestamp) {
+        Entry entry = cache.get(key);
+
+        if (entry == null) {
+            metricSource.onMiss();
+
+            return null;
+        }
+
+        if (!fresh(entry, readTimestamp) || !valid(entry)) {
+            cache.compute(key, (k, v) -> v == entry ? null : v);
+
+            metricSource.onMiss();
+
+            return null;
+        }
+
+        if (observableTimestamp != null && observableTimestamp.compareTo(entry.readTimestamp) > 0) {
+            // The client may have written data the result doesn't contain. The result is kept for the other clients.
+            metricSource.onMiss();
+
+            return null;
+        }
+
+        metricSource.onHit();
+
+        return entry.rows;
+    }
+
+    /**
+     * Wraps the cursor of a query to put the result of the query to the cache once it is fully read.
+     *
+     * <p>The result is not cached if it has more than the allowed number of rows, if the cursor is closed before the result is
+     * fully read, or if one of the tables is modified in the meantime.
+     *
+     * @param key Key of the query.
+     * @param tables Identifiers of the tables read by the query.
+     * @param readTimestamp Timestamp the query reads at.
+     * @param cursor Cursor of the query.
+     * @return Cursor which caches the result.
+     */
+    public AsyncCursor<InternalSqlRow> populate(
+            Key key,
+            int[] tables,
+            HybridTimestamp readTimestamp,
+            AsyncCursor<InternalSqlRow> cursor
+    ) {
+        return new CachingCursor(key, tables, readTimestamp, cursor);
+    }
+
+    /**
+     * Moves the write watermarks of the given tables and drops the results which are invalidated by that.
+     *
+     * @param tables Identifiers of the modified tables.
+     * @param time Current time of the node clock.
+     */
+    public void onTablesModified(int[] tables, long time) {
+        if (tables.length == 0) {
+            return;
+        }
+
+        for (int table : tables) {
+            watermarks.merge(table, time, Math::max);
+        }
+
+        cache.removeIfValue(entry -> {
+            if (valid(entry)) {
+                return false;
+            }
+
+            metricSource.onInvalidation();
+
+            return true;
+        });
+    }
+
+    /** Removes all the cached results. */
+    public void clear() {
+        cache.clear();
+    }
+
+    private boolean fresh(Entry entry, HybridTimestamp readTimestamp) {
+        long distance = readTimestamp.getPhysical() - entry.readTimestamp.getPhysical();
+
+        // The result must not be served to a query reading at an earlier timestamp, since it may contain newer data.
+        return readTimestamp.compareTo(entry.readTimestamp) >= 0 && distance <= stalenessMillis;
+    }
+
+    private boolean valid(Entry entry) {
+        for (int table : entry.tables) {
+            Long watermark = watermarks.get(table);
+
+            if (watermark != null && watermark >= entry.readTimestamp.longValue()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static @Nullable RelNode root(QueryPlan plan) {
+        if (plan instanceof MultiStepPlan) {
+            return ((MultiStepPlan) plan).root();
+        } else if (plan instanceof KeyValueGetPlan) {
+            return ((KeyValueGetPlan) plan).lookupNode();
+        } else if (plan instanceof KeyValueModifyPlan) {
+            return ((KeyValueModifyPlan) plan).modifyNode();
+        }
+
+        return null;
+    }
+
+    private static boolean collectReadTables(RelNode rel, List<Integer> tables) {
+        if (rel instanceof TableModify || rel instanceof IgniteKeyValueModify) {
+            return false;
+        }
+
+        if (rel.getTable() != null) {
+            IgniteTable table = rel.getTable().unwrap(IgniteTable.class);
+
+            if (table == null) {
+                // System views and other sources can't be tracked by the watermarks.
+                return false;
+            }
+
+            tables.add(table.id());
+        }
+
+        DeterminismChecker checker = new DeterminismChecker();
+
+        rel.accept(checker);
+
+        if (rel instanceof IgniteKeyValueGet) {
+            checker.apply(((IgniteKeyValueGet) rel).keyExpressions());
+        }
+
+        if (!checker.deterministic) {
+            return false;
+        }
+
+        for (RelNode input : rel.getInputs()) {
+            if (!collectReadTables(input, tables)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static void collectModifiedTables(RelNode rel, List<Integer> tables) {
+        if ((rel instanceof TableModify || rel instanceof IgniteKeyValueModify) && rel.getTable() != null) {
+            IgniteTable table = rel.getTable().unwrap(IgniteTable.class);
+
+            if (table != null) {
+                tables.add(table.id());
+            }
+        }
+
+        for (RelNode input : rel.getInputs()) {
+            collectModifiedTables(input, tables);
+        }
+    }
+
+    /** Finds calls of the functions which may return different results for the same arguments. */
+    private static class DeterminismChecker extends RexShuttle {
+        private boolean deterministic = true;
+
+        /** {@inheritDoc} */
+        @Override
+        public RexNode visitCall(RexCall call) {
+            SqlOperator op = call.getOperator();
+
+            if (!op.isDeterministic() || op.isDynamicFunction()) {
+                deterministic = false;
+            }
+
+            return super.visitCall(call);
+        }
+    }
+
+    /**
+     * Cursor which collects the rows of a result to put them to the cache once the result is fully read.
+     */
+    private class CachingCursor implements AsyncCursor<InternalSqlRow> {
+        private final Key key;
+
+        private final int[] tables;
+
+        private final HybridTimestamp readTimestamp;
+
+        private final AsyncCursor<InternalSqlRow> delegate;
+
+        /** Rows read so far, or {@code null} if the result is not going to be cached. */
+        private @Nullable List<InternalSqlRow> collected = new ArrayList<>();
+
+        private CachingCursor(Key key, int[] tables, HybridTimestamp readTimestamp, AsyncCursor<InternalSqlRow> delegate) {
+            this.key = key;
+            this.tables = tables;
+            this.readTimestamp = readTimestamp;
+            this.delegate = delegate;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public CompletableFuture<BatchedResult<InternalSqlRow>> requestNextAsync(int rows) {
+            return delegate.requestNextAsync(rows).thenApply(batch -> {
+                onBatch(batch);
+
+                return batch;
+            });
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public CompletableFuture<Void> closeAsync() {
+            synchronized (this) {
+                collected = null;
+            }
+
+            return delegate.closeAsync();
+        }
+
+        private synchronized void onBatch(BatchedResult<InternalSqlRow> batch) {
+            if (collected == null) {
+                return;
+            }
+
+            if (collected.size() + batch.items().size() > maxRows) {
+                collected = null;
+
+                return;
+            }
+
+            collected.addAll(batch.items());
+
+            if (!batch.hasMore()) {
+                Entry entry = new Entry(tables, readTimestamp, collected);
+
+                collected = null;
+
+                if (valid(entry)) {
+                    cache.put(key, entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Key of a cached result.
+     */
+    public static final class Key {
+        private final PlanId planId;
+
+        private final List<Object> params;
+
+        private final int catalogVersion;
+
+        /**
+         * Constructor.
+         *
+         * @param planId Identifier of the plan of the query.
+         * @param params Values of the dynamic parameters.
+         * @param catalogVersion Version of the catalog the query was planned against.
+         */
+        public Key(PlanId planId, Object[] params, int catalogVersion) {
+            this.planId = planId;
+            this.params = Arrays.asList(params.clone());
+            this.catalogVersion = catalogVersion;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            Key key = (Key) o;
+
+            return catalogVersion == key.catalogVersion
+                    && planId.equals(key.planId)
+                    && params.equals(key.params);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode() {
+            return Objects.hash(planId, params, catalogVersion);
+        }
+    }
+
+    private static final class Entry {
+        private final int[] tables;
+
+        private final HybridTimestamp readTimestamp;
+
+        private final List<InternalSqlRow> rows;
+
+        private Entry(int[] tables, HybridTimestamp readTimestamp, List<InternalSqlRow> rows) {
+            this.tables = tables;
+            this.readTimestamp = readTimestamp;
+            this.rows = rows;
+        }
+    }
+}
@@ -58,6 +58,7 @@ import org.apache.calcite.rex.RexBuilder;
 import org.apache.calcite.rex.RexCorrelVariable;
 import org.apache.calcite.rex.RexDynamicParam;
 import org.apache.calcite.rex.RexFieldAccess;
+import org.apache.calcite.rex.RexInputRef;
 import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.rex.RexProgram;
@@ -265,6 +266,15 @@ public class ExpressionFactoryImpl<RowT> implements ExpressionFactory<RowT> {
     /** {@inheritDoc} */
     @Override
     public Function<RowT, RowT> project(List<RexNode> projects, RelDataType rowType) {
+        if (projects.stream().allMatch(RexInputRef.class::isInstance)) {
+            // Projection only picks the fields of the input row, thus there is no need to evaluate (and deserialize) them.
+            int[] mapping = projects.stream().mapToInt(node -> ((RexInputRef) node).getIndex()).toArray();
+
+            RowHandler<RowT> handler = ctx.rowHandler();
+
+            return row -> handler.map(row, mapping);
+        }
+
         RowSchema rowSchema = TypeUtils.rowSchemaFromRelTypes(RexUtil.types(projects));
 
         return new ProjectImpl(scalar(projects, rowType), ctx.rowHandler().factory(rowSchema));
@@ -0,0 +1,697 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.exec.exp.agg;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.row.RowSchema;
+import org.apache.ignite.internal.sql.engine.exec.row.RowSchemaTypes;
+import org.apache.ignite.internal.sql.engine.exec.row.TypeSpec;
+import org.apache.ignite.internal.type.NativeType;
+import org.apache.ignite.internal.type.NativeTypeSpec;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Hash table of aggregation groups.
+ *
+ * <p>All the implementations are backed by open addressing hash maps. Grouping by a single {@code INT} or
+ * {@code BIGINT} column uses primitive {@code long} keys, grouping by a single {@code UUID} column uses pairs of
+ * primitive {@code long} keys, grouping by any other single column uses the column value as a key, so none of them
+ * allocates a {@link GroupKey} per input row. Only grouping by several columns falls back to {@link GroupKey}.
+ *
+ * <p>Accumulators of a group stay objects of {@link AggregateRow}: they are provided by {@link Accumulator}
+ * implementations of arbitrary SQL types and functions, which keep their state in their own fields.
+ *
+ * <p>Groups are consumed with a cursor: {@link #advance()} moves to the next group and removes it from the table.
+ */
+public abstract class AggregateHashTable<RowT> {
+    /** Indexes of grouping columns in the input row. */
+    protected final int[] keyFields;
+
+    private AggregateHashTable(int[] keyFields) {
+        this.keyFields = keyFields;
+    }
+
+    /**
+     * Creates a hash table for the given grouping set.
+     *
+     * @param grpFields Grouping columns.
+     * @param inputSchema Schema of input rows, or {@code null} if unknown.
+     * @param <RowT> Type of the sql row.
+     * @return Hash table.
+     */
+    public static <RowT> AggregateHashTable<RowT> create(ImmutableBitSet grpFields, @Nullable RowSchema inputSchema) {
+        int[] keyFields = grpFields.toArray();
+
+        if (keyFields.length == 0) {
+            return new NoKeyTable<>();
+        }
+
+        if (keyFields.length > 1) {
+            return new MultiKeyTable<>(keyFields);
+        }
+
+        NativeTypeSpec keyType = null;
+
+        if (inputSchema != null) {
+            List<TypeSpec> fields = inputSchema.fields();
+            NativeType nativeType = keyFields[0] < fields.size() ? RowSchemaTypes.toNativeType(fields.get(keyFields[0])) : null;
+
+            keyType = nativeType == null ? null : nativeType.spec();
+        }
+
+        if (keyType == NativeTypeSpec.INT32 || keyType == NativeTypeSpec.INT64) {
+            return new LongKeyTable<>(keyFields, keyType == NativeTypeSpec.INT32);
+        }
+
+        if (keyType == NativeTypeSpec.UUID) {
+            return new UuidKeyTable<>(keyFields);
+        }
+
+        return new SingleKeyTable<>(keyFields);
+    }
+
+    /** Returns a group the given row belongs to, or {@code null} if there is no such group yet. */
+    public abstract @Nullable AggregateRow<RowT> get(RowHandler<RowT> handler, RowT row);
+
+    /** Adds a group for the key of the given row. */
+    public abstract void put(RowHandler<RowT> handler, RowT row, AggregateRow<RowT> group);
+
+    /** Returns hash code of the grouping key of the given row. */
+    public abstract int keyHash(RowHandler<RowT> handler, RowT row);
+
+    /** Returns number of groups. */
+    public abstract int size();
+
+    /** Returns {@code true} if there are no groups. */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /** Removes all the groups and resets the cursor. */
+    public abstract void clear();
+
+    /**
+     * Moves the cursor to the next group and removes that group from the table.
+     *
+     * @return {@code false} if there are no more groups.
+     */
+    public abstract boolean advance();
+
+    /** Returns {@code idx}-th grouping field of the current group. */
+    public abstract @Nullable Object keyField(int idx);
+
+    /** Returns accumulators of the current group. */
+    public abstract AggregateRow<RowT> group();
+
+    /**
+     * Table without grouping columns, which contains at most one group.
+     */
+    public static class NoKeyTable<RowT> extends AggregateHashTable<RowT> {
+        private @Nullable AggregateRow<RowT> group;
+
+        private @Nullable AggregateRow<RowT> current;
+
+        NoKeyTable() {
+            super(new int[0]);
+        }
+
+        @Override
+        public @Nullable AggregateRow<RowT> get(RowHandler<RowT> handler, RowT row) {
+            return group;
+        }
+
+        @Override
+        public void put(RowHandler<RowT> handler, RowT row, AggregateRow<RowT> group) {
+            putEmptyGroup(group);
+        }
+
+        /** Adds the only group, which doesn't depend on input rows. */
+        public void putEmptyGroup(AggregateRow<RowT> group) {
+            assert this.group == null;
+
+            this.group = group;
+        }
+
+        @Override
+        public int keyHash(RowHandler<RowT> handler, RowT row) {
+            return 0;
+        }
+
+        @Override
+        public int size() {
+            return group == null ? 0 : 1;
+        }
+
+        @Override
+        public void clear() {
+            group = null;
+            current = null;
+        }
+
+        @Override
+        public boolean advance() {
+            current = group;
+            group = null;
+
+            return current != null;
+        }
+
+        @Override
+        public @Nullable Object keyField(int idx) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        @Override
+        public AggregateRow<RowT> group() {
+            assert current != null;
+
+            return current;
+        }
+    }
+
+    /**
+     * Table for a single {@code INT} or {@code BIGINT} grouping column.
+     */
+    private static class LongKeyTable<RowT> extends AggregateHashTable<RowT> {
+        private final Long2ObjectOpenHashMap<AggregateRow<RowT>> groups = new Long2ObjectOpenHashMap<>();
+
+        private final boolean intKey;
+
+        private @Nullable AggregateRow<RowT> nullGroup;
+
+        private @Nullable ObjectIterator<Long2ObjectMap.Entry<AggregateRow<RowT>>> it;
+
+        private long currentKey;
+
+        private boolean currentIsNull;
+
+        private @Nullable AggregateRow<RowT> current;
+
+        LongKeyTable(int[] keyFields, boolean intKey) {
+            super(keyFields);
+
+            this.intKey = intKey;
+        }
+
+        @Override
+        public @Nullable AggregateRow<RowT> get(RowHandler<RowT> handler, RowT row) {
+            Object key = handler.get(keyFields[0], row);
+
+            return key == null ? nullGroup : groups.get(((Number) key).longValue());
+        }
+
+        @Override
+        public void put(RowHandler<RowT> handler, RowT row, AggregateRow<RowT> group) {
+            Object key = handler.get(keyFields[0], row);
+
+            if (key == null) {
+                nullGroup = group;
+            } else {
+                groups.put(((Number) key).longValue(), group);
+            }
+        }
+
+        @Override
+        public int keyHash(RowHandler<RowT> handler, RowT row) {
+            Object key = handler.get(keyFields[0], row);
+
+            return key == null ? 0 : Long.hashCode(((Number) key).longValue());
+        }
+
+        @Override
+        public int size() {
+            return groups.size() + (nullGroup == null ? 0 : 1);
+        }
+
+        @Override
+        public void clear() {
+            groups.clear();
+            nullGroup = null;
+            it = null;
+            current = null;
+        }
+
+        @Override
+        public boolean advance() {
+            if (nullGroup != null) {
+                current = nullGroup;
+                currentIsNull = true;
+                nullGroup = null;
+
+                return true;
+            }
+
+            currentIsNull = false;
+
+            if (it == null) {
+                it = groups.long2ObjectEntrySet().fastIterator();
+            }
+
+            if (!it.hasNext()) {
+                current = null;
+                it = null;
+
+                return false;
+            }
+
+            Long2ObjectMap.Entry<AggregateRow<RowT>> entry = it.next();
+
+            currentKey = entry.getLongKey();
+            current = entry.getValue();
+
+            it.remove();
+
+            return true;
+        }
+
+        @Override
+        public @Nullable Object keyField(int idx) {
+            assert idx == 0 && current != null;
+
+            if (currentIsNull) {
+                return null;
+            }
+
+            return intKey ? (Object) (int) currentKey : (Object) currentKey;
+        }
+
+        @Override
+        public AggregateRow<RowT> group() {
+            assert current != null;
+
+            return current;
+        }
+    }
+
+    /**
+     * Table for a single {@code UUID} grouping column. Keys are kept in open addressing arrays of the most and the least
+     * significant bits, so neither a lookup nor an insertion allocates, and the keys of input rows are not retained.
+     *
+     * <p>The cursor removes groups lazily, so once {@link #advance()} has been called, the table may only be consumed
+     * until it is empty or cleared.
+     */
+    private static class UuidKeyTable<RowT> extends AggregateHashTable<RowT> {
+        /** Initial number of slots, must be a power of two. */
+        private static final int INITIAL_CAPACITY = 16;
+
+        /** Most significant bits of the keys by slot. */
+        private long[] msbs;
+
+        /** Least significant bits of the keys by slot. */
+        private long[] lsbs;
+
+        /** Groups by slot, {@code null} marks a free slot. */
+        private AggregateRow<RowT>[] slots;
+
+        /** Number of groups in the slots. */
+        private int size;
+
+        private @Nullable AggregateRow<RowT> nullGroup;
+
+        /** Next slot to be visited by the cursor, or {@code -1} if the groups are not being consumed. */
+        private int cursor = -1;
+
+        private @Nullable UUID currentKey;
+
+        private @Nullable AggregateRow<RowT> current;
+
+        UuidKeyTable(int[] keyFields) {
+            super(keyFields);
+
+            allocate(INITIAL_CAPACITY);
+        }
+
+        @Override
+        public @Nullable AggregateRow<RowT> get(RowHandler<RowT> handler, RowT row) {
+            assert cursor < 0 : "The table is being consumed";
+
+            UUID key = (UUID) handler.get(keyFields[0], row);
+
+            if (key == null) {
+                return nullGroup;
+            }
+
+            long msb = key.getMostSignificantBits();
+            long lsb = key.getLeastSignificantBits();
+
+            int mask = slots.length - 1;
+
+            for (int i = hash(msb, lsb) & mask; ; i = (i + 1) & mask) {
+                AggregateRow<RowT> group = slots[i];
+
+                if (group == null || (msbs[i] == msb && lsbs[i] == lsb)) {
+                    return group;
+                }
+            }
+        }
+
+        @Override
+        public void put(RowHandler<RowT> handler, RowT row, AggregateRow<RowT> group) {
+            assert cursor < 0 : "The table is being consumed";
+
+            UUID key = (UUID) handler.get(keyFields[0], row);
+
+            if (key == null) {
+                nullGroup = group;
+
+                return;
+            }
+
+            // Keeps the load factor under 0.75.
+            if ((size + 1) * 4L > slots.length * 3L) {
+                rehash(slots.length << 1);
+            }
+
+            if (insert(key.getMostSignificantBits(), key.getLeastSignificantBits(), group)) {
+                size++;
+            }
+        }
+
+        @Override
+        public int keyHash(RowHandler<RowT> handler, RowT row) {
+            return Objects.hashCode(handler.get(keyFields[0], row));
+        }
+
+        @Override
+        public int size() {
+            return size + (nullGroup == null ? 0 : 1);
+        }
+
+        @Override
+        public void clear() {
+            allocate(INITIAL_CAPACITY);
+
+            size = 0;
+            nullGroup = null;
+            cursor = -1;
+            current = null;
+            currentKey = null;
+        }
+
+        @Override
+        public boolean advance() {
+            if (nullGroup != null) {
+                current = nullGroup;
+                currentKey = null;
+                nullGroup = null;
+
+                return true;
+            }
+
+            if (size == 0) {
+                cursor = -1;
+                current = null;
+                currentKey = null;
+
+                return false;
+            }
+
+            int idx = Math.max(cursor, 0);
+
+            while (slots[idx] == null) {
+                idx++;
+            }
+
+            current = slots[idx];
+            currentKey = new UUID(msbs[idx], lsbs[idx]);
+
+            slots[idx] = null;
+            size--;
+
+            // Once the table is empty, all the slots are free and it may be filled again.
+            cursor = size == 0 ? -1 : idx + 1;
+
+            return true;
+        }
+
+        @Override
+        public @Nullable Object keyField(int idx) {
+            assert idx == 0 && current != null;
+
+            return currentKey;
+        }
+
+        @Override
+        public AggregateRow<RowT> group() {
+            assert current != null;
+
+            return current;
+        }
+
+        /**
+         * Puts a group into the slots.
+         *
+         * @return {@code true} if a new slot has been taken, {@code false} if the group of the key has been replaced.
+         */
+        private boolean insert(long msb, long lsb, AggregateRow<RowT> group) {
+            int mask = slots.length - 1;
+
+            for (int i = hash(msb, lsb) & mask; ; i = (i + 1) & mask) {
+                if (slots[i] == null) {
+                    msbs[i] = msb;
+                    lsbs[i] = lsb;
+                    slots[i] = group;
+
+                    return true;
+                }
+
+                if (msbs[i] == msb && lsbs[i] == lsb) {
+                    slots[i] = group;
+
+                    return false;
+                }
+            }
+        }
+
+        private void rehash(int capacity) {
+            long[] oldMsbs = msbs;
+            long[] oldLsbs = lsbs;
+            AggregateRow<RowT>[] oldSlots = slots;
+
+            allocate(capacity);
+
+            for (int i = 0; i < oldSlots.length; i++) {
+                if (oldSlots[i] != null) {
+                    insert(oldMsbs[i], oldLsbs[i], oldSlots[i]);
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void allocate(int capacity) {
+            msbs = new long[capacity];
+            lsbs = new long[capacity];
+            slots = (AggregateRow<RowT>[]) new AggregateRow[capacity];
+        }
+
+        private static int hash(long msb, long lsb) {
+            return (int) HashCommon.mix(msb ^ lsb);
+        }
+    }
+
+    /**
+     * Table for a single grouping column of any type.
+     */
+    private static class SingleKeyTable<RowT> extends AggregateHashTable<RowT> {
+        private final Object2ObjectOpenHashMap<Object, AggregateRow<RowT>> groups = new Object2ObjectOpenHashMap<>();
+
+        private @Nullable ObjectIterator<Object2ObjectMap.Entry<Object, AggregateRow<RowT>>> it;
+
+        private @Nullable Object currentKey;
+
+        private @Nullable AggregateRow<RowT> current;
+
+        SingleKeyTable(int[] keyFields) {
+            super(keyFields);
+        }
+
+        @Override
+        public @Nullable AggregateRow<RowT> get(RowHandler<RowT> handler, RowT row) {
+            return groups.get(handler.get(keyFields[0], row));
+        }
+
+        @Override
+        public void put(RowHandler<RowT> handler, RowT row, AggregateRow<RowT> group) {
+            groups.put(handler.get(keyFields[0], row), group);
+        }
+
+        @Override
+        public int keyHash(RowHandler<RowT> handler, RowT row) {
+            return Objects.hashCode(handler.get(keyFields[0], row));
+        }
+
+        @Override
+        public int size() {
+            return groups.size();
+        }
+
+        @Override
+        public void clear() {
+            groups.clear();
+            it = null;
+            current = null;
+            currentKey = null;
+        }
+
+        @Override
+        public boolean advance() {
+            if (it == null) {
+                it = groups.object2ObjectEntrySet().fastIterator();
+            }
+
+            if (!it.hasNext()) {
+                it = null;
+                current = null;
+                currentKey = null;
+
+                return false;
+            }
+
+            Object2ObjectMap.Entry<Object, AggregateRow<RowT>> entry = it.next();
+
+            currentKey = entry.getKey();
+            current = entry.getValue();
+
+            it.remove();
+
+            return true;
+        }
+
+        @Override
+        public @Nullable Object keyField(int idx) {
+            assert idx == 0 && current != null;
+
+            return currentKey;
+        }
+
+        @Override
+        public AggregateRow<RowT> group() {
+            assert current != null;
+
+            return current;
+        }
+    }
+
+    /**
+     * Table for several grouping columns.
+     */
+    private static class MultiKeyTable<RowT> extends AggregateHashTable<RowT> {
+        private final Object2ObjectOpenHashMap<GroupKey, AggregateRow<RowT>> groups = new Object2ObjectOpenHashMap<>();
+
+        private @Nullable ObjectIterator<Object2ObjectMap.Entry<GroupKey, AggregateRow<RowT>>> it;
+
+        private @Nullable GroupKey currentKey;
+
+        private @Nullable AggregateRow<RowT> current;
+
+        MultiKeyTable(int[] keyFields) {
+            super(keyFields);
+        }
+
+        @Override
+        public @Nullable AggregateRow<RowT> get(RowHandler<RowT> handler, RowT row) {
+            return groups.get(key(handler, row));
+        }
+
+        @Override
+        public void put(RowHandler<RowT> handler, RowT row, AggregateRow<RowT> group) {
+            groups.put(key(handler, row), group);
+        }
+
+        @Override
+        public int keyHash(RowHandler<RowT> handler, RowT row) {
+            int hash = 1;
+
+            for (int field : keyFields) {
+                hash = 31 * hash + Objects.hashCode(handler.get(field, row));
+            }
+
+            return hash;
+        }
+
+        @Override
+        public int size() {
+            return groups.size();
+        }
+
+        @Override
+        public void clear() {
+            groups.clear();
+            it = null;
+            current = null;
+            currentKey = null;
+        }
+
+        @Override
+        public boolean advance() {
+            if (it == null) {
+                it = groups.object2ObjectEntrySet().fastIterator();
+            }
+
+            if (!it.hasNext()) {
+                it = null;
+                current = null;
+                currentKey = null;
+
+                return false;
+            }
+
+            Object2ObjectMap.Entry<GroupKey, AggregateRow<RowT>> entry = it.next();
+
+            currentKey = entry.getKey();
+            current = entry.getValue();
+
+            it.remove();
+
+            return true;
+        }
+
+        @Override
+        public @Nullable Object keyField(int idx) {
+            assert currentKey != null;
+
+            return currentKey.field(idx);
+        }
+
+        @Override
+        public AggregateRow<RowT> group() {
+            assert current != null;
+
+            return current;
+        }
+
+        private GroupKey key(RowHandler<RowT> handler, RowT row) {
+            GroupKey.Builder b = GroupKey.builder(keyFields.length);
+
+            for (int field : keyFields) {
+                b.add(handler.get(field, row));
+            }
+
+            return b.build();
+        }
+    }
+}
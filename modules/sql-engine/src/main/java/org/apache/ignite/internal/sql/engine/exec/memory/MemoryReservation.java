@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.memory;
+
+/**
+ * Memory held by a single operator of a query fragment.
+ *
+ * <p>To keep the overhead of accounting low, the memory is reserved in the query tracker by chunks of {@link #CHUNK_SIZE}
+ * bytes, so most of the calls only update a local counter.
+ *
+ * <p>The class is not thread-safe and is supposed to be used by the thread executing the fragment.
+ */
+public class MemoryReservation {
+    /** Granularity of reservations made in the query tracker. */
+    static final long CHUNK_SIZE = 64 * 1024;
+
+    private final MemoryTracker tracker;
+
+    /** Amount of memory in use by the operator. */
+    private long used;
+
+    /** Amount of memory reserved in the tracker. Never less than {@link #used}. */
+    private long reserved;
+
+    /**
+     * Constructor.
+     *
+     * @param tracker Query memory tracker.
+     */
+    public MemoryReservation(MemoryTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    /**
+     * Accounts the given amount of memory as used by the operator.
+     *
+     * @param bytes Amount of memory in bytes.
+     * @throws org.apache.ignite.sql.SqlException If the reservation exceeds the memory quota.
+     */
+    public void reserve(long bytes) {
+        assert bytes >= 0 : bytes;
+
+        long newUsed = used + bytes;
+
+        if (newUsed > reserved) {
+            long chunk = (newUsed - reserved + CHUNK_SIZE - 1) / CHUNK_SIZE * CHUNK_SIZE;
+
+            tracker.reserve(chunk);
+
+            reserved += chunk;
+        }
+
+        used = newUsed;
+    }
+
+    /**
+     * Accounts the given amount of memory as no longer used by the operator.
+     *
+     * @param bytes Amount of memory in bytes.
+     */
+    public void release(long bytes) {
+        assert bytes >= 0 : bytes;
+
+        used = Math.max(0, used - bytes);
+
+        // One spare chunk is kept to not bounce on the boundary.
+        long excess = (reserved - used) / CHUNK_SIZE * CHUNK_SIZE - CHUNK_SIZE;
+
+        if (excess > 0) {
+            tracker.release(excess);
+
+            reserved -= excess;
+        }
+    }
+
+    /** Releases all the memory reserved by the operator. */
+    public void releaseAll() {
+        if (reserved > 0) {
+            tracker.release(reserved);
+        }
+
+        used = 0;
+        reserved = 0;
+    }
+
+    /** Returns amount of memory in bytes in use by the operator. */
+    public long used() {
+        return used;
+    }
+
+    /** Returns amount of memory in bytes reserved in the query tracker. */
+    public long reserved() {
+        return reserved;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.memory;
+
+/**
+ * Tracker of the heap memory held by a query.
+ */
+public interface MemoryTracker {
+    /** Tracker which accepts any reservation. */
+    MemoryTracker NOOP = new MemoryTracker() {
+        @Override
+        public void reserve(long bytes) {
+            // No-op.
+        }
+
+        @Override
+        public void release(long bytes) {
+            // No-op.
+        }
+    };
+
+    /**
+     * Reserves the given amount of memory.
+     *
+     * @param bytes Amount of memory in bytes.
+     * @throws org.apache.ignite.sql.SqlException If the reservation exceeds the memory quota.
+     */
+    void reserve(long bytes);
+
+    /**
+     * Releases the given amount of memory previously reserved by {@link #reserve(long)}.
+     *
+     * @param bytes Amount of memory in bytes.
+     */
+    void release(long bytes);
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.memory;
+
+import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
+import static org.apache.ignite.internal.type.NativeTypes.INT64;
+import static org.apache.ignite.internal.type.NativeTypes.STRING;
+import static org.apache.ignite.lang.ErrorGroups.Sql.EXECUTION_CANCELLED_ERR;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.apache.ignite.internal.sql.engine.exec.LifecycleAware;
+import org.apache.ignite.internal.sql.metrics.SqlMemoryMetricSource;
+import org.apache.ignite.internal.systemview.api.SystemView;
+import org.apache.ignite.internal.systemview.api.SystemViewProvider;
+import org.apache.ignite.internal.systemview.api.SystemViews;
+import org.apache.ignite.internal.util.SubscriptionUtils;
+import org.apache.ignite.sql.SqlException;
+
+/**
+ * Accounts the heap memory held by the queries running on the local node.
+ *
+ * <p>Every query gets a {@link QueryMemoryTracker}, which limits the memory all its fragments on this node may reserve by
+ * the per-query quota, while reservations of all the queries together are limited by the per-node quota. A query is not
+ * admitted to the node if the node quota is already exhausted by other queries.
+ *
+ * <p>Current reservations are exposed through the {@code QUERY_MEMORY} system view and the {@link SqlMemoryMetricSource}.
+ */
+public class QueryMemoryManager implements LifecycleAware, SystemViewProvider {
+    public static final String VIEW_NAME = "QUERY_MEMORY";
+
+    private final LongSupplier queryQuota;
+
+    private final LongSupplier nodeQuota;
+
+    private final SqlMemoryMetricSource metricSource;
+
+    private final Map<UUID, QueryMemoryTracker> trackers = new ConcurrentHashMap<>();
+
+    private final AtomicLong reserved = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param queryQuota Supplier of amount of memory in bytes a single query may reserve on the node.
+     * @param nodeQuota Supplier of amount of memory in bytes all the queries may reserve on the node.
+     */
+    public QueryMemoryManager(LongSupplier queryQuota, LongSupplier nodeQuota) {
+        this.queryQuota = queryQuota;
+        this.nodeQuota = nodeQuota;
+
+        metricSource = new SqlMemoryMetricSource(reserved::get, trackers::size);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop() {
+        trackers.values().forEach(QueryMemoryTracker::close);
+    }
+
+    /** Returns source of the memory metrics. */
+    public SqlMemoryMetricSource metricSource() {
+        return metricSource;
+    }
+
+    /**
+     * Admits the query to the node and returns its memory tracker. Returns the existing tracker if the query is already
+     * admitted.
+     *
+     * @param queryId ID of the query.
+     * @return Memory tracker of the query.
+     * @throws SqlException If the query is rejected because the node memory quota is exhausted.
+     */
+    public QueryMemoryTracker register(UUID queryId) {
+        QueryMemoryTracker tracker = trackers.get(queryId);
+
+        if (tracker != null) {
+            return tracker;
+        }
+
+        long quota = nodeQuota.getAsLong();
+        long nodeReserved = reserved.get();
+
+        if (nodeReserved >= quota) {
+            metricSource.onQueryRejected();
+
+            throw new SqlException(EXECUTION_CANCELLED_ERR, format(
+                    "Query was rejected because the node memory quota is exhausted [queryId={}, reserved={}, quota={}].",
+                    queryId, nodeReserved, quota
+            ));
+        }
+
+        return trackers.computeIfAbsent(queryId, id -> new QueryMemoryTracker(this, id, queryQuota.getAsLong()));
+    }
+
+    /** Returns amount of memory in bytes reserved by all the queries on the node. */
+    public long reserved() {
+        return reserved.get();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<SystemView<?>> systemViews() {
+        return List.of(SystemViews.<QueryMemoryTracker>nodeViewBuilder()
+                .name(VIEW_NAME)
+                .nodeNameColumnAlias("NODE_NAME")
+                .addColumn("QUERY_ID", STRING, tracker -> tracker.queryId().toString())
+                .addColumn("RESERVED_BYTES", INT64, QueryMemoryTracker::reserved)
+                .addColumn("PEAK_BYTES", INT64, QueryMemoryTracker::peak)
+                .addColumn("QUOTA_BYTES", INT64, QueryMemoryTracker::quota)
+                .dataProvider(SubscriptionUtils.fromIterable(trackers.values()))
+                .build());
+    }
+
+    void reserve(UUID queryId, long bytes) {
+        long quota = nodeQuota.getAsLong();
+
+        // Never goes over the quota even for a moment, so that concurrent reservations and admissions aren't rejected in vain.
+        long nodeReserved = reserved.getAndUpdate(r -> r + bytes > quota ? r : r + bytes);
+
+        if (nodeReserved + bytes > quota) {
+            metricSource.onQuotaExceeded();
+
+            throw new SqlException(EXECUTION_CANCELLED_ERR, format(
+                    "Query exceeded the node memory quota [queryId={}, reserved={}, requested={}, quota={}].",
+                    queryId, nodeReserved, bytes, quota
+            ));
+        }
+    }
+
+    void release(long bytes) {
+        reserved.addAndGet(-bytes);
+    }
+
+    void unregister(QueryMemoryTracker tracker) {
+        trackers.remove(tracker.queryId(), tracker);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.memory;
+
+import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
+import static org.apache.ignite.lang.ErrorGroups.Sql.EXECUTION_CANCELLED_ERR;
+
+import java.util.UUID;
+import org.apache.ignite.sql.SqlException;
+
+/**
+ * Tracker of the memory reserved by all the fragments of a query running on the local node.
+ *
+ * @see QueryMemoryManager
+ */
+public class QueryMemoryTracker implements MemoryTracker {
+    private final QueryMemoryManager manager;
+
+    private final UUID queryId;
+
+    private final long quota;
+
+    private long reserved;
+
+    private long peak;
+
+    private boolean closed;
+
+    QueryMemoryTracker(QueryMemoryManager manager, UUID queryId, long quota) {
+        this.manager = manager;
+        this.queryId = queryId;
+        this.quota = quota;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void reserve(long bytes) {
+        if (closed) {
+            return;
+        }
+
+        if (reserved + bytes > quota) {
+            manager.metricSource().onQuotaExceeded();
+
+            throw new SqlException(EXECUTION_CANCELLED_ERR, format(
+                    "Query exceeded the memory quota [queryId={}, reserved={}, requested={}, quota={}].",
+                    queryId, reserved, bytes, quota
+            ));
+        }
+
+        manager.reserve(queryId, bytes);
+
+        reserved += bytes;
+        peak = Math.max(peak, reserved);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void release(long bytes) {
+        if (closed) {
+            return;
+        }
+
+        assert bytes <= reserved : "reserved=" + reserved + ", released=" + bytes;
+
+        reserved -= bytes;
+
+        manager.release(bytes);
+    }
+
+    /** Returns ID of the query. */
+    public UUID queryId() {
+        return queryId;
+    }
+
+    /** Returns amount of memory in bytes the query may reserve on the local node. */
+    public long quota() {
+        return quota;
+    }
+
+    /** Returns amount of memory in bytes currently reserved by the query. */
+    public synchronized long reserved() {
+        return reserved;
+    }
+
+    /** Returns maximal amount of memory in bytes reserved by the query so far. */
+    public synchronized long peak() {
+        return peak;
+    }
+
+    /**
+     * Returns the memory reserved by the query to the node and unregisters the tracker. Any reservation made after this call
+     * is ignored.
+     */
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        manager.release(reserved);
+        manager.unregister(this);
+
+        reserved = 0;
+    }
+}
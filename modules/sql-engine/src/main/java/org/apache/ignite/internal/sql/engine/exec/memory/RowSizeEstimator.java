@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.memory;
+
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+
+/**
+ * Estimates the on-heap size of rows by the size of their binary tuple representation, which is measured for every
+ * {@link #SAMPLE_INTERVAL}-th row only.
+ *
+ * @param <RowT> Type of the row.
+ */
+public class RowSizeEstimator<RowT> {
+    /** Every N-th row is measured to estimate an average row size. */
+    private static final int SAMPLE_INTERVAL = 64;
+
+    /** Rough estimation of the on-heap overhead of a row in addition to its serialized size. */
+    public static final int ROW_OVERHEAD = 48;
+
+    private final RowHandler<RowT> handler;
+
+    private final int rowOverhead;
+
+    private long rows;
+
+    private long sampledBytes;
+
+    private int samples;
+
+    /**
+     * Constructor.
+     *
+     * @param handler Row handler.
+     */
+    public RowSizeEstimator(RowHandler<RowT> handler) {
+        this(handler, ROW_OVERHEAD);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param handler Row handler.
+     * @param rowOverhead Estimation of the on-heap overhead of a row in addition to its serialized size.
+     */
+    public RowSizeEstimator(RowHandler<RowT> handler, int rowOverhead) {
+        this.handler = handler;
+        this.rowOverhead = rowOverhead;
+    }
+
+    /**
+     * Returns the estimated size of the given row.
+     *
+     * @param row Row.
+     * @return Size in bytes.
+     */
+    public long estimate(RowT row) {
+        if (rows++ % SAMPLE_INTERVAL == 0) {
+            sampledBytes += handler.toBinaryTuple(row).size();
+            samples++;
+        }
+
+        return average();
+    }
+
+    /**
+     * Returns the estimated size of a row without measuring any row.
+     *
+     * @return Size in bytes.
+     */
+    public long average() {
+        return samples == 0 ? rowOverhead : sampledBytes / samples + rowOverhead;
+    }
+
+    /** Forgets all the measured rows. */
+    public void reset() {
+        rows = 0;
+        sampledBytes = 0;
+        samples = 0;
+    }
+}
@@ -23,8 +23,10 @@ import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 import java.util.List;
 import org.apache.ignite.internal.sql.engine.QueryCancelledException;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.memory.MemoryReservation;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.util.IgniteUtils;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Abstract node of execution tree.
@@ -49,6 +51,8 @@ public abstract class AbstractNode<RowT> implements Node<RowT> {
 
     private List<Node<RowT>> sources;
 
+    private @Nullable MemoryReservation memoryReservation;
+
     /**
      * Constructor.
      * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
@@ -90,6 +94,10 @@ public abstract class AbstractNode<RowT> implements Node<RowT> {
 
         closeInternal();
 
+        if (memoryReservation != null) {
+            memoryReservation.releaseAll();
+        }
+
         if (!nullOrEmpty(sources())) {
             sources().forEach(Commons::closeQuiet);
         }
@@ -134,6 +142,18 @@ public abstract class AbstractNode<RowT> implements Node<RowT> {
 
     protected abstract void rewindInternal();
 
+    /**
+     * Returns memory held by this node, which is accounted in the query memory tracker. All the memory is released when the
+     * node is closed.
+     */
+    protected MemoryReservation memoryReservation() {
+        if (memoryReservation == null) {
+            memoryReservation = new MemoryReservation(ctx.memoryTracker());
+        }
+
+        return memoryReservation;
+    }
+
     /**
      * Get closed flag: {@code true} if the subtree is canceled.
      */
@@ -141,7 +161,12 @@ public abstract class AbstractNode<RowT> implements Node<RowT> {
         return closed;
     }
 
-    protected void checkState() throws Exception {
+    /**
+     * Checks that the query is not cancelled and, if assertions are enabled, that the node is used from a single thread.
+     *
+     * @throws QueryCancelledException If the query is cancelled.
+     */
+    public void checkState() throws Exception {
         if (context().isCancelled() || Thread.interrupted()) {
             throw new QueryCancelledException();
         }
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.LongSupplier;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+
+/**
+ * Adaptive credit window of an {@link Inbox} for a single remote source.
+ *
+ * <p>Credits are the batches requested from the remote source but not received yet. The window is sized to cover the observed
+ * delay between a request and the arrival of the batch at the rate the batches are consumed, so a fast consumer doesn't stall
+ * on the network, while a slow one doesn't pile up batches it can't process yet. The window is also bounded by
+ * {@link Commons#IO_IN_FLIGHT_BYTES} for the observed size of the batches to keep the memory held by the exchange bounded.
+ *
+ * <p>Not thread-safe, all methods must be called from the execution thread of the owning fragment.
+ */
+final class CreditWindow {
+    /** Weight of the new sample in the moving averages. */
+    private static final double ALPHA = 0.25;
+
+    private final int maxCredits;
+
+    private final long inFlightBytes;
+
+    private final LongSupplier clock;
+
+    /** Outstanding requests as pairs of the first requested batch id and the time the request was made. */
+    private final Deque<long[]> requests = new ArrayDeque<>();
+
+    private double rttNanos = -1;
+
+    private double consumeNanos = -1;
+
+    private double batchBytes = -1;
+
+    private long consumeStartNanos;
+
+    private int credits;
+
+    /**
+     * Constructor.
+     *
+     * @param initialCredits Amount of credits to start with until the first measurements are available.
+     */
+    CreditWindow(int initialCredits) {
+        this(initialCredits, Commons.IO_BATCH_MAX_COUNT, Commons.IO_IN_FLIGHT_BYTES, System::nanoTime);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param initialCredits Amount of credits to start with until the first measurements are available.
+     * @param maxCredits Upper bound on the amount of credits.
+     * @param inFlightBytes Budget in bytes for the batches in flight.
+     * @param clock Source of the monotonic time in nanoseconds.
+     */
+    CreditWindow(int initialCredits, int maxCredits, long inFlightBytes, LongSupplier clock) {
+        assert initialCredits > 0 && maxCredits >= initialCredits : "initial=" + initialCredits + ", max=" + maxCredits;
+
+        this.credits = initialCredits;
+        this.maxCredits = maxCredits;
+        this.inFlightBytes = inFlightBytes;
+        this.clock = clock;
+    }
+
+    /** Returns the amount of batches which may be in flight at once. */
+    int credits() {
+        return credits;
+    }
+
+    /**
+     * Notifies the window that new batches were requested.
+     *
+     * @param firstBatchId Identifier of the first requested batch.
+     */
+    void onRequested(int firstBatchId) {
+        requests.add(new long[] {firstBatchId, clock.getAsLong()});
+    }
+
+    /**
+     * Notifies the window that a batch was received.
+     *
+     * @param batchId Identifier of the batch.
+     * @param bytes Size of the batch in bytes.
+     */
+    void onReceived(int batchId, long bytes) {
+        long now = clock.getAsLong();
+
+        while (!requests.isEmpty() && requests.peek()[0] <= batchId) {
+            long[] request = requests.poll();
+
+            if (request[0] == batchId) {
+                rttNanos = average(rttNanos, now - request[1]);
+            }
+        }
+
+        batchBytes = average(batchBytes, bytes);
+
+        recalculate();
+    }
+
+    /** Notifies the window that the consumer started to drain the next batch. */
+    void onBatchStarted() {
+        consumeStartNanos = clock.getAsLong();
+    }
+
+    /** Notifies the window that the consumer has drained the current batch. */
+    void onBatchDrained() {
+        consumeNanos = average(consumeNanos, Math.max(clock.getAsLong() - consumeStartNanos, 1));
+
+        recalculate();
+    }
+
+    /** Forgets outstanding requests, but keeps the measurements, since the next iteration will most probably behave the same. */
+    void reset() {
+        requests.clear();
+    }
+
+    private void recalculate() {
+        int limit = maxCredits;
+
+        if (batchBytes > 0) {
+            limit = (int) Math.min(maxCredits, inFlightBytes / batchBytes);
+        }
+
+        int target = credits;
+
+        if (rttNanos >= 0 && consumeNanos > 0) {
+            // Batches drained while the next request is in flight, plus the one being drained when the request was sent.
+            target = (int) Math.ceil(rttNanos / consumeNanos) + 1;
+        }
+
+        credits = Math.max(1, Math.min(limit, target));
+    }
+
+    private static double average(double avg, double sample) {
+        return avg < 0 ? sample : avg + ALPHA * (sample - avg);
+    }
+}
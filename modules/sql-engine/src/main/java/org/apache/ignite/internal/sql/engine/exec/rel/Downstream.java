@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.sql.engine.exec.rel;
 
+import java.util.List;
+
 /**
  * Represents an abstract data consumer.
  *
@@ -31,6 +33,33 @@ public interface Downstream<RowT> {
      */
     void push(RowT row) throws Exception;
 
+    /**
+     * Pushes a batch of rows to consumer. The batch must not be larger than the number of rows requested by the consumer
+     * and not pushed yet. The consumer must neither modify the batch nor keep it after the call returns.
+     *
+     * <p>A batch saves the per-row dispatch between the nodes, the consumer still processes the rows of the batch one by one.
+     *
+     * <p>Default implementation pushes the rows one by one.
+     *
+     * @param batch Data rows.
+     */
+    default void pushBatch(List<RowT> batch) throws Exception {
+        for (RowT row : batch) {
+            checkState();
+
+            push(row);
+        }
+    }
+
+    /**
+     * Checks that the consumer may go on processing rows.
+     *
+     * @throws Exception If the query is cancelled.
+     */
+    default void checkState() throws Exception {
+        // No-op.
+    }
+
     /**
      * Signals that data is over.
      */
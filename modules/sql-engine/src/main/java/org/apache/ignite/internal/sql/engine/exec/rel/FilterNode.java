@@ -20,7 +20,9 @@ package org.apache.ignite.internal.sql.engine.exec.rel;
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.List;
 import java.util.function.Predicate;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 
@@ -33,6 +35,9 @@ public class FilterNode<RowT> extends AbstractNode<RowT> implements SingleNode<R
 
     private final Deque<RowT> inBuf = new ArrayDeque<>(inBufSize);
 
+    /** Rows of a pushed batch that match the predicate, reused from batch to batch. */
+    private final List<RowT> selected = new ArrayList<>();
+
     private int requested;
 
     private int waiting;
@@ -84,6 +89,46 @@ public class FilterNode<RowT> extends AbstractNode<RowT> implements SingleNode<R
         filter();
     }
 
+    /**
+     * Pushes a batch of rows. The predicate is tested against every row of the batch, the rows that match it are forwarded as a single
+     * batch if nothing is buffered and downstream has requested enough rows.
+     */
+    @Override
+    public void pushBatch(List<RowT> batch) throws Exception {
+        assert downstream() != null;
+        assert waiting >= batch.size();
+
+        checkState();
+
+        waiting -= batch.size();
+
+        try {
+            for (RowT row : batch) {
+                if (pred.test(row)) {
+                    selected.add(row);
+                }
+            }
+
+            if (!selected.isEmpty() && inBuf.isEmpty() && selected.size() <= requested) {
+                // Nothing is buffered, so the selected rows go downstream as a whole.
+                requested -= selected.size();
+
+                inLoop = true;
+                try {
+                    downstream().pushBatch(selected);
+                } finally {
+                    inLoop = false;
+                }
+            } else {
+                inBuf.addAll(selected);
+            }
+        } finally {
+            selected.clear();
+        }
+
+        filter();
+    }
+
     /** {@inheritDoc} */
     @Override
     public void end() throws Exception {
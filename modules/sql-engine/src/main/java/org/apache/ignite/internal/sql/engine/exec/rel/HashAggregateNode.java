@@ -23,25 +23,49 @@ import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Iterator;
+import java.util.Deque;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Supplier;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AccumulatorWrapper;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateHashTable;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateRow;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType;
-import org.apache.ignite.internal.sql.engine.exec.exp.agg.GroupKey;
+import org.apache.ignite.internal.sql.engine.exec.memory.RowSizeEstimator;
+import org.apache.ignite.internal.sql.engine.exec.row.RowSchema;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillFile;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * HashAggregateNode.
  * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
+ *
+ * <p>Groups are kept in an {@link AggregateHashTable}. When a spill manager is provided and the estimated size of the
+ * groups exceeds the operator memory quota, the node performs a hybrid hash aggregation: the groups already in memory
+ * keep being updated, while input rows of the other groups are hash partitioned to spill files. After the in-memory
+ * groups are emitted, every partition is aggregated separately and may be partitioned further if it still does not fit.
  */
 public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, Downstream<RowT> {
+    /** Number of spill partitions a grouping is split into, must be a power of two. */
+    private static final int PARTITIONS = 16;
+
+    private static final int PARTITION_BITS = Integer.numberOfTrailingZeros(PARTITIONS);
+
+    /** Maximum number of times a partition can be split further. */
+    private static final int MAX_SPILL_LEVEL = 4;
+
+    /** Rough estimation of the on-heap overhead of a group in addition to its key size. */
+    private static final int GROUP_OVERHEAD = 64;
+
+    /** Rough estimation of the on-heap size of an accumulator. */
+    private static final int ACCUMULATOR_OVERHEAD = 32;
+
+    private static final String FILE_PREFIX = "agg";
+
     private final AggregateType type;
 
     /** May be {@code null} when there are not accumulators (DISTINCT aggregate node). */
@@ -49,6 +73,18 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
     private final RowFactory<RowT> rowFactory;
 
+    private final @Nullable SpillManager spillManager;
+
+    /** Schema of input rows, or {@code null} if unknown. */
+    private final @Nullable RowSchema inputSchema;
+
+    /** Factory to restore spilled input rows with. */
+    private final @Nullable RowFactory<RowT> inputRowFactory;
+
+    private final long memoryQuota;
+
+    private final int accCount;
+
     /** A bit set that contains fields included in all grouping sets. */
     private final ImmutableBitSet allFields;
 
@@ -68,11 +104,38 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
     public HashAggregateNode(
             ExecutionContext<RowT> ctx, AggregateType type, List<ImmutableBitSet> grpSets,
             Supplier<List<AccumulatorWrapper<RowT>>> accFactory, RowFactory<RowT> rowFactory) {
+        this(ctx, type, grpSets, accFactory, rowFactory, null, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param type Aggregate type.
+     * @param grpSets Grouping sets.
+     * @param accFactory Accumulators factory.
+     * @param rowFactory Output rows factory.
+     * @param inputSchema Schema of input rows, or {@code null} if unknown.
+     * @param spillManager Spill manager, or {@code null} if rows must never be spilled to disk. Requires the input
+     *         schema to be provided.
+     */
+    public HashAggregateNode(
+            ExecutionContext<RowT> ctx, AggregateType type, List<ImmutableBitSet> grpSets,
+            Supplier<List<AccumulatorWrapper<RowT>>> accFactory, RowFactory<RowT> rowFactory,
+            @Nullable RowSchema inputSchema, @Nullable SpillManager spillManager) {
         super(ctx);
 
+        assert spillManager == null || inputSchema != null;
+
         this.type = type;
         this.accFactory = accFactory;
         this.rowFactory = rowFactory;
+        this.inputSchema = inputSchema;
+        this.spillManager = spillManager;
+
+        inputRowFactory = inputSchema == null ? null : ctx.rowHandler().factory(inputSchema);
+        memoryQuota = spillManager == null ? Long.MAX_VALUE : spillManager.operatorMemoryQuota();
+        accCount = accFactory == null ? 0 : accFactory.get().size();
 
         assert grpSets.size() <= Byte.MAX_VALUE : "Too many grouping sets";
 
@@ -150,6 +213,14 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
         groupings.forEach(Grouping::reset);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void closeInternal() {
+        super.closeInternal();
+
+        groupings.forEach(Grouping::release);
+    }
+
     /** {@inheritDoc} */
     @Override
     protected Downstream<RowT> requestDownstream(int idx) {
@@ -215,32 +286,92 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
                 .collect(toCollection(ArrayDeque::new));
     }
 
+    /** Returns spill partition of a row with the given key hash on the given partitioning level. */
+    private static int partition(int hash, int level) {
+        // Spread the bits first, then every level takes the next group of the most significant bits.
+        int h = hash * 0x9E3779B9;
+
+        return (h >>> (Integer.SIZE - PARTITION_BITS * (level + 1))) & (PARTITIONS - 1);
+    }
+
+    /** Spilled partition of input rows. */
+    private static class SpilledPartition<RowT> {
+        private final SpillFile<RowT> file;
+
+        private final int level;
+
+        private SpilledPartition(SpillFile<RowT> file, int level) {
+            this.file = file;
+            this.level = level;
+        }
+    }
+
     private class Grouping {
         private final byte grpId;
 
         private final ImmutableBitSet grpFields;
 
-        private final Map<GroupKey, AggregateRow<RowT>> groups = new HashMap<>();
+        private final AggregateHashTable<RowT> groups;
+
+        /** Spilled partitions waiting to be aggregated. */
+        private final Deque<SpilledPartition<RowT>> pending = new ArrayDeque<>();
+
+        /** Partitions the rows of not yet known groups are spilled to, or {@code null} if the table is not full. */
+        private @Nullable SpillFile<RowT>[] partitions;
+
+        /** Partitioning level of the rows currently being aggregated. */
+        private int level;
+
+        /** Estimates the size of a group by the input row it is created for. */
+        private final RowSizeEstimator<RowT> rowSize;
+
+        /** Estimated size of the groups in memory. */
+        private long groupsSize;
 
         private Grouping(byte grpId, ImmutableBitSet grpFields) {
             this.grpId = grpId;
             this.grpFields = grpFields;
+
+            groups = AggregateHashTable.create(grpFields, inputSchema);
+            rowSize = new RowSizeEstimator<>(context().rowHandler(), GROUP_OVERHEAD + ACCUMULATOR_OVERHEAD * accCount);
         }
 
         private void init() {
             // Initializes aggregates for case when no any rows will be added into the aggregate to have 0 as result.
             // Doesn't do it for MAP type due to we don't want send from MAP node zero results because it looks redundant.
             if (AggregateRow.addEmptyGroup(grpFields, type)) {
-                groups.put(GroupKey.EMPTY_GRP_KEY, create());
+                // The empty group is added only when there are no grouping columns.
+                ((AggregateHashTable.NoKeyTable<RowT>) groups).putEmptyGroup(create());
             }
         }
 
         private void reset() {
-            groups.clear();
+            release();
 
             init();
         }
 
+        /** Removes all the groups and deletes spilled partitions. */
+        private void release() {
+            groups.clear();
+            releaseMemory();
+
+            if (partitions != null) {
+                for (SpillFile<RowT> file : partitions) {
+                    if (file != null) {
+                        file.delete();
+                    }
+                }
+
+                partitions = null;
+            }
+
+            pending.forEach(p -> p.file.delete());
+            pending.clear();
+
+            level = 0;
+        }
+
         private void add(RowT row) {
             RowHandler<RowT> handler = context().rowHandler();
 
@@ -248,18 +379,124 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
                 return;
             }
 
-            GroupKey.Builder b = GroupKey.builder(grpFields.cardinality());
+            addMatched(handler, row);
+        }
 
-            for (int field : grpFields) {
-                b.add(handler.get(field, row));
-            }
+        private void addMatched(RowHandler<RowT> handler, RowT row) {
+            AggregateRow<RowT> aggRow = groups.get(handler, row);
+
+            if (aggRow == null) {
+                if (partitions != null) {
+                    spill(handler, row);
+
+                    return;
+                }
 
-            GroupKey grpKey = b.build();
+                aggRow = create();
+
+                groups.put(handler, row, aggRow);
+
+                checkMemory(row);
+            }
 
-            AggregateRow<RowT> aggRow = groups.computeIfAbsent(grpKey, k -> create());
             aggRow.update(allFields, handler, row);
         }
 
+        /**
+         * Accounts memory of a new group and switches the grouping to spilling mode when the estimated size of the groups
+         * exceeds the memory quota. In spilling mode the groups already in memory keep being updated, while the rows of any
+         * other group are partitioned to disk and aggregated after the in-memory groups are emitted.
+         */
+        @SuppressWarnings("unchecked")
+        private void checkMemory(RowT row) {
+            int size = groups.size();
+
+            long groupSize = rowSize.estimate(row);
+
+            memoryReservation().reserve(groupSize);
+            groupsSize += groupSize;
+
+            if (spillManager == null || level >= MAX_SPILL_LEVEL || grpFields.isEmpty()) {
+                return;
+            }
+
+            if (size * groupSize >= memoryQuota) {
+                partitions = (SpillFile<RowT>[]) new SpillFile[PARTITIONS];
+            }
+        }
+
+        private void releaseMemory() {
+            memoryReservation().release(groupsSize);
+
+            groupsSize = 0;
+        }
+
+        private void spill(RowHandler<RowT> handler, RowT row) {
+            assert partitions != null;
+
+            int part = partition(groups.keyHash(handler, row), level);
+
+            SpillFile<RowT> file = partitions[part];
+
+            if (file == null) {
+                file = SpillFile.create(spillManager, context().queryId(), FILE_PREFIX, handler);
+
+                partitions[part] = file;
+            }
+
+            file.append(row);
+        }
+
+        /** Moves the spilled partitions of the current level to the queue of pending partitions. */
+        private void closePartitions() {
+            if (partitions == null) {
+                return;
+            }
+
+            for (SpillFile<RowT> file : partitions) {
+                if (file != null) {
+                    file.finish();
+
+                    pending.push(new SpilledPartition<>(file, level + 1));
+                }
+            }
+
+            partitions = null;
+        }
+
+        /**
+         * Aggregates the next spilled partition, if any, into the table.
+         *
+         * @return {@code true} if a partition has been loaded.
+         */
+        private boolean loadNextPartition() {
+            assert groups.isEmpty();
+
+            releaseMemory();
+
+            closePartitions();
+
+            SpilledPartition<RowT> next = pending.poll();
+
+            if (next == null) {
+                return false;
+            }
+
+            level = next.level;
+
+            RowHandler<RowT> handler = context().rowHandler();
+
+            try (SpillFile.Reader<RowT> reader = next.file.reader(inputRowFactory)) {
+                while (reader.hasNext()) {
+                    addMatched(handler, reader.next());
+                }
+            } finally {
+                next.file.delete();
+            }
+
+            return true;
+        }
+
         /**
          * Returns up to {@code cnt} rows collected by the given node group by group.
          *
@@ -267,16 +504,21 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
          * @return Actually sent rows number.
          */
         private List<RowT> getRows(int cnt) {
-            Iterator<Map.Entry<GroupKey, AggregateRow<RowT>>> it = groups.entrySet().iterator();
+            if (groups.isEmpty()) {
+                while (loadNextPartition() && groups.isEmpty()) {
+                    // Skip empty partitions.
+                }
+            }
 
             int rowNum = Math.min(cnt, groups.size());
             List<RowT> res = new ArrayList<>(rowNum);
 
             for (int i = 0; i < rowNum; i++) {
-                Map.Entry<GroupKey, AggregateRow<RowT>> entry = it.next();
+                boolean hasNext = groups.advance();
+
+                assert hasNext;
 
-                GroupKey grpKey = entry.getKey();
-                AggregateRow<RowT> aggRow = entry.getValue();
+                AggregateRow<RowT> aggRow = groups.group();
 
                 Object[] fields = aggRow.createOutput(allFields, grpId);
 
@@ -284,7 +526,7 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
                 int k = 0;
 
                 for (int field : allFields) {
-                    fields[j++] = grpFields.get(field) ? grpKey.field(k++) : null;
+                    fields[j++] = grpFields.get(field) ? groups.keyField(k++) : null;
                 }
 
                 aggRow.writeTo(fields, allFields, grpId);
@@ -292,7 +534,6 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
                 RowT row = rowFactory.create(fields);
 
                 res.add(row);
-                it.remove();
             }
 
             return res;
@@ -311,7 +552,7 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
         }
 
         private boolean isEmpty() {
-            return groups.isEmpty();
+            return groups.isEmpty() && partitions == null && pending.isEmpty();
         }
     }
 }
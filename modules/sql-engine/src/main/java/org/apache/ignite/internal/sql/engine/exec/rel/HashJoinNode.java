@@ -0,0 +1,869 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.ignite.internal.sql.engine.util.TypeUtils.rowSchemaFromRelTypes;
+import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.GroupKey;
+import org.apache.ignite.internal.sql.engine.exec.memory.RowSizeEstimator;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillFile;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillFile.Reader;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Equi-join node, which builds a hash table on the right input and probes it with the rows of the left input.
+ *
+ * <p>The right input is consumed completely before the first row of the left input is requested. Build rows are kept
+ * in a list, the table maps a join key to the index of the last row with such a key, and rows with equal keys are linked
+ * into a chain through an array of indexes. Thus, the table costs a couple of ints per build row on top of the rows.
+ *
+ * <p>If the estimated size of the build rows exceeds the {@link SpillManager#operatorMemoryQuota() memory quota}, the
+ * node switches to a grace hash join: the rows of both inputs are distributed among {@link #PARTITIONS} files by the hash
+ * of the join key, and every pair of the partitions is joined in memory afterwards. A partition which still doesn't fit
+ * into the quota is partitioned again by other bits of the hash, up to {@link #MAX_SPILL_LEVEL} times.
+ *
+ * @param <RowT> Type of the sql row.
+ */
+public class HashJoinNode<RowT> extends AbstractNode<RowT> {
+    /** Special value to highlights that all row were received and we are not waiting any more. */
+    private static final int NOT_WAITING = -1;
+
+    /** Index which terminates a chain of build rows. */
+    private static final int NO_ROW = -1;
+
+    /** Number of spill partitions, must be a power of 2. */
+    private static final int PARTITIONS = 16;
+
+    private static final int PARTITION_BITS = Integer.numberOfTrailingZeros(PARTITIONS);
+
+    /** Maximum number of times a partition is split further. A partition on the last level is joined in memory anyway. */
+    private static final int MAX_SPILL_LEVEL = 4;
+
+    /** Rough estimation of the on-heap overhead of a build row: the row itself, its key and the table entry. */
+    private static final int ROW_OVERHEAD = 80;
+
+    private static final String FILE_PREFIX = "join";
+
+    /** Key of the rows which have nulls in the key fields that are compared with IS NOT DISTINCT FROM. */
+    private static final Object NULL_KEY = new Object();
+
+    private final JoinRelType joinType;
+
+    private final RowHandler<RowT> handler;
+
+    private final int[] leftKeys;
+
+    private final int[] rightKeys;
+
+    /** Whether nulls are equal to each other for the key pair with the same index. */
+    private final boolean[] nullsEqual;
+
+    private final RowFactory<RowT> leftRowFactory;
+
+    private final RowFactory<RowT> rightRowFactory;
+
+    private final @Nullable SpillManager spillManager;
+
+    private final long memoryQuota;
+
+    private final List<RowT> buildRows = new ArrayList<>();
+
+    /** Index of the previous build row with the same key for every build row. */
+    private final IntArrayList chain = new IntArrayList();
+
+    /** Maps a join key to the index of the last build row with such a key. */
+    private final Object2IntOpenHashMap<Object> table = new Object2IntOpenHashMap<>();
+
+    /** Build rows matched so far, tracked for RIGHT and FULL joins only. */
+    private final @Nullable BitSet buildMatched;
+
+    private final Deque<RowT> leftInBuf = new ArrayDeque<>(inBufSize);
+
+    private final Deque<Partition<RowT>> pending = new ArrayDeque<>();
+
+    private final RowSizeEstimator<RowT> buildRowSize;
+
+    private int requested;
+
+    private int waitingLeft;
+
+    private int waitingRight;
+
+    private boolean inLoop;
+
+    /** Current probe row. */
+    private @Nullable RowT left;
+
+    /** Next build row matching the current probe row. */
+    private int matchIdx = NO_ROW;
+
+    /** Whether the current probe row has already matched any build row. */
+    private boolean leftMatched;
+
+    /** Next build row to check when emitting non-matched build rows. */
+    private int unmatchedIdx;
+
+    /** Partitions of the right input, or {@code null} if the build side fits into memory. */
+    private @Nullable List<SpillFile<RowT>> rightParts;
+
+    /** Partitions of the left input, or {@code null} if the build side fits into memory. */
+    private @Nullable List<SpillFile<RowT>> leftParts;
+
+    /** Spilled partition which is being joined now. */
+    private @Nullable Partition<RowT> current;
+
+    /** Reader of the left rows of the current partition. */
+    private @Nullable Reader<RowT> probeReader;
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param joinType Join type.
+     * @param leftKeys Key fields of the left input.
+     * @param rightKeys Key fields of the right input, matched to the left ones by position.
+     * @param nullsEqual Whether nulls are equal to each other for every key pair.
+     * @param leftRowFactory Row factory of the left input.
+     * @param rightRowFactory Row factory of the right input.
+     * @param spillManager Spill manager, or {@code null} if the rows must never be spilled.
+     */
+    private HashJoinNode(
+            ExecutionContext<RowT> ctx,
+            JoinRelType joinType,
+            int[] leftKeys,
+            int[] rightKeys,
+            boolean[] nullsEqual,
+            RowFactory<RowT> leftRowFactory,
+            RowFactory<RowT> rightRowFactory,
+            @Nullable SpillManager spillManager
+    ) {
+        super(ctx);
+
+        assert leftKeys.length > 0 && leftKeys.length == rightKeys.length && leftKeys.length == nullsEqual.length;
+
+        this.joinType = joinType;
+        this.leftKeys = leftKeys;
+        this.rightKeys = rightKeys;
+        this.nullsEqual = nullsEqual;
+        this.leftRowFactory = leftRowFactory;
+        this.rightRowFactory = rightRowFactory;
+        this.spillManager = spillManager;
+
+        handler = ctx.rowHandler();
+        buildRowSize = new RowSizeEstimator<>(handler, ROW_OVERHEAD);
+        memoryQuota = spillManager == null ? Long.MAX_VALUE : spillManager.operatorMemoryQuota();
+        buildMatched = joinType == JoinRelType.RIGHT || joinType == JoinRelType.FULL ? new BitSet() : null;
+
+        table.defaultReturnValue(NO_ROW);
+    }
+
+    /**
+     * Creates a hash join node.
+     *
+     * @param ctx Execution context.
+     * @param leftRowType Row type of the left input.
+     * @param rightRowType Row type of the right input.
+     * @param joinType Join type.
+     * @param leftKeys Key fields of the left input.
+     * @param rightKeys Key fields of the right input, matched to the left ones by position.
+     * @param nullCompAsEqual Left key fields, which nulls are equal to each other.
+     * @param spillManager Spill manager, or {@code null} if the rows must never be spilled.
+     * @param <RowT> Type of the sql row.
+     * @return Hash join node.
+     */
+    public static <RowT> HashJoinNode<RowT> create(
+            ExecutionContext<RowT> ctx,
+            RelDataType leftRowType,
+            RelDataType rightRowType,
+            JoinRelType joinType,
+            int[] leftKeys,
+            int[] rightKeys,
+            ImmutableBitSet nullCompAsEqual,
+            @Nullable SpillManager spillManager
+    ) {
+        boolean[] nullsEqual = new boolean[leftKeys.length];
+
+        for (int i = 0; i < leftKeys.length; i++) {
+            nullsEqual[i] = nullCompAsEqual.get(leftKeys[i]);
+        }
+
+        RowFactory<RowT> leftRowFactory = ctx.rowHandler().factory(
+                rowSchemaFromRelTypes(RelOptUtil.getFieldTypeList(leftRowType)));
+        RowFactory<RowT> rightRowFactory = ctx.rowHandler().factory(
+                rowSchemaFromRelTypes(RelOptUtil.getFieldTypeList(rightRowType)));
+
+        return new HashJoinNode<>(ctx, joinType, leftKeys, rightKeys, nullsEqual, leftRowFactory, rightRowFactory,
+                spillManager);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void request(int rowsCnt) throws Exception {
+        assert !nullOrEmpty(sources()) && sources().size() == 2;
+        assert rowsCnt > 0 && requested == 0;
+
+        checkState();
+
+        requested = rowsCnt;
+
+        if (!inLoop) {
+            context().execute(this::doJoin, this::onError);
+        }
+    }
+
+    private void doJoin() throws Exception {
+        checkState();
+
+        join();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void rewindInternal() {
+        requested = 0;
+        waitingLeft = 0;
+        waitingRight = 0;
+
+        leftInBuf.clear();
+
+        release();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void closeInternal() {
+        super.closeInternal();
+
+        release();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Downstream<RowT> requestDownstream(int idx) {
+        if (idx == 0) {
+            return new Downstream<>() {
+                /** {@inheritDoc} */
+                @Override
+                public void push(RowT row) throws Exception {
+                    pushLeft(row);
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void end() throws Exception {
+                    endLeft();
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void onError(Throwable e) {
+                    HashJoinNode.this.onError(e);
+                }
+            };
+        } else if (idx == 1) {
+            return new Downstream<>() {
+                /** {@inheritDoc} */
+                @Override
+                public void push(RowT row) throws Exception {
+                    pushRight(row);
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void end() throws Exception {
+                    endRight();
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void onError(Throwable e) {
+                    HashJoinNode.this.onError(e);
+                }
+            };
+        }
+
+        throw new IndexOutOfBoundsException();
+    }
+
+    private void pushLeft(RowT row) throws Exception {
+        assert downstream() != null;
+        assert waitingLeft > 0;
+
+        checkState();
+
+        waitingLeft--;
+
+        if (leftParts == null) {
+            leftInBuf.add(row);
+
+            join();
+
+            return;
+        }
+
+        Object key = key(row, leftKeys);
+
+        if (key != null || keepsNonMatchedLeft()) {
+            leftParts.get(partition(key, 0)).append(row);
+        }
+
+        if (waitingLeft == 0) {
+            leftSource().request(waitingLeft = inBufSize);
+        }
+    }
+
+    private void pushRight(RowT row) throws Exception {
+        assert downstream() != null;
+        assert waitingRight > 0;
+
+        checkState();
+
+        waitingRight--;
+
+        Object key = key(row, rightKeys);
+
+        if (key != null || buildMatched != null) {
+            if (rightParts == null) {
+                insert(row, key);
+
+                checkMemory();
+            } else {
+                rightParts.get(partition(key, 0)).append(row);
+            }
+        }
+
+        if (waitingRight == 0) {
+            rightSource().request(waitingRight = inBufSize);
+        }
+    }
+
+    private void endLeft() throws Exception {
+        assert downstream() != null;
+        assert waitingLeft > 0;
+
+        checkState();
+
+        waitingLeft = NOT_WAITING;
+
+        if (leftParts != null) {
+            assert rightParts != null;
+
+            for (int i = 0; i < PARTITIONS; i++) {
+                rightParts.get(i).finish();
+                leftParts.get(i).finish();
+
+                addPending(new Partition<>(rightParts.get(i), leftParts.get(i), 0), false);
+            }
+
+            rightParts = null;
+            leftParts = null;
+        }
+
+        join();
+    }
+
+    private void endRight() throws Exception {
+        assert downstream() != null;
+        assert waitingRight > 0;
+
+        checkState();
+
+        waitingRight = NOT_WAITING;
+
+        join();
+    }
+
+    private Node<RowT> leftSource() {
+        return sources().get(0);
+    }
+
+    private Node<RowT> rightSource() {
+        return sources().get(1);
+    }
+
+    private void join() throws Exception {
+        if (waitingRight != NOT_WAITING) {
+            if (waitingRight == 0) {
+                rightSource().request(waitingRight = inBufSize);
+            }
+
+            return;
+        }
+
+        if (waitingLeft != NOT_WAITING && leftParts != null) {
+            // Left rows are being partitioned, nothing can be joined until all of them are received.
+            if (waitingLeft == 0) {
+                leftSource().request(waitingLeft = inBufSize);
+            }
+
+            return;
+        }
+
+        boolean done;
+
+        inLoop = true;
+        try {
+            done = joinRows();
+        } finally {
+            inLoop = false;
+        }
+
+        if (waitingLeft == 0 && leftInBuf.isEmpty()) {
+            leftSource().request(waitingLeft = inBufSize);
+        }
+
+        if (done && requested > 0 && waitingLeft == NOT_WAITING && leftInBuf.isEmpty() && current == null
+                && pending.isEmpty()) {
+            requested = 0;
+            downstream().end();
+        }
+    }
+
+    /**
+     * Joins the available left rows, either the received ones or the ones of the spilled partitions.
+     *
+     * @return {@code true} if all the rows are joined, {@code false} if the join is paused until more rows are requested.
+     */
+    private boolean joinRows() throws Exception {
+        if (current == null && pending.isEmpty()) {
+            // The build side fits into memory, so left rows are probed as they arrive.
+            return probe() && (waitingLeft != NOT_WAITING || emitNonMatched());
+        }
+
+        while (requested > 0) {
+            if (current == null && !loadNextPartition()) {
+                return true;
+            }
+
+            if (!probe() || !emitNonMatched()) {
+                return false;
+            }
+
+            finishPartition();
+        }
+
+        return false;
+    }
+
+    /**
+     * Probes the table with the left rows until there are no more rows available.
+     *
+     * @return {@code true} if all the available rows are probed, {@code false} if the join is paused until more rows
+     *      are requested.
+     */
+    private boolean probe() throws Exception {
+        while (true) {
+            if (left == null) {
+                RowT row = nextLeft();
+
+                if (row == null) {
+                    return true;
+                }
+
+                left = row;
+                leftMatched = false;
+
+                Object key = key(row, leftKeys);
+
+                matchIdx = key == null ? NO_ROW : table.getInt(key);
+            }
+
+            if (!joinLeft(left)) {
+                return false;
+            }
+
+            left = null;
+        }
+    }
+
+    /**
+     * Emits the join result for the current probe row.
+     *
+     * @return {@code true} if the row is processed completely, {@code false} if it is paused until more rows are requested.
+     */
+    private boolean joinLeft(RowT row) throws Exception {
+        if (joinType == JoinRelType.SEMI || joinType == JoinRelType.ANTI) {
+            if ((matchIdx != NO_ROW) == (joinType == JoinRelType.SEMI)) {
+                if (requested == 0) {
+                    return false;
+                }
+
+                requested--;
+                downstream().push(row);
+            }
+
+            return true;
+        }
+
+        while (matchIdx != NO_ROW) {
+            if (requested == 0) {
+                return false;
+            }
+
+            checkState();
+
+            int idx = matchIdx;
+
+            matchIdx = chain.getInt(idx);
+            leftMatched = true;
+
+            if (buildMatched != null) {
+                buildMatched.set(idx);
+            }
+
+            requested--;
+            downstream().push(handler.concat(row, buildRows.get(idx)));
+        }
+
+        if (!leftMatched && keepsNonMatchedLeft()) {
+            if (requested == 0) {
+                return false;
+            }
+
+            leftMatched = true;
+
+            requested--;
+            downstream().push(handler.concat(row, rightRowFactory.create()));
+        }
+
+        return true;
+    }
+
+    /**
+     * Emits the build rows which have not matched any left row, if the join type requires so.
+     *
+     * @return {@code true} if all such rows are emitted, {@code false} if it is paused until more rows are requested.
+     */
+    private boolean emitNonMatched() throws Exception {
+        if (buildMatched == null) {
+            return true;
+        }
+
+        for (unmatchedIdx = buildMatched.nextClearBit(unmatchedIdx); unmatchedIdx < buildRows.size();
+                unmatchedIdx = buildMatched.nextClearBit(unmatchedIdx + 1)) {
+            if (requested == 0) {
+                return false;
+            }
+
+            checkState();
+
+            RowT row = handler.concat(leftRowFactory.create(), buildRows.get(unmatchedIdx));
+
+            requested--;
+            downstream().push(row);
+        }
+
+        return true;
+    }
+
+    private @Nullable RowT nextLeft() {
+        if (probeReader == null) {
+            return leftInBuf.poll();
+        }
+
+        return probeReader.hasNext() ? probeReader.next() : null;
+    }
+
+    private boolean keepsNonMatchedLeft() {
+        return joinType == JoinRelType.LEFT || joinType == JoinRelType.FULL || joinType == JoinRelType.ANTI;
+    }
+
+    /**
+     * Extracts the join key of a row.
+     *
+     * @return Key, or {@code null} if the row can't match any row because of nulls in the key fields.
+     */
+    private @Nullable Object key(RowT row, int[] keys) {
+        if (keys.length == 1) {
+            Object val = handler.get(keys[0], row);
+
+            if (val == null) {
+                return nullsEqual[0] ? NULL_KEY : null;
+            }
+
+            return normalize(val);
+        }
+
+        Object[] fields = new Object[keys.length];
+
+        for (int i = 0; i < keys.length; i++) {
+            Object val = handler.get(keys[i], row);
+
+            if (val == null) {
+                if (!nullsEqual[i]) {
+                    return null;
+                }
+            } else {
+                fields[i] = normalize(val);
+            }
+        }
+
+        return new GroupKey(fields);
+    }
+
+    /** Brings a key value to the form which {@code equals} the same way as the values are compared by SQL. */
+    static Object normalize(Object val) {
+        if (val instanceof BigDecimal) {
+            return ((BigDecimal) val).stripTrailingZeros();
+        }
+
+        // Boxed floating point values tell -0.0 from 0.0 apart, while SQL doesn't. Also collapse all the NaN bit patterns into one.
+        if (val instanceof Double) {
+            double d = (Double) val;
+
+            return d == 0.0d ? 0.0d : Double.isNaN(d) ? Double.NaN : val;
+        }
+
+        if (val instanceof Float) {
+            float f = (Float) val;
+
+            return f == 0.0f ? 0.0f : Float.isNaN(f) ? Float.NaN : val;
+        }
+
+        return val;
+    }
+
+    private void insert(RowT row, @Nullable Object key) {
+        int idx = buildRows.size();
+
+        buildRows.add(row);
+        chain.add(key == null ? NO_ROW : table.put(key, idx));
+
+        memoryReservation().reserve(buildRowSize.estimate(row));
+    }
+
+    private void checkMemory() {
+        if (spillManager == null) {
+            return;
+        }
+
+        if (buildRows.size() * buildRowSize.average() >= memoryQuota) {
+            // Switch to grace hash join: move the build rows to the partitions and partition the rest of the input.
+            rightParts = createPartitions();
+            leftParts = createPartitions();
+
+            for (RowT buildRow : buildRows) {
+                rightParts.get(partition(key(buildRow, rightKeys), 0)).append(buildRow);
+            }
+
+            clearTable();
+        }
+    }
+
+    /**
+     * Loads the build rows of the next non-empty spilled partition into the table. Partitions which are too large to fit
+     * into the memory quota are split further.
+     *
+     * @return {@code false} if there are no more partitions.
+     */
+    private boolean loadNextPartition() {
+        while (!pending.isEmpty()) {
+            Partition<RowT> part = pending.poll();
+
+            if (part.level < MAX_SPILL_LEVEL
+                    && part.right.size() + part.right.rowCount() * ROW_OVERHEAD >= memoryQuota) {
+                split(part);
+
+                continue;
+            }
+
+            current = part;
+
+            try (Reader<RowT> reader = part.right.reader(rightRowFactory)) {
+                while (reader.hasNext()) {
+                    RowT row = reader.next();
+
+                    insert(row, key(row, rightKeys));
+                }
+            }
+
+            probeReader = part.left.reader(leftRowFactory);
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /** Splits a spilled partition into partitions of the next level, which are joined right after. */
+    private void split(Partition<RowT> part) {
+        int level = part.level + 1;
+
+        List<SpillFile<RowT>> rights = createPartitions();
+        List<SpillFile<RowT>> lefts = createPartitions();
+
+        try (Reader<RowT> reader = part.right.reader(rightRowFactory)) {
+            while (reader.hasNext()) {
+                RowT row = reader.next();
+
+                rights.get(partition(key(row, rightKeys), level)).append(row);
+            }
+        }
+
+        try (Reader<RowT> reader = part.left.reader(leftRowFactory)) {
+            while (reader.hasNext()) {
+                RowT row = reader.next();
+
+                lefts.get(partition(key(row, leftKeys), level)).append(row);
+            }
+        }
+
+        part.delete();
+
+        for (int i = PARTITIONS - 1; i >= 0; i--) {
+            rights.get(i).finish();
+            lefts.get(i).finish();
+
+            addPending(new Partition<>(rights.get(i), lefts.get(i), level), true);
+        }
+    }
+
+    /** Adds a partition to be joined, unless the join result of the partition is empty for sure. */
+    private void addPending(Partition<RowT> part, boolean first) {
+        boolean empty = (part.right.rowCount() == 0 && !keepsNonMatchedLeft())
+                || (part.left.rowCount() == 0 && buildMatched == null);
+
+        if (empty) {
+            part.delete();
+        } else if (first) {
+            pending.addFirst(part);
+        } else {
+            pending.addLast(part);
+        }
+    }
+
+    private void finishPartition() {
+        assert current != null && probeReader != null;
+
+        probeReader.close();
+        probeReader = null;
+
+        current.delete();
+        current = null;
+
+        clearTable();
+    }
+
+    private List<SpillFile<RowT>> createPartitions() {
+        assert spillManager != null;
+
+        List<SpillFile<RowT>> parts = new ArrayList<>(PARTITIONS);
+
+        for (int i = 0; i < PARTITIONS; i++) {
+            parts.add(SpillFile.create(spillManager, context().queryId(), FILE_PREFIX, handler));
+        }
+
+        return parts;
+    }
+
+    private void clearTable() {
+        buildRows.clear();
+        chain.clear();
+        table.clear();
+
+        memoryReservation().releaseAll();
+
+        if (buildMatched != null) {
+            buildMatched.clear();
+        }
+
+        unmatchedIdx = 0;
+    }
+
+    /** Drops all the rows and deletes spilled partitions. */
+    private void release() {
+        clearTable();
+
+        left = null;
+        matchIdx = NO_ROW;
+        leftMatched = false;
+        buildRowSize.reset();
+
+        if (probeReader != null) {
+            probeReader.close();
+            probeReader = null;
+        }
+
+        if (current != null) {
+            current.delete();
+            current = null;
+        }
+
+        pending.forEach(Partition::delete);
+        pending.clear();
+
+        if (rightParts != null) {
+            rightParts.forEach(SpillFile::delete);
+            rightParts = null;
+        }
+
+        if (leftParts != null) {
+            leftParts.forEach(SpillFile::delete);
+            leftParts = null;
+        }
+    }
+
+    /** Returns spill partition of a row with the given key on the given partitioning level. */
+    private static int partition(@Nullable Object key, int level) {
+        if (key == null) {
+            return 0;
+        }
+
+        // Spread the bits first, then every level takes the next group of the most significant bits.
+        int h = key.hashCode() * 0x9E3779B9;
+
+        return (h >>> (Integer.SIZE - PARTITION_BITS * (level + 1))) & (PARTITIONS - 1);
+    }
+
+    /** Pair of spilled partitions of the inputs with the same keys. */
+    private static class Partition<RowT> {
+        private final SpillFile<RowT> right;
+
+        private final SpillFile<RowT> left;
+
+        private final int level;
+
+        private Partition(SpillFile<RowT> right, SpillFile<RowT> left, int level) {
+            this.right = right;
+            this.left = left;
+            this.level = level;
+        }
+
+        private void delete() {
+            right.delete();
+            left.delete();
+        }
+    }
+}
@@ -28,6 +28,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.PriorityQueue;
+import java.util.function.LongConsumer;
 import org.apache.calcite.util.Pair;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.lang.IgniteInternalException;
@@ -37,6 +38,7 @@ import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.MailboxRegistry;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
 import org.apache.ignite.internal.sql.engine.exec.SharedState;
+import org.apache.ignite.internal.sql.engine.exec.memory.RowSizeEstimator;
 import org.apache.ignite.internal.sql.engine.exec.rel.Inbox.RemoteSource.State;
 import org.apache.ignite.internal.table.distributed.replication.request.BinaryTupleMessage;
 import org.apache.ignite.internal.util.ExceptionUtils;
@@ -95,7 +97,10 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
 
         Map<String, RemoteSource<RowT>> sources = new HashMap<>();
         for (String nodeName : srcNodeNames) {
-            sources.put(nodeName, new RemoteSource<>((cnt, state) -> requestBatches(nodeName, cnt, state)));
+            sources.put(nodeName, new RemoteSource<>(
+                    (cnt, state) -> requestBatches(nodeName, cnt, state),
+                    size -> memoryReservation().release(size)
+            ));
         }
 
         this.perNodeBuffers = Map.copyOf(sources);
@@ -169,12 +174,17 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
         boolean waitingBefore = source.check() == State.WAITING;
 
         List<RowT> rows0 = new ArrayList<>(rows.size());
+        long size = 0;
 
         for (BinaryTupleMessage row : rows) {
             rows0.add(rowFactory.create(row.asBinaryTuple()));
+
+            size += row.tuple().remaining() + RowSizeEstimator.ROW_OVERHEAD;
         }
 
-        source.onBatchReceived(batchId, last, rows0);
+        memoryReservation().reserve(size);
+
+        source.onBatchReceived(batchId, last, rows0, size);
 
         if (requested > 0 && waitingBefore && source.check() != State.WAITING) {
             push();
@@ -388,12 +398,16 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
 
         private final List<RowT> rows;
 
+        /** Estimated size of the rows in memory. */
+        private final long size;
+
         private int idx;
 
-        private Batch(int batchId, boolean last, List<RowT> rows) {
+        private Batch(int batchId, boolean last, List<RowT> rows, long size) {
             this.batchId = batchId;
             this.last = last;
             this.rows = rows;
+            this.size = size;
         }
 
         /** {@inheritDoc} */
@@ -501,6 +515,11 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
 
         private final BatchRequester batchRequester;
 
+        /** Callback to release memory of the batches which are drained or dropped. */
+        private final LongConsumer memoryReleaser;
+
+        private final CreditWindow credits = new CreditWindow(IO_BATCH_CNT);
+
         private State state = State.WAITING;
         private int lastEnqueued = -1;
         private int lastRequested = -1;
@@ -514,8 +533,9 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
          */
         private @Nullable SharedState sharedStateHolder = null;
 
-        private RemoteSource(BatchRequester batchRequester) {
+        private RemoteSource(BatchRequester batchRequester, LongConsumer memoryReleaser) {
             this.batchRequester = batchRequester;
+            this.memoryReleaser = memoryReleaser;
         }
 
         /**
@@ -526,23 +546,35 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
          */
         void reset(SharedState state) {
             sharedStateHolder = state;
+
+            if (curr != null && curr.idx < curr.rows.size()) {
+                memoryReleaser.accept(curr.size);
+            }
+
+            batches.forEach(batch -> memoryReleaser.accept(batch.size));
             batches.clear();
 
+            credits.reset();
+
             this.lastEnqueued = lastRequested;
             this.state = State.WAITING;
             this.curr = null;
         }
 
         /** A handler for batches received from remote source. */
-        void onBatchReceived(int id, boolean last, List<RowT> rows) {
+        void onBatchReceived(int id, boolean last, List<RowT> rows, long size) {
             if (id <= lastEnqueued) {
                 // most probably it's a batch that was prefetched in advance,
                 // but the execution tree has been rewinded, so we just silently
                 // drop it
+                memoryReleaser.accept(size);
+
                 return;
             }
 
-            batches.offer(new Batch<>(id, last, rows));
+            credits.onReceived(id, size);
+
+            batches.offer(new Batch<>(id, last, rows, size));
 
             if (state == State.WAITING && id == lastEnqueued + 1) {
                 advanceBatch();
@@ -551,15 +583,17 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
 
         /**
          * Requests another several batches from remote source if a count of in-flight batches
-         * is less or equal than half of {@link #IO_BATCH_CNT}.
+         * is less or equal than half of the {@link CreditWindow credits} available.
          */
         void requestNextBatchIfNeeded() throws IgniteInternalCheckedException {
-            int maxInFlightCount = Math.max(IO_BATCH_CNT, 1);
+            int maxInFlightCount = credits.credits();
             int currentInFlightCount = lastRequested - lastEnqueued;
 
             if (maxInFlightCount / 2 >= currentInFlightCount) {
                 int countOfBatches = maxInFlightCount - currentInFlightCount;
 
+                credits.onRequested(lastRequested + 1);
+
                 lastRequested += countOfBatches;
 
                 batchRequester.request(countOfBatches, sharedStateHolder);
@@ -597,6 +631,9 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
             RowT row = curr.rows.set(curr.idx++, null);
 
             if (curr.idx == curr.rows.size()) {
+                memoryReleaser.accept(curr.size);
+                credits.onBatchDrained();
+
                 if (curr.last) {
                     state = State.END;
                 } else {
@@ -625,6 +662,8 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
             state = curr.rows.isEmpty() ? State.END : State.READY;
 
             lastEnqueued = curr.batchId;
+
+            credits.onBatchStarted();
         }
     }
 }
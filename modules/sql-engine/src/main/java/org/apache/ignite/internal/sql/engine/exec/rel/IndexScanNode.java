@@ -131,7 +131,14 @@ public class IndexScanNode<RowT> extends StorageScanNode<RowT> {
         );
 
         if (comp != null) {
-            return SubscriptionUtils.orderedMerge(comp, Commons.SORTED_IDX_PART_PREFETCH_SIZE, it);
+            int limit = fetchLimit();
+
+            // No partition has to provide more rows than the whole scan is going to fetch.
+            int prefetch = limit < 0
+                    ? Commons.SORTED_IDX_PART_PREFETCH_SIZE
+                    : Math.max(1, Math.min(Commons.SORTED_IDX_PART_PREFETCH_SIZE, limit));
+
+            return SubscriptionUtils.orderedMerge(comp, prefetch, it);
         } else {
             return SubscriptionUtils.concat(it);
         }
@@ -30,6 +30,7 @@ import org.apache.ignite.internal.sql.engine.exec.RuntimeHashIndex;
 import org.apache.ignite.internal.sql.engine.exec.RuntimeIndex;
 import org.apache.ignite.internal.sql.engine.exec.RuntimeSortedIndex;
 import org.apache.ignite.internal.sql.engine.exec.exp.RangeIterable;
+import org.apache.ignite.internal.sql.engine.exec.memory.RowSizeEstimator;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -42,6 +43,8 @@ public class IndexSpoolNode<RowT> extends AbstractNode<RowT> implements SingleNo
     /** Runtime index. */
     private final RuntimeIndex<RowT> idx;
 
+    private final RowSizeEstimator<RowT> rowSize;
+
     private int requested;
 
     private int waiting;
@@ -59,6 +62,8 @@ public class IndexSpoolNode<RowT> extends AbstractNode<RowT> implements SingleNo
 
         this.idx = idx;
         this.scan = scan;
+
+        rowSize = new RowSizeEstimator<>(ctx.rowHandler());
     }
 
     @Override
@@ -123,6 +128,8 @@ public class IndexSpoolNode<RowT> extends AbstractNode<RowT> implements SingleNo
 
         idx.push(row);
 
+        memoryReservation().reserve(rowSize.estimate(row));
+
         waiting--;
 
         if (waiting == 0) {
@@ -31,6 +31,9 @@ public class LimitNode<RowT> extends AbstractNode<RowT> implements SingleNode<Ro
     /** Fetch if its present, otherwise 0. */
     private final int fetch;
 
+    /** Number of rows to read from the source, that is {@code offset + fetch} capped by {@link Integer#MAX_VALUE}. */
+    private final int end;
+
     /** Already processed (pushed to upstream) rows count. */
     private int rowsProcessed;
 
@@ -54,6 +57,7 @@ public class LimitNode<RowT> extends AbstractNode<RowT> implements SingleNode<Ro
 
         offset = offsetNode == null ? 0 : offsetNode.get();
         fetch = fetchNode == null ? 0 : fetchNode.get();
+        end = saturatedSum(offset, fetch);
         this.fetchNode = fetchNode;
     }
 
@@ -70,13 +74,13 @@ public class LimitNode<RowT> extends AbstractNode<RowT> implements SingleNode<Ro
         }
 
         if (offset > 0 && rowsProcessed == 0) {
-            rowsCnt = offset + rowsCnt;
+            rowsCnt = saturatedSum(offset, rowsCnt);
         }
 
         waiting = rowsCnt;
 
         if (fetch > 0) {
-            rowsCnt = Math.min(rowsCnt, (fetch + offset) - rowsProcessed);
+            rowsCnt = Math.min(rowsCnt, end - rowsProcessed);
         }
 
         checkState();
@@ -98,12 +102,12 @@ public class LimitNode<RowT> extends AbstractNode<RowT> implements SingleNode<Ro
         checkState();
 
         if (rowsProcessed > offset) {
-            if (fetchNode == null || rowsProcessed <= fetch + offset) {
+            if (fetchNode == null || rowsProcessed <= end) {
                 downstream().push(row);
             }
         }
 
-        if (fetch > 0 && rowsProcessed == fetch + offset && waiting > 0) {
+        if (fetch > 0 && rowsProcessed == end && waiting > 0) {
             end();
         }
     }
@@ -140,6 +144,10 @@ public class LimitNode<RowT> extends AbstractNode<RowT> implements SingleNode<Ro
 
     /** {@code True} if requested 0 results, or all already processed. */
     private boolean fetchNone() {
-        return (fetchNode != null && fetch == 0) || (fetch > 0 && rowsProcessed == fetch + offset);
+        return (fetchNode != null && fetch == 0) || (fetch > 0 && rowsProcessed == end);
+    }
+
+    private static int saturatedSum(int a, int b) {
+        return (int) Math.min((long) a + b, Integer.MAX_VALUE);
     }
 }
@@ -31,6 +31,7 @@ import org.apache.calcite.rel.core.JoinRelType;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.memory.RowSizeEstimator;
 import org.apache.ignite.internal.sql.engine.exec.row.RowSchema;
 import org.jetbrains.annotations.Nullable;
 
@@ -56,6 +57,8 @@ public abstract class NestedLoopJoinNode<RowT> extends AbstractNode<RowT> {
 
     protected final Deque<RowT> leftInBuf = new ArrayDeque<>(inBufSize);
 
+    private final RowSizeEstimator<RowT> rightRowSize;
+
     protected boolean inLoop;
 
     /**
@@ -70,6 +73,7 @@ public abstract class NestedLoopJoinNode<RowT> extends AbstractNode<RowT> {
 
         this.cond = cond;
         handler = ctx.rowHandler();
+        rightRowSize = new RowSizeEstimator<>(handler);
     }
 
     /** {@inheritDoc} */
@@ -102,6 +106,8 @@ public abstract class NestedLoopJoinNode<RowT> extends AbstractNode<RowT> {
 
         rightMaterialized.clear();
         leftInBuf.clear();
+
+        memoryReservation().releaseAll();
     }
 
     /** {@inheritDoc} */
@@ -175,6 +181,8 @@ public abstract class NestedLoopJoinNode<RowT> extends AbstractNode<RowT> {
 
         rightMaterialized.add(row);
 
+        memoryReservation().reserve(rightRowSize.estimate(row));
+
         if (waitingRight == 0) {
             rightSource().request(waitingRight = inBufSize);
         }
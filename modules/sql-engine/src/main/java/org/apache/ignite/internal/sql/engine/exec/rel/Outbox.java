@@ -57,7 +57,7 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
     private final ExchangeService exchange;
     private final MailboxRegistry registry;
     private final Destination<RowT> dest;
-    private final Map<String, RemoteDownstream<RowT>> nodeBuffers;
+    private final Map<String, RemoteDownstream> nodeBuffers;
     private final Deque<RowT> inBuf = new ArrayDeque<>(inBufSize);
     /** Queue for requests, which requires rewind. */
     private Queue<RewindRequest> rewindQueue;
@@ -90,9 +90,9 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
         this.exchangeId = exchangeId;
         this.dest = dest;
 
-        Map<String, RemoteDownstream<RowT>> downstreams = new HashMap<>();
+        Map<String, RemoteDownstream> downstreams = new HashMap<>();
         for (String nodeName : dest.targets()) {
-            downstreams.put(nodeName, new RemoteDownstream<>(nodeName, this::sendBatch));
+            downstreams.put(nodeName, new RemoteDownstream(nodeName, this::sendBatch));
         }
 
         this.nodeBuffers = Map.copyOf(downstreams);
@@ -113,7 +113,7 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
     public void onRequest(String nodeName, int amountOfBatches) throws Exception {
         checkState();
 
-        RemoteDownstream<?> downstream = nodeBuffers.get(nodeName);
+        RemoteDownstream downstream = nodeBuffers.get(nodeName);
 
         downstream.onBatchRequested(amountOfBatches);
 
@@ -218,7 +218,7 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
         }
 
         for (String nodeName : dest.targets()) {
-            RemoteDownstream<?> downstream = nodeBuffers.get(nodeName);
+            RemoteDownstream downstream = nodeBuffers.get(nodeName);
 
             assert downstream != null;
 
@@ -236,23 +236,19 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
         return this;
     }
 
-    private void sendBatch(String nodeName, int batchId, boolean last, List<RowT> rows) {
+    private BinaryTupleMessage serialize(RowT row) {
         RowHandler<RowT> handler = context().rowHandler();
 
-        List<BinaryTupleMessage> rows0 = new ArrayList<>(rows.size());
+        BinaryTuple tuple = handler.toBinaryTuple(row);
 
-        for (RowT row : rows) {
-            BinaryTuple tuple = handler.toBinaryTuple(row);
-
-            rows0.add(
-                    TABLE_MESSAGES_FACTORY.binaryTupleMessage()
-                            .elementCount(tuple.elementCount())
-                            .tuple(tuple.byteBuffer())
-                            .build()
-            );
-        }
+        return TABLE_MESSAGES_FACTORY.binaryTupleMessage()
+                .elementCount(tuple.elementCount())
+                .tuple(tuple.byteBuffer())
+                .build();
+    }
 
-        exchange.sendBatch(nodeName, queryId(), targetFragmentId, exchangeId, batchId, last, rows0)
+    private void sendBatch(String nodeName, int batchId, boolean last, List<BinaryTupleMessage> rows) {
+        exchange.sendBatch(nodeName, queryId(), targetFragmentId, exchangeId, batchId, last, rows)
                 .whenComplete((ignored, ex) -> {
                     if (ex == null) {
                         return;
@@ -299,10 +295,10 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
             checkState();
 
             List<String> targets = dest.targets(inBuf.peek());
-            List<RemoteDownstream<RowT>> buffers = new ArrayList<>(targets.size());
+            List<RemoteDownstream> buffers = new ArrayList<>(targets.size());
 
             for (String target : targets) {
-                RemoteDownstream<RowT> buffer = nodeBuffers.get(target);
+                RemoteDownstream buffer = nodeBuffers.get(target);
 
                 if (!buffer.ready()) {
                     return;
@@ -313,9 +309,10 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
 
             assert !nullOrEmpty(buffers);
 
-            RowT row = inBuf.remove();
+            // The row is serialized only once, even if it is sent to several targets.
+            BinaryTupleMessage row = serialize(inBuf.remove());
 
-            for (RemoteDownstream<RowT> dest : buffers) {
+            for (RemoteDownstream dest : buffers) {
                 dest.add(row);
             }
         }
@@ -331,7 +328,7 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
 
                 processRewindQueue();
             } else {
-                for (RemoteDownstream<RowT> buffer : nodeBuffers.values()) {
+                for (RemoteDownstream buffer : nodeBuffers.values()) {
                     buffer.end();
                 }
             }
@@ -394,10 +391,18 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
         onRequest(currentNode, rewind.amountOfBatches);
     }
 
-    private static final class RemoteDownstream<RowT> {
+    /**
+     * A buffer of serialized rows destined to a particular remote node.
+     *
+     * <p>A batch is considered full once its serialized size reaches {@link Commons#IO_BATCH_BYTES} bytes, so narrow rows are sent
+     * in fewer messages, while wide rows don't bloat the batch. The number of rows in a batch is additionally bounded by
+     * {@link Commons#IO_BATCH_MAX_ROWS}.
+     */
+    private static final class RemoteDownstream {
         @FunctionalInterface
-        private interface BatchSender<RowT> {
-            void send(String targetNodeName, int batchId, boolean last, List<RowT> rows) throws IgniteInternalCheckedException;
+        private interface BatchSender {
+            void send(String targetNodeName, int batchId, boolean last, List<BinaryTupleMessage> rows)
+                    throws IgniteInternalCheckedException;
         }
 
         /**
@@ -464,15 +469,16 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
         }
 
         private final String nodeName;
-        private final BatchSender<RowT> sender;
+        private final BatchSender sender;
 
         private State state = State.FILLING;
         private int lastSentBatchId = -1;
 
-        private @Nullable List<RowT> curr;
+        private @Nullable List<BinaryTupleMessage> curr;
+        private long currBytes;
         private int pendingCount;
 
-        private RemoteDownstream(String nodeName, BatchSender<RowT> sender) {
+        private RemoteDownstream(String nodeName, BatchSender sender) {
             this.nodeName = nodeName;
             this.sender = sender;
 
@@ -489,6 +495,7 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
             lastSentBatchId += pendingCount;
             pendingCount = 0;
             curr = new ArrayList<>(IO_BATCH_SIZE);
+            currBytes = 0;
         }
 
         /** A handler of a requests from downstream. */
@@ -511,15 +518,16 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
         /**
          * Adds a row to current batch.
          *
-         * @param row Row to add.
+         * @param row Serialized row to add.
          */
-        void add(RowT row) throws Exception {
+        void add(BinaryTupleMessage row) throws Exception {
             assert ready() : state;
             assert curr != null;
 
             curr.add(row);
+            currBytes += row.tuple().remaining();
 
-            if (curr.size() == IO_BATCH_SIZE) {
+            if (currBytes >= Commons.IO_BATCH_BYTES || curr.size() == Commons.IO_BATCH_MAX_ROWS) {
                 state = State.FULL;
 
                 if (pendingCount > 0) {
@@ -548,6 +556,7 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
             } else {
                 state = State.FILLING;
                 curr = new ArrayList<>(IO_BATCH_SIZE);
+                currBytes = 0;
             }
         }
 
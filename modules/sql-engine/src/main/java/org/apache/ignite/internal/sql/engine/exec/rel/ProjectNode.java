@@ -19,6 +19,8 @@ package org.apache.ignite.internal.sql.engine.exec.rel;
 
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 
@@ -29,6 +31,9 @@ import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 public class ProjectNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, Downstream<RowT> {
     private final Function<RowT, RowT> prj;
 
+    /** Projected rows of a pushed batch, reused from batch to batch. */
+    private final List<RowT> projected = new ArrayList<>();
+
     /**
      * Constructor.
      * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
@@ -69,6 +74,24 @@ public class ProjectNode<RowT> extends AbstractNode<RowT> implements SingleNode<
         downstream().push(prj.apply(row));
     }
 
+    /** Pushes a batch of rows. The projection is applied to every row of the batch, the projected rows are forwarded as a single batch. */
+    @Override
+    public void pushBatch(List<RowT> batch) throws Exception {
+        assert downstream() != null;
+
+        checkState();
+
+        try {
+            for (RowT row : batch) {
+                projected.add(prj.apply(row));
+            }
+
+            downstream().pushBatch(projected);
+        } finally {
+            projected.clear();
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void end() throws Exception {
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.sql.engine.exec.rel;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
@@ -28,6 +29,9 @@ import org.apache.ignite.internal.sql.engine.util.Commons;
 public class ScanNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT> {
     private final Iterable<RowT> src;
 
+    /** Whether rows are pushed to downstream in batches. */
+    private final boolean batched = Commons.batchedDispatchEnabled();
+
     private Iterator<RowT> it;
 
     private int requested;
@@ -108,10 +112,25 @@ public class ScanNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
             while (requested > 0 && it.hasNext()) {
                 checkState();
 
-                requested--;
-                downstream().push(it.next());
+                if (batched) {
+                    List<RowT> batch = new ArrayList<>(Math.min(requested, inBufSize));
+
+                    while (batch.size() < requested && batch.size() < inBufSize && it.hasNext()) {
+                        batch.add(it.next());
+                    }
+
+                    requested -= batch.size();
+                    processed = inBufSize;
+
+                    downstream().pushBatch(batch);
+                } else {
+                    requested--;
+                    processed++;
+
+                    downstream().push(it.next());
+                }
 
-                if (++processed == inBufSize && requested > 0) {
+                if (processed == inBufSize && requested > 0) {
                     // allow others to do their job
                     context().execute(this::push, this::onError);
 
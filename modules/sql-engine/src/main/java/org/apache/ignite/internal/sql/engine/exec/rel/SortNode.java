@@ -25,11 +25,18 @@ import java.util.List;
 import java.util.PriorityQueue;
 import java.util.function.Supplier;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.memory.RowSizeEstimator;
+import org.apache.ignite.internal.sql.engine.exec.spill.ExternalSorter;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
 import org.apache.ignite.internal.util.BoundedPriorityQueue;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Sort node.
+ *
+ * <p>An unlimited sort is done by {@link ExternalSorter}, which spills sorted runs to disk once the buffered rows exceed
+ * the operator memory quota. A limited sort keeps at most {@code offset + fetch} rows in a bounded priority queue.
  */
 public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, Downstream<RowT> {
     /** How many rows are requested by downstream. */
@@ -40,8 +47,14 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
 
     private boolean inLoop;
 
-    /** Rows buffer. */
-    private final PriorityQueue<RowT> rows;
+    /** Rows buffer of a limited sort. */
+    private final @Nullable PriorityQueue<RowT> rows;
+
+    /** Sorter of an unlimited sort. */
+    private final @Nullable ExternalSorter<RowT> sorter;
+
+    /** Whether the sorter has been switched to output phase. */
+    private boolean sorted;
 
     /** SQL select limit. Negative if disabled. */
     private final int limit;
@@ -49,6 +62,8 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
     /** Reverse-ordered rows in case of limited sort. */
     private List<RowT> reversed;
 
+    private final RowSizeEstimator<RowT> rowSize;
+
     /**
      * Constructor.
      *
@@ -56,11 +71,15 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
      * @param comp Rows comparator.
      * @param offset Offset.
      * @param fetch Limit.
+     * @param spillManager Spill manager, or {@code null} if rows must never be spilled to disk.
+     * @param rowFactory Factory to restore spilled rows with. Must be provided together with the spill manager.
      */
     public SortNode(ExecutionContext<RowT> ctx,
             Comparator<RowT> comp,
             @Nullable Supplier<Integer> offset,
-            @Nullable Supplier<Integer> fetch) {
+            @Nullable Supplier<Integer> fetch,
+            @Nullable SpillManager spillManager,
+            @Nullable RowFactory<RowT> rowFactory) {
         super(ctx);
         assert fetch == null || fetch.get() >= 0;
         assert offset == null || offset.get() >= 0;
@@ -68,10 +87,29 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
         limit = fetch == null ? -1 : fetch.get() + (offset == null ? 0 : offset.get());
 
         if (limit < 1) {
-            rows = new PriorityQueue<>(comp);
+            rows = null;
+            sorter = new ExternalSorter<>(ctx, spillManager, rowFactory, comp);
         } else {
             rows = new BoundedPriorityQueue<>(limit, comp == null ? (Comparator<RowT>) Comparator.reverseOrder() : comp.reversed());
+            sorter = null;
         }
+
+        rowSize = new RowSizeEstimator<>(ctx.rowHandler());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param comp Rows comparator.
+     * @param offset Offset.
+     * @param fetch Limit.
+     */
+    public SortNode(ExecutionContext<RowT> ctx,
+            Comparator<RowT> comp,
+            @Nullable Supplier<Integer> offset,
+            @Nullable Supplier<Integer> fetch) {
+        this(ctx, comp, offset, fetch, null, null);
     }
 
     /**
@@ -89,12 +127,31 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
     protected void rewindInternal() {
         requested = 0;
         waiting = 0;
-        rows.clear();
+        sorted = false;
+
+        if (rows != null) {
+            rows.clear();
+
+            memoryReservation().releaseAll();
+        } else {
+            sorter.reset();
+        }
+
         if (reversed != null) {
             reversed.clear();
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void closeInternal() {
+        super.closeInternal();
+
+        if (sorter != null) {
+            sorter.reset();
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     protected Downstream<RowT> requestDownstream(int idx) {
@@ -134,7 +191,17 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
 
         waiting--;
 
-        rows.add(row);
+        if (rows != null) {
+            int size = rows.size();
+
+            rows.add(row);
+
+            if (rows.size() > size) {
+                memoryReservation().reserve(rowSize.estimate(row));
+            }
+        } else {
+            sorter.add(row);
+        }
 
         if (waiting == 0) {
             source().request(waiting = inBufSize);
@@ -165,6 +232,12 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
 
         inLoop = true;
         try {
+            if (sorter != null) {
+                flushSorted();
+
+                return;
+            }
+
             // Prepare final order (reversed).
             if (limit > 0 && !rows.isEmpty()) {
                 if (reversed == null) {
@@ -211,4 +284,39 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
             inLoop = false;
         }
     }
+
+    private void flushSorted() throws Exception {
+        assert sorter != null;
+
+        if (!sorted) {
+            sorter.finish();
+
+            sorted = true;
+        }
+
+        int processed = 0;
+
+        while (requested > 0 && sorter.hasNext()) {
+            checkState();
+
+            requested--;
+
+            downstream().push(sorter.next());
+
+            if (++processed >= inBufSize && requested > 0) {
+                // allow others to do their job
+                context().execute(this::flush, this::onError);
+
+                return;
+            }
+        }
+
+        if (!sorter.hasNext()) {
+            if (requested > 0) {
+                downstream().end();
+            }
+
+            requested = 0;
+        }
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.sql.engine.exec.rel;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.Flow;
@@ -26,6 +27,7 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -42,10 +44,19 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
 
     private final @Nullable Function<RowT, RowT> rowTransformer;
 
+    /** Whether rows are pushed to downstream in batches. */
+    private final boolean batched = Commons.batchedDispatchEnabled();
+
     private int requested;
 
     private int waiting;
 
+    /** Maximum number of rows to fetch from the storage, or {@code -1} if not limited. */
+    private int fetchLimit = -1;
+
+    /** Number of rows fetched from the storage so far. */
+    private volatile int fetched;
+
     private boolean inLoop;
 
     private @Nullable Subscription activeSubscription;
@@ -87,6 +98,25 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
         }
     }
 
+    /**
+     * Sets the maximum number of rows the downstream will ever consume from this node, so the scan never fetches more rows from the
+     * storage. Ignored if the node has a filter, because it's unknown how many of the fetched rows will be filtered out.
+     *
+     * @param fetchLimit Maximum number of rows to fetch.
+     */
+    public void fetchLimit(int fetchLimit) {
+        assert fetchLimit >= 0 : fetchLimit;
+
+        if (filters == null) {
+            this.fetchLimit = fetchLimit;
+        }
+    }
+
+    /** Returns the maximum number of rows to fetch from the storage, or {@code -1} if not limited. */
+    protected int fetchLimit() {
+        return fetchLimit;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void closeInternal() {
@@ -104,6 +134,7 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
     protected void rewindInternal() {
         requested = 0;
         waiting = 0;
+        fetched = 0;
         dataRequested = false;
 
         if (activeSubscription != null) {
@@ -132,6 +163,10 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
         if (requested > 0 && !inBuff.isEmpty()) {
             inLoop = true;
             try {
+                while (batched && requested > 0 && !inBuff.isEmpty()) {
+                    pushBatch();
+                }
+
                 while (requested > 0 && !inBuff.isEmpty()) {
                     checkState();
 
@@ -169,6 +204,32 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
         }
     }
 
+    /** Pushes buffered rows, which pass the filter, to downstream as a single batch. */
+    private void pushBatch() throws Exception {
+        List<RowT> batch = new ArrayList<>(Math.min(requested, inBuff.size()));
+
+        while (batch.size() < requested && !inBuff.isEmpty()) {
+            RowT row = inBuff.poll();
+
+            if (filters != null && !filters.test(row)) {
+                continue;
+            }
+
+            if (rowTransformer != null) {
+                row = rowTransformer.apply(row);
+            }
+
+            batch.add(row);
+        }
+
+        checkState();
+
+        if (!batch.isEmpty()) {
+            requested -= batch.size();
+            downstream().pushBatch(batch);
+        }
+    }
+
     private void requestNextBatch() {
         if (waiting == NOT_WAITING) {
             return;
@@ -177,6 +238,23 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
         if (waiting == 0) {
             // we must not request rows more than inBufSize
             waiting = inBufSize - inBuff.size();
+
+            if (fetchLimit >= 0) {
+                waiting = Math.min(waiting, fetchLimit - fetched);
+
+                if (waiting <= 0) {
+                    // Downstream has got all the rows it needs, no reason to read the storage any further.
+                    if (activeSubscription != null) {
+                        activeSubscription.cancel();
+
+                        activeSubscription = null;
+                    }
+
+                    waiting = NOT_WAITING;
+
+                    return;
+                }
+            }
         }
 
         Subscription subscription = this.activeSubscription;
@@ -220,7 +298,9 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
         public void onNext(RowT row) {
             inBuff.add(row);
 
-            if (inBuff.size() == inBufSize) {
+            int fetched0 = ++fetched;
+
+            if (inBuff.size() == inBufSize || fetched0 == fetchLimit) {
                 context().execute(() -> {
                     waiting = 0;
                     push();
@@ -29,6 +29,7 @@ import org.apache.ignite.internal.sql.engine.exec.PartitionWithConsistencyToken;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
 import org.apache.ignite.internal.sql.engine.exec.ScannableTable;
+import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.util.SubscriptionUtils;
 import org.apache.ignite.internal.util.TransformingIterator;
 import org.jetbrains.annotations.Nullable;
@@ -82,8 +83,11 @@ public class TableScanNode<RowT> extends StorageScanNode<RowT> {
     protected Publisher<RowT> scan() {
         List<PartitionWithConsistencyToken> partitions = partitionProvider.getPartitions(context());
 
+        // Partitions are scanned one by one, so the configured parallelism is spread among the slices of a single partition.
+        int slices = partitions.isEmpty() ? 1 : Math.max(1, Commons.partitionScanParallelism() / partitions.size());
+
         Iterator<Publisher<? extends RowT>> it = new TransformingIterator<>(
-                partitions.iterator(), p -> table.scan(context(), p, rowFactory, requiredColumns));
+                partitions.iterator(), p -> table.scan(context(), p, rowFactory, requiredColumns, slices));
 
         return SubscriptionUtils.concat(it);
     }
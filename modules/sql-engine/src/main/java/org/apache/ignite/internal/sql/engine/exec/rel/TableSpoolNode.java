@@ -22,6 +22,7 @@ import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 import java.util.ArrayList;
 import java.util.List;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.memory.RowSizeEstimator;
 
 /**
  * Table spool node.
@@ -45,6 +46,8 @@ public class TableSpoolNode<RowT> extends AbstractNode<RowT> implements SingleNo
      */
     private final boolean lazyRead;
 
+    private final RowSizeEstimator<RowT> rowSize;
+
     /**
      * Flag indicates that spool pushes row to downstream. Need to check a case when a downstream produces requests on
      * push.
@@ -64,6 +67,7 @@ public class TableSpoolNode<RowT> extends AbstractNode<RowT> implements SingleNo
         this.lazyRead = lazyRead;
 
         rows = new ArrayList<>();
+        rowSize = new RowSizeEstimator<>(ctx.rowHandler());
     }
 
     /** {@inheritDoc} */
@@ -148,6 +152,8 @@ public class TableSpoolNode<RowT> extends AbstractNode<RowT> implements SingleNo
 
         rows.add(row);
 
+        memoryReservation().reserve(rowSize.estimate(row));
+
         if (waiting == 0) {
             source().request(waiting = inBufSize);
         }
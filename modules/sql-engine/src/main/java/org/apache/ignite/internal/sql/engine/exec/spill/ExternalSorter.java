@@ -0,0 +1,346 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.exec.spill;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.memory.MemoryReservation;
+import org.apache.ignite.internal.sql.engine.exec.memory.RowSizeEstimator;
+import org.apache.ignite.sql.SqlException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Memory-bounded sorter of rows.
+ *
+ * <p>Rows are buffered in memory until their estimated size exceeds the {@link SpillManager#operatorMemoryQuota() quota},
+ * or the memory quota of the whole query is exhausted. After that the buffer is sorted and written to disk as a sorted
+ * run. Once all the rows are added, the runs and the rest of the buffer are merged with a k-way merge. If the input fits
+ * into the quota, no file is ever created.
+ *
+ * <p>A single merge reads at most {@link #MAX_MERGE_FAN_IN} sources at once. If there are more runs, the oldest ones
+ * are merged into new runs in several passes first, so the number of simultaneously open files stays bounded.
+ *
+ * <p>The size of a row is estimated by {@link RowSizeEstimator}.
+ *
+ * @param <RowT> Type of the sql row.
+ */
+public class ExternalSorter<RowT> {
+    /** Maximum number of sources merged at once. */
+    public static final int MAX_MERGE_FAN_IN = 64;
+
+    private static final String FILE_PREFIX = "sort";
+
+    private final ExecutionContext<RowT> ctx;
+
+    private final @Nullable SpillManager spillManager;
+
+    private final @Nullable RowFactory<RowT> rowFactory;
+
+    private final Comparator<RowT> comp;
+
+    private final long memoryQuota;
+
+    /** Memory held by the buffered rows. */
+    private final MemoryReservation memory;
+
+    private final List<SpillFile<RowT>> runs = new ArrayList<>();
+
+    private final List<SpillFile.Reader<RowT>> readers = new ArrayList<>();
+
+    private final RowSizeEstimator<RowT> rowSize;
+
+    private List<RowT> buffer = new ArrayList<>();
+
+    private @Nullable Iterator<RowT> output;
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param spillManager Spill manager, or {@code null} if rows must never be spilled.
+     * @param rowFactory Factory to restore spilled rows with. Must be provided together with the spill manager.
+     * @param comp Rows comparator, or {@code null} to use natural ordering.
+     */
+    @SuppressWarnings("unchecked")
+    public ExternalSorter(
+            ExecutionContext<RowT> ctx,
+            @Nullable SpillManager spillManager,
+            @Nullable RowFactory<RowT> rowFactory,
+            @Nullable Comparator<RowT> comp
+    ) {
+        assert spillManager == null || rowFactory != null;
+
+        this.ctx = ctx;
+        this.spillManager = spillManager;
+        this.rowFactory = rowFactory;
+        this.comp = comp == null ? (Comparator<RowT>) Comparator.naturalOrder() : comp;
+
+        memoryQuota = spillManager == null ? Long.MAX_VALUE : spillManager.operatorMemoryQuota();
+        memory = new MemoryReservation(ctx.memoryTracker());
+        rowSize = new RowSizeEstimator<>(ctx.rowHandler());
+    }
+
+    /**
+     * Adds a row to the sorter.
+     *
+     * @param row Row to add.
+     */
+    public void add(RowT row) {
+        assert output == null : "Sorter is already finished";
+
+        long size = rowSize.estimate(row);
+
+        reserve(size);
+
+        buffer.add(row);
+
+        if (spillManager != null && buffer.size() * size >= memoryQuota) {
+            spill();
+        }
+    }
+
+    /**
+     * Finishes the input phase. After this call the sorted rows are available through {@link #hasNext()} and
+     * {@link #next()}.
+     */
+    public void finish() {
+        if (output != null) {
+            return;
+        }
+
+        buffer.sort(comp);
+
+        if (runs.isEmpty()) {
+            output = buffer.iterator();
+
+            return;
+        }
+
+        // The rest of the buffer takes one source of the final merge.
+        while (runs.size() + 1 > MAX_MERGE_FAN_IN) {
+            // Merge just enough runs for the final merge to fit, but no more than the fan-in allows.
+            mergeRuns(Math.min(MAX_MERGE_FAN_IN, runs.size() + 2 - MAX_MERGE_FAN_IN));
+        }
+
+        List<Iterator<RowT>> sources = new ArrayList<>(runs.size() + 1);
+
+        for (SpillFile<RowT> run : runs) {
+            SpillFile.Reader<RowT> reader = run.reader(rowFactory);
+
+            readers.add(reader);
+            sources.add(reader);
+        }
+
+        sources.add(buffer.iterator());
+
+        output = new MergingIterator<>(sources, comp);
+    }
+
+    /** Returns {@code true} if the sorter is finished and has more rows. */
+    public boolean hasNext() {
+        assert output != null : "Sorter is not finished";
+
+        return output.hasNext();
+    }
+
+    /** Returns the next row in the sort order. */
+    public RowT next() {
+        assert output != null : "Sorter is not finished";
+
+        return output.next();
+    }
+
+    /** Returns number of sorted runs spilled to disk so far. */
+    public int spilledRuns() {
+        return runs.size();
+    }
+
+    /** Discards all the rows and deletes spilled runs, so the sorter can be reused from scratch. */
+    public void reset() {
+        for (SpillFile.Reader<RowT> reader : readers) {
+            reader.close();
+        }
+
+        for (SpillFile<RowT> run : runs) {
+            run.delete();
+        }
+
+        readers.clear();
+        runs.clear();
+        buffer = new ArrayList<>();
+        output = null;
+
+        memory.releaseAll();
+    }
+
+    /**
+     * Reserves memory for a row. If the memory quota of the query is exhausted, the buffered rows are spilled to free the
+     * memory they hold, and the reservation is retried.
+     *
+     * @param size Estimated size of the row.
+     */
+    private void reserve(long size) {
+        try {
+            memory.reserve(size);
+        } catch (SqlException e) {
+            if (spillManager == null || buffer.isEmpty()) {
+                throw e;
+            }
+
+            spill();
+
+            memory.reserve(size);
+        }
+    }
+
+    private void spill() {
+        assert spillManager != null;
+
+        buffer.sort(comp);
+
+        SpillFile<RowT> run = SpillFile.create(spillManager, ctx.queryId(), FILE_PREFIX, ctx.rowHandler());
+
+        runs.add(run);
+
+        for (RowT row : buffer) {
+            run.append(row);
+        }
+
+        run.finish();
+
+        buffer = new ArrayList<>();
+
+        memory.releaseAll();
+    }
+
+    /**
+     * Merges the given number of the oldest runs into a new run, which is appended to the end of the runs list.
+     *
+     * @param cnt Number of runs to merge.
+     */
+    private void mergeRuns(int cnt) {
+        assert spillManager != null && rowFactory != null;
+
+        List<SpillFile<RowT>> merged = runs.subList(0, cnt);
+        List<SpillFile.Reader<RowT>> mergedReaders = new ArrayList<>(cnt);
+
+        // The merged runs stay in the list until the new run is written, so reset() deletes them on failure.
+        SpillFile<RowT> run = SpillFile.create(spillManager, ctx.queryId(), FILE_PREFIX, ctx.rowHandler());
+
+        try {
+            for (SpillFile<RowT> src : merged) {
+                mergedReaders.add(src.reader(rowFactory));
+            }
+
+            Iterator<RowT> it = new MergingIterator<>(new ArrayList<>(mergedReaders), comp);
+
+            while (it.hasNext()) {
+                run.append(it.next());
+            }
+
+            run.finish();
+        } catch (RuntimeException e) {
+            run.delete();
+
+            throw e;
+        } finally {
+            for (SpillFile.Reader<RowT> reader : mergedReaders) {
+                reader.close();
+            }
+        }
+
+        for (SpillFile<RowT> src : merged) {
+            src.delete();
+        }
+
+        merged.clear();
+
+        runs.add(run);
+    }
+
+    /**
+     * K-way merge of sorted iterators.
+     */
+    private static class MergingIterator<RowT> implements Iterator<RowT> {
+        private final PriorityQueue<Source<RowT>> queue;
+
+        MergingIterator(List<Iterator<RowT>> sources, Comparator<RowT> comp) {
+            queue = new PriorityQueue<>(sources.size(), (s1, s2) -> comp.compare(s1.head, s2.head));
+
+            for (Iterator<RowT> it : sources) {
+                if (it.hasNext()) {
+                    queue.add(new Source<>(it));
+                }
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RowT next() {
+            Source<RowT> src = queue.poll();
+
+            if (src == null) {
+                throw new NoSuchElementException();
+            }
+
+            RowT row = src.head;
+
+            if (src.advance()) {
+                queue.add(src);
+            }
+
+            return row;
+        }
+    }
+
+    /**
+     * Sorted iterator with the current row exposed.
+     */
+    private static class Source<RowT> {
+        private final Iterator<RowT> it;
+
+        private RowT head;
+
+        Source(Iterator<RowT> it) {
+            this.it = it;
+
+            head = it.next();
+        }
+
+        boolean advance() {
+            if (!it.hasNext()) {
+                return false;
+            }
+
+            head = it.next();
+
+            return true;
+        }
+    }
+}
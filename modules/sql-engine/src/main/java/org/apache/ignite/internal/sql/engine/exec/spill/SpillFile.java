@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.exec.spill;
+
+import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import org.apache.ignite.internal.lang.IgniteInternalException;
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Append-only file of rows spilled to disk by a query operator.
+ *
+ * <p>Every row is stored as a {@link BinaryTuple} prefixed with its length, so rows are written and read back without
+ * any intermediate object representation. The file is written once and then may be read any number of times.
+ *
+ * <p>The class is not thread-safe: it is expected to be used by a single execution node only.
+ *
+ * @param <RowT> Type of the sql row.
+ */
+public class SpillFile<RowT> {
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+    private final SpillManager spillManager;
+
+    private final RowHandler<RowT> handler;
+
+    private final Path path;
+
+    private @Nullable DataOutputStream out;
+
+    private int columnCount = -1;
+
+    private long rowCount;
+
+    private long size;
+
+    private boolean finished;
+
+    private SpillFile(SpillManager spillManager, RowHandler<RowT> handler, Path path) {
+        this.spillManager = spillManager;
+        this.handler = handler;
+        this.path = path;
+    }
+
+    /**
+     * Creates a new empty spill file.
+     *
+     * @param spillManager Spill manager.
+     * @param queryId ID of the query the file belongs to.
+     * @param prefix Prefix identifying an operator.
+     * @param handler Row handler.
+     * @param <RowT> Type of the sql row.
+     * @return Spill file.
+     */
+    public static <RowT> SpillFile<RowT> create(SpillManager spillManager, UUID queryId, String prefix, RowHandler<RowT> handler) {
+        return new SpillFile<>(spillManager, handler, spillManager.createFile(queryId, prefix));
+    }
+
+    /**
+     * Appends a row to the end of the file.
+     *
+     * @param row Row to append.
+     */
+    public void append(RowT row) {
+        assert !finished : "File is read only: " + path;
+
+        BinaryTuple tuple = handler.toBinaryTuple(row);
+
+        assert columnCount == -1 || columnCount == tuple.elementCount() : "columnCount=" + columnCount + ", tuple=" + tuple.elementCount();
+
+        columnCount = tuple.elementCount();
+
+        ByteBuffer buf = tuple.byteBuffer();
+        int len = tuple.size();
+
+        try {
+            if (out == null) {
+                out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), IO_BUFFER_SIZE));
+            }
+
+            out.writeInt(len);
+
+            if (buf.hasArray()) {
+                out.write(buf.array(), buf.arrayOffset() + buf.position(), len);
+            } else {
+                byte[] bytes = new byte[len];
+
+                buf.get(bytes);
+
+                out.write(bytes);
+            }
+        } catch (IOException e) {
+            throw new IgniteInternalException(INTERNAL_ERR, "Failed to write spill file [file=" + path + ']', e);
+        }
+
+        rowCount++;
+        size += Integer.BYTES + len;
+    }
+
+    /**
+     * Flushes all appended rows to disk and makes the file readable. No rows can be appended after this call.
+     */
+    public void finish() {
+        if (finished) {
+            return;
+        }
+
+        finished = true;
+
+        try {
+            if (out != null) {
+                out.close();
+
+                out = null;
+            }
+        } catch (IOException e) {
+            throw new IgniteInternalException(INTERNAL_ERR, "Failed to write spill file [file=" + path + ']', e);
+        }
+
+        spillManager.metricSource().recordSpill(rowCount, size);
+    }
+
+    /** Returns number of rows in the file. */
+    public long rowCount() {
+        return rowCount;
+    }
+
+    /** Returns size of the file in bytes. */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Opens a new reader over the rows of the file. The file must be {@link #finish() finished}.
+     *
+     * @param factory Factory to restore rows with.
+     * @return Reader, which must be closed after use.
+     */
+    public Reader<RowT> reader(RowFactory<RowT> factory) {
+        assert finished : "File is not finished: " + path;
+
+        return new Reader<>(this, factory);
+    }
+
+    /** Closes the file if it is still open and deletes it from disk. */
+    public void delete() {
+        try {
+            if (out != null) {
+                out.close();
+
+                out = null;
+            }
+        } catch (IOException ignored) {
+            // No-op.
+        }
+
+        finished = true;
+
+        spillManager.deleteFile(path);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "SpillFile [path=" + path + ", rows=" + rowCount + ", size=" + size + ']';
+    }
+
+    /**
+     * Sequential reader of a spill file.
+     *
+     * @param <RowT> Type of the sql row.
+     */
+    public static class Reader<RowT> implements Iterator<RowT>, AutoCloseable {
+        private final SpillFile<RowT> file;
+
+        private final RowFactory<RowT> factory;
+
+        private @Nullable DataInputStream in;
+
+        private long remaining;
+
+        private Reader(SpillFile<RowT> file, RowFactory<RowT> factory) {
+            this.file = file;
+            this.factory = factory;
+            this.remaining = file.rowCount;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RowT next() {
+            if (remaining <= 0) {
+                throw new NoSuchElementException();
+            }
+
+            try {
+                if (in == null) {
+                    in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.path), IO_BUFFER_SIZE));
+                }
+
+                byte[] bytes = new byte[in.readInt()];
+
+                in.readFully(bytes);
+
+                remaining--;
+
+                if (remaining == 0) {
+                    close();
+                }
+
+                return factory.create(new BinaryTuple(file.columnCount, ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN)));
+            } catch (EOFException e) {
+                throw new IgniteInternalException(INTERNAL_ERR, "Unexpected end of spill file [file=" + file.path + ']', e);
+            } catch (IOException e) {
+                throw new IgniteInternalException(INTERNAL_ERR, "Failed to read spill file [file=" + file.path + ']', e);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() {
+            if (in == null) {
+                return;
+            }
+
+            try {
+                in.close();
+            } catch (IOException ignored) {
+                // No-op.
+            }
+
+            in = null;
+        }
+    }
+}
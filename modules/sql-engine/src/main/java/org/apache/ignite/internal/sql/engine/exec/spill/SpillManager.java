@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.exec.spill;
+
+import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import org.apache.ignite.internal.lang.IgniteInternalException;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.sql.engine.exec.LifecycleAware;
+import org.apache.ignite.internal.sql.metrics.SqlSpillMetricSource;
+import org.apache.ignite.internal.util.IgniteUtils;
+
+/**
+ * Node-wide service that manages files used by query operators to spill intermediate results to disk.
+ *
+ * <p>All spill files are created in a single directory, which is cleaned up on node start and stop, so files left
+ * by a crashed node never outlive a restart.
+ */
+public class SpillManager implements LifecycleAware {
+    private static final IgniteLogger LOG = Loggers.forClass(SpillManager.class);
+
+    private final Path spillDir;
+
+    private final LongSupplier operatorMemoryQuota;
+
+    private final SqlSpillMetricSource metricSource;
+
+    /**
+     * Constructor.
+     *
+     * @param spillDir Directory for spill files.
+     * @param operatorMemoryQuota Supplier of amount of memory in bytes a single operator may hold before spilling.
+     * @param metricSource Spill metric source.
+     */
+    public SpillManager(Path spillDir, LongSupplier operatorMemoryQuota, SqlSpillMetricSource metricSource) {
+        this.spillDir = spillDir;
+        this.operatorMemoryQuota = operatorMemoryQuota;
+        this.metricSource = metricSource;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() {
+        cleanup();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop() {
+        cleanup();
+    }
+
+    /** Returns amount of memory in bytes a single buffering operator may hold before it starts spilling to disk. */
+    public long operatorMemoryQuota() {
+        return operatorMemoryQuota.getAsLong();
+    }
+
+    /** Returns spill metric source. */
+    public SqlSpillMetricSource metricSource() {
+        return metricSource;
+    }
+
+    /**
+     * Creates a new empty spill file.
+     *
+     * @param queryId ID of the query the file belongs to.
+     * @param prefix Prefix identifying an operator.
+     * @return Path to the created file.
+     */
+    public Path createFile(UUID queryId, String prefix) {
+        try {
+            Files.createDirectories(spillDir);
+
+            return Files.createTempFile(spillDir, prefix + '-' + queryId + '-', ".spill");
+        } catch (IOException e) {
+            throw new IgniteInternalException(INTERNAL_ERR, "Failed to create spill file [dir=" + spillDir + ']', e);
+        }
+    }
+
+    /**
+     * Deletes the given spill file.
+     *
+     * @param file File to delete.
+     */
+    public void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOG.warn("Failed to delete spill file [file={}]", e, file);
+        }
+    }
+
+    private void cleanup() {
+        if (!IgniteUtils.deleteIfExists(spillDir)) {
+            LOG.warn("Failed to clean up spill directory [dir={}]", spillDir);
+        }
+    }
+}
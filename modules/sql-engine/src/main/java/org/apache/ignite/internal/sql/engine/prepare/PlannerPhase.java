@@ -50,6 +50,8 @@ import org.apache.ignite.internal.sql.engine.rule.FilterConverterRule;
 import org.apache.ignite.internal.sql.engine.rule.FilterSpoolMergeToHashIndexSpoolRule;
 import org.apache.ignite.internal.sql.engine.rule.FilterSpoolMergeToSortedIndexSpoolRule;
 import org.apache.ignite.internal.sql.engine.rule.HashAggregateConverterRule;
+import org.apache.ignite.internal.sql.engine.rule.HashJoinConverterRule;
+import org.apache.ignite.internal.sql.engine.rule.LimitExchangeTransposeRule;
 import org.apache.ignite.internal.sql.engine.rule.LogicalScanConverterRule;
 import org.apache.ignite.internal.sql.engine.rule.MergeJoinConverterRule;
 import org.apache.ignite.internal.sql.engine.rule.NestedLoopJoinConverterRule;
@@ -187,6 +189,7 @@ public enum PlannerPhase {
                                     .anyInputs()).toRule(),
 
             SortExchangeTransposeRule.INSTANCE,
+            LimitExchangeTransposeRule.INSTANCE,
 
             CoreRules.UNION_MERGE,
             CoreRules.MINUS_MERGE,
@@ -221,6 +224,7 @@ public enum PlannerPhase {
 
             // TODO: https://issues.apache.org/jira/browse/IGNITE-16334 join rules ordering is significant here.
             MergeJoinConverterRule.INSTANCE,
+            HashJoinConverterRule.INSTANCE,
 
             // TODO: https://issues.apache.org/jira/browse/IGNITE-21286
             // CorrelatedNestedLoopJoinRule.INSTANCE,
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.rule;
+
+import static org.apache.ignite.internal.sql.engine.trait.IgniteDistributions.single;
+import static org.apache.ignite.internal.sql.engine.trait.TraitUtils.distribution;
+
+import java.math.BigDecimal;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.plan.volcano.RelSubset;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.ignite.internal.sql.engine.rel.IgniteExchange;
+import org.apache.ignite.internal.sql.engine.rel.IgniteLimit;
+import org.apache.ignite.internal.sql.engine.rel.IgniteSort;
+import org.immutables.value.Value;
+
+/**
+ * A rule that copies {@link IgniteLimit} node under {@link IgniteExchange}.
+ *
+ * <p>No fragment has to send more than {@code offset + fetch} rows to the collecting one, thus a limit with this fetch is applied
+ * to every fragment, while the original limit remains on top of the exchange. Since the limit keeps the collation of the input,
+ * this works for both sorted and unsorted inputs.
+ */
+@Value.Enclosing
+public class LimitExchangeTransposeRule extends RelRule<LimitExchangeTransposeRule.Config> {
+    public static final RelOptRule INSTANCE = Config.INSTANCE.toRule();
+
+    private static final BigDecimal MAX_FETCH = BigDecimal.valueOf(Integer.MAX_VALUE);
+
+    private LimitExchangeTransposeRule(Config cfg) {
+        super(cfg);
+    }
+
+    @Override
+    public boolean matches(RelOptRuleCall call) {
+        IgniteLimit limit = call.rel(0);
+        IgniteExchange exchange = call.rel(1);
+
+        return limit.fetch() != null
+                && exchange.distribution() == single()
+                && distribution(exchange.getInput()) != single()
+                && !alreadyLimited(exchange.getInput());
+    }
+
+    /** Returns {@code true} if the input is known to produce a limited amount of rows, so there is no point to limit it again. */
+    private static boolean alreadyLimited(RelNode input) {
+        if (!(input instanceof RelSubset)) {
+            return input instanceof IgniteLimit || (input instanceof IgniteSort && ((IgniteSort) input).fetch != null);
+        }
+
+        for (RelNode rel : ((RelSubset) input).getRelList()) {
+            if (alreadyLimited(rel)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public void onMatch(RelOptRuleCall call) {
+        IgniteLimit limit = call.rel(0);
+        IgniteExchange exchange = call.rel(1);
+
+        RelOptCluster cluster = limit.getCluster();
+        RelNode input = exchange.getInput();
+
+        RelNode localLimit = new IgniteLimit(cluster, input.getTraitSet(), input, null, localFetch(cluster, limit));
+
+        call.transformTo(
+                new IgniteLimit(
+                        cluster,
+                        limit.getTraitSet(),
+                        new IgniteExchange(cluster, exchange.getTraitSet(), localLimit, exchange.distribution()),
+                        limit.offset(),
+                        limit.fetch()
+                )
+        );
+    }
+
+    /**
+     * Returns the expression for the amount of rows every fragment has to provide, that is {@code offset + fetch} capped by
+     * {@link Integer#MAX_VALUE}, since the limits are evaluated as integers.
+     */
+    private static RexNode localFetch(RelOptCluster cluster, IgniteLimit limit) {
+        RexNode offset = limit.offset();
+        RexNode fetch = limit.fetch();
+
+        if (offset == null) {
+            return fetch;
+        }
+
+        RexBuilder rexBuilder = cluster.getRexBuilder();
+
+        if (offset instanceof RexLiteral && fetch instanceof RexLiteral) {
+            BigDecimal sum = ((RexLiteral) offset).getValueAs(BigDecimal.class).add(((RexLiteral) fetch).getValueAs(BigDecimal.class));
+
+            return rexBuilder.makeExactLiteral(sum.min(MAX_FETCH), fetch.getType());
+        }
+
+        RexNode maxFetch = rexBuilder.makeExactLiteral(MAX_FETCH, fetch.getType());
+
+        // The sum itself may overflow, thus the offset is compared with the room left to the maximum instead.
+        RexNode overflow = rexBuilder.makeCall(
+                SqlStdOperatorTable.GREATER_THAN,
+                offset,
+                rexBuilder.makeCall(SqlStdOperatorTable.MINUS, maxFetch, fetch)
+        );
+
+        return rexBuilder.makeCall(
+                SqlStdOperatorTable.CASE,
+                overflow,
+                maxFetch,
+                rexBuilder.makeCast(fetch.getType(), rexBuilder.makeCall(SqlStdOperatorTable.PLUS, offset, fetch))
+        );
+    }
+
+    /** Configuration. */
+    @SuppressWarnings({"ClassNameSameAsAncestorName", "InnerClassFieldHidesOuterClassField"})
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        Config INSTANCE = ImmutableLimitExchangeTransposeRule.Config.of()
+                .withDescription("LimitExchangeTransposeRule")
+                .withOperandSupplier(o0 ->
+                        o0.operand(IgniteLimit.class)
+                                .oneInput(o1 ->
+                                        o1.operand(IgniteExchange.class)
+                                                .anyInputs()))
+                .as(Config.class);
+
+        /** {@inheritDoc} */
+        @Override
+        default LimitExchangeTransposeRule toRule() {
+            return new LimitExchangeTransposeRule(this);
+        }
+    }
+}
@@ -19,8 +19,10 @@ package org.apache.ignite.internal.sql.engine.tx;
 
 import static org.apache.ignite.lang.ErrorGroups.Sql.RUNTIME_ERR;
 
+import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.sql.engine.SqlQueryType;
 import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.internal.tx.impl.IgniteTransactionsImpl;
 import org.apache.ignite.sql.SqlException;
 import org.apache.ignite.tx.IgniteTransactions;
 import org.apache.ignite.tx.TransactionOptions;
@@ -48,8 +50,13 @@ public class QueryTransactionContext {
         InternalTransaction outerTx = tx;
 
         if (outerTx == null) {
+            // Must be taken before the transaction is started, since the commit of a read-write transaction may move it further.
+            HybridTimestamp observableTimestamp = transactions instanceof IgniteTransactionsImpl
+                    ? ((IgniteTransactionsImpl) transactions).observableTimestamp()
+                    : null;
+
             return new QueryTransactionWrapperImpl((InternalTransaction) transactions.begin(
-                    new TransactionOptions().readOnly(queryType != SqlQueryType.DML)), true);
+                    new TransactionOptions().readOnly(queryType != SqlQueryType.DML)), true, observableTimestamp);
         }
 
         validateStatement(queryType, outerTx.isReadOnly());
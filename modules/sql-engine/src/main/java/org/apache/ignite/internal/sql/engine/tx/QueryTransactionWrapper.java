@@ -18,7 +18,9 @@
 package org.apache.ignite.internal.sql.engine.tx;
 
 import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.tx.InternalTransaction;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Wrapper for the transaction that encapsulates the management of an implicit/script-driven transaction.
@@ -38,6 +40,14 @@ public interface QueryTransactionWrapper {
      */
     boolean implicit();
 
+    /**
+     * Returns the timestamp observed by the client at the moment the implicit transaction was started, that is the commit
+     * timestamp of the latest read-write transaction the client is aware of.
+     *
+     * @return Observable timestamp, or {@code null} if the transaction is not implicit or the client has observed nothing yet.
+     */
+    @Nullable HybridTimestamp observableTimestamp();
+
     /** Rolls back a transaction. */
     CompletableFuture<Void> rollback(Throwable cause);
 }
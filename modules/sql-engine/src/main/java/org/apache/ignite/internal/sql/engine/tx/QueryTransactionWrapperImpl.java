@@ -20,7 +20,9 @@ package org.apache.ignite.internal.sql.engine.tx;
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
 
 import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.tx.InternalTransaction;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Wrapper for the transaction that encapsulates the management of an implicit transaction.
@@ -30,9 +32,23 @@ public class QueryTransactionWrapperImpl implements QueryTransactionWrapper {
 
     private final InternalTransaction transaction;
 
+    private final @Nullable HybridTimestamp observableTimestamp;
+
     public QueryTransactionWrapperImpl(InternalTransaction transaction, boolean implicit) {
+        this(transaction, implicit, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param transaction Transaction.
+     * @param implicit Whether the transaction was started implicitly by the query engine.
+     * @param observableTimestamp Timestamp observed by the client at the moment the transaction was started.
+     */
+    public QueryTransactionWrapperImpl(InternalTransaction transaction, boolean implicit, @Nullable HybridTimestamp observableTimestamp) {
         this.transaction = transaction;
         this.implicit = implicit;
+        this.observableTimestamp = observableTimestamp;
     }
 
     @Override
@@ -58,4 +74,9 @@ public class QueryTransactionWrapperImpl implements QueryTransactionWrapper {
     public boolean implicit() {
         return implicit;
     }
+
+    @Override
+    public @Nullable HybridTimestamp observableTimestamp() {
+        return observableTimestamp;
+    }
 }
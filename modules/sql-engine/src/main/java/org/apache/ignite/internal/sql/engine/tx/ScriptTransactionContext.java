@@ -23,6 +23,7 @@ import static org.apache.ignite.lang.ErrorGroups.Sql.RUNTIME_ERR;
 
 import java.util.concurrent.CompletableFuture;
 import org.apache.calcite.sql.SqlNode;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.sql.engine.AsyncSqlCursor;
 import org.apache.ignite.internal.sql.engine.InternalSqlRow;
 import org.apache.ignite.internal.sql.engine.SqlQueryType;
@@ -33,6 +34,7 @@ import org.apache.ignite.internal.sql.engine.sql.IgniteSqlStartTransactionMode;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.sql.SqlException;
 import org.apache.ignite.tx.TransactionOptions;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Starts an implicit or script-driven transaction if there is no external transaction.
@@ -163,5 +165,10 @@ public class ScriptTransactionContext {
         public boolean implicit() {
             return true;
         }
+
+        @Override
+        public @Nullable HybridTimestamp observableTimestamp() {
+            return null;
+        }
     }
 }
@@ -28,10 +28,12 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.sql.engine.AsyncSqlCursor;
 import org.apache.ignite.internal.sql.engine.InternalSqlRow;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.sql.engine.SqlQueryType;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.util.AsyncCursor;
 import org.apache.ignite.sql.SqlException;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Wraps a transaction, which is managed by SQL engine via {@link SqlQueryType#TX_CONTROL} statements.
@@ -110,6 +112,11 @@ class ScriptTransactionWrapperImpl implements QueryTransactionWrapper {
         return false;
     }
 
+    @Override
+    public @Nullable HybridTimestamp observableTimestamp() {
+        return null;
+    }
+
     /** Returns a future that completes after the script-driven transaction commits. */
     CompletableFuture<Void> commit() {
         changeState(State.COMMIT);
@@ -136,6 +136,18 @@ public final class Commons {
     public static final int IO_BATCH_SIZE = 256;
     public static final int IO_BATCH_COUNT = 4;
 
+    /** Serialized size in bytes at which an exchange batch is considered full and may be sent. */
+    public static final int IO_BATCH_BYTES = 32 * 1024;
+
+    /** Upper bound on the number of rows in an exchange batch, regardless of its size in bytes. */
+    public static final int IO_BATCH_MAX_ROWS = 8 * IO_BATCH_SIZE;
+
+    /** Upper bound on the number of batches an inbox may have in flight from a single remote source. */
+    public static final int IO_BATCH_MAX_COUNT = 16;
+
+    /** Budget in bytes for the batches an inbox may have in flight from a single remote source. */
+    public static final long IO_IN_FLIGHT_BYTES = 1024 * 1024;
+
     /**
      * The number of elements to be prefetched from each partition when scanning the sorted index.
      * The higher the value, the fewer calls to the upstream will be, but at the same time, the bigger
@@ -774,6 +786,31 @@ public final class Commons {
         return IgniteSystemProperties.getBoolean("IMPLICIT_PK_ENABLED", false);
     }
 
+    /**
+     * Checks whether batched dispatch of rows is enabled or not.
+     *
+     * <p>In this mode scan nodes push rows to downstream in batches, thus nodes supporting batches (like filter and
+     * projection) are invoked once per batch instead of once per row. Only the dispatch between the nodes is batched:
+     * predicates and projections are still evaluated row by row.
+     *
+     * @return A {@code true} if batched dispatch is enabled, {@code false} otherwise.
+     */
+    public static boolean batchedDispatchEnabled() {
+        return IgniteSystemProperties.getBoolean("SQL_BATCHED_DISPATCH_ENABLED", false);
+    }
+
+    /**
+     * Returns the number of slices every partition is split into during a read-only table scan.
+     *
+     * <p>Slices are disjoint ranges of row IDs, which are scanned concurrently and merged without any ordering. A value of
+     * {@code 1} disables splitting.
+     *
+     * @return Number of slices per partition.
+     */
+    public static int partitionScanParallelism() {
+        return Math.max(1, IgniteSystemProperties.getInteger("SQL_PARTITION_SCAN_PARALLELISM", 1));
+    }
+
     /**
      * Returns a short version of a rule description.
      *
@@ -84,7 +84,7 @@ public class FormatAwareProjectedTuple extends AbstractProjectedTuple {
                 }
             });
 
-            newProjection[i] = columnIndex;
+            newProjection[i] = i;
         }
 
         delegate = new BinaryTuple(projection.length, builder.build());
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.metrics;
+
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.AtomicLongMetric;
+import org.apache.ignite.internal.metrics.MetricSetBuilder;
+
+/**
+ * Metric source, which provides metrics of the memory reserved by queries running on the node.
+ */
+public class SqlMemoryMetricSource extends AbstractMetricSource<SqlMemoryMetricSource.Holder> {
+    public static final String NAME = "sql.memory";
+
+    private final LongSupplier reservedBytes;
+
+    private final IntSupplier trackedQueries;
+
+    /**
+     * Constructor.
+     *
+     * @param reservedBytes Supplier of the amount of memory reserved by all the queries.
+     * @param trackedQueries Supplier of the number of queries holding memory reservations.
+     */
+    public SqlMemoryMetricSource(LongSupplier reservedBytes, IntSupplier trackedQueries) {
+        super(NAME);
+
+        this.reservedBytes = reservedBytes;
+        this.trackedQueries = trackedQueries;
+    }
+
+    /** Records a query that was not admitted to the node because the node memory quota is exhausted. */
+    public void onQueryRejected() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.rejectedQueries.increment();
+        }
+    }
+
+    /** Records a query that failed to reserve memory because it exceeded a memory quota. */
+    public void onQuotaExceeded() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.quotaExceeded.increment();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void init(MetricSetBuilder bldr, Holder holder) {
+        bldr.longGauge("ReservedBytes", "Amount of memory reserved by running queries", reservedBytes);
+        bldr.intGauge("TrackedQueries", "Number of running queries tracked by the memory manager", trackedQueries);
+        bldr.register(holder.rejectedQueries);
+        bldr.register(holder.quotaExceeded);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /**
+     * Holder.
+     */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final AtomicLongMetric rejectedQueries = new AtomicLongMetric(
+                "RejectedQueries",
+                "Number of queries not admitted because the node memory quota was exhausted"
+        );
+
+        private final AtomicLongMetric quotaExceeded = new AtomicLongMetric(
+                "QuotaExceededQueries",
+                "Number of queries failed because they exceeded a memory quota"
+        );
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.metrics;
+
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.AtomicLongMetric;
+import org.apache.ignite.internal.metrics.MetricSetBuilder;
+
+/**
+ * Metric source, which provides SQL query result cache metrics.
+ */
+public class SqlResultCacheMetricSource extends AbstractMetricSource<SqlResultCacheMetricSource.Holder> {
+    public static final String NAME = "sql.result.cache";
+
+    /** Constructor. */
+    public SqlResultCacheMetricSource() {
+        super(NAME);
+    }
+
+    /** Records a query served from the cache. */
+    public void onHit() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.hits.increment();
+        }
+    }
+
+    /** Records a cacheable query which had to be executed. */
+    public void onMiss() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.misses.increment();
+        }
+    }
+
+    /** Records a cached result dropped because one of the tables it was read from has been modified. */
+    public void onInvalidation() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.invalidations.increment();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void init(MetricSetBuilder bldr, Holder holder) {
+        bldr.register(holder.hits);
+        bldr.register(holder.misses);
+        bldr.register(holder.invalidations);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /**
+     * Holder.
+     */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final AtomicLongMetric hits = new AtomicLongMetric("Hits", "Query result cache hits");
+        private final AtomicLongMetric misses = new AtomicLongMetric("Misses", "Query result cache misses");
+        private final AtomicLongMetric invalidations = new AtomicLongMetric(
+                "Invalidations", "Cached query results dropped because of table modifications");
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.cache;
+
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.sql.engine.InternalSqlRow;
+import org.apache.ignite.internal.sql.engine.InternalSqlRowSingleLong;
+import org.apache.ignite.internal.sql.engine.prepare.PlanId;
+import org.apache.ignite.internal.sql.engine.util.cache.CaffeineCacheFactory;
+import org.apache.ignite.internal.sql.metrics.SqlResultCacheMetricSource;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.util.AsyncCursor;
+import org.apache.ignite.internal.util.AsyncWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link QueryResultCache}.
+ */
+public class QueryResultCacheTest extends BaseIgniteAbstractTest {
+    private static final int TABLE_ID = 1;
+
+    private static final int OTHER_TABLE_ID = 2;
+
+    private static final long STALENESS_MILLIS = 1000;
+
+    private static final PlanId PLAN_ID = new PlanId(UUID.randomUUID(), 1);
+
+    private static final QueryResultCache.Key KEY = new QueryResultCache.Key(PLAN_ID, new Object[]{1}, 1);
+
+    private SqlResultCacheMetricSource metricSource;
+
+    private MetricSet metrics;
+
+    private QueryResultCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        metricSource = new SqlResultCacheMetricSource();
+        metrics = metricSource.enable();
+
+        cache = new QueryResultCache(CaffeineCacheFactory.create(Runnable::run), 16, 100, STALENESS_MILLIS, metricSource);
+    }
+
+    @Test
+    public void testFullyReadResultIsCached() {
+        HybridTimestamp readTs = new HybridTimestamp(1000, 0);
+
+        assertNull(cache.get(KEY, readTs, null));
+
+        readFully(cache.populate(KEY, new int[]{TABLE_ID}, readTs, cursor(10)), 3);
+
+        List<InternalSqlRow> rows = cache.get(KEY, new HybridTimestamp(1500, 0), null);
+
+        assertNotNull(rows);
+        assertEquals(10, rows.size());
+
+        // Same plan with other parameters must not be served from the cache.
+        assertNull(cache.get(new QueryResultCache.Key(PLAN_ID, new Object[]{2}, 1), readTs, null));
+
+        assertEquals(1, metrics.<LongMetric>get("Hits").value());
+        assertEquals(2, metrics.<LongMetric>get("Misses").value());
+    }
+
+    @Test
+    public void testPartiallyReadResultIsNotCached() {
+        HybridTimestamp readTs = new HybridTimestamp(1000, 0);
+
+        AsyncCursor<InternalSqlRow> cursor = cache.populate(KEY, new int[]{TABLE_ID}, readTs, cursor(10));
+
+        assertThat(cursor.requestNextAsync(5), willCompleteSuccessfully());
+        assertThat(cursor.closeAsync(), willCompleteSuccessfully());
+
+        assertNull(cache.get(KEY, readTs, null));
+    }
+
+    @Test
+    public void testTooLargeResultIsNotCached() {
+        HybridTimestamp readTs = new HybridTimestamp(1000, 0);
+
+        readFully(cache.populate(KEY, new int[]{TABLE_ID}, readTs, cursor(101)), 50);
+
+        assertNull(cache.get(KEY, readTs, null));
+    }
+
+    @Test
+    public void testResultIsNotServedBeyondStaleness() {
+        HybridTimestamp readTs = new HybridTimestamp(1000, 0);
+
+        readFully(cache.populate(KEY, new int[]{TABLE_ID}, readTs, cursor(10)), 10);
+
+        assertNotNull(cache.get(KEY, new HybridTimestamp(1000 + STALENESS_MILLIS, 0), null));
+        assertNull(cache.get(KEY, new HybridTimestamp(1001 + STALENESS_MILLIS, 0), null));
+
+        // Stale result is dropped.
+        assertNull(cache.get(KEY, readTs, null));
+
+        readFully(cache.populate(KEY, new int[]{TABLE_ID}, readTs, cursor(10)), 10);
+
+        // The result must not be served to a query reading at an earlier timestamp.
+        assertNull(cache.get(KEY, new HybridTimestamp(999, 0), null));
+    }
+
+    @Test
+    public void testResultIsInvalidatedByWatermark() {
+        HybridTimestamp readTs = new HybridTimestamp(1000, 0);
+
+        readFully(cache.populate(KEY, new int[]{TABLE_ID}, readTs, cursor(10)), 10);
+
+        cache.onTablesModified(new int[]{OTHER_TABLE_ID}, new HybridTimestamp(1100, 0).longValue());
+
+        // A modification which is visible at the read timestamp doesn't invalidate the result.
+        cache.onTablesModified(new int[]{TABLE_ID}, new HybridTimestamp(900, 0).longValue());
+
+        assertNotNull(cache.get(KEY, readTs, null));
+        assertEquals(0, metrics.<LongMetric>get("Invalidations").value());
+
+        cache.onTablesModified(new int[]{TABLE_ID}, new HybridTimestamp(1100, 0).longValue());
+
+        assertNull(cache.get(KEY, readTs, null));
+        assertEquals(1, metrics.<LongMetric>get("Invalidations").value());
+    }
+
+    @Test
+    public void testResultIsNotCachedIfModifiedWhileRead() {
+        HybridTimestamp readTs = new HybridTimestamp(1000, 0);
+
+        AsyncCursor<InternalSqlRow> cursor = cache.populate(KEY, new int[]{TABLE_ID}, readTs, cursor(10));
+
+        assertThat(cursor.requestNextAsync(5), willCompleteSuccessfully());
+
+        cache.onTablesModified(new int[]{TABLE_ID}, new HybridTimestamp(1100, 0).longValue());
+
+        readFully(cursor, 5);
+
+        assertNull(cache.get(KEY, readTs, null));
+    }
+
+    @Test
+    public void testResultIsNotServedToClientObservedLaterWrite() {
+        HybridTimestamp readTs = new HybridTimestamp(1000, 0);
+
+        readFully(cache.populate(KEY, new int[]{TABLE_ID}, readTs, cursor(10)), 10);
+
+        // The client has observed nothing later than the result.
+        assertNotNull(cache.get(KEY, new HybridTimestamp(1100, 0), readTs));
+
+        // A key-value put committed by the client after the result was read bypasses the watermarks, but moves the observable
+        // timestamp of the client.
+        HybridTimestamp commitTs = new HybridTimestamp(1050, 0);
+
+        assertNull(cache.get(KEY, new HybridTimestamp(1100, 0), commitTs));
+        assertEquals(1, metrics.<LongMetric>get("Misses").value());
+
+        // The result is still valid for the clients which haven't observed the put.
+        assertNotNull(cache.get(KEY, new HybridTimestamp(1100, 0), null));
+    }
+
+    private static AsyncCursor<InternalSqlRow> cursor(int size) {
+        List<InternalSqlRow> rows = LongStream.range(0, size)
+                .mapToObj(InternalSqlRowSingleLong::new)
+                .collect(Collectors.toList());
+
+        return new AsyncWrapper<>(rows.iterator());
+    }
+
+    private static void readFully(AsyncCursor<InternalSqlRow> cursor, int pageSize) {
+        AsyncCursor.BatchedResult<InternalSqlRow> batch;
+
+        do {
+            batch = cursor.requestNextAsync(pageSize).join();
+        } while (batch.hasMore());
+    }
+}
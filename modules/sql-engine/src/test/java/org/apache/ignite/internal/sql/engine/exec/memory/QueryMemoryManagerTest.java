@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.memory;
+
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.assertThrowsWithCause;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.runRace;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.lang.RunnableX;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.sql.SqlException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link QueryMemoryManager}, {@link QueryMemoryTracker} and {@link MemoryReservation}.
+ */
+public class QueryMemoryManagerTest extends BaseIgniteAbstractTest {
+    @Test
+    public void testReservationsAreAccountedOnNode() {
+        QueryMemoryManager manager = new QueryMemoryManager(() -> 1024, () -> 4096);
+
+        QueryMemoryTracker tracker1 = manager.register(UUID.randomUUID());
+        QueryMemoryTracker tracker2 = manager.register(UUID.randomUUID());
+
+        tracker1.reserve(1000);
+        tracker2.reserve(500);
+
+        assertEquals(1500, manager.reserved());
+
+        tracker1.release(600);
+
+        assertEquals(400, tracker1.reserved());
+        assertEquals(1000, tracker1.peak());
+        assertEquals(900, manager.reserved());
+
+        tracker1.close();
+        tracker2.close();
+
+        assertEquals(0, manager.reserved());
+    }
+
+    @Test
+    public void testQueryQuotaExceeded() {
+        QueryMemoryManager manager = new QueryMemoryManager(() -> 1024, () -> Long.MAX_VALUE);
+        MetricSet metrics = manager.metricSource().enable();
+
+        QueryMemoryTracker tracker = manager.register(UUID.randomUUID());
+
+        tracker.reserve(1000);
+
+        assertThrowsWithCause(() -> tracker.reserve(100), SqlException.class, "Query exceeded the memory quota");
+
+        assertEquals(1000, tracker.reserved());
+        assertEquals(1000, manager.reserved());
+        assertEquals(1, metrics.<LongMetric>get("QuotaExceededQueries").value());
+    }
+
+    @Test
+    public void testNodeQuotaExceeded() {
+        QueryMemoryManager manager = new QueryMemoryManager(() -> Long.MAX_VALUE, () -> 1024);
+        MetricSet metrics = manager.metricSource().enable();
+
+        QueryMemoryTracker tracker1 = manager.register(UUID.randomUUID());
+        QueryMemoryTracker tracker2 = manager.register(UUID.randomUUID());
+
+        tracker1.reserve(1000);
+
+        assertThrowsWithCause(() -> tracker2.reserve(100), SqlException.class, "Query exceeded the node memory quota");
+
+        assertEquals(0, tracker2.reserved());
+        assertEquals(1000, manager.reserved());
+        assertEquals(1, metrics.<LongMetric>get("QuotaExceededQueries").value());
+    }
+
+    @Test
+    public void testQueryRejectedWhenNodeQuotaIsExhausted() {
+        QueryMemoryManager manager = new QueryMemoryManager(() -> Long.MAX_VALUE, () -> 1024);
+        MetricSet metrics = manager.metricSource().enable();
+
+        UUID queryId = UUID.randomUUID();
+        QueryMemoryTracker tracker = manager.register(queryId);
+
+        tracker.reserve(1024);
+
+        // Already admitted query gets its tracker back.
+        assertSame(tracker, manager.register(queryId));
+
+        assertThrowsWithCause(() -> manager.register(UUID.randomUUID()), SqlException.class, "Query was rejected");
+        assertEquals(1, metrics.<LongMetric>get("RejectedQueries").value());
+
+        tracker.close();
+
+        manager.register(UUID.randomUUID());
+    }
+
+    @Test
+    public void testNodeReservationsNeverExceedQuota() {
+        QueryMemoryManager manager = new QueryMemoryManager(() -> Long.MAX_VALUE, () -> 1024);
+
+        AtomicLong maxReserved = new AtomicLong();
+
+        // Three reservations fit into the quota, the fourth one doesn't.
+        RunnableX reserveAndRelease = () -> {
+            QueryMemoryTracker tracker = manager.register(UUID.randomUUID());
+
+            for (int i = 0; i < 1_000; i++) {
+                try {
+                    tracker.reserve(300);
+                } catch (SqlException e) {
+                    continue;
+                }
+
+                maxReserved.accumulateAndGet(manager.reserved(), Math::max);
+
+                tracker.release(300);
+            }
+
+            tracker.close();
+        };
+
+        runRace(reserveAndRelease, reserveAndRelease, reserveAndRelease, reserveAndRelease);
+
+        assertTrue(maxReserved.get() <= 1024, "maxReserved=" + maxReserved.get());
+        assertEquals(0, manager.reserved());
+    }
+
+    @Test
+    public void testReservationAfterCloseIsIgnored() {
+        QueryMemoryManager manager = new QueryMemoryManager(() -> Long.MAX_VALUE, () -> Long.MAX_VALUE);
+
+        QueryMemoryTracker tracker = manager.register(UUID.randomUUID());
+
+        tracker.reserve(100);
+        tracker.close();
+
+        tracker.reserve(100);
+        tracker.release(100);
+
+        assertEquals(0, manager.reserved());
+    }
+
+    @Test
+    public void testMemoryReservationUsesChunks() {
+        QueryMemoryManager manager = new QueryMemoryManager(() -> Long.MAX_VALUE, () -> Long.MAX_VALUE);
+        QueryMemoryTracker tracker = manager.register(UUID.randomUUID());
+
+        MemoryReservation reservation = new MemoryReservation(tracker);
+
+        reservation.reserve(10);
+
+        assertEquals(10, reservation.used());
+        assertEquals(MemoryReservation.CHUNK_SIZE, tracker.reserved());
+
+        reservation.reserve(MemoryReservation.CHUNK_SIZE * 3);
+
+        assertEquals(MemoryReservation.CHUNK_SIZE * 4, tracker.reserved());
+
+        reservation.release(MemoryReservation.CHUNK_SIZE * 3);
+
+        // One spare chunk is kept.
+        assertEquals(10, reservation.used());
+        assertEquals(MemoryReservation.CHUNK_SIZE * 2, tracker.reserved());
+
+        reservation.releaseAll();
+
+        assertEquals(0, reservation.used());
+        assertEquals(0, tracker.reserved());
+        assertEquals(0, manager.reserved());
+    }
+}
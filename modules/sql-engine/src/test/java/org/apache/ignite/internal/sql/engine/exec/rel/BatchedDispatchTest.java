@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.ignite.internal.sql.engine.QueryCancelledException;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
+import org.apache.ignite.internal.testframework.WithSystemProperty;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for the execution of a scan, filter and project pipeline with batched dispatch of rows.
+ */
+@WithSystemProperty(key = "SQL_BATCHED_DISPATCH_ENABLED", value = "true")
+public class BatchedDispatchTest extends AbstractExecutionTest<Object[]> {
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 10, 511, 512, 513, 10_000})
+    public void testScanFilterProject(int size) {
+        ExecutionContext<Object[]> ctx = executionContext(true);
+
+        List<Object[]> source = IntStream.range(0, size)
+                .mapToObj(i -> new Object[]{i, i % 3, "val_" + i})
+                .collect(Collectors.toList());
+
+        ScanNode<Object[]> scan = new ScanNode<>(ctx, source);
+
+        BatchCountingNode<Object[]> counter = new BatchCountingNode<>(ctx);
+        counter.register(scan);
+
+        FilterNode<Object[]> filter = new FilterNode<>(ctx, r -> (Integer) r[1] == 0);
+        filter.register(counter);
+
+        ProjectNode<Object[]> project = new ProjectNode<>(ctx, r -> new Object[]{r[0], r[2]});
+        project.register(filter);
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+        root.register(project);
+
+        List<Object[]> rows = new ArrayList<>();
+
+        while (root.hasNext()) {
+            rows.add(root.next());
+        }
+
+        List<Object[]> expected = source.stream()
+                .filter(r -> (Integer) r[1] == 0)
+                .map(r -> new Object[]{r[0], r[2]})
+                .collect(Collectors.toList());
+
+        assertEquals(expected.size(), rows.size());
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), rows.get(i));
+        }
+
+        assertEquals(0, counter.singleRows);
+
+        if (size > 1) {
+            assertTrue(counter.batches > 0);
+            assertTrue(counter.batches < size, "batches=" + counter.batches);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 10_000})
+    public void testFilterRejectsAll(int size) {
+        ExecutionContext<Object[]> ctx = executionContext(true);
+
+        List<Object[]> source = IntStream.range(0, size)
+                .mapToObj(i -> new Object[]{i})
+                .collect(Collectors.toList());
+
+        ScanNode<Object[]> scan = new ScanNode<>(ctx, source);
+
+        FilterNode<Object[]> filter = new FilterNode<>(ctx, r -> false);
+        filter.register(scan);
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+        root.register(filter);
+
+        assertFalse(root.hasNext());
+    }
+
+    @Test
+    public void testDefaultPushBatchStopsOnCancel() {
+        ExecutionContext<Object[]> ctx = executionContext(true);
+
+        CancellingNode<Object[]> node = new CancellingNode<>(ctx);
+
+        assertThrows(QueryCancelledException.class, () -> node.pushBatch(List.of(new Object[]{1}, new Object[]{2})));
+
+        assertEquals(1, node.pushed);
+    }
+
+    @Override
+    protected RowHandler<Object[]> rowHandler() {
+        return ArrayRowHandler.INSTANCE;
+    }
+
+    /** Pass-through node that counts how rows are pushed to it. */
+    private static class BatchCountingNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, Downstream<RowT> {
+        private int batches;
+
+        private int singleRows;
+
+        private BatchCountingNode(ExecutionContext<RowT> ctx) {
+            super(ctx);
+        }
+
+        @Override
+        public void request(int rowsCnt) throws Exception {
+            source().request(rowsCnt);
+        }
+
+        @Override
+        public void push(RowT row) throws Exception {
+            singleRows++;
+
+            downstream().push(row);
+        }
+
+        @Override
+        public void pushBatch(List<RowT> batch) throws Exception {
+            batches++;
+
+            downstream().pushBatch(batch);
+        }
+
+        @Override
+        public void end() throws Exception {
+            downstream().end();
+        }
+
+        @Override
+        protected void rewindInternal() {
+            // No-op.
+        }
+
+        @Override
+        protected Downstream<RowT> requestDownstream(int idx) {
+            return this;
+        }
+    }
+
+    /** Node that relies on the default batch push and cancels the query on the first row pushed to it. */
+    private static class CancellingNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, Downstream<RowT> {
+        private int pushed;
+
+        private CancellingNode(ExecutionContext<RowT> ctx) {
+            super(ctx);
+        }
+
+        @Override
+        public void request(int rowsCnt) {
+            // No-op.
+        }
+
+        @Override
+        public void push(RowT row) {
+            pushed++;
+
+            context().cancel();
+        }
+
+        @Override
+        public void end() {
+            // No-op.
+        }
+
+        @Override
+        protected void rewindInternal() {
+            // No-op.
+        }
+
+        @Override
+        protected Downstream<RowT> requestDownstream(int idx) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CreditWindow}.
+ */
+public class CreditWindowTest extends BaseIgniteAbstractTest {
+    private static final long BATCH_BYTES = 32 * 1024;
+
+    private long now;
+
+    @Test
+    public void testInitialCreditsAreKeptUntilMeasured() {
+        CreditWindow window = new CreditWindow(4, 16, Long.MAX_VALUE, () -> now);
+
+        assertEquals(4, window.credits());
+
+        window.onRequested(0);
+
+        assertEquals(4, window.credits());
+    }
+
+    @Test
+    public void testSlowConsumerShrinksWindow() {
+        CreditWindow window = new CreditWindow(4, 16, Long.MAX_VALUE, () -> now);
+
+        for (int i = 0; i < 10; i++) {
+            roundTrip(window, i, 1, 10);
+        }
+
+        assertEquals(2, window.credits());
+    }
+
+    @Test
+    public void testFastConsumerGrowsWindow() {
+        CreditWindow window = new CreditWindow(4, 16, Long.MAX_VALUE, () -> now);
+
+        for (int i = 0; i < 10; i++) {
+            roundTrip(window, i, 10, 1);
+        }
+
+        assertEquals(11, window.credits());
+    }
+
+    @Test
+    public void testWindowIsBoundedByMaxCredits() {
+        CreditWindow window = new CreditWindow(4, 8, Long.MAX_VALUE, () -> now);
+
+        for (int i = 0; i < 10; i++) {
+            roundTrip(window, i, 100, 1);
+        }
+
+        assertEquals(8, window.credits());
+    }
+
+    @Test
+    public void testWindowIsBoundedByInFlightBytes() {
+        CreditWindow window = new CreditWindow(4, 16, 3 * BATCH_BYTES, () -> now);
+
+        for (int i = 0; i < 10; i++) {
+            roundTrip(window, i, 100, 1);
+        }
+
+        assertEquals(3, window.credits());
+    }
+
+    /** Emulates a request of a single batch followed by its arrival after {@code rttMs} and consumption within {@code consumeMs}. */
+    private void roundTrip(CreditWindow window, int batchId, long rttMs, long consumeMs) {
+        window.onRequested(batchId);
+
+        now += TimeUnit.MILLISECONDS.toNanos(rttMs);
+
+        window.onReceived(batchId, BATCH_BYTES);
+        window.onBatchStarted();
+
+        now += TimeUnit.MILLISECONDS.toNanos(consumeMs);
+
+        window.onBatchDrained();
+    }
+}
@@ -21,29 +21,312 @@ import static org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType.M
 import static org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType.REDUCE;
 import static org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType.SINGLE;
 import static org.apache.ignite.internal.util.CollectionUtils.first;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelCollations;
 import org.apache.calcite.rel.core.AggregateCall;
 import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.calcite.util.ImmutableIntList;
 import org.apache.calcite.util.mapping.Mapping;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.row.RowSchema;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
 import org.apache.ignite.internal.sql.engine.rel.agg.MapReduceAggregates;
 import org.apache.ignite.internal.sql.engine.rel.agg.MapReduceAggregates.MapReduceAgg;
+import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
 import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.internal.sql.engine.util.TypeUtils;
+import org.apache.ignite.internal.sql.metrics.SqlSpillMetricSource;
+import org.apache.ignite.internal.type.NativeType;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
 
 /**
  * HashAggregateExecutionTest.
  * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
  */
 public class HashAggregateExecutionTest extends BaseAggregateTest {
+    /** Tests grouping by a single integer column when groups do not fit into the memory quota. */
+    @Test
+    public void countWithSpillBySingleKey() {
+        checkCountWithSpill(ImmutableBitSet.of(0));
+    }
+
+    /** Tests grouping by several columns when groups do not fit into the memory quota. */
+    @Test
+    public void countWithSpillByMultipleKeys() {
+        checkCountWithSpill(ImmutableBitSet.of(0, 1));
+    }
+
+    private void checkCountWithSpill(ImmutableBitSet grpSet) {
+        int groupsCnt = 2_000;
+        int rowsPerGroup = 5;
+
+        SqlSpillMetricSource metricSource = new SqlSpillMetricSource();
+        MetricSet metrics = metricSource.enable();
+        SpillManager spillManager = new SpillManager(workDir.resolve("spill"), () -> 16 * 1024, metricSource);
+
+        ExecutionContext<Object[]> ctx = executionContext();
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+        RelDataType rowType = TypeUtils.createRowType(tf, TypeUtils.native2relationalTypes(tf, NativeTypes.INT32, NativeTypes.INT32));
+        RowSchema inputSchema = RowSchema.builder().addField(NativeTypes.INT32).addField(NativeTypes.INT32).build();
+
+        // The second column is functionally dependent on the first one, so both grouping sets produce the same groups.
+        List<Object[]> data = IntStream.range(0, groupsCnt * rowsPerGroup)
+                .mapToObj(i -> row(i % groupsCnt, -(i % groupsCnt)))
+                .collect(Collectors.toList());
+
+        AggregateCall call = AggregateCall.create(
+                SqlStdOperatorTable.COUNT,
+                false,
+                false,
+                false,
+                ImmutableList.of(),
+                ImmutableIntList.of(),
+                -1,
+                null,
+                RelCollations.EMPTY,
+                tf.createJavaType(int.class),
+                null);
+
+        HashAggregateNode<Object[]> agg = new HashAggregateNode<>(
+                ctx,
+                SINGLE,
+                List.of(grpSet),
+                accFactory(ctx, call, SINGLE, rowType),
+                rowFactory(),
+                inputSchema,
+                spillManager
+        );
+
+        agg.register(new ScanNode<>(ctx, data));
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+        root.register(agg);
+
+        Map<Object, Object> counts = new HashMap<>();
+
+        while (root.hasNext()) {
+            Object[] row = root.next();
+
+            assertNull(counts.put(row[0], row[row.length - 1]), "Duplicate group: " + row[0]);
+        }
+
+        assertEquals(groupsCnt, counts.size());
+
+        for (int i = 0; i < groupsCnt; i++) {
+            assertEquals((long) rowsPerGroup, ((Number) counts.get(i)).longValue());
+        }
+
+        assertTrue(metrics.<LongMetric>get("SpillFiles").value() > 0);
+    }
+
+    /** Tests grouping by a single UUID column with a null group when groups do not fit into the memory quota. */
+    @Test
+    public void countWithSpillByUuidKey() {
+        int groupsCnt = 2_000;
+        int rowsPerGroup = 5;
+
+        SqlSpillMetricSource metricSource = new SqlSpillMetricSource();
+        MetricSet metrics = metricSource.enable();
+        SpillManager spillManager = new SpillManager(workDir.resolve("spill"), () -> 16 * 1024, metricSource);
+
+        ExecutionContext<Object[]> ctx = executionContext();
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+        RelDataType rowType = TypeUtils.createRowType(tf, TypeUtils.native2relationalTypes(tf, NativeTypes.UUID, NativeTypes.INT32));
+        RowSchema inputSchema = RowSchema.builder().addField(NativeTypes.UUID).addField(NativeTypes.INT32).build();
+
+        // Group 0 has a null key, the keys of the other groups share the most significant bits to collide in the table.
+        List<Object[]> data = IntStream.range(0, groupsCnt * rowsPerGroup)
+                .mapToObj(i -> row(uuidKey(i % groupsCnt), i))
+                .collect(Collectors.toList());
+
+        AggregateCall call = AggregateCall.create(
+                SqlStdOperatorTable.COUNT,
+                false,
+                false,
+                false,
+                ImmutableList.of(),
+                ImmutableIntList.of(),
+                -1,
+                null,
+                RelCollations.EMPTY,
+                tf.createJavaType(int.class),
+                null);
+
+        HashAggregateNode<Object[]> agg = new HashAggregateNode<>(
+                ctx,
+                SINGLE,
+                List.of(ImmutableBitSet.of(0)),
+                accFactory(ctx, call, SINGLE, rowType),
+                rowFactory(),
+                inputSchema,
+                spillManager
+        );
+
+        agg.register(new ScanNode<>(ctx, data));
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+        root.register(agg);
+
+        Map<Object, Object> counts = new HashMap<>();
+
+        while (root.hasNext()) {
+            Object[] row = root.next();
+
+            assertFalse(counts.containsKey(row[0]), "Duplicate group: " + row[0]);
+
+            counts.put(row[0], row[row.length - 1]);
+        }
+
+        assertEquals(groupsCnt, counts.size());
+
+        for (int i = 0; i < groupsCnt; i++) {
+            assertEquals((long) rowsPerGroup, ((Number) counts.get(uuidKey(i))).longValue());
+        }
+
+        assertTrue(metrics.<LongMetric>get("SpillFiles").value() > 0);
+    }
+
+    private static @Nullable UUID uuidKey(int grp) {
+        return grp == 0 ? null : new UUID(grp % 16, grp);
+    }
+
+    /** Tests MAP and REDUCE phases grouping by a single integer column when groups do not fit into the memory quota. */
+    @Test
+    public void countMapReduceWithSpillBySingleKey() {
+        checkCountMapReduceWithSpill(ImmutableBitSet.of(0));
+    }
+
+    /** Tests MAP and REDUCE phases grouping by several columns when groups do not fit into the memory quota. */
+    @Test
+    public void countMapReduceWithSpillByMultipleKeys() {
+        checkCountMapReduceWithSpill(ImmutableBitSet.of(0, 1));
+    }
+
+    private void checkCountMapReduceWithSpill(ImmutableBitSet grpSet) {
+        int groupsCnt = 2_000;
+        int rowsPerGroup = 5;
+
+        SqlSpillMetricSource mapMetricSource = new SqlSpillMetricSource();
+        MetricSet mapMetrics = mapMetricSource.enable();
+        SpillManager mapSpillManager = new SpillManager(workDir.resolve("spill-map"), () -> 16 * 1024, mapMetricSource);
+
+        SqlSpillMetricSource reduceMetricSource = new SqlSpillMetricSource();
+        MetricSet reduceMetrics = reduceMetricSource.enable();
+        SpillManager reduceSpillManager = new SpillManager(workDir.resolve("spill-reduce"), () -> 16 * 1024, reduceMetricSource);
+
+        ExecutionContext<Object[]> ctx = executionContext();
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+        RelDataType rowType = TypeUtils.createRowType(tf, TypeUtils.native2relationalTypes(tf, NativeTypes.INT32, NativeTypes.INT32));
+        RowSchema inputSchema = RowSchema.builder().addField(NativeTypes.INT32).addField(NativeTypes.INT32).build();
+
+        // The second column is functionally dependent on the first one, so both grouping sets produce the same groups.
+        List<Object[]> data = IntStream.range(0, groupsCnt * rowsPerGroup)
+                .mapToObj(i -> row(i % groupsCnt, -(i % groupsCnt)))
+                .collect(Collectors.toList());
+
+        AggregateCall call = AggregateCall.create(
+                SqlStdOperatorTable.COUNT,
+                false,
+                false,
+                false,
+                ImmutableList.of(),
+                ImmutableIntList.of(),
+                -1,
+                null,
+                RelCollations.EMPTY,
+                tf.createJavaType(long.class),
+                null);
+
+        HashAggregateNode<Object[]> aggMap = new HashAggregateNode<>(
+                ctx,
+                MAP,
+                List.of(grpSet),
+                accFactory(ctx, call, MAP, rowType),
+                rowFactory(),
+                inputSchema,
+                mapSpillManager
+        );
+
+        aggMap.register(new ScanNode<>(ctx, data));
+
+        // MAP phase emits the grouping columns, the partial count and the grouping set id.
+        RowSchema.Builder reduceInputSchema = RowSchema.builder();
+        List<NativeType> aggTypes = new ArrayList<>();
+
+        for (int i = 0; i < grpSet.cardinality(); i++) {
+            reduceInputSchema.addField(NativeTypes.INT32);
+            aggTypes.add(NativeTypes.INT32);
+        }
+
+        reduceInputSchema.addField(NativeTypes.INT64).addField(NativeTypes.INT8);
+        aggTypes.add(NativeTypes.INT64);
+
+        RelDataType aggRowType = TypeUtils.createRowType(tf, TypeUtils.native2relationalTypes(tf, aggTypes.toArray(new NativeType[0])));
+
+        Mapping reduceMapping = Commons.trimmingMapping(grpSet.length(), grpSet);
+        MapReduceAgg mapReduceAgg = MapReduceAggregates.createMapReduceAggCall(
+                Commons.cluster(),
+                call,
+                reduceMapping.getTargetCount(),
+                rowType,
+                true
+        );
+
+        HashAggregateNode<Object[]> aggRdc = new HashAggregateNode<>(
+                ctx,
+                REDUCE,
+                List.of(grpSet),
+                accFactory(ctx, mapReduceAgg.getReduceCall(), REDUCE, aggRowType),
+                rowFactory(),
+                reduceInputSchema.build(),
+                reduceSpillManager
+        );
+
+        aggRdc.register(aggMap);
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+        root.register(aggRdc);
+
+        Map<Object, Object> counts = new HashMap<>();
+
+        while (root.hasNext()) {
+            Object[] row = root.next();
+
+            assertNull(counts.put(row[0], row[row.length - 1]), "Duplicate group: " + row[0]);
+        }
+
+        assertEquals(groupsCnt, counts.size());
+
+        for (int i = 0; i < groupsCnt; i++) {
+            assertEquals((long) rowsPerGroup, ((Number) counts.get(i)).longValue());
+        }
+
+        assertTrue(mapMetrics.<LongMetric>get("SpillFiles").value() > 0);
+        assertTrue(reduceMetrics.<LongMetric>get("SpillFiles").value() > 0);
+    }
+
     /** {@inheritDoc} */
     @Override
     protected SingleNode<Object[]> createColocatedAggregateNodesChain(
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.ignite.internal.util.ArrayUtils.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
+import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
+import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
+import org.apache.ignite.internal.sql.engine.util.TypeUtils;
+import org.apache.ignite.internal.sql.metrics.SqlSpillMetricSource;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Test HashJoinNode execution.
+ */
+public class HashJoinExecutionTest extends AbstractExecutionTest<Object[]> {
+    @ParameterizedTest
+    @EnumSource(value = JoinRelType.class, names = {"INNER", "LEFT", "RIGHT", "FULL", "SEMI", "ANTI"})
+    public void joinInMemory(JoinRelType joinType) {
+        SqlSpillMetricSource metricSource = new SqlSpillMetricSource();
+        MetricSet metrics = metricSource.enable();
+
+        SpillManager spillManager = new SpillManager(workDir.resolve("spill"), () -> Long.MAX_VALUE, metricSource);
+
+        checkJoin(joinType, false, spillManager);
+        checkJoin(joinType, true, spillManager);
+
+        assertEquals(0, metrics.<LongMetric>get("SpillFiles").value());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = JoinRelType.class, names = {"INNER", "LEFT", "RIGHT", "FULL", "SEMI", "ANTI"})
+    public void joinWithSpill(JoinRelType joinType) {
+        SqlSpillMetricSource metricSource = new SqlSpillMetricSource();
+        MetricSet metrics = metricSource.enable();
+
+        SpillManager spillManager = new SpillManager(workDir.resolve("spill"), () -> 4 * 1024, metricSource);
+
+        checkJoin(joinType, false, spillManager);
+        checkJoin(joinType, true, spillManager);
+
+        assertTrue(metrics.<LongMetric>get("SpillFiles").value() > 0);
+    }
+
+    @Test
+    public void floatingPointKeysAreNormalized() {
+        assertEquals(HashJoinNode.normalize(0.0d), HashJoinNode.normalize(-0.0d));
+        assertEquals(HashJoinNode.normalize(0.0f), HashJoinNode.normalize(-0.0f));
+
+        assertEquals(HashJoinNode.normalize(Double.NaN), HashJoinNode.normalize(Double.longBitsToDouble(0x7ff8000000000001L)));
+        assertEquals(HashJoinNode.normalize(Float.NaN), HashJoinNode.normalize(Float.intBitsToFloat(0x7fc00001)));
+
+        assertEquals(1.5d, HashJoinNode.normalize(1.5d));
+    }
+
+    private void checkJoin(JoinRelType joinType, boolean equalNulls, SpillManager spillManager) {
+        List<Object[]> left = new ArrayList<>();
+        List<Object[]> right = new ArrayList<>();
+
+        for (int i = 0; i < 2_000; i++) {
+            left.add(new Object[] {i, i % 7 == 0 ? null : i % 500});
+        }
+
+        for (int i = 0; i < 1_500; i++) {
+            right.add(new Object[] {i % 11 == 0 ? null : i % 700, "r" + i});
+        }
+
+        Collections.shuffle(left);
+        Collections.shuffle(right);
+
+        ExecutionContext<Object[]> ctx = executionContext(true);
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+
+        RelDataType leftType = TypeUtils.createRowType(tf, TypeUtils.native2relationalTypes(tf,
+                NativeTypes.INT32, NativeTypes.INT32));
+        RelDataType rightType = TypeUtils.createRowType(tf, TypeUtils.native2relationalTypes(tf,
+                NativeTypes.INT32, NativeTypes.STRING));
+
+        ImmutableBitSet nullCompAsEqual = equalNulls ? ImmutableBitSet.of(1) : ImmutableBitSet.of();
+
+        HashJoinNode<Object[]> join = HashJoinNode.create(ctx, leftType, rightType, joinType, new int[] {1}, new int[] {0},
+                nullCompAsEqual, spillManager);
+
+        join.register(asList(new ScanNode<>(ctx, left), new ScanNode<>(ctx, right)));
+
+        List<String> rows = new ArrayList<>();
+
+        try (RootNode<Object[]> node = new RootNode<>(ctx)) {
+            node.register(join);
+
+            while (node.hasNext()) {
+                rows.add(Arrays.toString(node.next()));
+            }
+        }
+
+        Collections.sort(rows);
+
+        assertEquals(expected(left, right, joinType, equalNulls), rows);
+    }
+
+    /** Computes the expected result with nested loops. */
+    private static List<String> expected(List<Object[]> left, List<Object[]> right, JoinRelType joinType, boolean equalNulls) {
+        List<Object[]> res = new ArrayList<>();
+        boolean[] rightMatched = new boolean[right.size()];
+
+        for (Object[] l : left) {
+            boolean matched = false;
+
+            for (int i = 0; i < right.size(); i++) {
+                Object[] r = right.get(i);
+
+                boolean eq = l[1] == null || r[0] == null ? equalNulls && l[1] == r[0] : Objects.equals(l[1], r[0]);
+
+                if (eq) {
+                    matched = true;
+                    rightMatched[i] = true;
+
+                    if (joinType != JoinRelType.SEMI && joinType != JoinRelType.ANTI) {
+                        res.add(new Object[] {l[0], l[1], r[0], r[1]});
+                    }
+                }
+            }
+
+            if (matched && joinType == JoinRelType.SEMI || !matched && joinType == JoinRelType.ANTI) {
+                res.add(l);
+            } else if (!matched && (joinType == JoinRelType.LEFT || joinType == JoinRelType.FULL)) {
+                res.add(new Object[] {l[0], l[1], null, null});
+            }
+        }
+
+        if (joinType == JoinRelType.RIGHT || joinType == JoinRelType.FULL) {
+            for (int i = 0; i < right.size(); i++) {
+                if (!rightMatched[i]) {
+                    res.add(new Object[] {null, null, right.get(i)[0], right.get(i)[1]});
+                }
+            }
+        }
+
+        return res.stream().map(Arrays::toString).sorted().collect(Collectors.toList());
+    }
+
+    @Override
+    protected RowHandler<Object[]> rowHandler() {
+        return ArrayRowHandler.INSTANCE;
+    }
+}
@@ -24,7 +24,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscription;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
@@ -74,6 +77,103 @@ public class LimitExecutionTest extends AbstractExecutionTest<Object[]> {
         checkLimitSort(2000, 3000);
     }
 
+    /** Tests that the sum of offset and fetch exceeding the integer range doesn't break the limit. */
+    @Test
+    public void testLargeLimitOffset() {
+        checkLargeLimit(0, Integer.MAX_VALUE, 10);
+        checkLargeLimit(1, Integer.MAX_VALUE, 9);
+        checkLargeLimit(5, Integer.MAX_VALUE - 1, 5);
+        checkLargeLimit(Integer.MAX_VALUE, Integer.MAX_VALUE, 0);
+        checkLargeLimit(Integer.MAX_VALUE, 1, 0);
+    }
+
+    /**
+     * Checks the result size of a limit applied to a source of 10 rows.
+     *
+     * @param offset Rows offset.
+     * @param fetch Fetch rows count.
+     * @param expected Expected result size.
+     */
+    private void checkLargeLimit(int offset, int fetch, int expected) {
+        ExecutionContext<Object[]> ctx = executionContext(true);
+
+        List<Object[]> data = IntStream.range(0, 10).mapToObj(i -> new Object[]{i}).collect(Collectors.toList());
+
+        RootNode<Object[]> rootNode = new RootNode<>(ctx);
+        LimitNode<Object[]> limitNode = new LimitNode<>(ctx, () -> offset, () -> fetch);
+        ScanNode<Object[]> srcNode = new ScanNode<>(ctx, data);
+
+        rootNode.register(limitNode);
+        limitNode.register(srcNode);
+
+        for (int i = 0; i < expected; i++) {
+            assertTrue(rootNode.hasNext());
+            assertEquals(offset + i, rootNode.next()[0]);
+        }
+
+        assertFalse(rootNode.hasNext());
+    }
+
+    /** Tests that a scan node with a fetch limit never requests more rows than the limit from the storage. */
+    @Test
+    public void testScanFetchLimit() {
+        checkScanFetchLimit(1);
+        checkScanFetchLimit(IN_BUFFER_SIZE - 1);
+        checkScanFetchLimit(IN_BUFFER_SIZE);
+        checkScanFetchLimit(IN_BUFFER_SIZE + 1);
+        checkScanFetchLimit(3000);
+    }
+
+    /**
+     * Check scan fetch limit.
+     *
+     * @param fetch Fetch rows count.
+     */
+    private void checkScanFetchLimit(int fetch) {
+        ExecutionContext<Object[]> ctx = executionContext(true);
+
+        AtomicLong requested = new AtomicLong();
+
+        StorageScanNode<Object[]> scanNode = new StorageScanNode<>(ctx, null, null) {
+            @Override
+            protected Publisher<Object[]> scan() {
+                return subscriber -> subscriber.onSubscribe(new Subscription() {
+                    private int next;
+
+                    @Override
+                    public void request(long n) {
+                        requested.addAndGet(n);
+
+                        for (long i = 0; i < n; i++) {
+                            subscriber.onNext(new Object[]{next++});
+                        }
+                    }
+
+                    @Override
+                    public void cancel() {
+                        // No-op.
+                    }
+                });
+            }
+        };
+
+        scanNode.fetchLimit(fetch);
+
+        RootNode<Object[]> rootNode = new RootNode<>(ctx);
+        LimitNode<Object[]> limitNode = new LimitNode<>(ctx, () -> 0, () -> fetch);
+
+        rootNode.register(limitNode);
+        limitNode.register(scanNode);
+
+        for (int i = 0; i < fetch; i++) {
+            assertTrue(rootNode.hasNext());
+            assertEquals(i, rootNode.next()[0]);
+        }
+
+        assertFalse(rootNode.hasNext());
+        assertEquals(fetch, requested.get());
+    }
+
     /**
      * Check limit sort.
      *
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.assertThrowsWithCause;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.memory.MemoryTracker;
+import org.apache.ignite.internal.sql.engine.exec.memory.QueryMemoryManager;
+import org.apache.ignite.internal.sql.engine.exec.memory.QueryMemoryTracker;
+import org.apache.ignite.internal.sql.engine.exec.row.RowSchema;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
+import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
+import org.apache.ignite.internal.sql.metrics.SqlSpillMetricSource;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.apache.ignite.sql.SqlException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for accounting of the memory held by buffering nodes.
+ */
+public class MemoryTrackingExecutionTest extends AbstractExecutionTest<Object[]> {
+    private static final Comparator<Object[]> COMPARATOR = Comparator.comparingInt(r -> (Integer) r[0]);
+
+    private QueryMemoryTracker tracker;
+
+    @Test
+    public void testMemoryIsReleasedOnClose() throws Exception {
+        QueryMemoryManager manager = new QueryMemoryManager(() -> Long.MAX_VALUE, () -> Long.MAX_VALUE);
+        tracker = manager.register(UUID.randomUUID());
+
+        ExecutionContext<Object[]> ctx = executionContext();
+
+        RootNode<Object[]> rootNode = new RootNode<>(ctx);
+        SortNode<Object[]> sortNode = new SortNode<>(ctx, COMPARATOR);
+        TableSpoolNode<Object[]> spoolNode = new TableSpoolNode<>(ctx, false);
+        ScanNode<Object[]> srcNode = new ScanNode<>(ctx, data(10_000));
+
+        rootNode.register(sortNode);
+        sortNode.register(spoolNode);
+        spoolNode.register(srcNode);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(rootNode.hasNext());
+            assertEquals(i, rootNode.next()[0]);
+        }
+
+        assertFalse(rootNode.hasNext());
+
+        assertTrue(tracker.peak() > 0);
+
+        rootNode.close();
+
+        assertTrue(waitForCondition(() -> manager.reserved() == 0, 5_000));
+    }
+
+    @Test
+    public void testQueryFailsWhenQuotaExceeded() throws Exception {
+        QueryMemoryManager manager = new QueryMemoryManager(() -> 256 * 1024, () -> Long.MAX_VALUE);
+        tracker = manager.register(UUID.randomUUID());
+
+        ExecutionContext<Object[]> ctx = executionContext();
+
+        RootNode<Object[]> rootNode = new RootNode<>(ctx);
+        SortNode<Object[]> sortNode = new SortNode<>(ctx, COMPARATOR);
+        ScanNode<Object[]> srcNode = new ScanNode<>(ctx, data(100_000));
+
+        rootNode.register(sortNode);
+        sortNode.register(srcNode);
+
+        assertThrowsWithCause(rootNode::hasNext, SqlException.class, "Query exceeded the memory quota");
+
+        rootNode.close();
+
+        assertTrue(waitForCondition(() -> manager.reserved() == 0, 5_000));
+    }
+
+    @Test
+    public void testSortSpillsWhenQuotaExceeded() throws Exception {
+        QueryMemoryManager manager = new QueryMemoryManager(() -> 256 * 1024, () -> Long.MAX_VALUE);
+        tracker = manager.register(UUID.randomUUID());
+
+        SqlSpillMetricSource metricSource = new SqlSpillMetricSource();
+        MetricSet metrics = metricSource.enable();
+
+        // The operator quota is never reached, so only the query quota makes the sort spill.
+        SpillManager spillManager = new SpillManager(workDir.resolve("spill"), () -> Long.MAX_VALUE, metricSource);
+
+        RowSchema rowSchema = RowSchema.builder().addField(NativeTypes.INT32).addField(NativeTypes.STRING).build();
+
+        ExecutionContext<Object[]> ctx = executionContext();
+
+        RootNode<Object[]> rootNode = new RootNode<>(ctx);
+        SortNode<Object[]> sortNode = new SortNode<>(ctx, COMPARATOR, null, null, spillManager, rowHandler().factory(rowSchema));
+        ScanNode<Object[]> srcNode = new ScanNode<>(ctx, data(100_000));
+
+        rootNode.register(sortNode);
+        sortNode.register(srcNode);
+
+        for (int i = 0; i < 100_000; i++) {
+            assertTrue(rootNode.hasNext());
+            assertEquals(i, rootNode.next()[0]);
+        }
+
+        assertFalse(rootNode.hasNext());
+
+        assertTrue(metrics.<LongMetric>get("SpillFiles").value() > 0);
+
+        rootNode.close();
+
+        assertTrue(waitForCondition(() -> manager.reserved() == 0, 5_000));
+    }
+
+    private static List<Object[]> data(int rowsCnt) {
+        return IntStream.range(0, rowsCnt)
+                .map(i -> rowsCnt - i - 1)
+                .mapToObj(i -> new Object[] {i, "val_" + i})
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    protected MemoryTracker memoryTracker() {
+        return tracker;
+    }
+
+    @Override
+    protected RowHandler<Object[]> rowHandler() {
+        return ArrayRowHandler.INSTANCE;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.row.RowSchema;
+import org.apache.ignite.internal.sql.engine.exec.spill.ExternalSorter;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
+import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
+import org.apache.ignite.internal.sql.metrics.SqlSpillMetricSource;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test SortNode execution.
+ */
+public class SortExecutionTest extends AbstractExecutionTest<Object[]> {
+    private static final RowSchema ROW_SCHEMA = RowSchema.builder()
+            .addField(NativeTypes.INT32)
+            .addField(NativeTypes.STRING)
+            .build();
+
+    private static final Comparator<Object[]> COMPARATOR = Comparator.comparingInt(r -> (Integer) r[0]);
+
+    /** Tests that a sort which fits into the memory quota does not touch the disk. */
+    @Test
+    public void testSortInMemory() throws Exception {
+        SqlSpillMetricSource metricSource = new SqlSpillMetricSource();
+        MetricSet metrics = metricSource.enable();
+
+        SpillManager spillManager = new SpillManager(workDir.resolve("spill"), () -> Long.MAX_VALUE, metricSource);
+
+        checkSort(spillManager, 5_000);
+
+        assertEquals(0, metrics.<LongMetric>get("SpillFiles").value());
+        assertFalse(Files.exists(workDir.resolve("spill")));
+    }
+
+    /** Tests that a sort which exceeds the memory quota spills sorted runs to disk and merges them. */
+    @Test
+    public void testSortSpillsToDisk() throws Exception {
+        SqlSpillMetricSource metricSource = new SqlSpillMetricSource();
+        MetricSet metrics = metricSource.enable();
+
+        Path spillDir = workDir.resolve("spill");
+        SpillManager spillManager = new SpillManager(spillDir, () -> 16 * 1024, metricSource);
+
+        checkSort(spillManager, 5_000);
+
+        assertTrue(metrics.<LongMetric>get("SpillFiles").value() > 1);
+        assertTrue(metrics.<LongMetric>get("SpilledRows").value() > 0);
+        assertTrue(metrics.<LongMetric>get("SpilledBytes").value() > 0);
+
+        assertTrue(waitForCondition(() -> listFiles(spillDir).isEmpty(), 5_000));
+    }
+
+    /** Tests that a sort which spills more runs than a single merge may read merges them in several passes. */
+    @Test
+    public void testSortMergesRunsInPasses() throws Exception {
+        SqlSpillMetricSource metricSource = new SqlSpillMetricSource();
+        MetricSet metrics = metricSource.enable();
+
+        Path spillDir = workDir.resolve("spill");
+        // Every row exceeds the quota, so every row is spilled as a separate run.
+        SpillManager spillManager = new SpillManager(spillDir, () -> 1, metricSource);
+
+        int rowsCnt = ExternalSorter.MAX_MERGE_FAN_IN * 4;
+
+        checkSort(spillManager, rowsCnt);
+
+        // Intermediate merge passes write runs of their own.
+        assertTrue(metrics.<LongMetric>get("SpillFiles").value() > rowsCnt);
+
+        assertTrue(waitForCondition(() -> listFiles(spillDir).isEmpty(), 5_000));
+    }
+
+    private void checkSort(SpillManager spillManager, int rowsCnt) throws Exception {
+        ExecutionContext<Object[]> ctx = executionContext();
+        RowFactory<Object[]> rowFactory = rowHandler().factory(ROW_SCHEMA);
+
+        List<Object[]> data = IntStream.range(0, rowsCnt)
+                .mapToObj(i -> new Object[] {i, "val_" + i})
+                .collect(Collectors.toList());
+        Collections.shuffle(data);
+
+        RootNode<Object[]> rootNode = new RootNode<>(ctx);
+        SortNode<Object[]> sortNode = new SortNode<>(ctx, COMPARATOR, null, null, spillManager, rowFactory);
+        ScanNode<Object[]> srcNode = new ScanNode<>(ctx, data);
+
+        rootNode.register(sortNode);
+        sortNode.register(srcNode);
+
+        for (int i = 0; i < rowsCnt; i++) {
+            assertTrue(rootNode.hasNext());
+
+            Object[] row = rootNode.next();
+
+            assertEquals(i, row[0]);
+            assertEquals("val_" + i, row[1]);
+        }
+
+        assertFalse(rootNode.hasNext());
+
+        rootNode.close();
+    }
+
+    private static List<Path> listFiles(Path dir) {
+        if (!Files.exists(dir)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    protected RowHandler<Object[]> rowHandler() {
+        return ArrayRowHandler.INSTANCE;
+    }
+}
@@ -174,6 +174,48 @@ public class SqlRowHandlerTest extends IgniteAbstractTest {
         }
     }
 
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("mapTestArguments")
+    public void testMapReordersSchema(boolean tupleRequired) {
+        List<ColumnType> columnTypes = shuffledColumnTypes();
+
+        Object[] sourceData = values(columnTypes);
+        RowSchema schema = rowSchema(columnTypes, sourceData);
+
+        RowFactory<RowWrapper> factory = handler.factory(schema);
+
+        RowWrapper srcRow = factory.create(wrap(sourceData, schema));
+
+        if (tupleRequired) {
+            srcRow = factory.create(handler.toBinaryTuple(srcRow));
+        }
+
+        int[] mapping = {columnTypes.size() - 1, 0, columnTypes.size() / 2, 0};
+
+        Builder mappedSchemaBuilder = RowSchema.builder();
+
+        for (int field : mapping) {
+            mappedSchemaBuilder.addField(schema.fields().get(field));
+        }
+
+        RowWrapper mappedRow = handler.map(srcRow, mapping);
+        RowWrapper restoredRow = handler.factory(mappedSchemaBuilder.build()).create(handler.toBinaryTuple(mappedRow));
+
+        for (int i = 0; i < mapping.length; i++) {
+            Object expected = convertToInternal(schema.fields().get(mapping[i]), sourceData[mapping[i]]);
+
+            assertThat(handler.get(i, mappedRow), equalTo(expected));
+            assertThat(handler.get(i, restoredRow), equalTo(expected));
+        }
+    }
+
+    private static Stream<Arguments> mapTestArguments() {
+        return Stream.of(
+                Arguments.of(Named.of("array", false)),
+                Arguments.of(Named.of("tuple", true))
+        );
+    }
+
     private static Stream<Arguments> concatTestArguments() {
         return Stream.of(
                 Arguments.of(Named.of("array", false), Named.of("array", false)),
@@ -21,6 +21,7 @@ import static org.apache.ignite.internal.catalog.CatalogService.DEFAULT_SCHEMA_N
 import static org.apache.ignite.internal.sql.engine.util.Commons.FRAMEWORK_CONFIG;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.await;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -54,6 +55,8 @@ import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutorImpl;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
 import org.apache.ignite.internal.sql.engine.exec.ddl.DdlCommandHandler;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingService;
+import org.apache.ignite.internal.sql.engine.exec.memory.QueryMemoryManager;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
 import org.apache.ignite.internal.sql.engine.message.MessageService;
 import org.apache.ignite.internal.sql.engine.message.MessageServiceImpl;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareService;
@@ -62,6 +65,7 @@ import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManager;
 import org.apache.ignite.internal.sql.engine.sql.ParsedResult;
 import org.apache.ignite.internal.sql.engine.sql.ParserService;
 import org.apache.ignite.internal.sql.engine.util.BaseQueryContext;
+import org.apache.ignite.internal.sql.metrics.SqlSpillMetricSource;
 import org.apache.ignite.internal.systemview.api.SystemViewManager;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.util.AsyncCursor;
@@ -136,6 +140,12 @@ public class TestNode implements LifecycleAware {
                 tableRegistry, view -> () -> systemViewManager.scanView(view.name())
         );
 
+        SpillManager spillManager = registerService(new SpillManager(
+                Path.of(System.getProperty("java.io.tmpdir"), "ignite-sql-spill-" + nodeName),
+                () -> Long.MAX_VALUE,
+                new SqlSpillMetricSource()
+        ));
+
         executionService = registerService(ExecutionServiceImpl.create(
                 topologyService,
                 messageService,
@@ -149,6 +159,8 @@ public class TestNode implements LifecycleAware {
                 tableRegistry,
                 dependencyResolver,
                 clockService,
+                spillManager,
+                new QueryMemoryManager(() -> Long.MAX_VALUE, () -> Long.MAX_VALUE),
                 5_000
         ));
 
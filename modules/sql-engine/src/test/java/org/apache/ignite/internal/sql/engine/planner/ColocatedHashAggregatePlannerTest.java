@@ -251,7 +251,8 @@ public class ColocatedHashAggregatePlannerTest extends AbstractAggregatePlannerT
      */
     @Test
     public void noSortAppendingWithCorrectCollation() throws Exception {
-        String[] additionalRulesToDisable = {"NestedLoopJoinConverter", "CorrelatedNestedLoopJoin", "CorrelateToNestedLoopRule"};
+        String[] additionalRulesToDisable = {"NestedLoopJoinConverter", "HashJoinConverter", "CorrelatedNestedLoopJoin",
+                "CorrelateToNestedLoopRule"};
 
         assertPlan(TestCase.CASE_16,
                 nodeOrAnyChild(isInstanceOf(IgniteSort.class)
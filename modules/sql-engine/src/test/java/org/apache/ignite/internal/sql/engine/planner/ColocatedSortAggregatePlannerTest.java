@@ -258,7 +258,8 @@ public class ColocatedSortAggregatePlannerTest extends AbstractAggregatePlannerT
      */
     @Test
     public void noSortAppendingWithCorrectCollation() throws Exception {
-        String[] additionalRulesToDisable = {"NestedLoopJoinConverter", "CorrelatedNestedLoopJoin", "CorrelateToNestedLoopRule"};
+        String[] additionalRulesToDisable = {"NestedLoopJoinConverter", "HashJoinConverter", "CorrelatedNestedLoopJoin",
+                "CorrelateToNestedLoopRule"};
 
         assertPlan(TestCase.CASE_16,
                 not(nodeOrAnyChild(isInstanceOf(IgniteSort.class)))
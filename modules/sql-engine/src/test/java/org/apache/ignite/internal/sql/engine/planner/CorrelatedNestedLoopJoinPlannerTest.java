@@ -61,7 +61,7 @@ public class CorrelatedNestedLoopJoinPlannerTest extends AbstractPlannerTest {
         IgniteRel phys = physicalPlan(
                 sql,
                 publicSchema,
-                "MergeJoinConverter", "NestedLoopJoinConverter"
+                "MergeJoinConverter", "NestedLoopJoinConverter", "HashJoinConverter"
         );
 
         System.out.println("+++ " + RelOptUtil.toString(phys));
@@ -98,7 +98,7 @@ public class CorrelatedNestedLoopJoinPlannerTest extends AbstractPlannerTest {
                 sql,
                 publicSchema,
                 Objects::nonNull,
-                "MergeJoinConverter", "NestedLoopJoinConverter", "FilterSpoolMergeRule"
+                "MergeJoinConverter", "NestedLoopJoinConverter", "HashJoinConverter", "FilterSpoolMergeRule"
         );
     }
 
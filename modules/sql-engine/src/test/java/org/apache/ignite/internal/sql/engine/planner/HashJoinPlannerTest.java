@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.planner;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.ignite.internal.sql.engine.framework.TestBuilders;
+import org.apache.ignite.internal.sql.engine.rel.IgniteHashJoin;
+import org.apache.ignite.internal.sql.engine.rel.IgniteRel;
+import org.apache.ignite.internal.sql.engine.rel.IgniteSort;
+import org.apache.ignite.internal.sql.engine.rel.IgniteTableScan;
+import org.apache.ignite.internal.sql.engine.schema.IgniteSchema;
+import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.junit.jupiter.api.Test;
+
+/** HashJoin planner test. */
+public class HashJoinPlannerTest extends AbstractPlannerTest {
+    /** Only HashJoin encourage. */
+    private static final String[] DISABLED_RULES = {
+            "NestedLoopJoinConverter",
+            "MergeJoinConverter",
+            "CorrelatedNestedLoopJoin",
+            "JoinCommuteRule"
+    };
+
+    /** Equi-join is converted to a hash join over unsorted inputs. */
+    @Test
+    public void testEquiJoin() throws Exception {
+        IgniteSchema schema = createSchema(createTable("LEFT_T", 1_000), createTable("RIGHT_T", 100));
+
+        String sql = "select * from LEFT_T join RIGHT_T on LEFT_T.c1 = RIGHT_T.c1 and LEFT_T.c2 = RIGHT_T.c2";
+
+        assertPlan(sql, schema, nodeOrAnyChild(isInstanceOf(IgniteHashJoin.class)
+                .and(join -> join.getJoinType() == JoinRelType.INNER)
+                .and(input(0, isInstanceOf(IgniteTableScan.class)))
+                .and(input(1, isInstanceOf(IgniteTableScan.class)))
+        ), DISABLED_RULES);
+    }
+
+    /** Hash join supports outer joins as well. */
+    @Test
+    public void testFullOuterJoin() throws Exception {
+        IgniteSchema schema = createSchema(createTable("LEFT_T", 1_000), createTable("RIGHT_T", 100));
+
+        String sql = "select * from LEFT_T full join RIGHT_T on LEFT_T.c1 = RIGHT_T.c1";
+
+        assertPlan(sql, schema, nodeOrAnyChild(isInstanceOf(IgniteHashJoin.class)
+                .and(join -> join.getJoinType() == JoinRelType.FULL)
+        ), DISABLED_RULES);
+    }
+
+    /** Hash join can't evaluate a non-equi condition. */
+    @Test
+    public void testNonEquiJoin() throws Exception {
+        IgniteSchema schema = createSchema(createTable("LEFT_T", 1_000), createTable("RIGHT_T", 100));
+
+        String sql = "select * from LEFT_T join RIGHT_T on LEFT_T.c1 = RIGHT_T.c1 and LEFT_T.c2 > RIGHT_T.c2";
+
+        IgniteRel rel = physicalPlan(sql, schema, "MergeJoinConverter", "CorrelatedNestedLoopJoin");
+
+        assertNull(findFirstNode(rel, byClass(IgniteHashJoin.class)));
+    }
+
+    /** Hash join doesn't preserve collation of its inputs, so a requested one is enforced on top of the join. */
+    @Test
+    public void testCollationIsNotPreserved() throws Exception {
+        IgniteSchema schema = createSchema(createTable("LEFT_T", 1_000), createTable("RIGHT_T", 100));
+
+        String sql = "select * from LEFT_T join RIGHT_T on LEFT_T.c1 = RIGHT_T.c1 order by LEFT_T.c1";
+
+        assertPlan(sql, schema, nodeOrAnyChild(isInstanceOf(IgniteSort.class)
+                .and(nodeOrAnyChild(isInstanceOf(IgniteHashJoin.class)
+                        .and(input(0, isInstanceOf(IgniteTableScan.class)))
+                        .and(input(1, isInstanceOf(IgniteTableScan.class)))
+                ))), DISABLED_RULES);
+    }
+
+    private static IgniteTable createTable(String tableName, int size) {
+        return TestBuilders.table()
+                .name(tableName)
+                .addColumn("C1", NativeTypes.INT32)
+                .addColumn("C2", NativeTypes.INT32)
+                .addColumn("C3", NativeTypes.INT32)
+                .size(size)
+                .distribution(IgniteDistributions.single())
+                .build();
+    }
+}
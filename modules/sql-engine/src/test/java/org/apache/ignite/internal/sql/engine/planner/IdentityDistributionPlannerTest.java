@@ -58,7 +58,7 @@ public class IdentityDistributionPlannerTest extends AbstractPlannerTest {
                         .and(input(0, isInstanceOf(IgniteIndexScan.class)))
                         .and(input(1, isInstanceOf(IgniteIndexScan.class)))
                 ))
-        ));
+        ), "HashJoinConverter");
     }
 
     /**
@@ -85,7 +85,7 @@ public class IdentityDistributionPlannerTest extends AbstractPlannerTest {
                 .and(input(1, isInstanceOf(IgniteExchange.class)
                         .and(input(isInstanceOf(IgniteIndexScan.class)))
                 ))
-        ));
+        ), "HashJoinConverter");
     }
 
     /**
@@ -112,7 +112,7 @@ public class IdentityDistributionPlannerTest extends AbstractPlannerTest {
                 .and(input(1, isInstanceOf(IgniteExchange.class)
                         .and(input(isInstanceOf(IgniteIndexScan.class)))
                 ))
-        ));
+        ), "HashJoinConverter");
     }
 
     /**
@@ -135,7 +135,7 @@ public class IdentityDistributionPlannerTest extends AbstractPlannerTest {
                         .and(input(0, isInstanceOf(IgniteIndexScan.class)))
                         .and(input(1, isInstanceOf(IgniteIndexScan.class)))
                 ))
-        ));
+        ), "HashJoinConverter");
     }
 
     /**
@@ -160,7 +160,7 @@ public class IdentityDistributionPlannerTest extends AbstractPlannerTest {
                                 .and(input(isInstanceOf(IgniteIndexScan.class)))
                         ))
                 ))
-        ));
+        ), "HashJoinConverter");
     }
 
     private static IgniteTable simpleTable(String tableName, int size, IgniteDistribution distribution) {
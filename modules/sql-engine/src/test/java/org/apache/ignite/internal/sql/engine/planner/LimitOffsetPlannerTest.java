@@ -19,6 +19,8 @@ package org.apache.ignite.internal.sql.engine.planner;
 
 import static org.apache.ignite.internal.sql.engine.util.RexUtils.doubleFromRex;
 
+import java.util.List;
+import org.apache.calcite.sql.SqlKind;
 import org.apache.calcite.util.ImmutableIntList;
 import org.apache.ignite.internal.sql.engine.framework.TestBuilders;
 import org.apache.ignite.internal.sql.engine.framework.TestBuilders.TableBuilder;
@@ -112,7 +114,10 @@ public class LimitOffsetPlannerTest extends AbstractPlannerTest {
                 isInstanceOf(IgniteLimit.class)
                         .and(s -> doubleFromRex(s.fetch(), -1) == 5)
                         .and(s -> doubleFromRex(s.offset(), -1) == 10)
-                        .and(input(isInstanceOf(IgniteExchange.class)))
+                        .and(input(isInstanceOf(IgniteExchange.class)
+                                .and(input(isInstanceOf(IgniteLimit.class)
+                                        .and(l -> doubleFromRex(l.fetch(), -1) == 15)
+                                        .and(l -> l.offset() == null)))))
                         .and(hasChildThat(isInstanceOf(IgniteSort.class)).negate()));
         // Check that Sort node is not eliminated by aggregation and Exchange node is not eliminated by distribution
         // required by parent nodes.
@@ -169,10 +174,14 @@ public class LimitOffsetPlannerTest extends AbstractPlannerTest {
         publicSchema = createSchemaWithTable(IgniteDistributions.random(), "ID");
 
         // Sort node is not required, since collation of the Limit node equals to the index collation.
+        // Every fragment returns no more than offset + fetch rows.
         assertPlan("SELECT * FROM TEST ORDER BY ID LIMIT 10 OFFSET 10", publicSchema,
                 isInstanceOf(IgniteLimit.class)
                     .and(input(isInstanceOf(IgniteExchange.class)
-                        .and(input(isInstanceOf(IgniteIndexScan.class)))))
+                        .and(input(isInstanceOf(IgniteLimit.class)
+                                .and(l -> doubleFromRex(l.fetch(), -1) == 20.0)
+                                .and(l -> l.offset() == null)
+                                .and(input(isInstanceOf(IgniteIndexScan.class)))))))
                     .and(hasChildThat(isInstanceOf(IgniteSort.class)).negate()));
 
         publicSchema = createSchemaWithTable(IgniteDistributions.random(), "ID", "VAL");
@@ -181,9 +190,21 @@ public class LimitOffsetPlannerTest extends AbstractPlannerTest {
         assertPlan("SELECT * FROM TEST ORDER BY ID LIMIT 10 OFFSET 10", publicSchema,
                 isInstanceOf(IgniteLimit.class)
                     .and(input(isInstanceOf(IgniteExchange.class)
-                        .and(input(isInstanceOf(IgniteIndexScan.class)))))
+                        .and(input(isInstanceOf(IgniteLimit.class)
+                                .and(input(isInstanceOf(IgniteIndexScan.class)))))))
                     .and(hasChildThat(isInstanceOf(IgniteSort.class)).negate()));
 
+        publicSchema = createSchemaWithTable(IgniteDistributions.random(), "ID");
+
+        // Limit with dynamic parameters is pushed down as well.
+        assertPlan("SELECT * FROM TEST ORDER BY ID LIMIT ? OFFSET ?", publicSchema,
+                isInstanceOf(IgniteLimit.class)
+                    .and(input(isInstanceOf(IgniteExchange.class)
+                        .and(input(isInstanceOf(IgniteLimit.class)
+                                .and(l -> l.offset() == null)
+                                .and(input(isInstanceOf(IgniteIndexScan.class))))))),
+                List.of(10, 10));
+
         publicSchema = createSchemaWithTable(IgniteDistributions.single());
 
         // Exchange node is not required, since distribution of the table is already "single".
@@ -193,6 +214,32 @@ public class LimitOffsetPlannerTest extends AbstractPlannerTest {
                     .and(hasChildThat(isInstanceOf(IgniteExchange.class)).negate()));
     }
 
+    /** Checks the limit of the fragments doesn't overflow when the sum of the offset and the fetch exceeds the integer range. */
+    @Test
+    public void testLargeLimitOffsetPushedDown() throws Exception {
+        IgniteSchema publicSchema = createSchemaWithTable(IgniteDistributions.random(), "ID");
+
+        int max = Integer.MAX_VALUE;
+
+        assertPlan("SELECT * FROM TEST ORDER BY ID LIMIT " + max + " OFFSET " + (max - 1), publicSchema,
+                isInstanceOf(IgniteLimit.class)
+                    .and(s -> doubleFromRex(s.fetch(), -1) == max)
+                    .and(s -> doubleFromRex(s.offset(), -1) == max - 1)
+                    .and(input(isInstanceOf(IgniteExchange.class)
+                        .and(input(isInstanceOf(IgniteLimit.class)
+                                .and(l -> doubleFromRex(l.fetch(), -1) == max)
+                                .and(l -> l.offset() == null))))));
+
+        // The sum of dynamic parameters is capped at runtime.
+        assertPlan("SELECT * FROM TEST ORDER BY ID LIMIT ? OFFSET ?", publicSchema,
+                isInstanceOf(IgniteLimit.class)
+                    .and(input(isInstanceOf(IgniteExchange.class)
+                        .and(input(isInstanceOf(IgniteLimit.class)
+                                .and(l -> l.fetch().isA(SqlKind.CASE))
+                                .and(l -> l.offset() == null))))),
+                List.of(max, max));
+    }
+
     /**
      * Creates PUBLIC schema with one TEST table.
      */
@@ -17,12 +17,15 @@
 
 package org.apache.ignite.internal.storage;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.close.ManuallyCloseable;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.gc.GcEntry;
+import org.apache.ignite.internal.storage.util.RowIdRangePartitionTimestampCursor;
 import org.apache.ignite.internal.util.Cursor;
 import org.jetbrains.annotations.Nullable;
 
@@ -159,6 +162,28 @@ public interface MvPartitionStorage extends ManuallyCloseable {
      */
     ReadResult read(RowId rowId, HybridTimestamp timestamp) throws StorageException;
 
+    /**
+     * Reads values of several rows from the storage as they were at the given timestamp. Every row is resolved exactly like
+     * {@link #read(RowId, HybridTimestamp)} does.
+     *
+     * <p>Default implementation reads rows one by one, storages are free to provide a more efficient one, e.g. by looking the rows up
+     * in the order of their keys.
+     *
+     * @param rowIds Row ids.
+     * @param timestamp Timestamp.
+     * @return Read results, in the same order as passed row ids.
+     * @throws StorageException If failed to read data from the storage.
+     */
+    default List<ReadResult> readAll(List<RowId> rowIds, HybridTimestamp timestamp) throws StorageException {
+        var results = new ArrayList<ReadResult>(rowIds.size());
+
+        for (RowId rowId : rowIds) {
+            results.add(read(rowId, timestamp));
+        }
+
+        return results;
+    }
+
     /**
      * Creates (or replaces) an uncommitted (aka pending) version, assigned to the given transaction id.
      * In details:
@@ -211,6 +236,19 @@ public interface MvPartitionStorage extends ManuallyCloseable {
      */
     void addWriteCommitted(RowId rowId, @Nullable BinaryRow row, HybridTimestamp commitTimestamp) throws StorageException;
 
+    /**
+     * Starts a bulk load of committed row versions into the storage, which must be in the process of rebalancing. The bulk load is
+     * an optimization for the storages which can write a large amount of versions cheaper than by {@link #addWriteCommitted}.
+     *
+     * <p>Default implementation returns {@code null}, which means that the storage doesn't support bulk loading.
+     *
+     * @return Bulk loader, must be either finished or closed, or {@code null} if the bulk load is not supported.
+     * @throws StorageException If the storage is not in the process of rebalancing or failed to start the bulk load.
+     */
+    default @Nullable PartitionBulkLoader startBulkLoad() throws StorageException {
+        return null;
+    }
+
     /**
      * Scans all versions of a single row.
      *
@@ -233,6 +271,27 @@ public interface MvPartitionStorage extends ManuallyCloseable {
      */
     PartitionTimestampCursor scan(HybridTimestamp timestamp) throws StorageException;
 
+    /**
+     * Scans a range of row IDs of the partition and returns a cursor of values at the given timestamp. Just like
+     * {@link #scan(HybridTimestamp)}, this cursor filters out committed tombstones, but not tombstones in the write-intent state.
+     *
+     * <p>Allows to split the partition into several disjoint ranges and scan them concurrently. Default implementation looks up
+     * every row separately, which is much slower than a sequential scan, so storages are expected to provide a bounded cursor.
+     *
+     * @param timestamp Timestamp. Can't be {@code null}.
+     * @param lowerBound Inclusive lower bound.
+     * @param upperBound Exclusive upper bound, {@code null} to scan up to the end of the partition.
+     * @return Cursor.
+     * @throws StorageException If failed to read data from the storage.
+     */
+    default PartitionTimestampCursor scan(
+            HybridTimestamp timestamp,
+            RowId lowerBound,
+            @Nullable RowId upperBound
+    ) throws StorageException {
+        return new RowIdRangePartitionTimestampCursor(this, timestamp, lowerBound, upperBound);
+    }
+
     /**
      * Returns a row id, existing in the storage, that's greater or equal than the lower bound. {@code null} if not found.
      *
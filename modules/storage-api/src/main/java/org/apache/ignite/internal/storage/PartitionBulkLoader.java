@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage;
+
+import org.apache.ignite.internal.close.ManuallyCloseable;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Loads committed row versions into a {@link MvPartitionStorage} that is being rebalanced, bypassing the regular write path. The
+ * versions become visible in the storage only after {@link #finish()}.
+ *
+ * <p>Rows must be added by row ID ascending, in the {@link RowId#compareTo} order, all the versions of a row one after another.
+ * Versions are normalized the same way as by {@link MvPartitionStorage#addWriteCommitted}.
+ *
+ * @see MvPartitionStorage#startBulkLoad()
+ */
+public interface PartitionBulkLoader extends ManuallyCloseable {
+    /**
+     * Adds a committed row version.
+     *
+     * @param rowId Row ID.
+     * @param row Binary row, {@code null} for a tombstone.
+     * @param commitTimestamp Commit timestamp.
+     * @throws StorageException If the row is added out of order or failed to add the version.
+     */
+    void addWriteCommitted(RowId rowId, @Nullable BinaryRow row, HybridTimestamp commitTimestamp) throws StorageException;
+
+    /**
+     * Writes all the added row versions into the storage and closes the loader.
+     *
+     * @throws StorageException If failed.
+     */
+    void finish() throws StorageException;
+
+    /**
+     * Discards all the added row versions, unless the loader is already finished.
+     */
+    @Override
+    void close();
+}
@@ -42,6 +42,29 @@ public final class RowId implements Serializable, Comparable<RowId> {
         return new RowId(partitionId, Long.MAX_VALUE, Long.MAX_VALUE);
     }
 
+    /**
+     * Splits the row ID space of the partition into contiguous ranges of equal width. Row IDs are generated with random UUIDs, so the
+     * ranges are expected to contain similar amounts of rows.
+     *
+     * @param partitionId Partition ID.
+     * @param count Number of ranges.
+     * @return Inclusive lower bounds of the ranges in ascending order, the first one is the {@link #lowestRowId(int)}. Every range ends
+     *      right before the lower bound of the next one, the last range ends with the partition.
+     */
+    public static RowId[] splitPartition(int partitionId, int count) {
+        assert count > 0 : count;
+
+        long step = Long.divideUnsigned(-1L, count);
+
+        RowId[] bounds = new RowId[count];
+
+        for (int i = 0; i < count; i++) {
+            bounds[i] = new RowId(partitionId, Long.MIN_VALUE + i * step, Long.MIN_VALUE);
+        }
+
+        return bounds;
+    }
+
     /**
      * Create a row ID with the UUID value based on {@link UUID#randomUUID()}.
      * Intended for tests only, because random UUIDs are very slow when it comes to frequent usages.
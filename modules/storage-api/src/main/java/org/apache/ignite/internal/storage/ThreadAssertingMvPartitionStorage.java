@@ -20,6 +20,7 @@ package org.apache.ignite.internal.storage;
 import static org.apache.ignite.internal.worker.ThreadAssertions.assertThreadAllowsToRead;
 import static org.apache.ignite.internal.worker.ThreadAssertions.assertThreadAllowsToWrite;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
@@ -89,6 +90,13 @@ public class ThreadAssertingMvPartitionStorage implements MvPartitionStorage {
         return partitionStorage.read(rowId, timestamp);
     }
 
+    @Override
+    public List<ReadResult> readAll(List<RowId> rowIds, HybridTimestamp timestamp) throws StorageException {
+        assertThreadAllowsToRead();
+
+        return partitionStorage.readAll(rowIds, timestamp);
+    }
+
     @Override
     public @Nullable BinaryRow addWrite(RowId rowId, @Nullable BinaryRow row, UUID txId, int commitTableId, int commitPartitionId)
             throws TxIdMismatchException, StorageException {
@@ -118,6 +126,13 @@ public class ThreadAssertingMvPartitionStorage implements MvPartitionStorage {
         partitionStorage.addWriteCommitted(rowId, row, commitTimestamp);
     }
 
+    @Override
+    public @Nullable PartitionBulkLoader startBulkLoad() throws StorageException {
+        assertThreadAllowsToWrite();
+
+        return partitionStorage.startBulkLoad();
+    }
+
     @Override
     public Cursor<ReadResult> scanVersions(RowId rowId) throws StorageException {
         assertThreadAllowsToRead();
@@ -132,6 +147,13 @@ public class ThreadAssertingMvPartitionStorage implements MvPartitionStorage {
         return new ThreadAssertingPartitionTimestampCursor(partitionStorage.scan(timestamp));
     }
 
+    @Override
+    public PartitionTimestampCursor scan(HybridTimestamp timestamp, RowId lowerBound, @Nullable RowId upperBound) throws StorageException {
+        assertThreadAllowsToRead();
+
+        return new ThreadAssertingPartitionTimestampCursor(partitionStorage.scan(timestamp, lowerBound, upperBound));
+    }
+
     @Override
     public @Nullable RowId closestRowId(RowId lowerBound) throws StorageException {
         assertThreadAllowsToRead();
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.util;
+
+import java.util.NoSuchElementException;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.PartitionTimestampCursor;
+import org.apache.ignite.internal.storage.ReadResult;
+import org.apache.ignite.internal.storage.RowId;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Cursor of values at the given timestamp within a range of row IDs, built on top of {@link MvPartitionStorage#closestRowId(RowId)}
+ * and {@link MvPartitionStorage#read(RowId, HybridTimestamp)}.
+ *
+ * <p>Like the full partition scan, it filters out committed tombstones, but not tombstones in the write-intent state.
+ */
+public class RowIdRangePartitionTimestampCursor implements PartitionTimestampCursor {
+    private final MvPartitionStorage storage;
+
+    private final HybridTimestamp timestamp;
+
+    /** Exclusive upper bound, {@code null} if the range is not bounded. */
+    private final @Nullable RowId upperBound;
+
+    /** Row ID to continue the search from, {@code null} if the range is exhausted. */
+    private @Nullable RowId nextLowerBound;
+
+    private @Nullable ReadResult nextRead;
+
+    private @Nullable RowId currentRowId;
+
+    /**
+     * Constructor.
+     *
+     * @param storage Partition storage.
+     * @param timestamp Read timestamp.
+     * @param lowerBound Inclusive lower bound.
+     * @param upperBound Exclusive upper bound, {@code null} if the range is not bounded.
+     */
+    public RowIdRangePartitionTimestampCursor(
+            MvPartitionStorage storage,
+            HybridTimestamp timestamp,
+            RowId lowerBound,
+            @Nullable RowId upperBound
+    ) {
+        this.storage = storage;
+        this.timestamp = timestamp;
+        this.nextLowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextRead != null) {
+            return true;
+        }
+
+        while (nextLowerBound != null) {
+            RowId rowId = storage.closestRowId(nextLowerBound);
+
+            if (rowId == null || (upperBound != null && rowId.compareTo(upperBound) >= 0)) {
+                nextLowerBound = null;
+
+                break;
+            }
+
+            nextLowerBound = rowId.increment();
+
+            ReadResult read = storage.read(rowId, timestamp);
+
+            if (read.isWriteIntent() || !read.isEmpty()) {
+                nextRead = read;
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public ReadResult next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        ReadResult read = nextRead;
+
+        nextRead = null;
+        currentRowId = read.rowId();
+
+        return read;
+    }
+
+    @Override
+    public @Nullable BinaryRow committed(HybridTimestamp timestamp) {
+        if (currentRowId == null) {
+            throw new IllegalStateException("currentRowId is null");
+        }
+
+        ReadResult read = storage.read(currentRowId, timestamp);
+
+        return read.isWriteIntent() ? null : read.binaryRow();
+    }
+
+    @Override
+    public void close() {
+        nextLowerBound = null;
+        nextRead = null;
+    }
+}
@@ -241,6 +241,120 @@ public abstract class AbstractMvPartitionStorageTest extends BaseMvPartitionStor
         assertEquals(List.of(value1, value2), convert(scan(HybridTimestamp.MAX_VALUE)));
     }
 
+    /**
+     * Tests that {@link MvPartitionStorage#scan(HybridTimestamp, RowId, RowId)} over the ranges produced by
+     * {@link RowId#splitPartition(int, int)} returns the same rows as the full partition scan.
+     */
+    @Test
+    public void testRangeScan() {
+        for (int i = 0; i < 20; i++) {
+            addWriteCommitted(new RowId(PARTITION_ID), binaryRow(new TestKey(i, "k" + i), new TestValue(i, "v" + i)), clock.now());
+        }
+
+        RowId removedRowId = new RowId(PARTITION_ID);
+
+        addWriteCommitted(removedRowId, binaryRow(new TestKey(50, "k"), new TestValue(50, "v")), clock.now());
+        addWriteCommitted(removedRowId, null, clock.now());
+
+        insert(binaryRow(new TestKey(100, "k"), new TestValue(100, "v")), newTransactionId());
+
+        HybridTimestamp readTs = clock.now();
+
+        List<TestValue> expected = convert(scan(readTs));
+
+        assertEquals(21, expected.size());
+
+        RowId[] bounds = RowId.splitPartition(PARTITION_ID, 4);
+
+        List<TestValue> actual = new ArrayList<>();
+
+        for (int i = 0; i < bounds.length; i++) {
+            RowId upperBound = i + 1 < bounds.length ? bounds[i + 1] : null;
+
+            actual.addAll(convert(storage.scan(readTs, bounds[i], upperBound)));
+        }
+
+        actual.sort(Comparator.nullsFirst(Comparator.naturalOrder()));
+
+        assertEquals(expected, actual);
+    }
+
+    /**
+     * Tests that {@link MvPartitionStorage#scan(HybridTimestamp, RowId, RowId)} includes the lower bound and excludes the upper bound,
+     * both for the latest versions and for versions at a timestamp.
+     */
+    @Test
+    public void testRangeScanBounds() {
+        RowId rowId1 = new RowId(PARTITION_ID, 1, 0);
+        RowId rowId2 = new RowId(PARTITION_ID, 2, 0);
+        RowId rowId3 = new RowId(PARTITION_ID, 3, 0);
+
+        TestValue value1 = new TestValue(1, "v1");
+        TestValue value2 = new TestValue(2, "v2");
+        TestValue value3 = new TestValue(3, "v3");
+
+        addWriteCommitted(rowId1, binaryRow(new TestKey(1, "k1"), value1), clock.now());
+        addWriteCommitted(rowId2, binaryRow(new TestKey(2, "k2"), value2), clock.now());
+        addWriteCommitted(rowId3, binaryRow(new TestKey(3, "k3"), value3), clock.now());
+
+        HybridTimestamp readTs = clock.now();
+
+        for (HybridTimestamp ts : List.of(readTs, HybridTimestamp.MAX_VALUE)) {
+            assertEquals(List.of(value1, value2), convert(storage.scan(ts, rowId1, rowId3)));
+            assertEquals(List.of(value2, value3), convert(storage.scan(ts, rowId2, null)));
+            assertEquals(List.of(value2), convert(storage.scan(ts, new RowId(PARTITION_ID, 1, 1), rowId3)));
+            assertEquals(List.of(), convert(storage.scan(ts, rowId2, rowId2)));
+        }
+    }
+
+    /**
+     * Tests that {@link MvPartitionStorage#readAll(List, HybridTimestamp)} returns the same results as separate reads, in the order of
+     * passed row ids.
+     */
+    @Test
+    public void testReadAll() {
+        List<RowId> rowIds = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            RowId rowId = new RowId(PARTITION_ID);
+
+            addWriteCommitted(rowId, binaryRow(new TestKey(i, "k" + i), new TestValue(i, "v" + i)), clock.now());
+
+            rowIds.add(rowId);
+        }
+
+        HybridTimestamp beforeUpdateTs = clock.now();
+
+        addWriteCommitted(rowIds.get(3), binaryRow(new TestKey(3, "k3"), new TestValue(33, "v33")), clock.now());
+        addWriteCommitted(rowIds.get(5), null, clock.now());
+
+        rowIds.add(insert(binaryRow(new TestKey(100, "k"), new TestValue(100, "v")), newTransactionId()));
+        rowIds.add(new RowId(PARTITION_ID));
+
+        Collections.shuffle(rowIds);
+
+        for (HybridTimestamp readTs : List.of(beforeUpdateTs, clock.now(), HybridTimestamp.MAX_VALUE)) {
+            List<ReadResult> results = storage.readAll(rowIds, readTs);
+
+            assertEquals(rowIds.size(), results.size());
+
+            for (int i = 0; i < rowIds.size(); i++) {
+                ReadResult expected = storage.read(rowIds.get(i), readTs);
+                ReadResult actual = results.get(i);
+
+                assertEquals(expected.rowId(), actual.rowId());
+                assertEquals(expected.isWriteIntent(), actual.isWriteIntent());
+                assertEquals(expected.commitTimestamp(), actual.commitTimestamp());
+
+                if (expected.binaryRow() == null) {
+                    assertNull(actual.binaryRow());
+                } else {
+                    assertThat(actual.binaryRow(), is(equalToRow(expected.binaryRow())));
+                }
+            }
+        }
+    }
+
     @SuppressWarnings("ConstantConditions")
     @Test
     public void testTransactionScanCursorInvariants() {
@@ -464,8 +464,21 @@ public class TestMvPartitionStorage implements MvPartitionStorage {
     public PartitionTimestampCursor scan(HybridTimestamp timestamp) {
         checkStorageClosedOrInProcessOfRebalance();
 
-        Iterator<VersionChain> iterator = map.values().iterator();
+        return scan(timestamp, map.values().iterator());
+    }
+
+    @Override
+    public PartitionTimestampCursor scan(HybridTimestamp timestamp, RowId lowerBound, @Nullable RowId upperBound) {
+        checkStorageClosedOrInProcessOfRebalance();
+
+        ConcurrentNavigableMap<RowId, VersionChain> range = upperBound == null
+                ? map.tailMap(lowerBound, true)
+                : map.subMap(lowerBound, true, upperBound, false);
+
+        return scan(timestamp, range.values().iterator());
+    }
 
+    private PartitionTimestampCursor scan(HybridTimestamp timestamp, Iterator<VersionChain> iterator) {
         pendingCursors.incrementAndGet();
 
         return new PartitionTimestampCursor() {
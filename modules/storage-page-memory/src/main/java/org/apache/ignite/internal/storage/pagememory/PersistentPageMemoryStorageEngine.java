@@ -38,6 +38,7 @@ import org.apache.ignite.internal.components.LogSyncer;
 import org.apache.ignite.internal.components.LongJvmPauseDetector;
 import org.apache.ignite.internal.failure.FailureProcessor;
 import org.apache.ignite.internal.fileio.AsyncFileIoFactory;
+import org.apache.ignite.internal.fileio.DirectFileIoFactory;
 import org.apache.ignite.internal.fileio.FileIoFactory;
 import org.apache.ignite.internal.fileio.RandomAccessFileIoFactory;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
@@ -149,9 +150,15 @@ public class PersistentPageMemoryStorageEngine implements StorageEngine {
         int pageSize = engineConfig.pageSize().value();
 
         try {
-            FileIoFactory fileIoFactory = engineConfig.checkpoint().useAsyncFileIoFactory().value()
-                    ? new AsyncFileIoFactory()
-                    : new RandomAccessFileIoFactory();
+            FileIoFactory fileIoFactory;
+
+            if (engineConfig.checkpoint().useDirectIo().value()) {
+                fileIoFactory = new DirectFileIoFactory();
+            } else if (engineConfig.checkpoint().useAsyncFileIoFactory().value()) {
+                fileIoFactory = new AsyncFileIoFactory();
+            } else {
+                fileIoFactory = new RandomAccessFileIoFactory();
+            }
 
             filePageStoreManager = new FilePageStoreManager(
                     igniteInstanceName,
@@ -17,12 +17,16 @@
 
 package org.apache.ignite.internal.storage.pagememory.mv;
 
+import static org.apache.ignite.internal.lang.IgniteSystemProperties.getInteger;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionDependingOnStorageState;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionDependingOnStorageStateOnRebalance;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionIfStorageNotInRunnableOrRebalanceState;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwStorageExceptionIfItCause;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -31,6 +35,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.lang.IgniteStringFormatter;
@@ -91,6 +96,12 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
     /** Preserved {@link LocalLocker} instance to allow nested calls of {@link #runConsistently(WriteClosure)}. */
     static final ThreadLocal<LocalLocker> THREAD_LOCAL_LOCKER = new ThreadLocal<>();
 
+    /**
+     * Minimum size in bytes of a row version value to be stored out of line, in the {@link BlobStorage}, instead of being fragmented
+     * over data pages. {@code 0} means the page size.
+     */
+    private static final int OUT_OF_LINE_VALUE_THRESHOLD = getInteger("IGNITE_PAGE_MEMORY_OUT_OF_LINE_VALUE_THRESHOLD", 0);
+
     protected final int partitionId;
 
     protected final AbstractPageMemoryTableStorage tableStorage;
@@ -109,6 +120,8 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
 
     private final DataPageReader rowVersionDataPageReader;
 
+    private final int outOfLineValueThreshold;
+
     /** Busy lock. */
     private final IgniteSpinBusyLock busyLock = new IgniteSpinBusyLock();
 
@@ -133,6 +146,8 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
         PageMemory pageMemory = tableStorage.dataRegion().pageMemory();
 
         rowVersionDataPageReader = new DataPageReader(pageMemory, tableStorage.getTableId(), IoStatisticsHolderNoOp.INSTANCE);
+
+        outOfLineValueThreshold = OUT_OF_LINE_VALUE_THRESHOLD > 0 ? OUT_OF_LINE_VALUE_THRESHOLD : pageMemory.pageSize();
     }
 
     protected abstract GradualTaskExecutor createGradualTaskExecutor(ExecutorService threadPool);
@@ -240,6 +255,53 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
         });
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Rows are looked up in the order of their ids, under a single busy section. This way consecutive lookups descend the version
+     * chain tree along the same path and mostly hit the same leaf and data pages, which are already hot at that point.
+     */
+    @Override
+    public List<ReadResult> readAll(List<RowId> rowIds, HybridTimestamp timestamp) throws StorageException {
+        return busy(() -> {
+            throwExceptionIfStorageNotInRunnableState();
+
+            for (RowId rowId : rowIds) {
+                if (rowId.partitionId() != partitionId) {
+                    throw new IllegalArgumentException(String.format(
+                            "RowId partition [%d] is not equal to storage partition [%d].", rowId.partitionId(), partitionId
+                    ));
+                }
+            }
+
+            int[] order = IntStream.range(0, rowIds.size())
+                    .boxed()
+                    .sorted(Comparator.comparing(rowIds::get))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+
+            var results = new ReadResult[rowIds.size()];
+
+            for (int i : order) {
+                RowId rowId = rowIds.get(i);
+
+                results[i] = findVersionChain(rowId, versionChain -> {
+                    if (versionChain == null) {
+                        return ReadResult.empty(rowId);
+                    }
+
+                    if (lookingForLatestVersion(timestamp)) {
+                        return findLatestRowVersion(versionChain);
+                    } else {
+                        return findRowVersionByTimestamp(versionChain, timestamp);
+                    }
+                });
+            }
+
+            return Arrays.asList(results);
+        });
+    }
+
     private static boolean lookingForLatestVersion(HybridTimestamp timestamp) {
         return timestamp == HybridTimestamp.MAX_VALUE;
     }
@@ -264,7 +326,7 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
     }
 
     RowVersion readRowVersion(long rowVersionLink, Predicate<HybridTimestamp> loadValue) {
-        ReadRowVersion read = new ReadRowVersion(partitionId);
+        ReadRowVersion read = new ReadRowVersion(partitionId, valueBlobStorage());
 
         try {
             rowVersionDataPageReader.traverse(rowVersionLink, read, loadValue);
@@ -278,7 +340,7 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
     @Nullable RowVersion findRowVersion(VersionChain versionChain, RowVersionFilter filter, boolean loadValueBytes) {
         assert versionChain.hasHeadLink();
 
-        FindRowVersion findRowVersion = new FindRowVersion(partitionId, loadValueBytes);
+        FindRowVersion findRowVersion = new FindRowVersion(partitionId, valueBlobStorage(), loadValueBytes);
 
         try {
             rowVersionDataPageReader.traverse(versionChain.headLink(), findRowVersion, filter);
@@ -398,7 +460,19 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
     }
 
     void insertRowVersion(RowVersion rowVersion) {
+        BinaryRow value = rowVersion.value();
+        BlobStorage blobStorage = valueBlobStorage();
+
         try {
+            if (value != null && blobStorage != null && rowVersion.valueSize() >= outOfLineValueThreshold) {
+                ByteBuffer tupleSlice = value.tupleSlice();
+
+                byte[] valueBytes = new byte[tupleSlice.remaining()];
+                tupleSlice.get(valueBytes);
+
+                rowVersion.valueBlobPageId(blobStorage.addBlob(valueBytes));
+            }
+
             renewableState.rowVersionFreeList().insertDataRow(rowVersion);
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Cannot store a row version: [row={}, {}]", e, rowVersion, createStorageInfo());
@@ -488,6 +562,14 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
     void removeRowVersion(RowVersion rowVersion) {
         try {
             renewableState.rowVersionFreeList().removeDataRowByLink(rowVersion.link());
+
+            if (rowVersion.isValueOutOfLine()) {
+                BlobStorage blobStorage = valueBlobStorage();
+
+                assert blobStorage != null : rowVersion;
+
+                blobStorage.removeBlob(rowVersion.valueBlobPageId());
+            }
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Cannot remove row version: [row={}, {}]", e, rowVersion, createStorageInfo());
         }
@@ -542,9 +624,27 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
             throwExceptionIfStorageNotInRunnableState();
 
             if (lookingForLatestVersion(timestamp)) {
-                return new LatestVersionsCursor(this);
+                return new LatestVersionsCursor(this, null, null);
+            } else {
+                return new TimestampCursor(this, timestamp, null, null);
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The range is scanned with a single bounded cursor over the version chain tree, just like the whole partition.
+     */
+    @Override
+    public PartitionTimestampCursor scan(HybridTimestamp timestamp, RowId lowerBound, @Nullable RowId upperBound) throws StorageException {
+        return busy(() -> {
+            throwExceptionIfStorageNotInRunnableState();
+
+            if (lookingForLatestVersion(timestamp)) {
+                return new LatestVersionsCursor(this, lowerBound, upperBound);
             } else {
-                return new TimestampCursor(this, timestamp);
+                return new TimestampCursor(this, timestamp, lowerBound, upperBound);
             }
         });
     }
@@ -739,6 +839,11 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
      */
     abstract List<AutoCloseable> getResourcesToCloseOnCleanup();
 
+    /**
+     * Returns the storage for row version values stored out of line, {@code null} if all values are stored inline.
+     */
+    abstract @Nullable BlobStorage valueBlobStorage();
+
     /**
      * Sets the RAFT group configuration on rebalance.
      */
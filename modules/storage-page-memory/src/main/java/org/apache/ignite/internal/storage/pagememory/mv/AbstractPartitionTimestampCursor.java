@@ -36,6 +36,12 @@ abstract class AbstractPartitionTimestampCursor implements PartitionTimestampCur
 
     private final VersionChainTree versionChainTree;
 
+    /** Inclusive lower bound of the scanned row IDs, {@code null} to scan from the beginning of the partition. */
+    private final @Nullable RowId lowerBound;
+
+    /** Exclusive upper bound of the scanned row IDs, {@code null} to scan up to the end of the partition. */
+    private final @Nullable RowId upperBound;
+
     private @Nullable Cursor<ReadResult> cursor;
 
     private boolean iterationExhausted;
@@ -44,9 +50,11 @@ abstract class AbstractPartitionTimestampCursor implements PartitionTimestampCur
 
     private @Nullable RowId currentRowId;
 
-    AbstractPartitionTimestampCursor(AbstractPageMemoryMvPartitionStorage storage) {
+    AbstractPartitionTimestampCursor(AbstractPageMemoryMvPartitionStorage storage, @Nullable RowId lowerBound, @Nullable RowId upperBound) {
         this.storage = storage;
         this.versionChainTree = storage.renewableState.versionChainTree();
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
     }
 
     @Override
@@ -153,12 +161,19 @@ abstract class AbstractPartitionTimestampCursor implements PartitionTimestampCur
         }
 
         try {
-            cursor = versionChainTree.find(null, null, new TreeRowMapClosure<>() {
-                @Override
-                public ReadResult map(VersionChain treeRow) {
-                    return findRowVersion(treeRow);
-                }
-            }, null);
+            cursor = versionChainTree.find(
+                    lowerBound == null ? null : new VersionChainKey(lowerBound),
+                    upperBound == null ? null : new VersionChainKey(upperBound),
+                    true,
+                    false,
+                    new TreeRowMapClosure<>() {
+                        @Override
+                        public ReadResult map(VersionChain treeRow) {
+                            return findRowVersion(treeRow);
+                        }
+                    },
+                    null
+            );
         } catch (IgniteInternalCheckedException e) {
             throwStorageExceptionIfItCause(e);
 
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.storage.pagememory.mv;
 
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.pagememory.PageIdAllocator;
@@ -34,11 +35,12 @@ import org.apache.ignite.internal.storage.pagememory.mv.io.BlobFragmentIo;
 import org.jetbrains.annotations.Nullable;
 
 /**
- * Used to store a limited number of blobs (just byte arrays) per partition. Each blob is stored in a sequence
- * of pages forming a linked list (a previous page links to the next one).
+ * Used to store blobs (just byte arrays) per partition. Each blob is stored in a sequence of pages forming a linked list (a previous
+ * page links to the next one).
  *
- * <p>If a lot of blobs (comparable with the number of rows) needs to be stored in a partition, another mechanism
- * (probably using a {@link org.apache.ignite.internal.pagememory.freelist.FreeList}) should be used.
+ * <p>Besides a few blobs of partition metadata, it stores values of row versions that are too large to be stored inline in the data
+ * pages of the {@link org.apache.ignite.internal.pagememory.freelist.FreeList}: such a value occupies whole pages of its own instead of
+ * being fragmented over data pages, and the row version only holds the ID of the first page of the blob.
  */
 public class BlobStorage extends DataStructure {
     static final long NO_PAGE_ID = 0;
@@ -49,6 +51,8 @@ public class BlobStorage extends DataStructure {
 
     private final ReadFragment readFragment = new ReadFragment();
 
+    private final ReadLength readLength = new ReadLength();
+
     private final WriteFragment writeFragment = new WriteFragment();
 
     /**
@@ -69,8 +73,57 @@ public class BlobStorage extends DataStructure {
      * @throws IgniteInternalCheckedException If something goes wrong.
      */
     public byte[] readBlob(long firstPageId) throws IgniteInternalCheckedException {
-        ReadState readState = new ReadState();
+        ReadState readState = new ReadState(null);
+
+        readBlob(firstPageId, readState);
+
+        assert readState.target != null;
+
+        return readState.target.array();
+    }
+
+    /**
+     * Reads a blob stored starting at a page with the given ID into the given buffer, starting at its position. The bytes are copied
+     * directly from the page memory, so the buffer may be, for example, a direct buffer to be sent over the network.
+     *
+     * @param firstPageId ID of first page.
+     * @param target Buffer to read the blob into, must have at least {@link #blobLength} bytes remaining.
+     * @return Length of the blob in bytes, the position of the buffer is advanced by it.
+     * @throws IgniteInternalCheckedException If something goes wrong or the blob does not fit into the buffer.
+     */
+    public int readBlob(long firstPageId, ByteBuffer target) throws IgniteInternalCheckedException {
+        ReadState readState = new ReadState(target);
+
+        readBlob(firstPageId, readState);
 
+        return readState.totalLength;
+    }
+
+    /**
+     * Returns the length in bytes of a blob stored starting at a page with the given ID.
+     *
+     * @param firstPageId ID of first page.
+     * @throws IgniteInternalCheckedException If something goes wrong.
+     */
+    public int blobLength(long firstPageId) throws IgniteInternalCheckedException {
+        Integer length = PageHandler.readPage(
+                pageMem,
+                grpId,
+                firstPageId,
+                PageLockListenerNoOp.INSTANCE,
+                readLength,
+                null,
+                0,
+                null,
+                IoStatisticsHolderNoOp.INSTANCE
+        );
+
+        assert length != null : firstPageId;
+
+        return length;
+    }
+
+    private void readBlob(long firstPageId, ReadState readState) throws IgniteInternalCheckedException {
         long pageId = firstPageId;
 
         while (pageId != NO_PAGE_ID) {
@@ -90,10 +143,6 @@ public class BlobStorage extends DataStructure {
 
             pageId = readState.nextPageId;
         }
-
-        assert readState.bytes != null;
-
-        return readState.bytes;
     }
 
     /**
@@ -118,6 +167,18 @@ public class BlobStorage extends DataStructure {
         doStore(firstPageId, bytes);
     }
 
+    /**
+     * Removes the blob, its pages are recycled to the reuse list.
+     *
+     * @param firstPageId ID of the first page in the chain storing the blob.
+     * @throws IgniteInternalCheckedException If something goes wrong.
+     */
+    public void removeBlob(long firstPageId) throws IgniteInternalCheckedException {
+        assert firstPageId != NO_PAGE_ID;
+
+        freePagesStartingWith(firstPageId);
+    }
+
     private long doStore(long maybeFirstPageId, byte[] bytes) throws IgniteInternalCheckedException {
         Objects.requireNonNull(bytes, "bytes is null");
 
@@ -189,12 +250,19 @@ public class BlobStorage extends DataStructure {
      * State of a read operation.
      */
     private static class ReadState {
-        private byte @Nullable [] bytes;
+        /** Buffer to read into, allocated on reading the first page if not specified. */
+        private @Nullable ByteBuffer target;
+
+        private int totalLength = -1;
 
         private int bytesOffset;
 
         private long nextPageId = NO_PAGE_ID;
 
+        private ReadState(@Nullable ByteBuffer target) {
+            this.target = target;
+        }
+
         private boolean isFirstPage() {
             return bytesOffset == 0;
         }
@@ -209,22 +277,31 @@ public class BlobStorage extends DataStructure {
                 IoStatisticsHolder statHolder) throws IgniteInternalCheckedException {
             BlobFragmentIo blobIo = (BlobFragmentIo) io;
 
-            if (state.bytes == null) {
+            if (state.totalLength < 0) {
                 assert state.isFirstPage();
 
-                state.bytes = new byte[blobIo.getTotalLength(pageAddr)];
+                state.totalLength = blobIo.getTotalLength(pageAddr);
+
+                if (state.target == null) {
+                    state.target = ByteBuffer.allocate(state.totalLength);
+                } else if (state.target.remaining() < state.totalLength) {
+                    throw new IgniteInternalCheckedException("Blob does not fit into the buffer: [pageId=" + pageId
+                            + ", length=" + state.totalLength + ", remaining=" + state.target.remaining() + ']');
+                }
             }
 
+            assert state.target != null;
+
             int capacityForBytes = blobIo.getCapacityForFragmentBytes(pageSize(), state.isFirstPage());
-            int fragmentLength = Math.min(capacityForBytes, state.bytes.length - state.bytesOffset);
+            int fragmentLength = Math.min(capacityForBytes, state.totalLength - state.bytesOffset);
 
-            blobIo.getFragmentBytes(pageAddr, state.isFirstPage(), state.bytes, state.bytesOffset, fragmentLength);
+            blobIo.getFragmentBytes(pageAddr, state.isFirstPage(), state.target, fragmentLength);
 
             long nextPageId = blobIo.getNextPageId(pageAddr);
 
             int newBytesOffset = state.bytesOffset + fragmentLength;
 
-            if (newBytesOffset < state.bytes.length) {
+            if (newBytesOffset < state.totalLength) {
                 assert nextPageId != NO_PAGE_ID;
 
                 state.nextPageId = nextPageId;
@@ -240,6 +317,17 @@ public class BlobStorage extends DataStructure {
         }
     }
 
+    /**
+     * Reads the total length of a blob from its first page.
+     */
+    private static class ReadLength implements PageHandler<Void, Integer> {
+        @Override
+        public Integer run(int groupId, long pageId, long page, long pageAddr, PageIo io, Void unused, int unused2,
+                IoStatisticsHolder statHolder) {
+            return ((BlobFragmentIo) io).getTotalLength(pageAddr);
+        }
+    }
+
     /**
      * State of a write operation.
      */
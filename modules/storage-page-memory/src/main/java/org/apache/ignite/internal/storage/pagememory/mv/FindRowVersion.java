@@ -39,6 +39,8 @@ import org.jetbrains.annotations.Nullable;
 class FindRowVersion implements PageMemoryTraversal<RowVersionFilter> {
     private final int partitionId;
 
+    private final @Nullable BlobStorage blobStorage;
+
     private final boolean loadValueBytes;
 
     private boolean rowVersionFound;
@@ -55,10 +57,13 @@ class FindRowVersion implements PageMemoryTraversal<RowVersionFilter> {
 
     private int schemaVersion;
 
+    private long valueBlobPageId = BlobStorage.NO_PAGE_ID;
+
     private @Nullable RowVersion result;
 
-    FindRowVersion(int partitionId, boolean loadValueBytes) {
+    FindRowVersion(int partitionId, @Nullable BlobStorage blobStorage, boolean loadValueBytes) {
         this.partitionId = partitionId;
+        this.blobStorage = blobStorage;
         this.loadValueBytes = loadValueBytes;
     }
 
@@ -80,13 +85,19 @@ class FindRowVersion implements PageMemoryTraversal<RowVersionFilter> {
         rowTimestamp = HybridTimestamps.readTimestamp(pageAddr, payload.offset() + RowVersion.TIMESTAMP_OFFSET);
         rowNextLink = nextLink;
         schemaVersion = Short.toUnsignedInt(PageUtils.getShort(pageAddr, payload.offset() + RowVersion.SCHEMA_VERSION_OFFSET));
+        rowValueSize = PageUtils.getInt(pageAddr, payload.offset() + RowVersion.VALUE_SIZE_OFFSET);
+
+        if (rowValueSize == RowVersion.OUT_OF_LINE_VALUE_SIZE) {
+            // The value is read in finish(), when no data page lock is held.
+            valueBlobPageId = ReadRowVersion.readValueBlobPageId(pageAddr, payload);
+
+            return STOP_TRAVERSAL;
+        }
 
         if (loadValueBytes) {
             return readRowVersionValue.consumePagePayload(link, pageAddr, payload, null);
         }
 
-        rowValueSize = PageUtils.getInt(pageAddr, payload.offset() + RowVersion.VALUE_SIZE_OFFSET);
-
         return STOP_TRAVERSAL;
     }
 
@@ -96,7 +107,11 @@ class FindRowVersion implements PageMemoryTraversal<RowVersionFilter> {
             return;
         }
 
-        if (loadValueBytes) {
+        if (valueBlobPageId != BlobStorage.NO_PAGE_ID) {
+            BinaryRow row = loadValueBytes ? ReadRowVersion.readOutOfLineValue(blobStorage, valueBlobPageId, schemaVersion) : null;
+
+            result = new RowVersion(partitionId, rowLink, rowTimestamp, rowNextLink, row, valueBlobPageId);
+        } else if (loadValueBytes) {
             readRowVersionValue.finish();
 
             byte[] valueBytes = readRowVersionValue.result();
@@ -18,6 +18,8 @@
 package org.apache.ignite.internal.storage.pagememory.mv;
 
 import org.apache.ignite.internal.storage.ReadResult;
+import org.apache.ignite.internal.storage.RowId;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Implementation of the cursor that iterates over the page memory storage with the respect to the transaction id. Scans the partition
@@ -25,8 +27,8 @@ import org.apache.ignite.internal.storage.ReadResult;
  * different transaction.
  */
 class LatestVersionsCursor extends AbstractPartitionTimestampCursor {
-    LatestVersionsCursor(AbstractPageMemoryMvPartitionStorage storage) {
-        super(storage);
+    LatestVersionsCursor(AbstractPageMemoryMvPartitionStorage storage, @Nullable RowId lowerBound, @Nullable RowId upperBound) {
+        super(storage, lowerBound, upperBound);
     }
 
     @Override
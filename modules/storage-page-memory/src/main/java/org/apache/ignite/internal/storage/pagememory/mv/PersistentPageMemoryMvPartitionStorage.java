@@ -416,6 +416,11 @@ public class PersistentPageMemoryMvPartitionStorage extends AbstractPageMemoryMv
         );
     }
 
+    @Override
+    BlobStorage valueBlobStorage() {
+        return blobStorage;
+    }
+
     @Override
     List<AutoCloseable> getResourcesToCloseOnCleanup() {
         RenewablePartitionStorageState localState = renewableState;
@@ -23,20 +23,26 @@ import static org.apache.ignite.internal.pagememory.util.PartitionlessLinks.read
 import java.nio.ByteBuffer;
 import java.util.function.Predicate;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.pagememory.datapage.PageMemoryTraversal;
 import org.apache.ignite.internal.pagememory.io.DataPagePayload;
 import org.apache.ignite.internal.pagememory.util.PageUtils;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.BinaryRowImpl;
 import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.storage.StorageException;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Traversal for reading a row version by its link. Loads the version value conditionally.
+ *
+ * <p>A value stored out of line is loaded from the {@link BlobStorage} in {@link #finish()}, when no data page lock is held anymore.
  */
 class ReadRowVersion implements PageMemoryTraversal<Predicate<HybridTimestamp>> {
     private final int partitionId;
 
+    private final @Nullable BlobStorage blobStorage;
+
     private RowVersion result;
 
     private boolean readingFirstSlot = true;
@@ -49,10 +55,13 @@ class ReadRowVersion implements PageMemoryTraversal<Predicate<HybridTimestamp>>
 
     private int schemaVersion;
 
+    private long valueBlobPageId = BlobStorage.NO_PAGE_ID;
+
     private final ReadRowVersionValue readRowVersionValue = new ReadRowVersionValue();
 
-    ReadRowVersion(int partitionId) {
+    ReadRowVersion(int partitionId, @Nullable BlobStorage blobStorage) {
         this.partitionId = partitionId;
+        this.blobStorage = blobStorage;
     }
 
     @Override
@@ -73,9 +82,19 @@ class ReadRowVersion implements PageMemoryTraversal<Predicate<HybridTimestamp>>
         nextLink = readPartitionless(partitionId, pageAddr, payload.offset() + RowVersion.NEXT_LINK_OFFSET);
         schemaVersion = Short.toUnsignedInt(PageUtils.getShort(pageAddr, payload.offset() + RowVersion.SCHEMA_VERSION_OFFSET));
 
-        if (!loadValue.test(timestamp)) {
-            int valueSize = PageUtils.getInt(pageAddr, payload.offset() + RowVersion.VALUE_SIZE_OFFSET);
+        int valueSize = PageUtils.getInt(pageAddr, payload.offset() + RowVersion.VALUE_SIZE_OFFSET);
+
+        if (valueSize == RowVersion.OUT_OF_LINE_VALUE_SIZE) {
+            valueBlobPageId = readValueBlobPageId(pageAddr, payload);
+
+            if (!loadValue.test(timestamp)) {
+                result = new RowVersion(partitionIdFromLink(link), firstFragmentLink, timestamp, nextLink, null, valueBlobPageId);
+            }
 
+            return STOP_TRAVERSAL;
+        }
+
+        if (!loadValue.test(timestamp)) {
             result = new RowVersion(partitionIdFromLink(link), firstFragmentLink, timestamp, nextLink, valueSize);
 
             return STOP_TRAVERSAL;
@@ -91,6 +110,14 @@ class ReadRowVersion implements PageMemoryTraversal<Predicate<HybridTimestamp>>
             return;
         }
 
+        if (valueBlobPageId != BlobStorage.NO_PAGE_ID) {
+            BinaryRow row = readOutOfLineValue(blobStorage, valueBlobPageId, schemaVersion);
+
+            result = new RowVersion(partitionIdFromLink(firstFragmentLink), firstFragmentLink, timestamp, nextLink, row, valueBlobPageId);
+
+            return;
+        }
+
         readRowVersionValue.finish();
 
         byte[] valueBytes = readRowVersionValue.result();
@@ -109,6 +136,32 @@ class ReadRowVersion implements PageMemoryTraversal<Predicate<HybridTimestamp>>
     void reset() {
         result = null;
         readingFirstSlot = true;
+        valueBlobPageId = BlobStorage.NO_PAGE_ID;
         readRowVersionValue.reset();
     }
+
+    /**
+     * Reads the ID of the first page of the blob storing the value of a row version stored in the given payload.
+     */
+    static long readValueBlobPageId(long pageAddr, DataPagePayload payload) {
+        // A row version referencing a blob is small enough to never be fragmented.
+        assert payload.nextLink() == 0 && payload.payloadSize() >= RowVersion.VALUE_OFFSET + Long.BYTES : payload;
+
+        return PageUtils.getLong(pageAddr, payload.offset() + RowVersion.VALUE_OFFSET);
+    }
+
+    /**
+     * Reads a row version value stored out of line.
+     */
+    static BinaryRow readOutOfLineValue(@Nullable BlobStorage blobStorage, long valueBlobPageId, int schemaVersion) {
+        assert blobStorage != null : "Row version value is stored out of line, but there is no blob storage";
+
+        try {
+            byte[] valueBytes = blobStorage.readBlob(valueBlobPageId);
+
+            return new BinaryRowImpl(schemaVersion, ByteBuffer.wrap(valueBytes).order(BinaryTuple.ORDER));
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Failed to read row version value: [valueBlobPageId={}]", e, valueBlobPageId);
+        }
+    }
 }
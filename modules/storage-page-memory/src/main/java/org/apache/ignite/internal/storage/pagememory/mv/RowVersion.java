@@ -33,6 +33,9 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Represents row version inside row version chain.
+ *
+ * <p>A large value may be stored out of line, in a {@link BlobStorage}: then the row version stores {@link #OUT_OF_LINE_VALUE_SIZE}
+ * instead of the value size and the ID of the first page of the blob instead of the value bytes.
  */
 public final class RowVersion implements Storable {
     private static final int NEXT_LINK_STORE_SIZE_BYTES = PartitionlessLinks.PARTITIONLESS_LINK_SIZE_BYTES;
@@ -45,6 +48,9 @@ public final class RowVersion implements Storable {
     public static final int SCHEMA_VERSION_OFFSET = VALUE_SIZE_OFFSET + VALUE_SIZE_STORE_SIZE_BYTES;
     public static final int VALUE_OFFSET = SCHEMA_VERSION_OFFSET + SCHEMA_VERSION_SIZE_BYTES;
 
+    /** Value size stored in a row version whose value is stored out of line, in a {@link BlobStorage}. */
+    public static final int OUT_OF_LINE_VALUE_SIZE = -1;
+
     private final int partitionId;
 
     private long link;
@@ -58,6 +64,9 @@ public final class RowVersion implements Storable {
     @IgniteToStringExclude
     private final @Nullable BinaryRow value;
 
+    /** ID of the first page of the blob storing the value, {@link BlobStorage#NO_PAGE_ID} if the value is stored inline. */
+    private long valueBlobPageId = BlobStorage.NO_PAGE_ID;
+
     /**
      * Constructor.
      */
@@ -98,6 +107,28 @@ public final class RowVersion implements Storable {
         this.value = null;
     }
 
+    /**
+     * Constructor for a row version whose value is stored out of line.
+     */
+    RowVersion(
+            int partitionId,
+            long link,
+            @Nullable HybridTimestamp timestamp,
+            long nextLink,
+            @Nullable BinaryRow value,
+            long valueBlobPageId
+    ) {
+        this.partitionId = partitionId;
+        link(link);
+
+        this.timestamp = timestamp;
+        this.nextLink = nextLink;
+        this.valueSize = value == null ? OUT_OF_LINE_VALUE_SIZE : value.tupleSliceLength();
+        this.value = value;
+
+        valueBlobPageId(valueBlobPageId);
+    }
+
     public @Nullable HybridTimestamp timestamp() {
         return timestamp;
     }
@@ -109,6 +140,9 @@ public final class RowVersion implements Storable {
         return nextLink;
     }
 
+    /**
+     * Returns the size of the value, {@link #OUT_OF_LINE_VALUE_SIZE} if the value is stored out of line and was not loaded.
+     */
     public int valueSize() {
         return valueSize;
     }
@@ -125,6 +159,27 @@ public final class RowVersion implements Storable {
         return valueSize == 0;
     }
 
+    /**
+     * Returns {@code true} if the value is stored out of line, in a {@link BlobStorage}.
+     */
+    public boolean isValueOutOfLine() {
+        return valueBlobPageId != BlobStorage.NO_PAGE_ID;
+    }
+
+    /**
+     * Returns the ID of the first page of the blob storing the value, {@link BlobStorage#NO_PAGE_ID} if the value is stored inline.
+     */
+    public long valueBlobPageId() {
+        return valueBlobPageId;
+    }
+
+    /**
+     * Sets the ID of the first page of the blob storing the value.
+     */
+    void valueBlobPageId(long valueBlobPageId) {
+        this.valueBlobPageId = valueBlobPageId;
+    }
+
     boolean isUncommitted() {
         return timestamp == null;
     }
@@ -150,7 +205,7 @@ public final class RowVersion implements Storable {
 
     @Override
     public int size() {
-        return headerSize() + valueSize;
+        return headerSize() + (isValueOutOfLine() ? Long.BYTES : valueSize);
     }
 
     @Override
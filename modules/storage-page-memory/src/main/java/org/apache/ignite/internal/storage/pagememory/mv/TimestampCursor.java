@@ -20,6 +20,8 @@ package org.apache.ignite.internal.storage.pagememory.mv;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.storage.PartitionTimestampCursor;
 import org.apache.ignite.internal.storage.ReadResult;
+import org.apache.ignite.internal.storage.RowId;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Implementation of the {@link PartitionTimestampCursor} over the page memory storage. See {@link PartitionTimestampCursor} for the
@@ -30,9 +32,11 @@ class TimestampCursor extends AbstractPartitionTimestampCursor {
 
     TimestampCursor(
             AbstractPageMemoryMvPartitionStorage storage,
-            HybridTimestamp timestamp
+            HybridTimestamp timestamp,
+            @Nullable RowId lowerBound,
+            @Nullable RowId upperBound
     ) {
-        super(storage);
+        super(storage, lowerBound, upperBound);
 
         this.timestamp = timestamp;
     }
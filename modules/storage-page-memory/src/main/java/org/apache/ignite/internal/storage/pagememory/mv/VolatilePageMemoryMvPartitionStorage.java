@@ -286,6 +286,12 @@ public class VolatilePageMemoryMvPartitionStorage extends AbstractPageMemoryMvPa
         }
     }
 
+    @Override
+    @Nullable BlobStorage valueBlobStorage() {
+        // There is no per-partition blob storage in a volatile data region, all values are stored inline.
+        return null;
+    }
+
     @Override
     List<AutoCloseable> getResourcesToCloseOnCleanup() {
         RenewablePartitionStorageState localState = renewableState;
@@ -24,10 +24,12 @@ import static org.apache.ignite.internal.pagememory.util.PageUtils.putInt;
 import static org.apache.ignite.internal.pagememory.util.PageUtils.putLong;
 import static org.apache.ignite.internal.storage.pagememory.mv.MvPageTypes.T_BLOB_FRAGMENT_IO;
 
+import java.nio.ByteBuffer;
 import org.apache.ignite.internal.lang.IgniteStringBuilder;
 import org.apache.ignite.internal.pagememory.io.IoVersions;
 import org.apache.ignite.internal.pagememory.io.PageIo;
 import org.apache.ignite.internal.pagememory.util.PageUtils;
+import org.apache.ignite.internal.util.GridUnsafe;
 
 /**
  * Pages IO for blob fragments. The blob itself is stored as a chain of fragments, one fragment per page.
@@ -108,6 +110,24 @@ public class BlobFragmentIo extends PageIo {
         PageUtils.getBytes(pageAddr, fragmentBytesOffset(firstPage), destArray, destOffset, fragmentLength);
     }
 
+    /**
+     * Reads fragment bytes to the given buffer starting at its position, directly from the page memory, and advances the position.
+     */
+    public void getFragmentBytes(long pageAddr, boolean firstPage, ByteBuffer dest, int fragmentLength) {
+        assert !dest.isReadOnly();
+        assert dest.remaining() >= fragmentLength : "remaining=" + dest.remaining() + ", fragmentLength=" + fragmentLength;
+
+        byte[] destArray = dest.hasArray() ? dest.array() : null;
+
+        long destOffset = destArray != null
+                ? GridUnsafe.BYTE_ARR_OFF + dest.arrayOffset() + dest.position()
+                : GridUnsafe.bufferAddress(dest) + dest.position();
+
+        GridUnsafe.copyMemory(null, pageAddr + fragmentBytesOffset(firstPage), destArray, destOffset, fragmentLength);
+
+        dest.position(dest.position() + fragmentLength);
+    }
+
     /**
      * Writes fragment bytes from the given array.
      */
@@ -19,11 +19,13 @@ package org.apache.ignite.internal.storage.pagememory.mv.io;
 
 import static org.apache.ignite.internal.pagememory.util.PageUtils.putByteBuffer;
 import static org.apache.ignite.internal.pagememory.util.PageUtils.putInt;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.putLong;
 import static org.apache.ignite.internal.pagememory.util.PageUtils.putShort;
 import static org.apache.ignite.internal.pagememory.util.PartitionlessLinks.writePartitionless;
 import static org.apache.ignite.internal.storage.pagememory.mv.MvPageTypes.T_ROW_VERSION_DATA_IO;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.lang.IgniteStringBuilder;
 import org.apache.ignite.internal.pagememory.io.AbstractDataPageIo;
@@ -63,7 +65,7 @@ public class RowVersionDataIo extends AbstractDataPageIo<RowVersion> {
 
         offset += writePartitionless(pageAddr + offset, rowVersion.nextLink());
 
-        putInt(pageAddr, offset, rowVersion.valueSize());
+        putInt(pageAddr, offset, storedValueSize(rowVersion));
         offset += Integer.BYTES;
 
         BinaryRow row = rowVersion.value();
@@ -72,7 +74,11 @@ public class RowVersionDataIo extends AbstractDataPageIo<RowVersion> {
             putShort(pageAddr, offset, (short) row.schemaVersion());
             offset += Short.BYTES;
 
-            putByteBuffer(pageAddr, offset, row.tupleSlice());
+            if (rowVersion.isValueOutOfLine()) {
+                putLong(pageAddr, offset, rowVersion.valueBlobPageId());
+            } else {
+                putByteBuffer(pageAddr, offset, row.tupleSlice());
+            }
         } else {
             putShort(pageAddr, offset, (short) 0);
         }
@@ -98,7 +104,7 @@ public class RowVersionDataIo extends AbstractDataPageIo<RowVersion> {
 
             PartitionlessLinks.writeToBuffer(pageBuf, rowVersion.nextLink());
 
-            pageBuf.putInt(rowVersion.valueSize());
+            pageBuf.putInt(storedValueSize(rowVersion));
 
             pageBuf.putShort(row == null ? 0 : (short) row.schemaVersion());
 
@@ -113,10 +119,23 @@ public class RowVersionDataIo extends AbstractDataPageIo<RowVersion> {
         }
 
         if (row != null) {
-            putValueBufferIntoPage(pageBuf, row.tupleSlice(), bufferOffset, bufferSize);
+            putValueBufferIntoPage(pageBuf, storedValue(rowVersion, row), bufferOffset, bufferSize);
         }
     }
 
+    private static int storedValueSize(RowVersion rowVersion) {
+        return rowVersion.isValueOutOfLine() ? RowVersion.OUT_OF_LINE_VALUE_SIZE : rowVersion.valueSize();
+    }
+
+    private static ByteBuffer storedValue(RowVersion rowVersion, BinaryRow row) {
+        if (rowVersion.isValueOutOfLine()) {
+            // Same byte order as the one used by PageUtils#putLong when the row version is not fragmented.
+            return ByteBuffer.allocate(Long.BYTES).order(ByteOrder.nativeOrder()).putLong(0, rowVersion.valueBlobPageId());
+        }
+
+        return row.tupleSlice();
+    }
+
     /**
      * Updates timestamp leaving the rest untouched.
      *
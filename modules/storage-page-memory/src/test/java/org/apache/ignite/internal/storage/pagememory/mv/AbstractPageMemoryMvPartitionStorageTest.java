@@ -57,7 +57,7 @@ abstract class AbstractPageMemoryMvPartitionStorageTest extends AbstractMvPartit
         assertThat(foundRow, is(equalToRow(longRow)));
     }
 
-    private BinaryRow rowStoredInFragments() {
+    BinaryRow rowStoredInFragments() {
         int pageSize = pageSize();
 
         // A repetitive pattern of 19 different characters (19 is chosen as a prime number) to reduce probability of 'lucky' matches
@@ -29,6 +29,7 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
@@ -166,6 +167,37 @@ class BlobStorageTest extends BaseIgniteAbstractTest {
         assertThat(collectBagPages(capturedBag), hasSize(2));
     }
 
+    @Test
+    void readsBlobIntoBuffer() throws Exception {
+        byte[] payload = "Hello".repeat(1000).getBytes(UTF_8);
+
+        long pageId = blobStorage.addBlob(payload);
+
+        assertThat(blobStorage.blobLength(pageId), is(payload.length));
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(payload.length + 1);
+        buffer.put((byte) 42);
+
+        assertThat(blobStorage.readBlob(pageId, buffer), is(payload.length));
+        assertThat(buffer.position(), is(payload.length + 1));
+
+        byte[] readBytes = new byte[payload.length];
+        buffer.position(1).get(readBytes);
+
+        assertThat(readBytes, is(equalTo(payload)));
+    }
+
+    @Test
+    void removedBlobPagesAreRecycled() throws Exception {
+        long pageId = blobStorage.addBlob(new byte[PAGE_SIZE * 2]);
+
+        blobStorage.removeBlob(pageId);
+
+        verify(reuseList).addForRecycle(reuseBagCaptor.capture());
+
+        assertThat(collectBagPages(reuseBagCaptor.getValue()), hasSize(3));
+    }
+
     private static List<Long> collectBagPages(ReuseBag capturedBag) {
         List<Long> pageIds = new ArrayList<>();
 
@@ -26,6 +26,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.Mockito.mock;
 
 import java.nio.file.Path;
@@ -34,6 +35,7 @@ import org.apache.ignite.internal.configuration.testframework.InjectConfiguratio
 import org.apache.ignite.internal.failure.FailureProcessor;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.engine.StorageTableDescriptor;
 import org.apache.ignite.internal.storage.index.StorageIndexDescriptorSupplier;
@@ -111,6 +113,34 @@ class PersistentPageMemoryMvPartitionStorageTest extends AbstractPageMemoryMvPar
         assertThat(read(rowId, HybridTimestamp.MAX_VALUE), is(equalToRow(binaryRow)));
     }
 
+    @Test
+    void testMultiPageValueReadAfterRestart() throws Exception {
+        BinaryRow longRow = rowStoredInFragments();
+
+        RowId rowId = insert(longRow, txId);
+
+        commitWrite(rowId, clock.now());
+
+        restartStorage();
+
+        assertThat(read(rowId, HybridTimestamp.MAX_VALUE), is(equalToRow(longRow)));
+    }
+
+    @Test
+    void multiPageValuesAreReplacedAndAborted() {
+        BinaryRow longRow = rowStoredInFragments();
+
+        RowId rowId = insert(longRow, txId);
+
+        assertThat(addWrite(rowId, binaryRow, txId), is(equalToRow(longRow)));
+
+        addWrite(rowId, longRow, txId);
+
+        assertThat(abortWrite(rowId), is(equalToRow(longRow)));
+
+        assertThat(read(rowId, HybridTimestamp.MAX_VALUE), is(nullValue()));
+    }
+
     private void restartStorage() throws Exception {
         assertThat(
                 engine.checkpointManager().forceCheckpoint("before_stop_engine").futureFor(FINISHED),
@@ -24,6 +24,7 @@ import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.MAX
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.MV_KEY_BUFFER;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.ROW_ID_OFFSET;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.deserializeRow;
+import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.putTimestampNatural;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.readTimestampNatural;
 import static org.apache.ignite.internal.storage.rocksdb.RocksDbMvPartitionStorage.invalid;
 import static org.apache.ignite.internal.storage.rocksdb.RocksDbStorageUtils.KEY_BYTE_ORDER;
@@ -54,6 +55,12 @@ import org.rocksdb.WriteBatchWithIndex;
  * }</pre>
  * Value is an empty byte array.
  *
+ * <p>Vacuumed entries are removed from the head of the queue with point deletes, which leaves a growing range of deletion
+ * tombstones in front of the head until compaction purges them. To avoid iterating over these tombstones on every poll, the
+ * garbage collector remembers the timestamp of the last vacuumed entry and starts seeking from it. The timestamp never exceeds
+ * a low watermark and new entries are not expected to have timestamps below the low watermark, so no entry is skipped. An
+ * entry that nevertheless gets a lower timestamp resets the remembered head.
+ *
  * <p>For more information refer to the tech-notes/garbage-collection.md in this module.
  */
 class GarbageCollector {
@@ -71,7 +78,7 @@ class GarbageCollector {
     private static final int GC_KEY_ROW_ID_OFFSET = GC_KEY_TS_OFFSET + HYBRID_TIMESTAMP_SIZE;
 
     /** Garbage collector's queue key's size. */
-    private static final int GC_KEY_SIZE = GC_KEY_ROW_ID_OFFSET + ROW_ID_SIZE;
+    static final int GC_KEY_SIZE = GC_KEY_ROW_ID_OFFSET + ROW_ID_SIZE;
 
     /** Thread-local direct buffer instance to read keys from RocksDB. */
     private static final ThreadLocal<ByteBuffer> GC_KEY_BUFFER = withInitial(() -> allocateDirect(GC_KEY_SIZE).order(KEY_BYTE_ORDER));
@@ -85,6 +92,12 @@ class GarbageCollector {
     /** GC queue column family. */
     private final ColumnFamilyHandle gcQueueCf;
 
+    /**
+     * Timestamp of the last vacuumed GC queue entry, all the entries with lower timestamps have already been vacuumed. {@code null}
+     * if the queue must be read from the start of the partition.
+     */
+    private volatile @Nullable HybridTimestamp queueHeadTimestamp;
+
     GarbageCollector(PartitionDataHelper helper, RocksDB db, ColumnFamilyHandle gcQueueCf) {
         this.helper = helper;
         this.db = db;
@@ -147,6 +160,12 @@ class GarbageCollector {
             helper.putGcKey(keyBuffer, rowId, timestamp);
 
             writeBatch.put(gcQueueCf, keyBuffer, EMPTY_DIRECT_BUFFER);
+
+            HybridTimestamp headTimestamp = queueHeadTimestamp;
+
+            if (headTimestamp != null && timestamp.compareTo(headTimestamp) < 0) {
+                queueHeadTimestamp = null;
+            }
         }
 
         return false;
@@ -165,7 +184,7 @@ class GarbageCollector {
         // First we check if there's anything to garbage collect. If the element is a tombstone we remove it.
         // If the next element exists, that should be the element that we want to garbage collect.
         try (RocksIterator gcIt = newWrappedIterator(gcQueueCf, helper.upperBoundReadOpts)) {
-            gcIt.seek(helper.partitionStartPrefix());
+            seekToQueueHead(gcIt);
 
             if (invalid(gcIt)) {
                 // GC queue is empty.
@@ -204,7 +223,7 @@ class GarbageCollector {
         // First we check if there's anything to garbage collect. If the element is a tombstone we remove it.
         // If the next element exists, that should be the element that we want to garbage collect.
         try (RocksIterator gcIt = newWrappedIterator(gcQueueCf, helper.upperBoundReadOpts)) {
-            gcIt.seek(helper.partitionStartPrefix());
+            seekToQueueHead(gcIt);
 
             if (invalid(gcIt)) {
                 // GC queue is empty.
@@ -223,6 +242,9 @@ class GarbageCollector {
             // Delete element from the GC queue.
             batch.delete(gcQueueCf, gcKeyBuffer);
 
+            // The entry itself is still reachable from its timestamp, in case the batch is not applied.
+            queueHeadTimestamp = gcRowVersion.getTimestamp();
+
             try (RocksIterator partIt = newWrappedIterator(partCf, helper.upperBoundReadOpts)) {
                 // Process the element in data cf that triggered the addition to the GC queue.
                 boolean proceed = checkHasNewerRowAndRemoveTombstone(partIt, batch, gcRowVersion);
@@ -353,6 +375,29 @@ class GarbageCollector {
      */
     void deleteQueue(WriteBatch writeBatch) throws RocksDBException {
         writeBatch.deleteRange(gcQueueCf, helper.partitionStartPrefix(), helper.partitionEndPrefix());
+
+        queueHeadTimestamp = null;
+    }
+
+    /**
+     * Positions the iterator at the first GC queue entry that has not been vacuumed yet.
+     */
+    private void seekToQueueHead(RocksIterator gcIt) {
+        HybridTimestamp headTimestamp = queueHeadTimestamp;
+
+        if (headTimestamp == null) {
+            gcIt.seek(helper.partitionStartPrefix());
+        } else {
+            ByteBuffer gcKeyBuffer = GC_KEY_BUFFER.get();
+            gcKeyBuffer.clear();
+
+            gcKeyBuffer.put(helper.partitionStartPrefix());
+            putTimestampNatural(gcKeyBuffer, headTimestamp);
+
+            gcKeyBuffer.flip();
+
+            gcIt.seek(gcKeyBuffer);
+        }
     }
 
     private ByteBuffer readGcKey(RocksIterator gcIt) {
@@ -41,17 +41,23 @@ import static org.apache.ignite.internal.storage.rocksdb.instance.SharedRocksDbI
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionDependingOnStorageState;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionDependingOnStorageStateOnRebalance;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionIfStorageInProgressOfRebalance;
+import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionIfStorageNotInProgressOfRebalance;
 import static org.apache.ignite.internal.storage.util.StorageUtils.transitionToTerminalState;
 import static org.apache.ignite.internal.util.ArrayUtils.BYTE_EMPTY_ARRAY;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.lang.IgniteStringFormatter;
 import org.apache.ignite.internal.rocksdb.RocksIteratorAdapter;
@@ -76,6 +82,7 @@ import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
+import org.rocksdb.Slice;
 import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteBatchWithIndex;
 
@@ -434,7 +441,7 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         writeBatch.put(helper.partCf, keyArray, value.array());
     }
 
-    private static int rowSize(BinaryRow row) {
+    static int rowSize(BinaryRow row) {
         // Tuple + schema version.
         return row.tupleSliceLength() + Short.BYTES;
     }
@@ -449,7 +456,7 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
                 .putShort((short) commitPartitionId);
     }
 
-    private static void writeBinaryRow(ByteBuffer dest, BinaryRow row) {
+    static void writeBinaryRow(ByteBuffer dest, BinaryRow row) {
         assert dest.order() == ByteOrder.BIG_ENDIAN;
 
         dest
@@ -625,6 +632,58 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         });
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>All rows are looked up with a single iterator, in the order of their keys. Unlike independent reads, this way every seek
+     * continues from the position of the previous one instead of starting from scratch, and every data block is loaded once.
+     * {@code multiGet} is not applicable here, because the exact keys of the row versions are not known in advance.
+     */
+    @Override
+    public List<ReadResult> readAll(List<RowId> rowIds, HybridTimestamp timestamp) throws StorageException {
+        return busy(() -> {
+            throwExceptionIfStorageInProgressOfRebalance(state.get(), this::createStorageInfo);
+
+            for (RowId rowId : rowIds) {
+                if (rowId.partitionId() != partitionId) {
+                    throw new IllegalArgumentException(String.format(
+                            "RowId partition [%d] is not equal to storage partition [%d].", rowId.partitionId(), partitionId
+                    ));
+                }
+            }
+
+            int[] order = IntStream.range(0, rowIds.size())
+                    .boxed()
+                    .sorted(Comparator.comparing(rowIds::get))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+
+            var results = new ReadResult[rowIds.size()];
+
+            // We can read data outside of consistency closure. Batch is not required.
+            WriteBatchWithIndex writeBatch = helper.currentWriteBatch();
+
+            try (
+                    // Set next partition as an upper bound.
+                    RocksIterator baseIterator = db.newIterator(helper.partCf, helper.upperBoundReadOpts);
+                    // "count()" check is mandatory. Write batch iterator without any updates just crashes everything.
+                    RocksIterator seekIterator = writeBatch != null && writeBatch.count() > 0
+                            ? writeBatch.newIteratorWithBase(helper.partCf, baseIterator)
+                            : baseIterator
+            ) {
+                for (int i : order) {
+                    RowId rowId = rowIds.get(i);
+
+                    results[i] = lookingForLatestVersions(timestamp)
+                            ? readLatestVersion(rowId, seekIterator)
+                            : readByTimestamp(seekIterator, rowId, timestamp);
+                }
+            }
+
+            return Arrays.asList(results);
+        });
+    }
+
     private static boolean lookingForLatestVersions(HybridTimestamp timestamp) {
         return timestamp == HybridTimestamp.MAX_VALUE;
     }
@@ -885,9 +944,38 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
             throwExceptionIfStorageInProgressOfRebalance(state.get(), this::createStorageInfo);
 
             if (lookingForLatestVersions(timestamp)) {
-                return new ScanLatestVersionsCursor();
+                return new ScanLatestVersionsCursor(null, null);
+            } else {
+                return new ScanByTimestampCursor(timestamp, null, null);
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The range is scanned with a single iterator, just like the whole partition: the scan starts with a seek to the lower bound,
+     * and the upper bound is set as the iterator upper bound.
+     */
+    @Override
+    public PartitionTimestampCursor scan(HybridTimestamp timestamp, RowId lowerBound, @Nullable RowId upperBound) throws StorageException {
+        Objects.requireNonNull(timestamp, "timestamp is null");
+        Objects.requireNonNull(lowerBound, "lowerBound is null");
+
+        return busy(() -> {
+            throwExceptionIfStorageInProgressOfRebalance(state.get(), this::createStorageInfo);
+
+            if (lowerBound.partitionId() != partitionId || (upperBound != null && upperBound.partitionId() != partitionId)) {
+                throw new IllegalArgumentException(String.format(
+                        "RowId partition is not equal to storage partition [%d] [lowerBound=%s, upperBound=%s].",
+                        partitionId, lowerBound, upperBound
+                ));
+            }
+
+            if (lookingForLatestVersions(timestamp)) {
+                return new ScanLatestVersionsCursor(lowerBound, upperBound);
             } else {
-                return new ScanByTimestampCursor(timestamp);
+                return new ScanByTimestampCursor(timestamp, lowerBound, upperBound);
             }
         });
     }
@@ -992,6 +1080,23 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         gc.deleteQueue(writeBatch);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The versions are ingested into the storage as an SST file, see {@link RocksDbPartitionBulkLoader}.
+     */
+    @Override
+    public RocksDbPartitionBulkLoader startBulkLoad() throws StorageException {
+        return busy(() -> {
+            throwExceptionIfStorageNotInProgressOfRebalance(state.get(), this::createStorageInfo);
+
+            // A separate directory, to keep the file out of sight of RocksDB until it is ingested.
+            Path sstFile = tableStorage.dbPath().resolve("bulk-load").resolve(tableId + "-" + partitionId + ".sst");
+
+            return new RocksDbPartitionBulkLoader(helper, db, tableStorage.gcQueueHandle(), sstFile);
+        });
+    }
+
     @Override
     public @Nullable GcEntry peek(HybridTimestamp lowWatermark) {
         //noinspection resource
@@ -1173,7 +1278,13 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
     }
 
     private abstract class BasePartitionTimestampCursor implements PartitionTimestampCursor {
-        protected final RocksIterator it = db.newIterator(helper.partCf, helper.scanReadOpts);
+        /** Upper bound of the scanned range, {@code null} if the range ends with the partition. */
+        private final @Nullable Slice upperBoundSlice;
+
+        /** Read options with the upper bound of the scanned range, {@code null} if the range ends with the partition. */
+        private final @Nullable ReadOptions upperBoundReadOpts;
+
+        protected final RocksIterator it;
 
         // Here's seek buffer itself. Originally it contains a valid partition id, row id payload that's filled with zeroes, and maybe
         // a timestamp value. Zero row id guarantees that it's lexicographically less than or equal to any other row id stored in the
@@ -1189,6 +1300,39 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         /** Cached value for {@link #next()} method. Also optimizes the code of {@link #hasNext()}. */
         protected ReadResult next;
 
+        /**
+         * Constructor.
+         *
+         * @param lowerBound Inclusive lower bound of the scanned row IDs, {@code null} to scan from the beginning of the partition.
+         * @param upperBound Exclusive upper bound of the scanned row IDs, {@code null} to scan up to the end of the partition.
+         */
+        BasePartitionTimestampCursor(@Nullable RowId lowerBound, @Nullable RowId upperBound) {
+            if (upperBound == null) {
+                upperBoundSlice = null;
+                upperBoundReadOpts = null;
+
+                it = db.newIterator(helper.partCf, helper.scanReadOpts);
+            } else {
+                // Keys of all versions of a row start with its row prefix, so the prefix of the bound excludes the bound itself.
+                byte[] upperBoundPrefix = allocate(ROW_PREFIX_SIZE).order(KEY_BYTE_ORDER)
+                        .putInt(tableId)
+                        .putShort((short) partitionId)
+                        .putLong(normalize(upperBound.mostSignificantBits()))
+                        .putLong(normalize(upperBound.leastSignificantBits()))
+                        .array();
+
+                upperBoundSlice = new Slice(upperBoundPrefix);
+                upperBoundReadOpts = new ReadOptions().setIterateUpperBound(upperBoundSlice).setAutoPrefixMode(true);
+
+                it = db.newIterator(helper.partCf, upperBoundReadOpts);
+            }
+
+            if (lowerBound != null) {
+                seekKeyBuf.putLong(ROW_ID_OFFSET, normalize(lowerBound.mostSignificantBits()));
+                seekKeyBuf.putLong(ROW_ID_OFFSET + Long.BYTES, normalize(lowerBound.leastSignificantBits()));
+            }
+        }
+
         protected abstract boolean hasNextBusy();
 
         @Override
@@ -1245,11 +1389,15 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
 
         @Override
         public final void close() {
-            it.close();
+            RocksUtils.closeAll(it, upperBoundReadOpts, upperBoundSlice);
         }
     }
 
     private final class ScanLatestVersionsCursor extends BasePartitionTimestampCursor {
+        private ScanLatestVersionsCursor(@Nullable RowId lowerBound, @Nullable RowId upperBound) {
+            super(lowerBound, upperBound);
+        }
+
         @Override
         public boolean hasNextBusy() {
             // Fast-path for consecutive invocations.
@@ -1358,7 +1506,9 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
     private final class ScanByTimestampCursor extends BasePartitionTimestampCursor {
         private final HybridTimestamp timestamp;
 
-        private ScanByTimestampCursor(HybridTimestamp timestamp) {
+        private ScanByTimestampCursor(HybridTimestamp timestamp, @Nullable RowId lowerBound, @Nullable RowId upperBound) {
+            super(lowerBound, upperBound);
+
             this.timestamp = timestamp;
         }
 
@@ -0,0 +1,287 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb;
+
+import static java.nio.ByteBuffer.allocate;
+import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.MAX_KEY_SIZE;
+import static org.apache.ignite.internal.storage.rocksdb.RocksDbStorageUtils.KEY_BYTE_ORDER;
+import static org.apache.ignite.internal.storage.rocksdb.instance.SharedRocksDbInstance.DFLT_WRITE_OPTS;
+import static org.apache.ignite.internal.util.ArrayUtils.BYTE_EMPTY_ARRAY;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.PartitionBulkLoader;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.StorageException;
+import org.jetbrains.annotations.Nullable;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.EnvOptions;
+import org.rocksdb.IngestExternalFileOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.SstFileWriter;
+import org.rocksdb.WriteBatch;
+
+/**
+ * Loads committed row versions into a partition that is being rebalanced, bypassing write batches and memtables: the versions are
+ * written into an SST file that is ingested into the partition data column family by {@link #finish()}.
+ *
+ * <p>Rows must be added by row ID ascending, the versions of a row may be added in any order. Versions of a row are normalized the
+ * same way as by {@link MvPartitionStorage#addWriteCommitted}: leading and consecutive tombstones are dropped and every version that
+ * has an older one is added to the GC queue.
+ *
+ * <p>GC queue entries are ordered by timestamp rather than by row ID, so they can't be put into an SST file as they come. They are
+ * accumulated in memory and written only after the SST file has been ingested, so that the queue never refers to versions that
+ * are not in the storage.
+ *
+ * <p>Write intents and index entries are not supported, they must be written through the storage.
+ */
+public class RocksDbPartitionBulkLoader implements PartitionBulkLoader {
+    private final PartitionDataHelper helper;
+
+    private final RocksDB db;
+
+    private final ColumnFamilyHandle gcQueueCf;
+
+    private final Path sstFile;
+
+    private final BloomFilter bloomFilter = new BloomFilter();
+
+    private final Options options;
+
+    private final EnvOptions envOptions = new EnvOptions();
+
+    private final SstFileWriter sstFileWriter;
+
+    private final WriteBatch gcBatch = new WriteBatch();
+
+    /** Versions of the current row, in the order they were added. */
+    private final List<RowVersion> rowVersions = new ArrayList<>();
+
+    private @Nullable RowId currentRowId;
+
+    private byte @Nullable [] lastKey;
+
+    private long keysWritten;
+
+    private boolean closed;
+
+    RocksDbPartitionBulkLoader(PartitionDataHelper helper, RocksDB db, ColumnFamilyHandle gcQueueCf, Path sstFile) {
+        this.helper = helper;
+        this.db = db;
+        this.gcQueueCf = gcQueueCf;
+        this.sstFile = sstFile;
+
+        // Same table options as the ones of the partition data column family, so that the ingested file has the same filters.
+        options = new Options()
+                .useCappedPrefixExtractor(PartitionDataHelper.ROW_PREFIX_SIZE)
+                .setTableFormatConfig(new BlockBasedTableConfig().setFilterPolicy(bloomFilter));
+
+        sstFileWriter = new SstFileWriter(envOptions, options);
+
+        try {
+            Files.createDirectories(sstFile.getParent());
+            Files.deleteIfExists(sstFile);
+
+            sstFileWriter.open(sstFile.toString());
+        } catch (IOException | RocksDBException e) {
+            close();
+
+            throw new StorageException("Failed to start bulk load: [sstFile={}]", e, sstFile);
+        }
+    }
+
+    @Override
+    public void addWriteCommitted(RowId rowId, @Nullable BinaryRow row, HybridTimestamp commitTimestamp) throws StorageException {
+        assert !closed : sstFile;
+
+        if (!rowId.equals(currentRowId)) {
+            flushRow();
+
+            currentRowId = rowId;
+        }
+
+        rowVersions.add(new RowVersion(row, commitTimestamp));
+    }
+
+    @Override
+    public void finish() throws StorageException {
+        assert !closed : sstFile;
+
+        try {
+            flushRow();
+
+            if (keysWritten > 0) {
+                sstFileWriter.finish();
+
+                try (IngestExternalFileOptions ingestOptions = new IngestExternalFileOptions().setMoveFiles(true)) {
+                    db.ingestExternalFile(helper.partCf, List.of(sstFile.toString()), ingestOptions);
+                }
+            }
+
+            // Only now the versions referred by the GC queue entries are in the storage.
+            if (gcBatch.count() > 0) {
+                db.write(DFLT_WRITE_OPTS, gcBatch);
+            }
+        } catch (RocksDBException e) {
+            throw new StorageException("Failed to ingest bulk loaded rows: [sstFile={}]", e, sstFile);
+        } finally {
+            close();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        gcBatch.close();
+        sstFileWriter.close();
+        envOptions.close();
+        options.close();
+        bloomFilter.close();
+
+        try {
+            Files.deleteIfExists(sstFile);
+        } catch (IOException e) {
+            throw new StorageException("Failed to delete bulk load file: [sstFile={}]", e, sstFile);
+        }
+    }
+
+    /**
+     * Writes the versions of the current row, dropping the tombstones that {@link MvPartitionStorage#addWriteCommitted} would not
+     * write and adding the GC queue entries it would add.
+     */
+    private void flushRow() {
+        RowId rowId = currentRowId;
+
+        if (rowId == null) {
+            return;
+        }
+
+        // Newest first, which is the order of the data keys.
+        rowVersions.sort(Comparator.comparing((RowVersion version) -> version.commitTimestamp).reversed());
+
+        boolean[] written = new boolean[rowVersions.size()];
+
+        boolean hasPrevious = false;
+        boolean isPreviousTombstone = false;
+
+        try {
+            // Same decisions as GarbageCollector#tryAddToGcQueue, made from the oldest version to the newest one.
+            for (int i = rowVersions.size() - 1; i >= 0; i--) {
+                RowVersion version = rowVersions.get(i);
+
+                if (i > 0 && version.commitTimestamp.equals(rowVersions.get(i - 1).commitTimestamp)) {
+                    throw new StorageException("Row versions must have distinct commit timestamps: [rowId={}, commitTimestamp={}]",
+                            rowId, version.commitTimestamp);
+                }
+
+                boolean isTombstone = version.row == null;
+
+                // A tombstone is only written on top of a previous version that is not a tombstone.
+                if (isTombstone && (!hasPrevious || isPreviousTombstone)) {
+                    continue;
+                }
+
+                if (hasPrevious) {
+                    addToGcQueue(rowId, version.commitTimestamp);
+                }
+
+                written[i] = true;
+
+                hasPrevious = true;
+                isPreviousTombstone = isTombstone;
+            }
+
+            for (int i = 0; i < rowVersions.size(); i++) {
+                if (written[i]) {
+                    writeVersion(rowId, rowVersions.get(i));
+                }
+            }
+        } catch (RocksDBException e) {
+            throw new StorageException("Failed to bulk load a row: [rowId={}]", e, rowId);
+        }
+
+        rowVersions.clear();
+        currentRowId = null;
+    }
+
+    private void writeVersion(RowId rowId, RowVersion version) throws RocksDBException {
+        ByteBuffer keyBuf = allocate(MAX_KEY_SIZE).order(KEY_BYTE_ORDER);
+
+        helper.putDataKey(keyBuf, rowId, version.commitTimestamp);
+
+        byte[] key = keyBuf.array();
+
+        if (lastKey != null && Arrays.compareUnsigned(lastKey, key) >= 0) {
+            throw new StorageException("Rows must be added by row ID ascending: [rowId={}]", rowId);
+        }
+
+        byte[] value;
+
+        if (version.row == null) {
+            value = BYTE_EMPTY_ARRAY;
+        } else {
+            ByteBuffer valueBuf = allocate(RocksDbMvPartitionStorage.rowSize(version.row));
+
+            RocksDbMvPartitionStorage.writeBinaryRow(valueBuf, version.row);
+
+            value = valueBuf.array();
+        }
+
+        sstFileWriter.put(key, value);
+
+        lastKey = key;
+        keysWritten++;
+    }
+
+    private void addToGcQueue(RowId rowId, HybridTimestamp timestamp) throws RocksDBException {
+        ByteBuffer gcKeyBuf = allocate(GarbageCollector.GC_KEY_SIZE).order(KEY_BYTE_ORDER);
+
+        helper.putGcKey(gcKeyBuf, rowId, timestamp);
+
+        gcBatch.put(gcQueueCf, gcKeyBuf.array(), BYTE_EMPTY_ARRAY);
+    }
+
+    private static class RowVersion {
+        private final @Nullable BinaryRow row;
+
+        private final HybridTimestamp commitTimestamp;
+
+        private RowVersion(@Nullable BinaryRow row, HybridTimestamp commitTimestamp) {
+            this.row = row;
+            this.commitTimestamp = commitTimestamp;
+        }
+    }
+}
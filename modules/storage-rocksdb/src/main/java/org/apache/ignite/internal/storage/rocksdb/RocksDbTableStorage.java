@@ -23,6 +23,7 @@ import static org.apache.ignite.internal.storage.util.StorageUtils.createMissing
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
 import static org.apache.ignite.internal.util.IgniteUtils.inBusyLock;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -136,6 +137,13 @@ public class RocksDbTableStorage implements MvTableStorage {
         return rocksDb.gcQueueCf.handle();
     }
 
+    /**
+     * Returns a path to the directory of the RocksDB instance.
+     */
+    public Path dbPath() {
+        return rocksDb.path;
+    }
+
     /**
      * Returns a future to wait next flush operation from the current point in time. Uses {@link RocksDB#getLatestSequenceNumber()} to
      * achieve this.
@@ -27,6 +27,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.apache.ignite.internal.rocksdb.ColumnFamily;
 import org.apache.ignite.internal.rocksdb.flush.RocksDbFlusher;
 import org.apache.ignite.internal.storage.StorageException;
@@ -55,6 +56,12 @@ import org.rocksdb.RocksDBException;
  * Contains a boilerplate code for reading/creating the DB.
  */
 public class SharedRocksDbInstanceCreator {
+    /**
+     * Age of GC queue SST files after which they are compacted, so that the deletion tombstones left by vacuumed queue entries
+     * do not accumulate in the files that are rarely picked by regular compactions.
+     */
+    private static final long GC_QUEUE_TTL_SECONDS = TimeUnit.HOURS.toSeconds(1);
+
     /** List of resources that must be closed if DB creation failed in the process. */
     private final List<AutoCloseable> resources = new ArrayList<>();
 
@@ -194,9 +201,11 @@ public class SharedRocksDbInstanceCreator {
 
         switch (ColumnFamilyType.fromCfName(utf8cfName)) {
             case META:
-            case GC_QUEUE:
                 return add(new ColumnFamilyOptions());
 
+            case GC_QUEUE:
+                return add(new ColumnFamilyOptions().setTtl(GC_QUEUE_TTL_SECONDS));
+
             case PARTITION:
                 return add(defaultCfOptions().useCappedPrefixExtractor(PartitionDataHelper.ROW_PREFIX_SIZE));
 
@@ -18,21 +18,31 @@
 package org.apache.ignite.internal.storage.rocksdb;
 
 import static org.apache.ignite.internal.catalog.commands.CatalogUtils.DEFAULT_PARTITION_COUNT;
+import static org.apache.ignite.internal.schema.BinaryRowMatcher.equalToRow;
 import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbStorageEngineConfigurationSchema.DEFAULT_DATA_REGION_NAME;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.Mockito.mock;
 
 import java.nio.file.Path;
 import org.apache.ignite.internal.components.LogSyncer;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.AbstractMvPartitionStorageGcTest;
+import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.engine.StorageTableDescriptor;
+import org.apache.ignite.internal.storage.gc.GcEntry;
 import org.apache.ignite.internal.storage.index.StorageIndexDescriptorSupplier;
 import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbStorageEngineConfiguration;
 import org.apache.ignite.internal.testframework.WorkDirectory;
 import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
 import org.apache.ignite.internal.util.IgniteUtils;
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 /**
@@ -72,4 +82,40 @@ public class RocksDbMvPartitionStorageGcTest extends AbstractMvPartitionStorageG
                 engine == null ? null : engine::stop
         );
     }
+
+    @Test
+    void testVacuumsEntriesAddedBehindQueueHead() {
+        HybridTimestamp ts0 = clock.now();
+        HybridTimestamp ts1 = clock.now();
+        HybridTimestamp ts2 = clock.now();
+        HybridTimestamp ts3 = clock.now();
+
+        addWriteCommitted(ROW_ID, TABLE_ROW, ts1);
+        addWriteCommitted(ROW_ID, TABLE_ROW2, ts3);
+
+        assertThat(vacuumOldest(ts3), is(equalToRow(TABLE_ROW)));
+
+        // Versions of another row, committed before the already vacuumed GC queue entry.
+        RowId rowId = new RowId(PARTITION_ID);
+
+        addWriteCommitted(rowId, TABLE_ROW, ts0);
+        addWriteCommitted(rowId, TABLE_ROW2, ts2);
+
+        assertThat(vacuumOldest(ts3), is(equalToRow(TABLE_ROW)));
+        assertThat(vacuumOldest(HybridTimestamp.MAX_VALUE), is(nullValue()));
+    }
+
+    private @Nullable BinaryRow vacuumOldest(HybridTimestamp lowWatermark) {
+        return storage.runConsistently(locker -> {
+            GcEntry gcEntry = storage.peek(lowWatermark);
+
+            if (gcEntry == null) {
+                return null;
+            }
+
+            locker.lock(gcEntry.getRowId());
+
+            return storage.vacuum(gcEntry);
+        });
+    }
 }
@@ -18,14 +18,24 @@
 package org.apache.ignite.internal.storage.rocksdb;
 
 import static org.apache.ignite.internal.catalog.commands.CatalogUtils.DEFAULT_PARTITION_COUNT;
+import static org.apache.ignite.internal.schema.BinaryRowMatcher.equalToRow;
 import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbStorageEngineConfigurationSchema.DEFAULT_DATA_REGION_NAME;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
 import java.nio.file.Path;
 import org.apache.ignite.internal.components.LogSyncer;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.storage.AbstractMvPartitionStorageTest;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.engine.StorageTableDescriptor;
+import org.apache.ignite.internal.storage.gc.GcEntry;
 import org.apache.ignite.internal.storage.index.StorageIndexDescriptorSupplier;
 import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbStorageEngineConfiguration;
 import org.apache.ignite.internal.testframework.WorkDirectory;
@@ -33,6 +43,7 @@ import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 /**
@@ -80,4 +91,135 @@ public class RocksDbMvPartitionStorageTest extends AbstractMvPartitionStorageTes
         // before calling addWriteCommitted(). For RocksDbMvPartitionStorage, it is not that cheap to check whether
         // there is a write intent in the storage, so we do not require it to throw this optional exception.
     }
+
+    @Test
+    void testBulkLoad() {
+        HybridTimestamp ts1 = clock.now();
+        HybridTimestamp ts2 = clock.now();
+        HybridTimestamp ts3 = clock.now();
+
+        RowId rowId1 = new RowId(PARTITION_ID, 0, 1);
+        RowId rowId2 = new RowId(PARTITION_ID, 0, 2);
+
+        assertThat(table.startRebalancePartition(PARTITION_ID), willCompleteSuccessfully());
+
+        RocksDbPartitionBulkLoader loader = ((RocksDbMvPartitionStorage) storage).startBulkLoad();
+
+        loader.addWriteCommitted(rowId1, TABLE_ROW2, ts3);
+        loader.addWriteCommitted(rowId1, null, ts2);
+        loader.addWriteCommitted(rowId1, TABLE_ROW, ts1);
+
+        // The oldest tombstone has nothing to delete, so it must be dropped.
+        loader.addWriteCommitted(rowId2, TABLE_ROW, ts2);
+        loader.addWriteCommitted(rowId2, null, ts1);
+
+        loader.finish();
+
+        assertThat(table.finishRebalancePartition(PARTITION_ID, 10, 20, new byte[0]), willCompleteSuccessfully());
+
+        assertThat(read(rowId1, ts3), is(equalToRow(TABLE_ROW2)));
+        assertThat(read(rowId1, ts2), is(nullValue()));
+        assertThat(read(rowId1, ts1), is(equalToRow(TABLE_ROW)));
+
+        assertThat(read(rowId2, ts2), is(equalToRow(TABLE_ROW)));
+        assertThat(read(rowId2, ts1), is(nullValue()));
+        assertThat(storage.closestRowId(rowId2), is(rowId2));
+
+        GcEntry gcEntry = storage.runConsistently(locker -> storage.peek(HybridTimestamp.MAX_VALUE));
+
+        assertThat(gcEntry.getRowId(), is(rowId1));
+        assertThat(gcEntry.getTimestamp(), is(ts2));
+    }
+
+    @Test
+    void testBulkLoadAcceptsVersionsInAnyOrder() {
+        HybridTimestamp ts1 = clock.now();
+        HybridTimestamp ts2 = clock.now();
+        HybridTimestamp ts3 = clock.now();
+
+        RowId rowId = new RowId(PARTITION_ID);
+
+        assertThat(table.startRebalancePartition(PARTITION_ID), willCompleteSuccessfully());
+
+        RocksDbPartitionBulkLoader loader = ((RocksDbMvPartitionStorage) storage).startBulkLoad();
+
+        loader.addWriteCommitted(rowId, TABLE_ROW, ts1);
+        loader.addWriteCommitted(rowId, TABLE_ROW2, ts3);
+        loader.addWriteCommitted(rowId, null, ts2);
+
+        loader.finish();
+
+        assertThat(table.finishRebalancePartition(PARTITION_ID, 10, 20, new byte[0]), willCompleteSuccessfully());
+
+        assertThat(read(rowId, ts3), is(equalToRow(TABLE_ROW2)));
+        assertThat(read(rowId, ts2), is(nullValue()));
+        assertThat(read(rowId, ts1), is(equalToRow(TABLE_ROW)));
+
+        GcEntry gcEntry = storage.runConsistently(locker -> storage.peek(HybridTimestamp.MAX_VALUE));
+
+        assertThat(gcEntry.getRowId(), is(rowId));
+        assertThat(gcEntry.getTimestamp(), is(ts2));
+    }
+
+    @Test
+    void testBulkLoadRejectsRowsOutOfOrder() {
+        assertThat(table.startRebalancePartition(PARTITION_ID), willCompleteSuccessfully());
+
+        HybridTimestamp ts = clock.now();
+
+        RocksDbPartitionBulkLoader loader = ((RocksDbMvPartitionStorage) storage).startBulkLoad();
+
+        try {
+            loader.addWriteCommitted(new RowId(PARTITION_ID, 0, 2), TABLE_ROW, ts);
+            loader.addWriteCommitted(new RowId(PARTITION_ID, 0, 1), TABLE_ROW, ts);
+
+            assertThrows(StorageException.class, loader::finish);
+        } finally {
+            loader.close();
+        }
+    }
+
+    @Test
+    void testBulkLoadRejectsDuplicateTimestamps() {
+        assertThat(table.startRebalancePartition(PARTITION_ID), willCompleteSuccessfully());
+
+        RowId rowId = new RowId(PARTITION_ID);
+
+        HybridTimestamp ts = clock.now();
+
+        RocksDbPartitionBulkLoader loader = ((RocksDbMvPartitionStorage) storage).startBulkLoad();
+
+        try {
+            loader.addWriteCommitted(rowId, TABLE_ROW, ts);
+            loader.addWriteCommitted(rowId, TABLE_ROW2, ts);
+
+            assertThrows(StorageException.class, loader::finish);
+        } finally {
+            loader.close();
+        }
+    }
+
+    @Test
+    void testBulkLoadWritesNothingIfNotFinished() {
+        assertThat(table.startRebalancePartition(PARTITION_ID), willCompleteSuccessfully());
+
+        RowId rowId = new RowId(PARTITION_ID, 0, 1);
+
+        RocksDbPartitionBulkLoader loader = ((RocksDbMvPartitionStorage) storage).startBulkLoad();
+
+        try {
+            loader.addWriteCommitted(rowId, TABLE_ROW, clock.now());
+            loader.addWriteCommitted(rowId, TABLE_ROW2, clock.now());
+
+            // Switching the row hands the versions of the first one to the SST file and the GC queue batch.
+            loader.addWriteCommitted(new RowId(PARTITION_ID, 0, 2), TABLE_ROW, clock.now());
+        } finally {
+            loader.close();
+        }
+
+        assertThat(table.finishRebalancePartition(PARTITION_ID, 10, 20, new byte[0]), willCompleteSuccessfully());
+
+        assertThat(read(rowId, HybridTimestamp.MAX_VALUE), is(nullValue()));
+        assertThat(storage.runConsistently(locker -> storage.peek(HybridTimestamp.MAX_VALUE)), is(nullValue()));
+    }
 }
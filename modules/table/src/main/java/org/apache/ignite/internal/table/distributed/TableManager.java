@@ -183,6 +183,7 @@ import org.apache.ignite.internal.table.distributed.raft.snapshot.PartitionSnaps
 import org.apache.ignite.internal.table.distributed.raft.snapshot.outgoing.OutgoingSnapshotsManager;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.outgoing.SnapshotAwarePartitionDataStorage;
 import org.apache.ignite.internal.table.distributed.replicator.PartitionReplicaListener;
+import org.apache.ignite.internal.table.distributed.replicator.ReplicaReadMetricSource;
 import org.apache.ignite.internal.table.distributed.replicator.TransactionStateResolver;
 import org.apache.ignite.internal.table.distributed.schema.CatalogValidationSchemasSource;
 import org.apache.ignite.internal.table.distributed.schema.ExecutorInclinedSchemaSyncService;
@@ -407,6 +408,9 @@ public class TableManager implements IgniteTablesInternal, IgniteComponent {
 
     private final TransactionConfiguration txCfg;
 
+    /** Read-only read metrics of the local partition replicas. */
+    private final ReplicaReadMetricSource replicaReadMetricSource = new ReplicaReadMetricSource();
+
     private long implicitTransactionTimeout;
     private int attemptsObtainLock;
 
@@ -1070,7 +1074,8 @@ public class TableManager implements IgniteTablesInternal, IgniteComponent {
                 executorInclinedPlacementDriver,
                 topologyService,
                 remotelyTriggeredResourceRegistry,
-                schemaManager.schemaRegistry(tableId)
+                schemaManager.schemaRegistry(tableId),
+                replicaReadMetricSource
         );
     }
 
@@ -1530,6 +1535,13 @@ public class TableManager implements IgniteTablesInternal, IgniteComponent {
         return unmodifiableMap(tables);
     }
 
+    /**
+     * Returns the metric source of read-only reads served by the local partition replicas.
+     */
+    public ReplicaReadMetricSource replicaReadMetricSource() {
+        return replicaReadMetricSource;
+    }
+
     /**
      * Returns a map with started tables.
      */
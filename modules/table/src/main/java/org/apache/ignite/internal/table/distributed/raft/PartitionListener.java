@@ -44,6 +44,7 @@ import org.apache.ignite.internal.catalog.descriptors.CatalogTableDescriptor;
 import org.apache.ignite.internal.hlc.ClockService;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.lang.IgniteInternalException;
+import org.apache.ignite.internal.lang.IgniteSystemProperties;
 import org.apache.ignite.internal.lang.SafeTimeReorderException;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
@@ -53,6 +54,7 @@ import org.apache.ignite.internal.raft.WriteCommand;
 import org.apache.ignite.internal.raft.service.BeforeApplyHandler;
 import org.apache.ignite.internal.raft.service.CommandClosure;
 import org.apache.ignite.internal.raft.service.CommittedConfiguration;
+import org.apache.ignite.internal.raft.service.PeekableCommandIterator;
 import org.apache.ignite.internal.raft.service.RaftGroupListener;
 import org.apache.ignite.internal.replicator.command.SafeTimePropagatingCommand;
 import org.apache.ignite.internal.replicator.command.SafeTimeSyncCommand;
@@ -90,6 +92,12 @@ public class PartitionListener implements RaftGroupListener, BeforeApplyHandler
     /** Logger. */
     private static final IgniteLogger LOG = Loggers.forClass(PartitionListener.class);
 
+    /** Name of the system property that limits the number of consecutive update commands applied in a single storage write batch. */
+    public static final String UPDATE_BATCH_SIZE_PROPERTY = "IGNITE_PARTITION_UPDATE_BATCH_SIZE";
+
+    /** Maximum number of consecutive update commands applied in a single storage write batch, {@code 1} disables batching. */
+    private static final int UPDATE_BATCH_SIZE = IgniteSystemProperties.getInteger(UPDATE_BATCH_SIZE_PROPERTY, 64);
+
     /** Transaction manager. */
     private final TxManager txManager;
 
@@ -114,6 +122,12 @@ public class PartitionListener implements RaftGroupListener, BeforeApplyHandler
     /** Is used in order to assert safe time reordering within onWrite. */
     private long maxObservableSafeTimeVerifier = -1;
 
+    /** Maximum safe time of the update commands of the storage write batch that is being applied, {@code null} if there is none. */
+    private @Nullable HybridTimestamp updateBatchSafeTime;
+
+    /** Whether a storage write batch of update commands is being applied. */
+    private boolean updateBatchInProgress;
+
     private final CatalogService catalogService;
 
     private final SchemaRegistry schemaRegistry;
@@ -162,97 +176,253 @@ public class PartitionListener implements RaftGroupListener, BeforeApplyHandler
 
     @Override
     public void onWrite(Iterator<CommandClosure<WriteCommand>> iterator) {
-        iterator.forEachRemaining((CommandClosure<? extends WriteCommand> clo) -> {
-            Command command = clo.command();
+        // Number of the following commands that have to be applied one by one, because their batch could not be written.
+        int unbatchedCommands = 0;
 
-            if (command instanceof SafeTimePropagatingCommand) {
-                SafeTimePropagatingCommand cmd = (SafeTimePropagatingCommand) command;
-                long proposedSafeTime = cmd.safeTime().longValue();
+        while (iterator.hasNext()) {
+            CommandClosure<WriteCommand> clo = iterator.next();
 
-                // Because of clock.tick it's guaranteed that two different commands will have different safe timestamps.
-                // maxObservableSafeTime may match proposedSafeTime only if it is the command that was previously validated and then retried
-                // by raft client because of either TimeoutException or inner raft server recoverable exception.
-                assert proposedSafeTime >= maxObservableSafeTimeVerifier : "Safe time reordering detected [current="
-                        + maxObservableSafeTimeVerifier + ", proposed=" + proposedSafeTime + "]";
+            if (unbatchedCommands > 0) {
+                unbatchedCommands--;
+            } else if (isUpdateBatchStart(clo, iterator)) {
+                List<CommandClosure<WriteCommand>> batch = collectUpdateBatch(clo, (PeekableCommandIterator<WriteCommand>) iterator);
 
-                maxObservableSafeTimeVerifier = proposedSafeTime;
-            }
+                if (batch.size() > 1) {
+                    if (applyUpdateBatch(batch)) {
+                        continue;
+                    }
 
-            long commandIndex = clo.index();
-            long commandTerm = clo.term();
-
-            // We choose the minimum applied index, since we choose it (the minimum one) on local recovery so as not to lose the data for
-            // one of the storages.
-            long storagesAppliedIndex = Math.min(storage.lastAppliedIndex(), txStateStorage.lastAppliedIndex());
-
-            assert commandIndex > storagesAppliedIndex :
-                    "Write command must have an index greater than that of storages [commandIndex=" + commandIndex
-                            + ", mvAppliedIndex=" + storage.lastAppliedIndex()
-                            + ", txStateAppliedIndex=" + txStateStorage.lastAppliedIndex() + "]";
-
-            Serializable result = null;
-
-            // NB: Make sure that ANY command we accept here updates lastAppliedIndex+term info in one of the underlying
-            // storages!
-            // Otherwise, a gap between lastAppliedIndex from the point of view of JRaft and our storage might appear.
-            // If a leader has such a gap, and does doSnapshot(), it will subsequently truncate its log too aggressively
-            // in comparison with 'snapshot' state stored in our storages; and if we install a snapshot from our storages
-            // to a follower at this point, for a subsequent AppendEntries the leader will not be able to get prevLogTerm
-            // (because it's already truncated in the leader's log), so it will have to install a snapshot again, and then
-            // repeat same thing over and over again.
-
-            storage.acquirePartitionSnapshotsReadLock();
-
-            try {
-                if (command instanceof UpdateCommand) {
-                    result = handleUpdateCommand((UpdateCommand) command, commandIndex, commandTerm);
-                } else if (command instanceof UpdateAllCommand) {
-                    result = handleUpdateAllCommand((UpdateAllCommand) command, commandIndex, commandTerm);
-                } else if (command instanceof FinishTxCommand) {
-                    result = handleFinishTxCommand((FinishTxCommand) command, commandIndex, commandTerm);
-                } else if (command instanceof WriteIntentSwitchCommand) {
-                    handleWriteIntentSwitchCommand((WriteIntentSwitchCommand) command, commandIndex, commandTerm);
-                } else if (command instanceof SafeTimeSyncCommand) {
-                    handleSafeTimeSyncCommand((SafeTimeSyncCommand) command, commandIndex, commandTerm);
-                } else if (command instanceof BuildIndexCommand) {
-                    handleBuildIndexCommand((BuildIndexCommand) command, commandIndex, commandTerm);
-                } else if (command instanceof PrimaryReplicaChangeCommand) {
-                    handlePrimaryReplicaChangeCommand((PrimaryReplicaChangeCommand) command, commandIndex, commandTerm);
-                } else {
-                    assert false : "Command was not found [cmd=" + command + ']';
+                    unbatchedCommands = batch.size() - 1;
                 }
-            } catch (IgniteInternalException e) {
-                result = e;
-            } catch (CompletionException e) {
-                result = e.getCause();
-            } catch (Throwable t) {
-                LOG.error(
-                        "Unknown error while processing command [commandIndex={}, commandTerm={}, command={}]",
-                        t,
-                        clo.index(), clo.index(), command
-                );
+            }
+
+            applyCommand(clo);
+        }
+    }
+
+    /**
+     * Checks whether an update batch may start with the given command. Commands that the storage has already executed are skipped one by
+     * one, without opening a write batch.
+     */
+    private boolean isUpdateBatchStart(CommandClosure<WriteCommand> clo, Iterator<CommandClosure<WriteCommand>> iterator) {
+        return UPDATE_BATCH_SIZE > 1
+                && iterator instanceof PeekableCommandIterator
+                && clo.command() instanceof UpdateCommand
+                && clo.index() > storage.lastAppliedIndex();
+    }
 
-                throw t;
-            } finally {
-                storage.releasePartitionSnapshotsReadLock();
+    /**
+     * Collects the current command and the {@link UpdateCommand}s that immediately follow it, without moving the iterator.
+     *
+     * @param first Closure of the current command.
+     * @param iterator Iterator to peek the following commands from.
+     * @return Closures of the commands of the batch.
+     */
+    private static List<CommandClosure<WriteCommand>> collectUpdateBatch(
+            CommandClosure<WriteCommand> first,
+            PeekableCommandIterator<WriteCommand> iterator
+    ) {
+        List<CommandClosure<WriteCommand>> batch = new ArrayList<>();
+
+        batch.add(first);
+
+        while (batch.size() < UPDATE_BATCH_SIZE) {
+            CommandClosure<WriteCommand> clo = iterator.peek(batch.size());
+
+            if (clo == null || !(clo.command() instanceof UpdateCommand)) {
+                break;
             }
 
-            // Completing the closure out of the partition snapshots lock to reduce possibility of deadlocks as it might
-            // trigger other actions taking same locks.
-            clo.result(result);
+            batch.add(clo);
+        }
+
+        return batch;
+    }
+
+    /**
+     * Applies a single write command and completes its closure.
+     *
+     * @param clo Command closure.
+     */
+    private void applyCommand(CommandClosure<? extends WriteCommand> clo) {
+        Command command = clo.command();
 
-            if (command instanceof SafeTimePropagatingCommand) {
-                SafeTimePropagatingCommand safeTimePropagatingCommand = (SafeTimePropagatingCommand) command;
+        verifyCommandOrder(clo);
 
-                assert safeTimePropagatingCommand.safeTime() != null;
+        long commandIndex = clo.index();
+        long commandTerm = clo.term();
 
-                synchronized (safeTime) {
-                    updateTrackerIgnoringTrackerClosedException(safeTime, safeTimePropagatingCommand.safeTime());
+        Serializable result = null;
+
+        // NB: Make sure that ANY command we accept here updates lastAppliedIndex+term info in one of the underlying
+        // storages!
+        // Otherwise, a gap between lastAppliedIndex from the point of view of JRaft and our storage might appear.
+        // If a leader has such a gap, and does doSnapshot(), it will subsequently truncate its log too aggressively
+        // in comparison with 'snapshot' state stored in our storages; and if we install a snapshot from our storages
+        // to a follower at this point, for a subsequent AppendEntries the leader will not be able to get prevLogTerm
+        // (because it's already truncated in the leader's log), so it will have to install a snapshot again, and then
+        // repeat same thing over and over again.
+
+        storage.acquirePartitionSnapshotsReadLock();
+
+        try {
+            if (command instanceof UpdateCommand) {
+                result = handleUpdateCommand((UpdateCommand) command, commandIndex, commandTerm);
+            } else if (command instanceof UpdateAllCommand) {
+                result = handleUpdateAllCommand((UpdateAllCommand) command, commandIndex, commandTerm);
+            } else if (command instanceof FinishTxCommand) {
+                result = handleFinishTxCommand((FinishTxCommand) command, commandIndex, commandTerm);
+            } else if (command instanceof WriteIntentSwitchCommand) {
+                handleWriteIntentSwitchCommand((WriteIntentSwitchCommand) command, commandIndex, commandTerm);
+            } else if (command instanceof SafeTimeSyncCommand) {
+                handleSafeTimeSyncCommand((SafeTimeSyncCommand) command, commandIndex, commandTerm);
+            } else if (command instanceof BuildIndexCommand) {
+                handleBuildIndexCommand((BuildIndexCommand) command, commandIndex, commandTerm);
+            } else if (command instanceof PrimaryReplicaChangeCommand) {
+                handlePrimaryReplicaChangeCommand((PrimaryReplicaChangeCommand) command, commandIndex, commandTerm);
+            } else {
+                assert false : "Command was not found [cmd=" + command + ']';
+            }
+        } catch (IgniteInternalException e) {
+            result = e;
+        } catch (CompletionException e) {
+            result = e.getCause();
+        } catch (Throwable t) {
+            LOG.error(
+                    "Unknown error while processing command [commandIndex={}, commandTerm={}, command={}]",
+                    t,
+                    clo.index(), clo.index(), command
+            );
+
+            throw t;
+        } finally {
+            storage.releasePartitionSnapshotsReadLock();
+        }
+
+        completeCommand(clo, result);
+    }
+
+    /**
+     * Applies consecutive {@link UpdateCommand}s in a single storage write batch. The closures of the commands are completed and safe time
+     * is propagated only after the batch is written, so neither clients nor RO reads can observe the updates earlier.
+     *
+     * <p>The raft iterator stays at the first command of the batch until the batch is written, so if the batch fails, none of its
+     * commands are considered applied. If one of the commands fails with an error that is normally reported to its closure, the batch is
+     * not written, and the caller applies the commands one by one to deliver each command its own result. Any other error is propagated
+     * to the raft state machine.
+     *
+     * @param batch Closures of the commands, the first one is the current command of the raft iterator.
+     * @return {@code true} if the batch has been written and the closures have been completed, {@code false} if the commands have to be
+     *     applied one by one.
+     */
+    private boolean applyUpdateBatch(List<CommandClosure<WriteCommand>> batch) {
+        List<Serializable> results = new ArrayList<>(batch.size());
+
+        long safeTimeVerifierBeforeBatch = maxObservableSafeTimeVerifier;
+
+        updateBatchInProgress = true;
+
+        storage.acquirePartitionSnapshotsReadLock();
+
+        try {
+            storage.runConsistently(locker -> {
+                for (CommandClosure<WriteCommand> clo : batch) {
+                    verifyCommandOrder(clo);
+
+                    results.add(handleUpdateCommand((UpdateCommand) clo.command(), clo.index(), clo.term()));
                 }
+
+                return null;
+            });
+        } catch (IgniteInternalException | CompletionException e) {
+            LOG.warn(
+                    "Failed to apply a batch of update commands, applying them one by one [firstCommandIndex={}, size={}]",
+                    e,
+                    batch.get(0).index(), batch.size()
+            );
+
+            maxObservableSafeTimeVerifier = safeTimeVerifierBeforeBatch;
+
+            return false;
+        } catch (Throwable t) {
+            LOG.error(
+                    "Unknown error while processing a batch of update commands [firstCommandIndex={}, size={}]",
+                    t,
+                    batch.get(0).index(), batch.size()
+            );
+
+            throw t;
+        } finally {
+            updateBatchInProgress = false;
+            updateBatchSafeTime = null;
+
+            storage.releasePartitionSnapshotsReadLock();
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            completeCommand(batch.get(i), results.get(i));
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks that commands are applied in the order of their safe time and indexes.
+     *
+     * @param clo Command closure.
+     */
+    private void verifyCommandOrder(CommandClosure<? extends WriteCommand> clo) {
+        Command command = clo.command();
+
+        if (command instanceof SafeTimePropagatingCommand) {
+            SafeTimePropagatingCommand cmd = (SafeTimePropagatingCommand) command;
+            long proposedSafeTime = cmd.safeTime().longValue();
+
+            // Because of clock.tick it's guaranteed that two different commands will have different safe timestamps.
+            // maxObservableSafeTime may match proposedSafeTime only if it is the command that was previously validated and then retried
+            // by raft client because of either TimeoutException or inner raft server recoverable exception.
+            assert proposedSafeTime >= maxObservableSafeTimeVerifier : "Safe time reordering detected [current="
+                    + maxObservableSafeTimeVerifier + ", proposed=" + proposedSafeTime + "]";
+
+            maxObservableSafeTimeVerifier = proposedSafeTime;
+        }
+
+        long commandIndex = clo.index();
+
+        // We choose the minimum applied index, since we choose it (the minimum one) on local recovery so as not to lose the data for
+        // one of the storages.
+        long storagesAppliedIndex = Math.min(storage.lastAppliedIndex(), txStateStorage.lastAppliedIndex());
+
+        assert commandIndex > storagesAppliedIndex :
+                "Write command must have an index greater than that of storages [commandIndex=" + commandIndex
+                        + ", mvAppliedIndex=" + storage.lastAppliedIndex()
+                        + ", txStateAppliedIndex=" + txStateStorage.lastAppliedIndex() + "]";
+    }
+
+    /**
+     * Completes the closure of an applied command and propagates safe time and storage index.
+     *
+     * @param clo Command closure.
+     * @param result Result of the command.
+     */
+    private void completeCommand(CommandClosure<? extends WriteCommand> clo, @Nullable Serializable result) {
+        Command command = clo.command();
+
+        // Completing the closure out of the partition snapshots lock to reduce possibility of deadlocks as it might
+        // trigger other actions taking same locks.
+        clo.result(result);
+
+        if (command instanceof SafeTimePropagatingCommand) {
+            SafeTimePropagatingCommand safeTimePropagatingCommand = (SafeTimePropagatingCommand) command;
+
+            assert safeTimePropagatingCommand.safeTime() != null;
+
+            synchronized (safeTime) {
+                updateTrackerIgnoringTrackerClosedException(safeTime, safeTimePropagatingCommand.safeTime());
             }
+        }
 
-            updateTrackerIgnoringTrackerClosedException(storageIndexTracker, commandIndex);
-        });
+        updateTrackerIgnoringTrackerClosedException(storageIndexTracker, clo.index());
     }
 
     /**
@@ -280,7 +450,7 @@ public class PartitionListener implements RaftGroupListener, BeforeApplyHandler
 
         // TODO: https://issues.apache.org/jira/browse/IGNITE-20124 Proper storage/raft index handling is required.
         synchronized (safeTime) {
-            if (cmd.safeTime().compareTo(safeTime.current()) > 0) {
+            if (cmd.safeTime().compareTo(currentSafeTime()) > 0) {
                 storageUpdateHandler.handleUpdate(
                         txId,
                         cmd.rowUuid(),
@@ -293,7 +463,7 @@ public class PartitionListener implements RaftGroupListener, BeforeApplyHandler
                         indexIdsAtRwTxBeginTs(catalogService, txId, storage.tableId())
                 );
 
-                updateTrackerIgnoringTrackerClosedException(safeTime, cmd.safeTime());
+                advanceSafeTime(cmd.safeTime());
             } else {
                 // We MUST bump information about last updated index+term.
                 // See a comment in #onWrite() for explanation.
@@ -331,7 +501,7 @@ public class PartitionListener implements RaftGroupListener, BeforeApplyHandler
 
         // TODO: https://issues.apache.org/jira/browse/IGNITE-20124 Proper storage/raft index handling is required.
         synchronized (safeTime) {
-            if (cmd.safeTime().compareTo(safeTime.current()) > 0) {
+            if (cmd.safeTime().compareTo(currentSafeTime()) > 0) {
                 storageUpdateHandler.handleUpdateAll(
                         txId,
                         cmd.rowsToUpdate(),
@@ -342,7 +512,7 @@ public class PartitionListener implements RaftGroupListener, BeforeApplyHandler
                         indexIdsAtRwTxBeginTs(catalogService, txId, storage.tableId())
                 );
 
-                updateTrackerIgnoringTrackerClosedException(safeTime, cmd.safeTime());
+                advanceSafeTime(cmd.safeTime());
             } else {
                 // We MUST bump information about last updated index+term.
                 // See a comment in #onWrite() for explanation.
@@ -637,6 +807,31 @@ public class PartitionListener implements RaftGroupListener, BeforeApplyHandler
         throw stateChangeException;
     }
 
+    /**
+     * Returns current safe time, taking into account commands of the update batch that is being applied.
+     */
+    private HybridTimestamp currentSafeTime() {
+        HybridTimestamp current = safeTime.current();
+
+        HybridTimestamp batchSafeTime = updateBatchSafeTime;
+
+        return batchSafeTime == null || batchSafeTime.compareTo(current) < 0 ? current : batchSafeTime;
+    }
+
+    /**
+     * Advances safe time after a command has been applied. Within an update batch the safe time tracker is only updated after the batch
+     * is written.
+     *
+     * @param newSafeTime New safe time.
+     */
+    private void advanceSafeTime(HybridTimestamp newSafeTime) {
+        if (updateBatchInProgress) {
+            updateBatchSafeTime = newSafeTime;
+        } else {
+            updateTrackerIgnoringTrackerClosedException(safeTime, newSafeTime);
+        }
+    }
+
     private static <T extends Comparable<T>> void updateTrackerIgnoringTrackerClosedException(
             PendingComparableValuesTracker<T, Void> tracker,
             T newValue
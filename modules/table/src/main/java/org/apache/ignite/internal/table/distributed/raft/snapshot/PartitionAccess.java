@@ -115,6 +115,15 @@ public interface PartitionAccess {
      */
     void addWriteCommitted(RowId rowId, @Nullable BinaryRow row, HybridTimestamp commitTimestamp, int catalogVersion);
 
+    /**
+     * Writes into the storage all the committed versions added by {@link #addWriteCommitted} since the start of the rebalance. The
+     * storage may bulk load the committed versions of the rows added in ascending order of their IDs, which makes them visible
+     * only after this call.
+     *
+     * @throws StorageException If failed to write data.
+     */
+    void finishBulkLoad();
+
     /**
      * Returns the minimum applied index of the partition storages.
      */
@@ -151,7 +160,8 @@ public interface PartitionAccess {
      *         <li>{@link #committedGroupConfiguration()};</li>
      *         <li>{@link #addTxMeta(UUID, TxMeta)};</li>
      *         <li>{@link #addWrite(RowId, BinaryRow, UUID, int, int, int)};</li>
-     *         <li>{@link #addWriteCommitted(RowId, BinaryRow, HybridTimestamp, int)}.</li>
+     *         <li>{@link #addWriteCommitted(RowId, BinaryRow, HybridTimestamp, int)};</li>
+     *         <li>{@link #finishBulkLoad()}.</li>
      *     </ul></li>
      * </ul>
      *
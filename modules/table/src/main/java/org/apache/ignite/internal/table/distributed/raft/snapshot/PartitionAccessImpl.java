@@ -35,6 +35,7 @@ import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.BinaryRowUpgrader;
 import org.apache.ignite.internal.schema.SchemaRegistry;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.PartitionBulkLoader;
 import org.apache.ignite.internal.storage.ReadResult;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
@@ -71,6 +72,18 @@ public class PartitionAccessImpl implements PartitionAccess {
 
     private final LowWatermark lowWatermark;
 
+    /**
+     * Whether the bulk load has been started during the current rebalance. The bulk load fields are accessed by the snapshot copier
+     * sequentially.
+     */
+    private boolean bulkLoadStarted;
+
+    /** Bulk loader of the committed versions of the rows added in order, {@code null} if finished or not supported by the storage. */
+    private @Nullable PartitionBulkLoader bulkLoader;
+
+    /** ID of the latest row added to the bulk loader. */
+    private @Nullable RowId lastBulkLoadedRowId;
+
     /**
      * Constructor.
      *
@@ -183,6 +196,17 @@ public class PartitionAccessImpl implements PartitionAccess {
     public void addWriteCommitted(RowId rowId, @Nullable BinaryRow row, HybridTimestamp commitTimestamp, int catalogVersion) {
         MvPartitionStorage mvPartitionStorage = getMvPartitionStorage(partitionId());
 
+        if (!bulkLoadStarted) {
+            bulkLoadStarted = true;
+
+            bulkLoader = mvPartitionStorage.startBulkLoad();
+        }
+
+        PartitionBulkLoader bulkLoader = this.bulkLoader;
+
+        // Rows coming out of order, e.g. the ones modified while the snapshot is being sent, are written through the storage.
+        boolean bulkLoad = bulkLoader != null && (lastBulkLoadedRowId == null || rowId.compareTo(lastBulkLoadedRowId) >= 0);
+
         List<IndexIdAndTableVersion> indexIdAndTableVersionList = fullStateTransferIndexChooser.chooseForAddWriteCommitted(
                 catalogVersion,
                 tableId(),
@@ -191,10 +215,22 @@ public class PartitionAccessImpl implements PartitionAccess {
 
         List<IndexIdAndBinaryRow> indexIdAndBinaryRowList = upgradeForEachTableVersion(row, indexIdAndTableVersionList);
 
+        if (bulkLoad) {
+            bulkLoader.addWriteCommitted(rowId, row, commitTimestamp);
+
+            lastBulkLoadedRowId = rowId;
+
+            if (indexIdAndBinaryRowList.isEmpty()) {
+                return;
+            }
+        }
+
         mvPartitionStorage.runConsistently(locker -> {
             locker.lock(rowId);
 
-            mvPartitionStorage.addWriteCommitted(rowId, row, commitTimestamp);
+            if (!bulkLoad) {
+                mvPartitionStorage.addWriteCommitted(rowId, row, commitTimestamp);
+            }
 
             for (IndexIdAndBinaryRow indexIdAndBinaryRow : indexIdAndBinaryRowList) {
                 indexUpdateHandler.addToIndex(indexIdAndBinaryRow.binaryRow(), rowId, indexIdAndBinaryRow.indexId());
@@ -204,6 +240,17 @@ public class PartitionAccessImpl implements PartitionAccess {
         });
     }
 
+    @Override
+    public void finishBulkLoad() {
+        PartitionBulkLoader bulkLoader = this.bulkLoader;
+
+        if (bulkLoader != null) {
+            this.bulkLoader = null;
+
+            bulkLoader.finish();
+        }
+    }
+
     @Override
     public long minLastAppliedIndex() {
         return Math.min(
@@ -240,6 +287,8 @@ public class PartitionAccessImpl implements PartitionAccess {
     public CompletableFuture<Void> startRebalance() {
         TxStateStorage txStateStorage = getTxStateStorage(partitionId());
 
+        closeBulkLoader();
+
         return mvGc.removeStorage(toTablePartitionId(partitionKey))
                 .thenCompose(unused -> CompletableFuture.allOf(
                         mvTableStorage.startRebalancePartition(partitionId()),
@@ -251,6 +300,8 @@ public class PartitionAccessImpl implements PartitionAccess {
     public CompletableFuture<Void> abortRebalance() {
         TxStateStorage txStateStorage = getTxStateStorage(partitionId());
 
+        closeBulkLoader();
+
         return CompletableFuture.allOf(
                 mvTableStorage.abortRebalancePartition(partitionId()),
                 txStateStorage.abortRebalance()
@@ -259,8 +310,13 @@ public class PartitionAccessImpl implements PartitionAccess {
 
     @Override
     public CompletableFuture<Void> finishRebalance(long lastAppliedIndex, long lastAppliedTerm, RaftGroupConfiguration raftGroupConfig) {
+        assert bulkLoader == null : "Bulk load is not finished: " + partitionKey;
+
         TxStateStorage txStateStorage = getTxStateStorage(partitionId());
 
+        bulkLoadStarted = false;
+        lastBulkLoadedRowId = null;
+
         byte[] configBytes = raftGroupConfigurationConverter.toBytes(raftGroupConfig);
 
         return CompletableFuture.allOf(
@@ -290,6 +346,19 @@ public class PartitionAccessImpl implements PartitionAccess {
         lowWatermark.updateLowWatermark(newLowWatermark);
     }
 
+    private void closeBulkLoader() {
+        PartitionBulkLoader bulkLoader = this.bulkLoader;
+
+        if (bulkLoader != null) {
+            this.bulkLoader = null;
+
+            bulkLoader.close();
+        }
+
+        bulkLoadStarted = false;
+        lastBulkLoadedRowId = null;
+    }
+
     private MvPartitionStorage getMvPartitionStorage(int partitionId) {
         MvPartitionStorage mvPartitionStorage = mvTableStorage.getMvPartition(partitionId);
 
@@ -42,6 +42,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.lang.IgniteSystemProperties;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.lowwatermark.message.GetLowWatermarkResponse;
@@ -83,7 +84,13 @@ public class IncomingSnapshotCopier extends SnapshotCopier {
 
     private static final long NETWORK_TIMEOUT = Long.MAX_VALUE;
 
-    private static final long MAX_MV_DATA_PAYLOADS_BATCH_BYTES_HINT = 100 * 1024;
+    /** Name of the system property that overrides the size hint (in bytes) of a multi-versioned data batch requested from the leader. */
+    public static final String MV_DATA_BATCH_BYTES_HINT_PROPERTY = "IGNITE_SNAPSHOT_MV_DATA_BATCH_BYTES_HINT";
+
+    private static final long MAX_MV_DATA_PAYLOADS_BATCH_BYTES_HINT = IgniteSystemProperties.getLong(
+            MV_DATA_BATCH_BYTES_HINT_PROPERTY,
+            100 * 1024
+    );
 
     private static final int MAX_TX_DATA_BATCH_SIZE = 1000;
 
@@ -119,6 +126,12 @@ public class IncomingSnapshotCopier extends SnapshotCopier {
     @Nullable
     private volatile CompletableFuture<?> joinFuture;
 
+    /** Number of row versions written into the partition while loading multi-versioned data. */
+    private long mvDataVersions;
+
+    /** Size of the row versions written into the partition while loading multi-versioned data, in bytes. */
+    private long mvDataBytes;
+
     /**
      * Constructor.
      *
@@ -168,6 +181,7 @@ public class IncomingSnapshotCopier extends SnapshotCopier {
                             assert snapshotSender != null : createPartitionInfo();
 
                             return loadSnapshotMvData(snapshotSender, executor)
+                                    .thenRunAsync(this::finishBulkLoad, executor)
                                     .thenCompose(unused1 -> loadSnapshotTxData(snapshotSender, executor))
                                     .thenRunAsync(this::setNextRowIdToBuildIndexes, executor);
                         });
@@ -330,6 +344,18 @@ public class IncomingSnapshotCopier extends SnapshotCopier {
      * Requests and stores data into {@link MvPartitionStorage}.
      */
     private CompletableFuture<?> loadSnapshotMvData(ClusterNode snapshotSender, Executor executor) {
+        long startNanos = System.nanoTime();
+
+        return requestSnapshotMvData(snapshotSender)
+                .thenComposeAsync(response -> writeSnapshotMvData(snapshotSender, executor, response), executor)
+                .thenRun(() -> logMvDataThroughput(startNanos));
+    }
+
+    /**
+     * Requests the next batch of multi-versioned data from the leader. Returns a future completed with {@code null} if the copier is
+     * cancelled.
+     */
+    private CompletableFuture<SnapshotMvDataResponse> requestSnapshotMvData(ClusterNode snapshotSender) {
         if (!busyLock.enterBusy()) {
             return nullCompletedFuture();
         }
@@ -342,48 +368,81 @@ public class IncomingSnapshotCopier extends SnapshotCopier {
                             .batchSizeHint(MAX_MV_DATA_PAYLOADS_BATCH_BYTES_HINT)
                             .build(),
                     NETWORK_TIMEOUT
-            ).thenComposeAsync(response -> {
-                SnapshotMvDataResponse snapshotMvDataResponse = ((SnapshotMvDataResponse) response);
-
-                for (ResponseEntry entry : snapshotMvDataResponse.rows()) {
-                    // Let's write all versions for the row ID.
-                    for (int i = 0; i < entry.rowVersions().size(); i++) {
-                        if (!busyLock.enterBusy()) {
-                            return nullCompletedFuture();
-                        }
-
-                        try {
-                            writeVersion(entry, i);
-                        } finally {
-                            busyLock.leaveBusy();
-                        }
-                    }
-                }
+            ).thenApply(SnapshotMvDataResponse.class::cast);
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
 
-                if (snapshotMvDataResponse.finish()) {
-                    LOG.info(
-                            "Copier has finished loading multi-versioned data [{}, rows={}]",
-                            createPartitionInfo(),
-                            snapshotMvDataResponse.rows().size()
-                    );
+    /**
+     * Writes a batch of multi-versioned data into the partition and continues with the next one.
+     *
+     * <p>The next batch is requested before the current one is written, so that the leader reads it from its storage and sends it over the
+     * network while this node is busy writing. Batches are still written strictly one after another.
+     */
+    private CompletableFuture<?> writeSnapshotMvData(
+            ClusterNode snapshotSender,
+            Executor executor,
+            @Nullable SnapshotMvDataResponse snapshotMvDataResponse
+    ) {
+        if (snapshotMvDataResponse == null) {
+            // The copier has been cancelled.
+            return nullCompletedFuture();
+        }
 
+        CompletableFuture<SnapshotMvDataResponse> nextResponseFuture = snapshotMvDataResponse.finish()
+                ? null
+                : requestSnapshotMvData(snapshotSender);
+
+        for (ResponseEntry entry : snapshotMvDataResponse.rows()) {
+            // Let's write all versions for the row ID.
+            for (int i = 0; i < entry.rowVersions().size(); i++) {
+                if (!busyLock.enterBusy()) {
                     return nullCompletedFuture();
-                } else {
-                    LOG.info(
-                            "Copier has loaded a portion of multi-versioned data [{}, rows={}]",
-                            createPartitionInfo(),
-                            snapshotMvDataResponse.rows().size()
-                    );
+                }
 
-                    // Let's upload the rest.
-                    return loadSnapshotMvData(snapshotSender, executor);
+                try {
+                    writeVersion(entry, i);
+                } finally {
+                    busyLock.leaveBusy();
                 }
-            }, executor);
-        } finally {
-            busyLock.leaveBusy();
+            }
+        }
+
+        if (nextResponseFuture == null) {
+            LOG.info(
+                    "Copier has finished loading multi-versioned data [{}, rows={}]",
+                    createPartitionInfo(),
+                    snapshotMvDataResponse.rows().size()
+            );
+
+            return nullCompletedFuture();
+        } else {
+            LOG.info(
+                    "Copier has loaded a portion of multi-versioned data [{}, rows={}]",
+                    createPartitionInfo(),
+                    snapshotMvDataResponse.rows().size()
+            );
+
+            // Let's upload the rest.
+            return nextResponseFuture.thenComposeAsync(response -> writeSnapshotMvData(snapshotSender, executor, response), executor);
         }
     }
 
+    private void logMvDataThroughput(long startNanos) {
+        long elapsedMillis = Math.max(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), 1);
+
+        LOG.info(
+                "Copier multi-versioned data throughput [{}, versions={}, bytes={}, elapsedMs={}, versionsPerSec={}, bytesPerSec={}]",
+                createPartitionInfo(),
+                mvDataVersions,
+                mvDataBytes,
+                elapsedMillis,
+                mvDataVersions * 1000 / elapsedMillis,
+                mvDataBytes * 1000 / elapsedMillis
+        );
+    }
+
     /**
      * Requests and stores data into {@link TxStateStorage}.
      */
@@ -507,6 +566,13 @@ public class IncomingSnapshotCopier extends SnapshotCopier {
 
         BinaryRow binaryRow = rowVersion == null ? null : rowVersion.asBinaryRow();
 
+        mvDataVersions++;
+
+        if (rowVersion != null) {
+            // Schema version is an unsigned short.
+            mvDataBytes += rowVersion.binaryTuple().remaining() + Short.BYTES;
+        }
+
         PartitionAccess partition = partitionSnapshotStorage.partition();
 
         int snapshotCatalogVersion = snapshotMeta.requiredCatalogVersion();
@@ -524,6 +590,18 @@ public class IncomingSnapshotCopier extends SnapshotCopier {
         }
     }
 
+    private void finishBulkLoad() {
+        if (!busyLock.enterBusy()) {
+            return;
+        }
+
+        try {
+            partitionSnapshotStorage.partition().finishBulkLoad();
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
     private void setNextRowIdToBuildIndexes() {
         if (!busyLock.enterBusy()) {
             return;
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.table.distributed.replication.request;
 import java.util.UUID;
 import org.apache.ignite.internal.network.annotations.Transferable;
 import org.apache.ignite.internal.table.distributed.TableMessageGroup;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Scan retrieve batch replica request.
@@ -34,4 +35,22 @@ public interface ReadOnlyScanRetrieveBatchReplicaRequest extends ScanRetrieveBat
      * @return Transaction coordinator inconsistent ID.
      */
     String coordinatorId();
+
+    /**
+     * Gets an inclusive lower bound of the row ID range to scan, within the partition of the request. {@code null} means unbounded.
+     * Only applicable to the scans without an index.
+     *
+     * @return Lower bound row ID.
+     */
+    @Nullable
+    UUID lowerBoundRowId();
+
+    /**
+     * Gets an exclusive upper bound of the row ID range to scan, within the partition of the request. {@code null} means unbounded.
+     * Only applicable to the scans without an index.
+     *
+     * @return Upper bound row ID.
+     */
+    @Nullable
+    UUID upperBoundRowId();
 }
@@ -318,6 +318,9 @@ public class PartitionReplicaListener implements ReplicaListener {
 
     private final SchemaRegistry schemaRegistry;
 
+    /** Read-only read metrics. */
+    private final ReplicaReadMetricSource readMetricSource;
+
     /**
      * The constructor.
      *
@@ -340,6 +343,8 @@ public class PartitionReplicaListener implements ReplicaListener {
      * @param placementDriver Placement driver.
      * @param clusterNodeResolver Node resolver.
      * @param remotelyTriggeredResourceRegistry Resource registry.
+     * @param schemaRegistry Schema registry.
+     * @param readMetricSource Read-only read metrics.
      */
     public PartitionReplicaListener(
             MvPartitionStorage mvDataStorage,
@@ -364,7 +369,8 @@ public class PartitionReplicaListener implements ReplicaListener {
             PlacementDriver placementDriver,
             ClusterNodeResolver clusterNodeResolver,
             RemotelyTriggeredResourceRegistry remotelyTriggeredResourceRegistry,
-            SchemaRegistry schemaRegistry
+            SchemaRegistry schemaRegistry,
+            ReplicaReadMetricSource readMetricSource
     ) {
         this.mvDataStorage = mvDataStorage;
         this.raftClient = raftClient;
@@ -386,6 +392,7 @@ public class PartitionReplicaListener implements ReplicaListener {
         this.clusterNodeResolver = clusterNodeResolver;
         this.remotelyTriggeredResourceRegistry = remotelyTriggeredResourceRegistry;
         this.schemaRegistry = schemaRegistry;
+        this.readMetricSource = readMetricSource;
 
         this.replicationGroupId = new TablePartitionId(tableId, partId);
 
@@ -839,8 +846,7 @@ public class PartitionReplicaListener implements ReplicaListener {
 
         FullyQualifiedResourceId cursorId = cursorId(txId, request.scanId());
 
-        CompletableFuture<Void> safeReadFuture = isPrimaryInTimestamp(isPrimary, readTimestamp) ? nullCompletedFuture()
-                : safeTime.waitFor(readTimestamp);
+        CompletableFuture<Void> safeReadFuture = safeReadFuture(isPrimary, readTimestamp);
 
         if (request.indexToUse() != null) {
             TableSchemaAwareIndexStorage indexStorage = secondaryIndexStorages.get().get(request.indexToUse());
@@ -860,12 +866,41 @@ public class PartitionReplicaListener implements ReplicaListener {
             return safeReadFuture.thenCompose(unused -> scanSortedIndex(request, indexStorage));
         }
 
+        if (request.lowerBoundRowId() != null || request.upperBoundRowId() != null) {
+            return safeReadFuture.thenCompose(unused -> {
+                // Opens the cursor over the requested range of row IDs on the first request, the batch retrieval reuses it afterwards.
+                remotelyTriggeredResourceRegistry.register(
+                        cursorId,
+                        request.coordinatorId(),
+                        () -> new CursorResource(scanRowIdRange(readTimestamp, request.lowerBoundRowId(), request.upperBoundRowId()))
+                );
+
+                return retrieveExactEntriesUntilCursorEmpty(txId, request.coordinatorId(), readTimestamp, cursorId, batchCount);
+            });
+        }
+
         return safeReadFuture
                 .thenCompose(
                         unused -> retrieveExactEntriesUntilCursorEmpty(txId, request.coordinatorId(), readTimestamp, cursorId, batchCount)
                 );
     }
 
+    /**
+     * Scans a range of row IDs of the partition.
+     *
+     * @param readTimestamp Read timestamp.
+     * @param lowerBound Inclusive lower bound, {@code null} means unbounded.
+     * @param upperBound Exclusive upper bound, {@code null} means unbounded.
+     * @return Cursor.
+     */
+    private PartitionTimestampCursor scanRowIdRange(HybridTimestamp readTimestamp, @Nullable UUID lowerBound, @Nullable UUID upperBound) {
+        return mvDataStorage.scan(
+                readTimestamp,
+                lowerBound == null ? RowId.lowestRowId(partId()) : new RowId(partId(), lowerBound),
+                upperBound == null ? null : new RowId(partId(), upperBound)
+        );
+    }
+
     /**
      * Extracts exact amount of entries, or less if cursor is become empty, from a cursor on the specific time.
      *
@@ -989,12 +1024,34 @@ public class PartitionReplicaListener implements ReplicaListener {
                     format("Unknown single request [actionType={}]", request.requestType()));
         }
 
-        CompletableFuture<Void> safeReadFuture = isPrimaryInTimestamp(isPrimary, readTimestamp) ? nullCompletedFuture()
-                : safeTime.waitFor(request.readTimestamp());
+        CompletableFuture<Void> safeReadFuture = safeReadFuture(isPrimary, readTimestamp);
 
         return safeReadFuture.thenCompose(unused -> resolveRowByPkForReadOnly(primaryKey, readTimestamp));
     }
 
+    /**
+     * Returns a future that completes when the data visible at the {@code readTimestamp} may be read from the local storage.
+     *
+     * <p>A primary replica holding a valid lease is the only source of writes of the partition, so once the read timestamp has passed on
+     * its clock, everything visible at that timestamp has already been applied locally and the read is served right away, without any
+     * Raft interaction. Otherwise, the read falls back to waiting for the partition safe time to reach the read timestamp.
+     *
+     * @param isPrimary Whether the node is a primary replica.
+     * @param readTimestamp Read timestamp.
+     * @return Future.
+     */
+    private CompletableFuture<Void> safeReadFuture(Boolean isPrimary, HybridTimestamp readTimestamp) {
+        if (isPrimaryInTimestamp(isPrimary, readTimestamp)) {
+            readMetricSource.onLeaseRead();
+
+            return nullCompletedFuture();
+        }
+
+        readMetricSource.onSafeTimeRead();
+
+        return safeTime.waitFor(readTimestamp);
+    }
+
     /**
      * Checks that the node is primary and {@code timestamp} is already passed in the reference system of the current node.
      *
@@ -1025,18 +1082,9 @@ public class PartitionReplicaListener implements ReplicaListener {
                     format("Unknown single request [actionType={}]", request.requestType()));
         }
 
-        CompletableFuture<Void> safeReadFuture = isPrimaryInTimestamp(isPrimary, readTimestamp) ? nullCompletedFuture()
-                : safeTime.waitFor(request.readTimestamp());
-
-        return safeReadFuture.thenCompose(unused -> {
-            CompletableFuture<BinaryRow>[] resolutionFuts = new CompletableFuture[primaryKeys.size()];
+        CompletableFuture<Void> safeReadFuture = safeReadFuture(isPrimary, readTimestamp);
 
-            for (int i = 0; i < primaryKeys.size(); i++) {
-                resolutionFuts[i] = resolveRowByPkForReadOnly(primaryKeys.get(i), readTimestamp);
-            }
-
-            return CompletableFutures.allOf(resolutionFuts);
-        });
+        return safeReadFuture.thenCompose(unused -> resolveRowsByPksForReadOnly(primaryKeys, readTimestamp));
     }
 
     /**
@@ -1356,15 +1404,32 @@ public class PartitionReplicaListener implements ReplicaListener {
             return nullCompletedFuture();
         }
 
-        IndexRow indexRow = cursor.next();
+        // Read all the rows that may fit into the batch at once, instead of going to the storage for every index row.
+        var indexRows = new ArrayList<IndexRow>();
+        var rowIds = new ArrayList<RowId>();
 
-        RowId rowId = indexRow.rowId();
+        while (result.size() + indexRows.size() < batchSize && cursor.hasNext()) {
+            IndexRow indexRow = cursor.next();
 
-        return resolvePlainReadResult(rowId, null, readTimestamp).thenComposeAsync(resolvedReadResult -> {
-            BinaryRow binaryRow = upgrade(binaryRow(resolvedReadResult), tableVersion);
+            indexRows.add(indexRow);
+            rowIds.add(indexRow.rowId());
+        }
+
+        List<ReadResult> readResults = mvDataStorage.readAll(rowIds, readTimestamp);
+
+        CompletableFuture<TimedBinaryRow>[] resolutionFuts = new CompletableFuture[readResults.size()];
+
+        for (int i = 0; i < readResults.size(); i++) {
+            resolutionFuts[i] = resolvePlainReadResult(readResults.get(i), null, readTimestamp);
+        }
+
+        return CompletableFutures.allOf(resolutionFuts).thenComposeAsync(resolvedReadResults -> {
+            for (int i = 0; i < resolvedReadResults.size(); i++) {
+                BinaryRow binaryRow = upgrade(binaryRow(resolvedReadResults.get(i)), tableVersion);
 
-            if (binaryRow != null && indexRowMatches(indexRow, binaryRow, schemaAwareIndexStorage)) {
-                result.add(binaryRow);
+                if (binaryRow != null && indexRowMatches(indexRows.get(i), binaryRow, schemaAwareIndexStorage)) {
+                    result.add(binaryRow);
+                }
             }
 
             return continueReadOnlyIndexScan(schemaAwareIndexStorage, cursor, readTimestamp, batchSize, result, tableVersion);
@@ -1485,6 +1550,25 @@ public class PartitionReplicaListener implements ReplicaListener {
     ) {
         ReadResult readResult = mvDataStorage.read(rowId, timestamp == null ? HybridTimestamp.MAX_VALUE : timestamp);
 
+        return resolvePlainReadResult(readResult, txId, timestamp);
+    }
+
+    /**
+     * Resolves a result received from a direct storage read.
+     *
+     * @param readResult Read result of the row, obtained at {@code timestamp}, or at {@link HybridTimestamp#MAX_VALUE} if the
+     *         timestamp is {@code null}.
+     * @param txId Transaction id is used for RW only.
+     * @param timestamp Read timestamp.
+     * @return Future finishes with the resolved binary row.
+     */
+    private CompletableFuture<@Nullable TimedBinaryRow> resolvePlainReadResult(
+            ReadResult readResult,
+            @Nullable UUID txId,
+            @Nullable HybridTimestamp timestamp
+    ) {
+        RowId rowId = readResult.rowId();
+
         return resolveReadResult(readResult, txId, timestamp, () -> {
             if (readResult.newestCommitTimestamp() == null) {
                 return null;
@@ -2000,77 +2084,141 @@ public class PartitionReplicaListener implements ReplicaListener {
      * @return Result of the given action.
      */
     private CompletableFuture<@Nullable BinaryRow> resolveRowByPkForReadOnly(BinaryTuple pk, HybridTimestamp ts) {
-        // Indexes store values associated with different versions of one entry.
-        // It's possible to have multiple entries for a particular search key
-        // only if we insert, delete and again insert an entry with the same indexed fields.
-        // It means that there exists one and only one non-empty readResult for any read timestamp for the given key.
-        // Which in turn means that if we have found non empty readResult during PK index iteration
-        // we can proceed with readResult resolution and stop the iteration.
-        try (Cursor<RowId> cursor = getFromPkIndex(pk)) {
-            // TODO https://issues.apache.org/jira/browse/IGNITE-18767 scan of multiple write intents should not be needed
-            List<ReadResult> writeIntents = new ArrayList<>();
-            List<ReadResult> regularEntries = new ArrayList<>();
+        List<RowId> rowIds = rowIdsByPk(pk);
 
-            for (RowId rowId : cursor) {
-                ReadResult readResult = mvDataStorage.read(rowId, ts);
+        var readResults = new ArrayList<ReadResult>(rowIds.size());
 
-                if (readResult.isWriteIntent()) {
-                    writeIntents.add(readResult);
-                } else if (!readResult.isEmpty()) {
-                    regularEntries.add(readResult);
-                }
-            }
+        for (RowId rowId : rowIds) {
+            readResults.add(mvDataStorage.read(rowId, ts));
+        }
 
-            // Nothing found in the storage, return null.
-            if (writeIntents.isEmpty() && regularEntries.isEmpty()) {
-                return nullCompletedFuture();
-            }
+        return resolveReadResultsForReadOnly(readResults, ts);
+    }
 
-            if (writeIntents.isEmpty()) {
-                // No write intents, then return the committed value. We already know that regularEntries is not empty.
-                return completedFuture(regularEntries.get(0).binaryRow());
-            } else {
-                ReadResult writeIntent = writeIntents.get(0);
+    /**
+     * Finds the rows by given pk search rows. Row ids of all the keys are collected first, and then read from the storage with a single
+     * {@link MvPartitionStorage#readAll} call.
+     *
+     * @param pks Binary Tuples representing primary keys.
+     * @param ts A timestamp regarding which we need to resolve the given rows.
+     * @return Future with the resolved rows, in the same order as the keys, {@code null} for the keys that are not found.
+     */
+    private CompletableFuture<List<BinaryRow>> resolveRowsByPksForReadOnly(List<BinaryTuple> pks, HybridTimestamp ts) {
+        var rowIds = new ArrayList<RowId>(pks.size());
 
-                // Assume that all write intents for the same key belong to the same transaction, as the key should be exclusively locked.
-                // This means that we can just resolve the state of this transaction.
-                checkWriteIntentsBelongSameTx(writeIntents);
+        // Bounds of the sublists of row ids (and read results) that belong to each key.
+        int[] offsets = new int[pks.size() + 1];
 
-                return inBusyLockAsync(busyLock, () ->
-                        resolveWriteIntentReadability(writeIntent, ts)
-                                .thenApply(writeIntentReadable ->
-                                        inBusyLock(busyLock, () -> {
-                                            if (writeIntentReadable) {
-                                                return findAny(writeIntents, wi -> !wi.isEmpty()).map(ReadResult::binaryRow).orElse(null);
-                                            } else {
-                                                for (ReadResult wi : writeIntents) {
-                                                    HybridTimestamp newestCommitTimestamp = wi.newestCommitTimestamp();
+        for (int i = 0; i < pks.size(); i++) {
+            rowIds.addAll(rowIdsByPk(pks.get(i)));
 
-                                                    if (newestCommitTimestamp == null) {
-                                                        continue;
-                                                    }
+            offsets[i + 1] = rowIds.size();
+        }
 
-                                                    ReadResult committedReadResult = mvDataStorage.read(wi.rowId(), newestCommitTimestamp);
+        List<ReadResult> readResults = mvDataStorage.readAll(rowIds, ts);
 
-                                                    assert !committedReadResult.isWriteIntent() :
-                                                            "The result is not committed [rowId=" + wi.rowId() + ", timestamp="
-                                                                    + newestCommitTimestamp + ']';
+        CompletableFuture<BinaryRow>[] resolutionFuts = new CompletableFuture[pks.size()];
 
-                                                    return committedReadResult.binaryRow();
-                                                }
+        for (int i = 0; i < pks.size(); i++) {
+            resolutionFuts[i] = resolveReadResultsForReadOnly(readResults.subList(offsets[i], offsets[i + 1]), ts);
+        }
 
-                                                // No suitable value found in write intents, read the committed value (if exists)
-                                                return findFirst(regularEntries).map(ReadResult::binaryRow).orElse(null);
-                                            }
-                                        }))
-                );
+        return CompletableFutures.allOf(resolutionFuts);
+    }
+
+    /**
+     * Collects ids of all the rows stored with the given primary key.
+     *
+     * @param pk Binary Tuple bytes representing a primary key.
+     * @return Row ids.
+     */
+    private List<RowId> rowIdsByPk(BinaryTuple pk) {
+        try (Cursor<RowId> cursor = getFromPkIndex(pk)) {
+            var rowIds = new ArrayList<RowId>();
+
+            for (RowId rowId : cursor) {
+                rowIds.add(rowId);
             }
+
+            return rowIds;
         } catch (Exception e) {
             throw new IgniteInternalException(Replicator.REPLICA_COMMON_ERR,
                     format("Unable to close cursor [tableId={}]", tableId()), e);
         }
     }
 
+    /**
+     * Resolves the row out of the storage read results of all the row ids stored with a primary key.
+     *
+     * @param readResults Read results of the row ids, stored with the primary key.
+     * @param ts A timestamp regarding which we need to resolve the row.
+     * @return Future with the resolved row, or {@code null} if the row is not found.
+     */
+    private CompletableFuture<@Nullable BinaryRow> resolveReadResultsForReadOnly(List<ReadResult> readResults, HybridTimestamp ts) {
+        // Indexes store values associated with different versions of one entry.
+        // It's possible to have multiple entries for a particular search key
+        // only if we insert, delete and again insert an entry with the same indexed fields.
+        // It means that there exists one and only one non-empty readResult for any read timestamp for the given key.
+        // Which in turn means that if we have found non empty readResult during PK index iteration
+        // we can proceed with readResult resolution and stop the iteration.
+        // TODO https://issues.apache.org/jira/browse/IGNITE-18767 scan of multiple write intents should not be needed
+        List<ReadResult> writeIntents = new ArrayList<>();
+        List<ReadResult> regularEntries = new ArrayList<>();
+
+        for (ReadResult readResult : readResults) {
+            if (readResult.isWriteIntent()) {
+                writeIntents.add(readResult);
+            } else if (!readResult.isEmpty()) {
+                regularEntries.add(readResult);
+            }
+        }
+
+        // Nothing found in the storage, return null.
+        if (writeIntents.isEmpty() && regularEntries.isEmpty()) {
+            return nullCompletedFuture();
+        }
+
+        if (writeIntents.isEmpty()) {
+            // No write intents, then return the committed value. We already know that regularEntries is not empty.
+            return completedFuture(regularEntries.get(0).binaryRow());
+        } else {
+            ReadResult writeIntent = writeIntents.get(0);
+
+            // Assume that all write intents for the same key belong to the same transaction, as the key should be exclusively locked.
+            // This means that we can just resolve the state of this transaction.
+            checkWriteIntentsBelongSameTx(writeIntents);
+
+            return inBusyLockAsync(busyLock, () ->
+                    resolveWriteIntentReadability(writeIntent, ts)
+                            .thenApply(writeIntentReadable ->
+                                    inBusyLock(busyLock, () -> {
+                                        if (writeIntentReadable) {
+                                            return findAny(writeIntents, wi -> !wi.isEmpty()).map(ReadResult::binaryRow).orElse(null);
+                                        } else {
+                                            for (ReadResult wi : writeIntents) {
+                                                HybridTimestamp newestCommitTimestamp = wi.newestCommitTimestamp();
+
+                                                if (newestCommitTimestamp == null) {
+                                                    continue;
+                                                }
+
+                                                ReadResult committedReadResult = mvDataStorage.read(wi.rowId(), newestCommitTimestamp);
+
+                                                assert !committedReadResult.isWriteIntent() :
+                                                        "The result is not committed [rowId=" + wi.rowId() + ", timestamp="
+                                                                + newestCommitTimestamp + ']';
+
+                                                return committedReadResult.binaryRow();
+                                            }
+
+                                            // No suitable value found in write intents, read the committed value (if exists)
+                                            return findFirst(regularEntries).map(ReadResult::binaryRow).orElse(null);
+                                        }
+                                    }))
+            );
+        }
+    }
+
     /**
      * Check that all given write intents belong to the same transaction.
      *
@@ -2121,13 +2269,10 @@ public class PartitionReplicaListener implements ReplicaListener {
                     format("Unknown single request [actionType={}]", request.requestType()));
         }
 
-        CompletableFuture<BinaryRow>[] resolutionFuts = new CompletableFuture[primaryKeys.size()];
+        // The lease of the primary replica has been validated for the operation start timestamp.
+        readMetricSource.onLeaseRead();
 
-        for (int i = 0; i < primaryKeys.size(); i++) {
-            resolutionFuts[i] = resolveRowByPkForReadOnly(primaryKeys.get(i), readTimestamp);
-        }
-
-        return CompletableFutures.allOf(resolutionFuts);
+        return resolveRowsByPksForReadOnly(primaryKeys, readTimestamp);
     }
 
     /**
@@ -2899,6 +3044,9 @@ public class PartitionReplicaListener implements ReplicaListener {
                     format("Unknown single request [actionType={}]", request.requestType()));
         }
 
+        // The lease of the primary replica has been validated for the operation start timestamp.
+        readMetricSource.onLeaseRead();
+
         return resolveRowByPkForReadOnly(primaryKey, readTimestamp);
     }
 
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.table.distributed.replicator;
+
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.MetricSetBuilder;
+
+/**
+ * Metric source, which provides read-only read metrics of the partition replicas on the local node.
+ *
+ * <p>A read is counted as a lease read if it was served by a primary replica holding a valid lease without waiting for the partition safe
+ * time, and as a safe time read if the replica had to wait until the safe time reached the read timestamp.
+ */
+public class ReplicaReadMetricSource extends AbstractMetricSource<ReplicaReadMetricSource.Holder> {
+    public static final String NAME = "table.replica.reads";
+
+    /** Constructor. */
+    public ReplicaReadMetricSource() {
+        super(NAME);
+    }
+
+    /** Records a read served locally by the primary replica under its lease. */
+    public void onLeaseRead() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.leaseReads.increment();
+        }
+    }
+
+    /** Records a read that fell back to waiting for the partition safe time. */
+    public void onSafeTimeRead() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.safeTimeReads.increment();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void init(MetricSetBuilder bldr, Holder holder) {
+        bldr.register(holder.leaseReads);
+        bldr.register(holder.safeTimeReads);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /**
+     * Holder.
+     */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final LongAdderMetric leaseReads = new LongAdderMetric(
+                "LeaseReads",
+                "Read-only reads served by the primary replica under its lease without waiting for the safe time"
+        );
+
+        private final LongAdderMetric safeTimeReads = new LongAdderMetric(
+                "SafeTimeReads",
+                "Read-only reads that waited for the partition safe time to reach the read timestamp"
+        );
+    }
+}
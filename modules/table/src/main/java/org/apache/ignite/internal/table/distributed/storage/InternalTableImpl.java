@@ -1507,6 +1507,40 @@ public class InternalTableImpl implements InternalTable {
         );
     }
 
+    @Override
+    public Publisher<BinaryRow> scan(
+            int partId,
+            UUID txId,
+            HybridTimestamp readTimestamp,
+            ClusterNode recipientNode,
+            @Nullable UUID lowerBoundRowId,
+            @Nullable UUID upperBoundRowId,
+            String txCoordinatorId
+    ) {
+        validatePartitionIndex(partId);
+
+        TablePartitionId tablePartitionId = new TablePartitionId(tableId, partId);
+
+        return new PartitionScanPublisher(
+                (scanId, batchSize) -> {
+                    ReadOnlyScanRetrieveBatchReplicaRequest request = tableMessagesFactory.readOnlyScanRetrieveBatchReplicaRequest()
+                            .groupId(tablePartitionId)
+                            .readTimestampLong(readTimestamp.longValue())
+                            .transactionId(txId)
+                            .scanId(scanId)
+                            .batchSize(batchSize)
+                            .lowerBoundRowId(lowerBoundRowId)
+                            .upperBoundRowId(upperBoundRowId)
+                            .coordinatorId(txCoordinatorId)
+                            .build();
+
+                    return replicaSvc.invoke(recipientNode, request);
+                },
+                (intentionallyClose, fut) -> completeScan(txId, tablePartitionId, fut, recipientNode, intentionallyClose),
+                new ReadOnlyInflightBatchRequestTracker(transactionInflights, txId)
+        );
+    }
+
     private Publisher<BinaryRow> readOnlyScan(
             int partId,
             UUID txId,
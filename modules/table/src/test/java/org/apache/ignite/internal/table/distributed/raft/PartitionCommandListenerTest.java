@@ -21,11 +21,14 @@ import static java.util.Collections.singletonMap;
 import static org.apache.ignite.internal.util.ArrayUtils.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
@@ -33,6 +36,7 @@ import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
@@ -75,6 +79,7 @@ import org.apache.ignite.internal.raft.Command;
 import org.apache.ignite.internal.raft.WriteCommand;
 import org.apache.ignite.internal.raft.service.CommandClosure;
 import org.apache.ignite.internal.raft.service.CommittedConfiguration;
+import org.apache.ignite.internal.raft.service.PeekableCommandIterator;
 import org.apache.ignite.internal.replicator.TablePartitionId;
 import org.apache.ignite.internal.replicator.command.SafeTimePropagatingCommand;
 import org.apache.ignite.internal.replicator.command.SafeTimeSyncCommand;
@@ -94,6 +99,7 @@ import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.MvPartitionStorage.WriteClosure;
 import org.apache.ignite.internal.storage.ReadResult;
 import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.impl.TestMvPartitionStorage;
 import org.apache.ignite.internal.storage.index.StorageHashIndexDescriptor;
 import org.apache.ignite.internal.storage.index.StorageHashIndexDescriptor.StorageHashIndexColumnDescriptor;
@@ -334,6 +340,101 @@ public class PartitionCommandListenerTest extends BaseIgniteAbstractTest {
         readAndCheck(false);
     }
 
+    /**
+     * The test checks that consecutive update commands are applied together and completed after the whole batch is applied.
+     */
+    @Test
+    void testUpdateCommandsAreCompletedAfterBatchIsApplied() {
+        long firstIndex = raftIndex.get() + 1;
+
+        List<CommandClosure<WriteCommand>> closures = updateCommandClosures(KEY_COUNT);
+
+        List<Long> appliedIndexesOnCompletion = new ArrayList<>();
+
+        for (CommandClosure<WriteCommand> clo : closures) {
+            doAnswer(invocation -> {
+                assertEquals(new UpdateCommandResult(true), invocation.getArgument(0));
+
+                appliedIndexesOnCompletion.add(mvPartitionStorage.lastAppliedIndex());
+
+                return null;
+            }).when(clo).result(any());
+        }
+
+        commandListener.onWrite(peekableIterator(closures));
+
+        assertEquals(KEY_COUNT, appliedIndexesOnCompletion.size());
+
+        // The first command is completed only after the following commands of its batch have been applied.
+        assertThat(appliedIndexesOnCompletion.get(0), greaterThan(firstIndex));
+        assertEquals(raftIndex.get(), appliedIndexesOnCompletion.get(KEY_COUNT - 1));
+    }
+
+    /**
+     * The test checks that if a command of a batch fails with an error that is reported to its closure, the commands of the batch are
+     * applied one by one, so only the failed command gets the error.
+     */
+    @Test
+    void testUpdateBatchPartialFailure() {
+        List<CommandClosure<WriteCommand>> closures = updateCommandClosures(KEY_COUNT);
+
+        int failedCommand = 2;
+
+        UUID failedRowUuid = ((UpdateCommand) closures.get(failedCommand).command()).rowUuid();
+
+        doThrow(new StorageException("Test error")).when(storageUpdateHandler)
+                .handleUpdate(any(), eq(failedRowUuid), any(), any(), anyBoolean(), any(), any(), any(), any());
+
+        commandListener.onWrite(peekableIterator(closures));
+
+        for (int i = 0; i < KEY_COUNT; i++) {
+            if (i == failedCommand) {
+                verify(closures.get(i)).result(any(StorageException.class));
+            } else {
+                verify(closures.get(i)).result(new UpdateCommandResult(true));
+            }
+        }
+
+        assertEquals(raftIndex.get(), mvPartitionStorage.lastAppliedIndex());
+
+        for (int i = 0; i < KEY_COUNT; i++) {
+            RowId rowId = new RowId(PARTITION_ID, ((UpdateCommand) closures.get(i).command()).rowUuid());
+
+            BinaryRow row = mvPartitionStorage.read(rowId, HybridTimestamp.MAX_VALUE).binaryRow();
+
+            if (i == failedCommand) {
+                assertNull(row);
+            } else {
+                assertNotNull(row);
+            }
+        }
+    }
+
+    /**
+     * The test checks that an unexpected error in the middle of a batch is propagated to the raft state machine and none of the commands
+     * of the batch is completed, so the raft iterator stays at the first command of the batch.
+     */
+    @Test
+    void testUpdateBatchRollbackOnUnexpectedError() {
+        List<CommandClosure<WriteCommand>> closures = updateCommandClosures(KEY_COUNT);
+
+        UUID failedRowUuid = ((UpdateCommand) closures.get(2).command()).rowUuid();
+
+        doThrow(new IllegalStateException("Test error")).when(storageUpdateHandler)
+                .handleUpdate(any(), eq(failedRowUuid), any(), any(), anyBoolean(), any(), any(), any(), any());
+
+        PeekableCommandIterator<WriteCommand> iterator = peekableIterator(closures);
+
+        assertThrows(IllegalStateException.class, () -> commandListener.onWrite(iterator));
+
+        for (CommandClosure<WriteCommand> clo : closures) {
+            verify(clo, never()).result(any());
+        }
+
+        assertTrue(iterator.hasNext());
+        assertEquals(closures.get(0).index(), iterator.next().index());
+    }
+
     @Test
     void testSkipWriteCommandByAppliedIndex() {
         mvPartitionStorage.lastApplied(10L, 1L);
@@ -735,6 +836,100 @@ public class PartitionCommandListenerTest extends BaseIgniteAbstractTest {
      * @param <T> Type of the operation.
      * @return Closure iterator.
      */
+    /**
+     * Creates mocked closures of update commands with consecutive raft indexes.
+     *
+     * @param count Number of commands.
+     * @return Closures.
+     */
+    private List<CommandClosure<WriteCommand>> updateCommandClosures(int count) {
+        List<CommandClosure<WriteCommand>> closures = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            CommandClosure<WriteCommand> clo = mock(CommandClosure.class);
+
+            when(clo.index()).thenReturn(raftIndex.incrementAndGet());
+
+            when(clo.command()).thenReturn(
+                    msgFactory.updateCommand()
+                            .tablePartitionId(defaultPartitionIdMessage())
+                            .rowUuid(UUID.randomUUID())
+                            .messageRowToUpdate(msgFactory.timedBinaryRowMessage()
+                                    .binaryRowMessage(getTestRow(i, i))
+                                    .build())
+                            .txId(TestTransactionIds.newTransactionId())
+                            .safeTimeLong(hybridClock.nowLong())
+                            .txCoordinatorId(UUID.randomUUID().toString())
+                            .build());
+
+            closures.add(clo);
+        }
+
+        return closures;
+    }
+
+    /**
+     * Creates an iterator over the closures that behaves like the raft one: the iterator moves to the next command only when the
+     * closure of the current one is completed.
+     *
+     * @param closures Closures.
+     * @return Iterator.
+     */
+    private static <T extends Command> PeekableCommandIterator<T> peekableIterator(List<CommandClosure<T>> closures) {
+        return new PeekableCommandIterator<>() {
+            /** Position of the current command. */
+            private int pos;
+
+            /** {@inheritDoc} */
+            @Override
+            public boolean hasNext() {
+                return pos < closures.size();
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public CommandClosure<T> next() {
+                return closure(pos);
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public @Nullable CommandClosure<T> peek(int distance) {
+                return pos + distance < closures.size() ? closure(pos + distance) : null;
+            }
+
+            private CommandClosure<T> closure(int i) {
+                CommandClosure<T> clo = closures.get(i);
+
+                return new CommandClosure<>() {
+                    @Override
+                    public long index() {
+                        return clo.index();
+                    }
+
+                    @Override
+                    public long term() {
+                        return clo.term();
+                    }
+
+                    @Override
+                    public T command() {
+                        return clo.command();
+                    }
+
+                    @Override
+                    public void result(@Nullable Serializable res) {
+                        assertEquals(pos, i, "Command is completed out of order");
+
+                        clo.result(res);
+
+                        pos++;
+                    }
+                };
+            }
+        };
+    }
+
     private <T extends Command> Iterator<CommandClosure<T>> iterator(BiConsumer<Integer, CommandClosure<T>> func) {
         return new Iterator<>() {
             /** Iteration. */
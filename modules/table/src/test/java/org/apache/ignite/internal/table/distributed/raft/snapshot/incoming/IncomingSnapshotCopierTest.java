@@ -42,10 +42,12 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -95,6 +97,7 @@ import org.apache.ignite.internal.table.distributed.raft.snapshot.SnapshotUri;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotMetaRequest;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotMetaResponse;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotMvDataRequest;
+import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotMvDataResponse;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotMvDataResponse.ResponseEntry;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotTxDataRequest;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.outgoing.OutgoingSnapshotsManager;
@@ -245,6 +248,57 @@ public class IncomingSnapshotCopierTest extends BaseIgniteAbstractTest {
         verify(lowWatermark).updateLowWatermark(eq(newLowWatermarkValue));
     }
 
+    @Test
+    void testMvDataIsLoadedInSeveralBatches() {
+        fillOriginalStorages();
+
+        createTargetStorages();
+
+        MessagingService messagingService = messagingServiceForSuccessScenario(outgoingMvPartitionStorage,
+                outgoingTxStatePartitionStorage, rowIds, txIds);
+
+        List<RowId> firstBatchRowIds = rowIds.subList(0, rowIds.size() / 2);
+        List<RowId> secondBatchRowIds = rowIds.subList(rowIds.size() / 2, rowIds.size());
+
+        CompletableFuture<SnapshotMvDataResponse> secondBatchFuture = new CompletableFuture<>();
+
+        doReturn(completedFuture(mvDataResponse(firstBatchRowIds, false)))
+                .doReturn(secondBatchFuture)
+                .when(messagingService).invoke(eq(clusterNode), any(SnapshotMvDataRequest.class), anyLong());
+
+        PartitionSnapshotStorage partitionSnapshotStorage = createPartitionSnapshotStorage(
+                snapshotId,
+                incomingMvTableStorage,
+                incomingTxStateTableStorage,
+                messagingService
+        );
+
+        SnapshotCopier snapshotCopier = partitionSnapshotStorage.startToCopyFrom(
+                SnapshotUri.toStringUri(snapshotId, NODE_NAME),
+                mock(SnapshotCopierOptions.class)
+        );
+
+        // The second batch is requested before the first one is written, without waiting for its response.
+        verify(messagingService, timeout(1_000).times(2)).invoke(eq(clusterNode), any(SnapshotMvDataRequest.class), anyLong());
+
+        secondBatchFuture.complete(mvDataResponse(secondBatchRowIds, true));
+
+        assertThat(runAsync(snapshotCopier::join), willSucceedIn(1, TimeUnit.SECONDS));
+
+        assertEquals(Status.OK().getCode(), snapshotCopier.getCode());
+
+        verify(messagingService, times(2)).invoke(eq(clusterNode), any(SnapshotMvDataRequest.class), anyLong());
+
+        assertEqualsMvRows(outgoingMvPartitionStorage, incomingMvTableStorage.getMvPartition(PARTITION_ID), rowIds);
+    }
+
+    private SnapshotMvDataResponse mvDataResponse(List<RowId> rowIds, boolean finish) {
+        return TABLE_MSG_FACTORY.snapshotMvDataResponse()
+                .rows(createSnapshotMvDataEntries(outgoingMvPartitionStorage, rowIds))
+                .finish(finish)
+                .build();
+    }
+
     private void createTargetStorages() {
         assertThat(incomingMvTableStorage.createMvPartition(PARTITION_ID), willCompleteSuccessfully());
         incomingTxStateTableStorage.getOrCreateTxStateStorage(PARTITION_ID);
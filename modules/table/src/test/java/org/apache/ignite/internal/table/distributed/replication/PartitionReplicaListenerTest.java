@@ -62,6 +62,7 @@ import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -104,6 +105,8 @@ import org.apache.ignite.internal.hlc.HybridClockImpl;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.hlc.TestClockService;
 import org.apache.ignite.internal.marshaller.MarshallerException;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
 import org.apache.ignite.internal.network.ClusterNodeImpl;
 import org.apache.ignite.internal.network.MessagingService;
 import org.apache.ignite.internal.placementdriver.PlacementDriver;
@@ -168,6 +171,7 @@ import org.apache.ignite.internal.table.distributed.replication.request.ReadWrit
 import org.apache.ignite.internal.table.distributed.replicator.IncompatibleSchemaException;
 import org.apache.ignite.internal.table.distributed.replicator.InternalSchemaVersionMismatchException;
 import org.apache.ignite.internal.table.distributed.replicator.PartitionReplicaListener;
+import org.apache.ignite.internal.table.distributed.replicator.ReplicaReadMetricSource;
 import org.apache.ignite.internal.table.distributed.replicator.StaleTransactionOperationException;
 import org.apache.ignite.internal.table.distributed.replicator.TransactionStateResolver;
 import org.apache.ignite.internal.table.distributed.replicator.action.RequestType;
@@ -394,6 +398,9 @@ public class PartitionReplicaListenerTest extends IgniteAbstractTest {
     /** Partition replication listener to test. */
     private PartitionReplicaListener partitionReplicaListener;
 
+    /** Read-only read metrics of the tested listener. */
+    private final ReplicaReadMetricSource readMetricSource = new ReplicaReadMetricSource();
+
     /** Primary index. */
     private Lazy<TableSchemaAwareIndexStorage> pkStorageSupplier;
 
@@ -599,7 +606,8 @@ public class PartitionReplicaListenerTest extends IgniteAbstractTest {
                 placementDriver,
                 new SingleClusterNodeResolver(localNode),
                 new RemotelyTriggeredResourceRegistry(),
-                new DummySchemaManagerImpl(schemaDescriptor, schemaDescriptorVersion2)
+                new DummySchemaManagerImpl(schemaDescriptor, schemaDescriptorVersion2),
+                readMetricSource
         );
 
         kvMarshaller = marshallerFor(schemaDescriptor);
@@ -731,6 +739,18 @@ public class PartitionReplicaListenerTest extends IgniteAbstractTest {
         assertNull(binaryRow);
     }
 
+    @Test
+    public void testReadOnlyReadIsServedUnderLeaseWithoutWaitingForSafeTime() {
+        MetricSet metrics = readMetricSource.enable();
+
+        assertThat(doReadOnlySingleGet(nextBinaryKey()), willCompleteSuccessfully());
+
+        verify(safeTimeClock, never()).waitFor(any());
+
+        assertEquals(1, metrics.<LongMetric>get("LeaseReads").value());
+        assertEquals(0, metrics.<LongMetric>get("SafeTimeReads").value());
+    }
+
     private CompletableFuture<ReplicaResult> doReadOnlySingleGet(BinaryRow pk) {
         return doReadOnlySingleGet(pk, clock.now());
     }
@@ -55,4 +55,12 @@ public class TransactionConfigurationSchema {
     @Value(hasDefault = true)
     @Range(min = 1000)
     public long rpcTimeout = TimeUnit.SECONDS.toMillis(60);
+
+    /**
+     * Number of exclusive row locks a transaction may take in a single table before they are escalated to an exclusive lock on the whole
+     * table, {@code 0} disables the escalation.
+     */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public int lockEscalationThreshold = 0;
 }
@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.impl;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import org.apache.ignite.internal.event.EventListener;
+import org.apache.ignite.internal.tx.Lock;
+import org.apache.ignite.internal.tx.LockKey;
+import org.apache.ignite.internal.tx.LockManager;
+import org.apache.ignite.internal.tx.LockMode;
+import org.apache.ignite.internal.tx.Waiter;
+import org.apache.ignite.internal.tx.event.LockEvent;
+import org.apache.ignite.internal.tx.event.LockEventParameters;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+
+/**
+ * A {@link LockManager} that escalates row locks of large transactions to a lock on the whole context (table).
+ *
+ * <p>When a transaction that holds an {@link LockMode#IX} hierarchy lock on a table acquires more than {@link #escalationThreshold}
+ * exclusive row locks in that table, an {@link LockMode#X} lock on the table is requested from the delegate lock manager. The threshold is
+ * read once per transaction and table, when the intention lock is taken. The row lock that reaches the threshold is completed only after
+ * the table lock request is. Once the table lock is granted, all further row locks of the transaction in that table are answered with a
+ * completed future without touching the lock table, so bulk transactions neither fill the lock table with millions of entries nor pay for a
+ * synchronized queue per row. If the table lock is refused right away (e.g. by the deadlock prevention policy), the delegate keeps the
+ * intention lock and the transaction goes on locking rows one by one. If the table lock is refused after waiting, the row lock fails with
+ * the same error.
+ *
+ * <p>While the table lock is being waited for, the hierarchy lock requests of the same transaction on that table are postponed until the
+ * wait is over, because the delegate doesn't support a lock upgrade and another lock request of the same transaction on the same key at
+ * the same time.
+ *
+ * <p>Only contexts which the transaction has intention-locked in {@link LockMode#IX} mode are escalated: the intention lock protocol is
+ * what makes the table lock visible to other transactions, so contexts locked without it (e.g. index keys) always use row locks.
+ *
+ * <p>Row locks covered by an escalated table lock are not released individually, they are held until {@link #releaseAll(UUID)}.
+ */
+public class EscalatingLockManager implements LockManager {
+    /** Lock manager that holds the locks. */
+    private final LockManager delegate;
+
+    /**
+     * Supplier of the number of exclusive row locks in a single context after which the locks are escalated, non-positive value disables
+     * escalation.
+     */
+    private final IntSupplier escalationThreshold;
+
+    /** Escalation states of the contexts intention-locked by transactions. */
+    private final ConcurrentHashMap<UUID, Map<Object, EscalationState>> txContexts = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param delegate Lock manager that holds the locks.
+     * @param escalationThreshold Number of exclusive row locks in a single context after which the locks are escalated, non-positive
+     *         value disables escalation.
+     */
+    public EscalatingLockManager(LockManager delegate, int escalationThreshold) {
+        this(delegate, () -> escalationThreshold);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param delegate Lock manager that holds the locks.
+     * @param escalationThreshold Supplier of the number of exclusive row locks in a single context after which the locks are escalated,
+     *         non-positive value disables escalation. Usually backed by the configuration, so it's called once per transaction and
+     *         context rather than per row lock.
+     */
+    public EscalatingLockManager(LockManager delegate, IntSupplier escalationThreshold) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.escalationThreshold = Objects.requireNonNull(escalationThreshold);
+    }
+
+    @Override
+    public CompletableFuture<Lock> acquire(UUID txId, LockKey lockKey, LockMode lockMode) {
+        if (lockKey.contextId() == null) {
+            return acquireHierarchyLock(txId, lockKey, lockMode);
+        }
+
+        EscalationState state = escalationState(txId, lockKey);
+
+        if (state == null) {
+            return delegate.acquire(txId, lockKey, lockMode);
+        }
+
+        if (state.escalated) {
+            return completedFuture(new Lock(lockKey, lockMode, txId));
+        }
+
+        CompletableFuture<Lock> fut = delegate.acquire(txId, lockKey, lockMode);
+
+        if (lockMode == LockMode.X && state.exclusiveLocks.incrementAndGet() == state.threshold) {
+            return fut.thenCompose(lock -> escalate(txId, new LockKey(lockKey.contextId()), state).thenApply(unused -> lock));
+        }
+
+        return fut;
+    }
+
+    /**
+     * Acquires a hierarchy lock. If the transaction is waiting for the escalation of the locks of the context, the lock is requested once
+     * the wait is over.
+     *
+     * @param txId Transaction id.
+     * @param lockKey Hierarchy lock key.
+     * @param lockMode Lock mode.
+     * @return Lock future.
+     */
+    private CompletableFuture<Lock> acquireHierarchyLock(UUID txId, LockKey lockKey, LockMode lockMode) {
+        EscalationState state = contextState(txId, lockKey.key());
+
+        if (state == null && lockMode == LockMode.IX) {
+            int threshold = escalationThreshold.getAsInt();
+
+            if (threshold > 0) {
+                state = txContexts.computeIfAbsent(txId, k -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(lockKey.key(), k -> new EscalationState(threshold));
+            }
+        }
+
+        if (state == null) {
+            return delegate.acquire(txId, lockKey, lockMode);
+        }
+
+        synchronized (state) {
+            CompletableFuture<Lock> escalationFut = state.escalationFut;
+
+            if (escalationFut == null || escalationFut.isDone()) {
+                return delegate.acquire(txId, lockKey, lockMode);
+            }
+
+            return escalationFut.handle((lock, err) -> null).thenCompose(unused -> acquireHierarchyLock(txId, lockKey, lockMode));
+        }
+    }
+
+    /**
+     * Requests an exclusive lock on the context.
+     *
+     * @param txId Transaction id.
+     * @param contextKey Hierarchy lock key of the context.
+     * @param state Escalation state of the context.
+     * @return Future that completes when the request is over, it fails if the lock is refused after waiting for it.
+     */
+    private CompletableFuture<Void> escalate(UUID txId, LockKey contextKey, EscalationState state) {
+        CompletableFuture<Lock> escalationFut;
+
+        synchronized (state) {
+            escalationFut = delegate.acquire(txId, contextKey, LockMode.X);
+
+            state.escalationFut = escalationFut;
+        }
+
+        // A lock refused right away leaves the intention lock as it is, so the transaction may go on with row locks. A lock refused after
+        // waiting is treated as any other failed lock wait.
+        boolean waited = !escalationFut.isDone();
+
+        return escalationFut.handle((lock, err) -> {
+            if (err == null) {
+                state.escalated = true;
+            } else if (waited) {
+                throw err instanceof CompletionException ? (CompletionException) err : new CompletionException(err);
+            }
+
+            return null;
+        });
+    }
+
+    @Override
+    @TestOnly
+    public void release(Lock lock) {
+        EscalationState state = escalationState(lock.txId(), lock.lockKey());
+
+        if (state == null || !state.escalated) {
+            delegate.release(lock);
+        }
+    }
+
+    @Override
+    public void release(UUID txId, LockKey lockKey, LockMode lockMode) {
+        EscalationState state = escalationState(txId, lockKey);
+
+        if (state == null || !state.escalated) {
+            delegate.release(txId, lockKey, lockMode);
+        }
+    }
+
+    @Override
+    public Iterator<Lock> locks(UUID txId) {
+        return delegate.locks(txId);
+    }
+
+    @Override
+    public void releaseAll(UUID txId) {
+        txContexts.remove(txId);
+
+        delegate.releaseAll(txId);
+    }
+
+    @Override
+    public Collection<UUID> queue(LockKey key) {
+        return delegate.queue(key);
+    }
+
+    @Override
+    public Waiter waiter(LockKey key, UUID txId) {
+        return delegate.waiter(key, txId);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public void listen(LockEvent evt, EventListener<? extends LockEventParameters> listener) {
+        delegate.listen(evt, listener);
+    }
+
+    @Override
+    public void removeListener(LockEvent evt, EventListener<? extends LockEventParameters> listener) {
+        delegate.removeListener(evt, listener);
+    }
+
+    /**
+     * Returns the escalation state of the context of a row lock key.
+     *
+     * @param txId Transaction id.
+     * @param lockKey Row lock key.
+     * @return Escalation state or {@code null} if the context is not intention-locked by the transaction.
+     */
+    private @Nullable EscalationState escalationState(UUID txId, LockKey lockKey) {
+        if (lockKey.contextId() == null) {
+            return null;
+        }
+
+        return contextState(txId, lockKey.contextId());
+    }
+
+    /**
+     * Returns the escalation state of a context.
+     *
+     * @param txId Transaction id.
+     * @param contextId Context id.
+     * @return Escalation state or {@code null} if the context is not intention-locked by the transaction.
+     */
+    private @Nullable EscalationState contextState(UUID txId, Object contextId) {
+        Map<Object, EscalationState> contexts = txContexts.get(txId);
+
+        return contexts == null ? null : contexts.get(contextId);
+    }
+
+    /**
+     * Escalation state of a context intention-locked by a transaction.
+     */
+    private static class EscalationState {
+        /** Number of exclusive row locks in the context after which the locks are escalated. */
+        private final int threshold;
+
+        /** Number of exclusive row locks acquired in the context. */
+        private final AtomicInteger exclusiveLocks = new AtomicInteger();
+
+        /** Whether the transaction holds an exclusive lock on the whole context. */
+        private volatile boolean escalated;
+
+        /** Future of the exclusive lock request on the context, guarded by the monitor of the state. */
+        private @Nullable CompletableFuture<Lock> escalationFut;
+
+        private EscalationState(int threshold) {
+            this.threshold = threshold;
+        }
+    }
+}
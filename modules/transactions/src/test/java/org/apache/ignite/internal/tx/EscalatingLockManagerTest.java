@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx;
+
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher.willThrow;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willSucceedFast;
+import static org.apache.ignite.internal.tx.LockMode.IS;
+import static org.apache.ignite.internal.tx.LockMode.IX;
+import static org.apache.ignite.internal.tx.LockMode.X;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.internal.tx.impl.EscalatingLockManager;
+import org.apache.ignite.internal.tx.impl.HeapLockManager;
+import org.apache.ignite.internal.tx.impl.WaitDieDeadlockPreventionPolicy;
+import org.apache.ignite.internal.tx.test.TestTransactionIds;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link EscalatingLockManager}.
+ */
+public class EscalatingLockManagerTest extends AbstractLockManagerTest {
+    private static final int ESCALATION_THRESHOLD = 3;
+
+    private static final int TABLE_ID = 0;
+
+    @Override
+    protected LockManager newInstance() {
+        return new EscalatingLockManager(new HeapLockManager(new WaitDieDeadlockPreventionPolicy()), ESCALATION_THRESHOLD);
+    }
+
+    @Override
+    protected LockKey lockKey() {
+        return new LockKey(TABLE_ID, "test");
+    }
+
+    @Test
+    public void testRowLocksAreEscalatedToTableLock() {
+        LockManager lockManager = newInstance();
+
+        UUID txId1 = TestTransactionIds.newTransactionId();
+        UUID txId2 = TestTransactionIds.newTransactionId();
+
+        LockKey tableKey = new LockKey(TABLE_ID);
+
+        assertThat(lockManager.acquire(txId1, tableKey, IX), willSucceedFast());
+
+        for (int i = 0; i < ESCALATION_THRESHOLD; i++) {
+            assertThat(lockManager.acquire(txId1, new LockKey(TABLE_ID, i), X), willSucceedFast());
+        }
+
+        assertEquals(X, tableLockMode(lockManager, txId1));
+
+        LockKey rowKey = new LockKey(TABLE_ID, ESCALATION_THRESHOLD);
+
+        assertThat(lockManager.acquire(txId1, rowKey, X), willSucceedFast());
+        assertTrue(lockManager.queue(rowKey).isEmpty());
+
+        assertThat(lockManager.acquire(txId2, tableKey, IS), willThrow(LockException.class));
+
+        lockManager.releaseAll(txId1);
+
+        assertTrue(lockManager.isEmpty());
+
+        assertThat(lockManager.acquire(txId2, tableKey, IS), willSucceedFast());
+
+        lockManager.releaseAll(txId2);
+    }
+
+    @Test
+    public void testRowLocksAreNotEscalatedWithoutIntentionLock() {
+        LockManager lockManager = newInstance();
+
+        UUID txId = TestTransactionIds.newTransactionId();
+
+        for (int i = 0; i <= ESCALATION_THRESHOLD; i++) {
+            assertThat(lockManager.acquire(txId, new LockKey(TABLE_ID, i), X), willSucceedFast());
+        }
+
+        assertNull(tableLockMode(lockManager, txId));
+        assertEquals(X, lockManager.waiter(new LockKey(TABLE_ID, ESCALATION_THRESHOLD), txId).lockMode());
+
+        lockManager.releaseAll(txId);
+
+        assertTrue(lockManager.isEmpty());
+    }
+
+    @Test
+    public void testEscalationWaitsForYoungerIntentionLock() {
+        LockManager lockManager = newInstance();
+
+        UUID olderTxId = TestTransactionIds.newTransactionId();
+        UUID youngerTxId = TestTransactionIds.newTransactionId();
+
+        assertTrue(youngerTxId.compareTo(olderTxId) > 0);
+
+        LockKey tableKey = new LockKey(TABLE_ID);
+
+        assertThat(lockManager.acquire(youngerTxId, tableKey, IX), willSucceedFast());
+        assertThat(lockManager.acquire(youngerTxId, new LockKey(TABLE_ID, "younger"), X), willSucceedFast());
+
+        assertThat(lockManager.acquire(olderTxId, tableKey, IX), willSucceedFast());
+
+        for (int i = 0; i < ESCALATION_THRESHOLD - 1; i++) {
+            assertThat(lockManager.acquire(olderTxId, new LockKey(TABLE_ID, i), X), willSucceedFast());
+        }
+
+        // The row lock that reaches the threshold waits for the table lock.
+        CompletableFuture<Lock> escalatingFut = lockManager.acquire(olderTxId, new LockKey(TABLE_ID, ESCALATION_THRESHOLD - 1), X);
+
+        assertFalse(escalatingFut.isDone());
+
+        // A hierarchy lock request of the same transaction is postponed until the table lock is granted.
+        CompletableFuture<Lock> reenterFut = lockManager.acquire(olderTxId, tableKey, IX);
+
+        assertFalse(reenterFut.isDone());
+
+        // The younger transaction dies on a conflict with the older one and releases its locks.
+        assertThat(lockManager.acquire(youngerTxId, new LockKey(TABLE_ID, 0), X), willThrow(LockException.class));
+
+        lockManager.releaseAll(youngerTxId);
+
+        assertThat(escalatingFut, willSucceedFast());
+        assertThat(reenterFut, willSucceedFast());
+
+        assertEquals(X, tableLockMode(lockManager, olderTxId));
+
+        lockManager.releaseAll(olderTxId);
+
+        assertTrue(lockManager.isEmpty());
+    }
+
+    @Test
+    public void testRefusedEscalationIsRolledBack() {
+        LockManager lockManager = newInstance();
+
+        UUID olderTxId = TestTransactionIds.newTransactionId();
+        UUID youngerTxId = TestTransactionIds.newTransactionId();
+
+        LockKey tableKey = new LockKey(TABLE_ID);
+
+        assertThat(lockManager.acquire(olderTxId, tableKey, IX), willSucceedFast());
+        assertThat(lockManager.acquire(youngerTxId, tableKey, IX), willSucceedFast());
+
+        // The table lock of the younger transaction is refused right away, so the row locks are not escalated.
+        for (int i = 0; i <= ESCALATION_THRESHOLD; i++) {
+            assertThat(lockManager.acquire(youngerTxId, new LockKey(TABLE_ID, i), X), willSucceedFast());
+        }
+
+        assertEquals(IX, tableLockMode(lockManager, youngerTxId));
+        assertEquals(X, lockManager.waiter(new LockKey(TABLE_ID, ESCALATION_THRESHOLD), youngerTxId).lockMode());
+
+        // Both transactions keep working with the table.
+        assertThat(lockManager.acquire(youngerTxId, tableKey, IX), willSucceedFast());
+        assertThat(lockManager.acquire(olderTxId, new LockKey(TABLE_ID, "older"), X), willSucceedFast());
+
+        lockManager.releaseAll(youngerTxId);
+        lockManager.releaseAll(olderTxId);
+
+        assertTrue(lockManager.isEmpty());
+    }
+
+    @Test
+    public void testThresholdIsReadOnIntentionLock() {
+        AtomicInteger threshold = new AtomicInteger();
+
+        LockManager lockManager = new EscalatingLockManager(new HeapLockManager(new WaitDieDeadlockPreventionPolicy()), threshold::get);
+
+        UUID txId1 = TestTransactionIds.newTransactionId();
+        UUID txId2 = TestTransactionIds.newTransactionId();
+
+        LockKey tableKey = new LockKey(TABLE_ID);
+
+        // Escalation is disabled when the first transaction takes the intention lock.
+        assertThat(lockManager.acquire(txId1, tableKey, IX), willSucceedFast());
+
+        threshold.set(ESCALATION_THRESHOLD);
+
+        for (int i = 0; i <= ESCALATION_THRESHOLD; i++) {
+            assertThat(lockManager.acquire(txId1, new LockKey(TABLE_ID, i), X), willSucceedFast());
+        }
+
+        assertEquals(IX, tableLockMode(lockManager, txId1));
+
+        lockManager.releaseAll(txId1);
+
+        // The new threshold applies to the intention locks taken after the change.
+        assertThat(lockManager.acquire(txId2, tableKey, IX), willSucceedFast());
+
+        for (int i = 0; i < ESCALATION_THRESHOLD; i++) {
+            assertThat(lockManager.acquire(txId2, new LockKey(TABLE_ID, i), X), willSucceedFast());
+        }
+
+        assertEquals(X, tableLockMode(lockManager, txId2));
+
+        lockManager.releaseAll(txId2);
+
+        assertTrue(lockManager.isEmpty());
+    }
+
+    private static @Nullable LockMode tableLockMode(LockManager lockManager, UUID txId) {
+        for (Iterator<Lock> it = lockManager.locks(txId); it.hasNext(); ) {
+            Lock lock = it.next();
+
+            if (lock.lockKey().equals(new LockKey(TABLE_ID))) {
+                return lock.lockMode();
+            }
+        }
+
+        return null;
+    }
+}